@@ -0,0 +1,188 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.codec;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene104.Lucene104Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.codec.CodecService;
+import org.opensearch.index.codec.zstd.ZstdDict104Codec;
+import org.opensearch.index.mapper.SourceFieldMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the stored fields of the {@code lz4}, {@code best_compression} and {@code zstd_segment_dict} codecs on log like
+ * {@code _source} documents: the time to write a segment, the time to fetch random documents, and, reported as the
+ * {@code storedFieldsBytes} secondary result of {@link #writeSegment}, the size of the stored fields of the segment.
+ */
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class StoredFieldsCompressionBenchmark {
+
+    @Param({ "100000" })
+    private int numDocs;
+
+    @Param({ CodecService.LZ4, CodecService.BEST_COMPRESSION_CODEC, CodecService.ZSTD_SEGMENT_DICT_CODEC })
+    private String codec;
+
+    private static final int NUM_FETCHES = 10_000;
+    private static final String[] LEVELS = { "INFO", "INFO", "INFO", "WARN", "ERROR", "DEBUG" };
+    private static final String[] METHODS = { "GET", "GET", "POST", "PUT", "DELETE" };
+    private static final int[] STATUS_CODES = { 200, 200, 200, 201, 204, 400, 404, 500 };
+
+    private BytesRef[] sources;
+    private Directory directory;
+    private DirectoryReader reader;
+    private int[] fetches;
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(0);
+        sources = new BytesRef[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            sources[i] = new BytesRef(logLine(random, i));
+        }
+        directory = new ByteBuffersDirectory();
+        writeIndex(directory);
+        reader = DirectoryReader.open(directory);
+        fetches = new int[NUM_FETCHES];
+        for (int i = 0; i < NUM_FETCHES; i++) {
+            fetches[i] = random.nextInt(numDocs);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    /**
+     * The size of the stored fields of the last segment written by {@link #writeSegment}, reported next to its time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StoredFieldsSize {
+        public long storedFieldsBytes;
+    }
+
+    @Benchmark
+    public void writeSegment(StoredFieldsSize size) throws IOException {
+        try (Directory target = new ByteBuffersDirectory()) {
+            writeIndex(target);
+            size.storedFieldsBytes = storedFieldsBytes(target);
+        }
+    }
+
+    @Benchmark
+    public void fetchRandomDocuments(Blackhole blackhole) throws IOException {
+        List<LeafReaderContext> leaves = reader.leaves();
+        StoredFields storedFields = leaves.get(0).reader().storedFields();
+        for (int docId : fetches) {
+            blackhole.consume(storedFields.document(docId));
+        }
+    }
+
+    private void writeIndex(Directory target) throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig().setCodec(newCodec())
+            .setMaxBufferedDocs(numDocs + 1)
+            .setRAMBufferSizeMB(IndexWriterConfig.DISABLE_AUTO_FLUSH);
+        try (IndexWriter writer = new IndexWriter(target, config)) {
+            for (BytesRef source : sources) {
+                Document document = new Document();
+                document.add(new StoredField(SourceFieldMapper.NAME, source));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+    }
+
+    private static long storedFieldsBytes(Directory directory) throws IOException {
+        long storedFieldsBytes = 0;
+        for (String file : directory.listAll()) {
+            if (file.endsWith(".fdt") || file.endsWith(".fdx") || file.endsWith(".fdm") || file.endsWith(".zsd")) {
+                storedFieldsBytes += directory.fileLength(file);
+            }
+        }
+        return storedFieldsBytes;
+    }
+
+    private Codec newCodec() {
+        switch (codec) {
+            case CodecService.LZ4:
+                return new Lucene104Codec();
+            case CodecService.BEST_COMPRESSION_CODEC:
+                return new Lucene104Codec(Lucene104Codec.Mode.BEST_COMPRESSION);
+            case CodecService.ZSTD_SEGMENT_DICT_CODEC:
+                return new ZstdDict104Codec();
+            default:
+                throw new IllegalArgumentException("unknown codec [" + codec + "]");
+        }
+    }
+
+    private static String logLine(Random random, int i) {
+        return "{\"@timestamp\":\"2026-10-19T"
+            + String.format(
+                Locale.ROOT,
+                "%02d:%02d:%02d.%03dZ",
+                random.nextInt(24),
+                random.nextInt(60),
+                random.nextInt(60),
+                random.nextInt(1000)
+            )
+            + "\",\"log\":{\"level\":\""
+            + LEVELS[random.nextInt(LEVELS.length)]
+            + "\",\"logger\":\"org.example.service.RequestHandler\"},\"host\":{\"name\":\"web-"
+            + random.nextInt(32)
+            + "\"},\"http\":{\"request\":{\"method\":\""
+            + METHODS[random.nextInt(METHODS.length)]
+            + "\"},\"response\":{\"status_code\":"
+            + STATUS_CODES[random.nextInt(STATUS_CODES.length)]
+            + ",\"bytes\":"
+            + random.nextInt(100_000)
+            + "}},\"url\":{\"path\":\"/api/v1/items/"
+            + i
+            + "\"},\"user_agent\":{\"original\":\"Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36\"},\"trace\":{\"id\":\""
+            + Long.toHexString(random.nextLong())
+            + "\"}}";
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.codec.fuzzy;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.codecs.lucene104.Lucene104Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver;
+import org.opensearch.index.codec.fuzzy.FuzzyFilterPostingsFormat;
+import org.opensearch.index.codec.fuzzy.FuzzySetFactory;
+import org.opensearch.index.codec.fuzzy.FuzzySetParameters;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.mapper.VersionFieldMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@code _id} lookups that the engine does for every index operation with a custom id, through
+ * {@link VersionsAndSeqNoResolver#loadDocIdAndVersion}, against an index of many segments, with and without a fuzzy filter on the
+ * {@code _id} field. Each lookup is an upsert of a new id with probability {@code 1 - updateRatio}, and an update of an existing id
+ * otherwise, so that every lookup of a new id goes through all the segments.
+ */
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class VersionLookupBenchmark {
+
+    @Param({ "1000000" })
+    private int numDocs;
+
+    @Param({ "20" })
+    private int numSegments;
+
+    @Param({ "0.1", "0.5" })
+    private double updateRatio;
+
+    /**
+     * {@code none} for the default postings format, {@code fixed} for a fuzzy filter with the default false positive probability, and
+     * {@code adaptive} for a fuzzy filter whose false positive probability is lowered for small and medium segments, as for indices
+     * with {@code index.optimize_doc_id_lookup.upsert_heavy} set.
+     */
+    @Param({ "none", "fixed", "adaptive" })
+    private String filter;
+
+    private static final int NUM_LOOKUPS = 100_000;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private Term[] lookups;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        IndexWriterConfig config = new IndexWriterConfig().setCodec(codec()).setMergePolicy(NoMergePolicy.INSTANCE);
+        List<String> ids = new ArrayList<>(numDocs);
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            int docsPerSegment = Math.max(1, numDocs / numSegments);
+            for (int i = 0; i < numDocs; i++) {
+                String id = UUIDs.base64UUID();
+                ids.add(id);
+                Document document = new Document();
+                document.add(new StringField(IdFieldMapper.NAME, Uid.encodeId(id), Field.Store.NO));
+                document.add(new NumericDocValuesField(VersionFieldMapper.NAME, 1));
+                document.add(new NumericDocValuesField(SeqNoFieldMapper.NAME, i));
+                document.add(new NumericDocValuesField(SeqNoFieldMapper.PRIMARY_TERM_NAME, 1));
+                writer.addDocument(document);
+                if ((i + 1) % docsPerSegment == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        reader = DirectoryReader.open(directory);
+
+        Random random = new Random(0);
+        lookups = new Term[NUM_LOOKUPS];
+        for (int i = 0; i < NUM_LOOKUPS; i++) {
+            String id = random.nextDouble() < updateRatio ? ids.get(random.nextInt(ids.size())) : UUIDs.base64UUID();
+            lookups[i] = new Term(IdFieldMapper.NAME, Uid.encodeId(id));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public void loadDocIdAndVersion(Blackhole blackhole) throws IOException {
+        for (Term lookup : lookups) {
+            blackhole.consume(VersionsAndSeqNoResolver.loadDocIdAndVersion(reader, lookup, true, null));
+        }
+    }
+
+    private Codec codec() {
+        if ("none".equals(filter)) {
+            return new Lucene104Codec();
+        }
+        FuzzySetParameters parameters = new FuzzySetParameters(
+            () -> FuzzySetParameters.DEFAULT_FALSE_POSITIVE_PROBABILITY,
+            () -> "adaptive".equals(filter)
+        );
+        FuzzySetFactory fuzzySetFactory = new FuzzySetFactory(Map.of(IdFieldMapper.NAME, parameters));
+        return new Lucene104Codec() {
+            private final PostingsFormat docIdPostingsFormat = new FuzzyFilterPostingsFormat(
+                super.getPostingsFormatForField(IdFieldMapper.NAME),
+                fuzzySetFactory
+            );
+
+            @Override
+            public PostingsFormat getPostingsFormatForField(String field) {
+                return IdFieldMapper.NAME.equals(field) ? docIdPostingsFormat : super.getPostingsFormatForField(field);
+            }
+        };
+    }
+}
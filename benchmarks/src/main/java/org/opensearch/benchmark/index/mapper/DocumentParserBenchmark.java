@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.mapper;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.opensearch.script.ScriptService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the number of documents per second and core that {@link DocumentMapper#parse(SourceToParse)} parses for a fixed schema
+ * of log like documents, with all of their fields mapped up front and dynamic mapping disabled. Run it with {@code -prof gc} to
+ * also report the number of bytes allocated per parsed document.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class DocumentParserBenchmark {
+
+    private static final String[] TYPES = new String[] { "keyword", "long", "double", "date", "boolean" };
+
+    @Param({ "20", "200" })
+    int numFields;
+
+    /**
+     * The number of fields per object the fields are grouped into, {@code 0} for documents with only top level fields.
+     */
+    @Param({ "0", "10" })
+    int fieldsPerObject;
+
+    private DocumentMapper documentMapper;
+    private BytesReference source;
+
+    @Setup
+    public void setup() throws IOException {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("index").settings(settings).build(), Settings.EMPTY);
+        ScriptService scriptService = new ScriptService(Settings.EMPTY, Collections.emptyMap(), Collections.emptyMap());
+        MapperService mapperService = new MapperService(
+            indexSettings,
+            new IndexAnalyzers(
+                Collections.singletonMap("default", new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer())),
+                Collections.emptyMap(),
+                Collections.emptyMap()
+            ),
+            NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, scriptService, Collections.emptyMap()),
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(),
+            () -> {
+                throw new UnsupportedOperationException();
+            },
+            () -> true,
+            scriptService
+        );
+        documentMapper = mapperService.merge(
+            MapperService.SINGLE_MAPPING_NAME,
+            new CompressedXContent(BytesReference.bytes(mapping())),
+            MapperService.MergeReason.MAPPING_UPDATE
+        );
+        source = BytesReference.bytes(document());
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        blackhole.consume(documentMapper.parse(new SourceToParse("index", "1", source, MediaTypeRegistry.JSON)));
+    }
+
+    private XContentBuilder mapping() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject(MapperService.SINGLE_MAPPING_NAME)
+            .field("dynamic", "strict")
+            .startObject("properties");
+        for (int i = 0; i < numFields; i++) {
+            if (startsObject(i)) {
+                builder.startObject("object" + i / fieldsPerObject).startObject("properties");
+            }
+            builder.startObject("field" + i).field("type", TYPES[i % TYPES.length]).endObject();
+            if (endsObject(i)) {
+                builder.endObject().endObject();
+            }
+        }
+        return builder.endObject().endObject().endObject();
+    }
+
+    private XContentBuilder document() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        for (int i = 0; i < numFields; i++) {
+            if (startsObject(i)) {
+                builder.startObject("object" + i / fieldsPerObject);
+            }
+            switch (TYPES[i % TYPES.length]) {
+                case "keyword":
+                    builder.field("field" + i, "value-" + i);
+                    break;
+                case "long":
+                    builder.field("field" + i, 1000L + i);
+                    break;
+                case "double":
+                    builder.field("field" + i, i / 3d);
+                    break;
+                case "date":
+                    builder.field("field" + i, "2024-05-01T12:00:00.000Z");
+                    break;
+                default:
+                    builder.field("field" + i, i % 2 == 0);
+            }
+            if (endsObject(i)) {
+                builder.endObject();
+            }
+        }
+        return builder.endObject();
+    }
+
+    private boolean startsObject(int field) {
+        return fieldsPerObject > 0 && field % fieldsPerObject == 0;
+    }
+
+    private boolean endsObject(int field) {
+        return fieldsPerObject > 0 && (field % fieldsPerObject == fieldsPerObject - 1 || field == numFields - 1);
+    }
+}
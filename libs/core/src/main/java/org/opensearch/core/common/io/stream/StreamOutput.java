@@ -210,6 +210,15 @@ public abstract class StreamOutput extends OutputStream {
         bytes.writeTo(this);
     }
 
+    /**
+     * Writes the bytes reference, including a length header, like {@link #writeBytesReference(BytesReference)}. The caller guarantees
+     * that the bytes are neither modified nor released until the output of this stream has been fully consumed, which allows streams
+     * to reference them instead of copying them.
+     */
+    public void writeImmutableBytesReference(@Nullable BytesReference bytes) throws IOException {
+        writeBytesReference(bytes);
+    }
+
     /**
      * Writes an optional bytes reference including a length header. Use this if you need to differentiate between null and empty bytes
      * references. Use {@link #writeBytesReference(BytesReference)} and {@link StreamInput#readBytesReference()} if you do not.
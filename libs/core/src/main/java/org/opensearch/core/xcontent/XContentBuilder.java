@@ -1093,6 +1093,14 @@ public final class XContentBuilder implements Closeable, Flushable {
         return this;
     }
 
+    /**
+     * Writes a raw field with the value taken from the given bytes
+     */
+    public XContentBuilder rawField(String name, BytesReference value, MediaType mediaType) throws IOException {
+        generatorInstance().writeRawField(name, value, mediaType);
+        return this;
+    }
+
     /**
      * Writes a value with the source coming directly from the bytes in the stream
      */
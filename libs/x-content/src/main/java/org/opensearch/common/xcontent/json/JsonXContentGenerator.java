@@ -34,6 +34,7 @@ package org.opensearch.common.xcontent.json;
 
 import org.opensearch.common.util.io.Streams;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
@@ -497,6 +498,23 @@ public class JsonXContentGenerator implements XContentGenerator {
         }
     }
 
+    /**
+     * Writes a raw field with the value taken from the given bytes, without copying them through an intermediate buffer
+     */
+    @Override
+    public void writeRawField(String name, BytesReference content, MediaType mediaType) throws IOException {
+        if (mayWriteRawData(mediaType) == false) {
+            try (InputStream stream = content.streamInput()) {
+                writeRawField(name, stream, mediaType);
+            }
+        } else {
+            writeStartRaw(name);
+            flush();
+            content.writeTo(os);
+            writeEndRaw();
+        }
+    }
+
     /**
      * Writes the raw value to the stream
      */
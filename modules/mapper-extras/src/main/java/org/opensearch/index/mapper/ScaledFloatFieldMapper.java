@@ -244,6 +244,13 @@ public class ScaledFloatFieldMapper extends ParametrizedFieldMapper {
             return point;
         }
 
+        @Override
+        public byte[] encodeExactPoint(Object value) {
+            byte[] point = new byte[Long.BYTES];
+            LongPoint.encodeDimension(Math.round(scale(value)), point, 0);
+            return point;
+        }
+
         public double getScalingFactor() {
             return scalingFactor;
         }
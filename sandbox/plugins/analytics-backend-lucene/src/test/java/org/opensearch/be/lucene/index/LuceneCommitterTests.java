@@ -102,6 +102,7 @@ public class LuceneCommitterTests extends OpenSearchTestCase {
             null,
             null,
             null,
+            null,
             null
         );
         return new CommitterConfig(engineConfig, () -> {});
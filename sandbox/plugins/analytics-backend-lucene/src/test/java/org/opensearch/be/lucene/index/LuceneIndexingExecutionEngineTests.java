@@ -131,6 +131,7 @@ public class LuceneIndexingExecutionEngineTests extends LucenePluginBaseTests {
             null,
             null,
             null,
+            null,
             null
         );
         CommitterConfig settings = new CommitterConfig(engineConfig, () -> {});
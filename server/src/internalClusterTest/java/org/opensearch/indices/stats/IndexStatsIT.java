@@ -1007,7 +1007,9 @@ public class IndexStatsIT extends ParameterizedStaticSettingsOpenSearchIntegTest
             Flag.Segments,
             Flag.Translog,
             Flag.RequestCache,
-            Flag.Recovery };
+            Flag.Recovery,
+            Flag.TopDocsCache,
+            Flag.QueryPlanCache };
 
         assertThat(flags.length, equalTo(Flag.values().length));
         for (int i = 0; i < flags.length; i++) {
@@ -1187,6 +1189,12 @@ public class IndexStatsIT extends ParameterizedStaticSettingsOpenSearchIntegTest
             case Recovery:
                 builder.setRecovery(set);
                 break;
+            case TopDocsCache:
+                builder.setTopDocsCache(set);
+                break;
+            case QueryPlanCache:
+                builder.setQueryPlanCache(set);
+                break;
             default:
                 fail("new flag? " + flag);
                 break;
@@ -1227,6 +1235,10 @@ public class IndexStatsIT extends ParameterizedStaticSettingsOpenSearchIntegTest
                 return response.getRequestCache() != null;
             case Recovery:
                 return response.getRecoveryStats() != null;
+            case TopDocsCache:
+                return response.getTopDocsCache() != null;
+            case QueryPlanCache:
+                return response.getQueryPlanCache() != null;
             default:
                 fail("new flag? " + flag);
                 return false;
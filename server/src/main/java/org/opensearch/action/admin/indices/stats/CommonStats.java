@@ -33,6 +33,7 @@
 package org.opensearch.action.admin.indices.stats;
 
 import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -43,7 +44,9 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.cache.query.QueryCacheStats;
+import org.opensearch.index.cache.queryplan.QueryPlanCacheStats;
 import org.opensearch.index.cache.request.RequestCacheStats;
+import org.opensearch.index.cache.topdocs.TopDocsCacheStats;
 import org.opensearch.index.engine.SegmentsStats;
 import org.opensearch.index.fielddata.FieldDataStats;
 import org.opensearch.index.flush.FlushStats;
@@ -122,6 +125,12 @@ public class CommonStats implements Writeable, ToXContentFragment {
     @Nullable
     public RecoveryStats recoveryStats;
 
+    @Nullable
+    public TopDocsCacheStats topDocsCache;
+
+    @Nullable
+    public QueryPlanCacheStats queryPlanCache;
+
     public CommonStats() {
         this(CommonStatsFlags.NONE);
     }
@@ -179,6 +188,12 @@ public class CommonStats implements Writeable, ToXContentFragment {
                 case Recovery:
                     recoveryStats = new RecoveryStats();
                     break;
+                case TopDocsCache:
+                    topDocsCache = new TopDocsCacheStats();
+                    break;
+                case QueryPlanCache:
+                    queryPlanCache = new QueryPlanCacheStats();
+                    break;
                 default:
                     throw new IllegalStateException("Unknown Flag: " + flag);
             }
@@ -238,6 +253,12 @@ public class CommonStats implements Writeable, ToXContentFragment {
                     case Recovery:
                         recoveryStats = indexShard.recoveryStats();
                         break;
+                    case TopDocsCache:
+                        topDocsCache = indexShard.topDocsCache().stats();
+                        break;
+                    case QueryPlanCache:
+                        queryPlanCache = indexShard.queryPlanCache().stats();
+                        break;
                     default:
                         throw new IllegalStateException("Unknown Flag: " + flag);
                 }
@@ -264,6 +285,10 @@ public class CommonStats implements Writeable, ToXContentFragment {
         translog = in.readOptionalWriteable(TranslogStats::new);
         requestCache = in.readOptionalWriteable(RequestCacheStats::new);
         recoveryStats = in.readOptionalWriteable(RecoveryStats::new);
+        if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+            topDocsCache = in.readOptionalWriteable(TopDocsCacheStats::new);
+            queryPlanCache = in.readOptionalWriteable(QueryPlanCacheStats::new);
+        }
     }
 
     @Override
@@ -284,6 +309,10 @@ public class CommonStats implements Writeable, ToXContentFragment {
         out.writeOptionalWriteable(translog);
         out.writeOptionalWriteable(requestCache);
         out.writeOptionalWriteable(recoveryStats);
+        if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+            out.writeOptionalWriteable(topDocsCache);
+            out.writeOptionalWriteable(queryPlanCache);
+        }
     }
 
     public void add(CommonStats stats) {
@@ -416,6 +445,22 @@ public class CommonStats implements Writeable, ToXContentFragment {
         } else {
             recoveryStats.add(stats.getRecoveryStats());
         }
+        if (topDocsCache == null) {
+            if (stats.getTopDocsCache() != null) {
+                topDocsCache = new TopDocsCacheStats();
+                topDocsCache.add(stats.getTopDocsCache());
+            }
+        } else {
+            topDocsCache.add(stats.getTopDocsCache());
+        }
+        if (queryPlanCache == null) {
+            if (stats.getQueryPlanCache() != null) {
+                queryPlanCache = new QueryPlanCacheStats();
+                queryPlanCache.add(stats.getQueryPlanCache());
+            }
+        } else {
+            queryPlanCache.add(stats.getQueryPlanCache());
+        }
     }
 
     @Nullable
@@ -498,6 +543,16 @@ public class CommonStats implements Writeable, ToXContentFragment {
         return recoveryStats;
     }
 
+    @Nullable
+    public TopDocsCacheStats getTopDocsCache() {
+        return topDocsCache;
+    }
+
+    @Nullable
+    public QueryPlanCacheStats getQueryPlanCache() {
+        return queryPlanCache;
+    }
+
     /**
      * Utility method which computes total memory by adding
      * FieldData, PercolatorCache, Segments (index writer, version map)
@@ -537,7 +592,9 @@ public class CommonStats implements Writeable, ToXContentFragment {
                 segments,
                 translog,
                 requestCache,
-                recoveryStats }
+                recoveryStats,
+                topDocsCache,
+                queryPlanCache }
         ).filter(Objects::nonNull);
         for (ToXContent toXContent : ((Iterable<ToXContent>) stream::iterator)) {
             toXContent.toXContent(builder, params);
@@ -332,7 +332,9 @@ public class CommonStatsFlags implements Writeable, Cloneable {
         Translog("translog", 13),
         // 14 was previously used for Suggest
         RequestCache("request_cache", 15),
-        Recovery("recovery", 16);
+        Recovery("recovery", 16),
+        TopDocsCache("top_docs_cache", 17),
+        QueryPlanCache("query_plan_cache", 18);
 
         private final String restName;
         private final int index;
@@ -283,6 +283,24 @@ public class IndicesStatsRequest extends BroadcastRequest<IndicesStatsRequest> {
         return flags.isSet(CommonStatsFlags.Flag.Recovery);
     }
 
+    public IndicesStatsRequest topDocsCache(boolean topDocsCache) {
+        flags.set(CommonStatsFlags.Flag.TopDocsCache, topDocsCache);
+        return this;
+    }
+
+    public boolean topDocsCache() {
+        return flags.isSet(CommonStatsFlags.Flag.TopDocsCache);
+    }
+
+    public IndicesStatsRequest queryPlanCache(boolean queryPlanCache) {
+        flags.set(CommonStatsFlags.Flag.QueryPlanCache, queryPlanCache);
+        return this;
+    }
+
+    public boolean queryPlanCache() {
+        return flags.isSet(CommonStatsFlags.Flag.QueryPlanCache);
+    }
+
     public boolean includeSegmentFileSizes() {
         return flags.includeSegmentFileSizes();
     }
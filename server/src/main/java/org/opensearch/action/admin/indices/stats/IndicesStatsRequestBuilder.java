@@ -177,6 +177,16 @@ public class IndicesStatsRequestBuilder extends BroadcastOperationRequestBuilder
         return this;
     }
 
+    public IndicesStatsRequestBuilder setTopDocsCache(boolean topDocsCache) {
+        request.topDocsCache(topDocsCache);
+        return this;
+    }
+
+    public IndicesStatsRequestBuilder setQueryPlanCache(boolean queryPlanCache) {
+        request.queryPlanCache(queryPlanCache);
+        return this;
+    }
+
     public IndicesStatsRequestBuilder setIncludeSegmentFileSizes(boolean includeSegmentFileSizes) {
         request.includeSegmentFileSizes(includeSegmentFileSizes);
         return this;
@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.SortedSetSelector;
+import org.apache.lucene.search.SortedSetSortField;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.IndexSortConfig;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.ParseContext;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reorders the items of a bulk shard request by the index sort of their documents before they are executed on the primary, so that
+ * the documents reach the index writer, and the segments it flushes, mostly in sort order already.
+ * <p>
+ * Lucene sorts every flushed segment of an index with an index sort, which is cheap for documents that come in sort order, and
+ * skips rewriting the stored fields of the segment when they come fully sorted. Reordering only applies when the operations of
+ * all the remaining items were prepared ahead of execution and the items have distinct ids: operations on different documents do
+ * not depend on each other, and the responses are matched with the items by their ids. Replicas receive the items in the same
+ * order. The keys are read from the doc values of the parsed documents and only approximate the index sort, which is fine since
+ * the order only affects how much sorting is left to Lucene.
+ *
+ * @opensearch.internal
+ */
+final class BulkItemPresorter {
+
+    private BulkItemPresorter() {}
+
+    /**
+     * Reorders the items from the given index on, together with the index operations prepared for them, by the given index sort.
+     *
+     * @return {@code true} if the items were reordered
+     */
+    static boolean sort(BulkItemRequest[] items, Engine.Index[] operations, int fromIndex, Sort indexSort) {
+        final int numItems = items.length - fromIndex;
+        final Set<String> ids = new HashSet<>(numItems);
+        for (int i = fromIndex; i < items.length; i++) {
+            if (operations[i] == null || ids.add(operations[i].id()) == false) {
+                return false;
+            }
+        }
+
+        final SortField[] sortFields = indexSort.getSort();
+        final Object[][] keys = new Object[items.length][];
+        final Integer[] order = new Integer[numItems];
+        for (int i = 0; i < numItems; i++) {
+            final int item = fromIndex + i;
+            keys[item] = sortKey(operations[item].parsedDoc().rootDoc(), sortFields);
+            order[i] = item;
+        }
+        // stable, so that documents with equal keys keep their order
+        Arrays.sort(order, comparator(keys, sortFields));
+
+        final BulkItemRequest[] sortedItems = new BulkItemRequest[numItems];
+        final Engine.Index[] sortedOperations = new Engine.Index[numItems];
+        for (int i = 0; i < numItems; i++) {
+            sortedItems[i] = items[order[i]];
+            sortedOperations[i] = operations[order[i]];
+        }
+        System.arraycopy(sortedItems, 0, items, fromIndex, numItems);
+        System.arraycopy(sortedOperations, 0, operations, fromIndex, numItems);
+        return true;
+    }
+
+    /**
+     * Returns the values of the sort fields of the given document, as sortable longs for numeric fields and as bytes for keyword
+     * fields, with the missing value of the field, or {@code null} for missing keywords.
+     */
+    private static Object[] sortKey(ParseContext.Document document, SortField[] sortFields) {
+        final Object[] key = new Object[sortFields.length];
+        for (int i = 0; i < sortFields.length; i++) {
+            final SortField sortField = sortFields[i];
+            final boolean max = isMaxSelector(sortField);
+            Object value = null;
+            for (IndexableField field : document.getFields(sortField.getField())) {
+                final DocValuesType docValuesType = field.fieldType().docValuesType();
+                if (docValuesType == DocValuesType.SORTED_NUMERIC || docValuesType == DocValuesType.NUMERIC) {
+                    final long fieldValue = field.numericValue().longValue();
+                    if (value == null || (max ? fieldValue > (Long) value : fieldValue < (Long) value)) {
+                        value = fieldValue;
+                    }
+                } else if (docValuesType == DocValuesType.SORTED_SET || docValuesType == DocValuesType.SORTED) {
+                    final BytesRef fieldValue = field.binaryValue();
+                    if (value == null || (max ? fieldValue.compareTo((BytesRef) value) > 0 : fieldValue.compareTo((BytesRef) value) < 0)) {
+                        value = fieldValue;
+                    }
+                }
+            }
+            key[i] = value == null ? missingValue(sortField) : value;
+        }
+        return key;
+    }
+
+    private static boolean isMaxSelector(SortField sortField) {
+        if (sortField instanceof SortedNumericSortField numericSortField) {
+            return numericSortField.getSelector() == SortedNumericSelector.Type.MAX;
+        } else if (sortField instanceof SortedSetSortField setSortField) {
+            return setSortField.getSelector() == SortedSetSelector.Type.MAX;
+        }
+        return false;
+    }
+
+    private static Object missingValue(SortField sortField) {
+        final Object missingValue = sortField.getMissingValue();
+        switch (IndexSortConfig.getSortFieldType(sortField)) {
+            case DOUBLE:
+                return NumericUtils.doubleToSortableLong(missingValue == null ? 0d : ((Number) missingValue).doubleValue());
+            case FLOAT:
+                return (long) NumericUtils.floatToSortableInt(missingValue == null ? 0f : ((Number) missingValue).floatValue());
+            case LONG:
+            case INT:
+                return missingValue == null ? 0L : ((Number) missingValue).longValue();
+            default:
+                return null;
+        }
+    }
+
+    private static Comparator<Integer> comparator(Object[][] keys, SortField[] sortFields) {
+        return (left, right) -> {
+            for (int i = 0; i < sortFields.length; i++) {
+                final int cmp = compare(keys[left][i], keys[right][i], sortFields[i]);
+                if (cmp != 0) {
+                    return sortFields[i].getReverse() ? -cmp : cmp;
+                }
+            }
+            return 0;
+        };
+    }
+
+    private static int compare(Object left, Object right, SortField sortField) {
+        if (left == null || right == null) {
+            // missing keywords
+            if (left == right) {
+                return 0;
+            }
+            final int missingFirst = sortField.getMissingValue() == SortField.STRING_LAST ? 1 : -1;
+            return left == null ? missingFirst : -missingFirst;
+        }
+        if (left instanceof Long leftValue) {
+            return Long.compare(leftValue, (Long) right);
+        }
+        return ((BytesRef) left).compareTo((BytesRef) right);
+    }
+}
@@ -40,6 +40,7 @@ import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
 import org.opensearch.core.index.AppendOnlyIndexOperationRetryException;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.translog.Translog;
 
@@ -92,6 +93,9 @@ class BulkPrimaryExecutionContext {
     private BulkItemResponse executionResult;
     private int retryCounter;
     private final BulkItemResponse[] primaryResponses;
+    private Engine.Index[] preparedIndexOperations;
+    private DocumentMapper preparedIndexOperationsMapper;
+    private int preparedFromIndex = -1;
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
         this.request = request;
@@ -108,7 +112,7 @@ class BulkPrimaryExecutionContext {
         return startIndex;
     }
 
-    private static boolean isAborted(BulkItemResponse response) {
+    static boolean isAborted(BulkItemResponse response) {
         return response != null && response.isFailed() && response.getFailure().isAborted();
     }
 
@@ -185,6 +189,56 @@ class BulkPrimaryExecutionContext {
         return locationToSync;
     }
 
+    /** returns the items of the bulk request, without the responses of the items executed so far */
+    BulkItemRequest[] getItems() {
+        return request.items();
+    }
+
+    /** returns the index of the current item */
+    int getCurrentItemIndex() {
+        return currentIndex;
+    }
+
+    /**
+     * sets the index operations that were parsed ahead of execution for the items of the request, indexed like the items, with
+     * {@code null} for the items whose operations have to be prepared at execution time
+     */
+    void setPreparedIndexOperations(Engine.Index[] preparedIndexOperations, DocumentMapper mapper) {
+        assert preparedIndexOperations.length == request.items().length;
+        this.preparedIndexOperations = preparedIndexOperations;
+        this.preparedIndexOperationsMapper = mapper;
+        this.preparedFromIndex = currentIndex;
+    }
+
+    /**
+     * returns true if the index operations of the remaining items should be prepared ahead of execution: if none were prepared yet,
+     * or if a mapping update made them stale and at least as many items were executed since they were prepared as remain, which
+     * bounds the parsing work that mapping updates throw away to the size of the request
+     */
+    boolean shouldPrepareIndexOperations() {
+        if (hasMoreOperationsToExecute() == false || hasPreparedIndexOperations()) {
+            return false;
+        }
+        return preparedFromIndex < 0 || currentIndex - preparedFromIndex >= request.items().length - currentIndex;
+    }
+
+    private boolean hasPreparedIndexOperations() {
+        return preparedIndexOperations != null && preparedIndexOperationsMapper == primary.mapperService().documentMapper();
+    }
+
+    /**
+     * returns the index operation that was prepared for the current, untranslated item request and removes it, or {@code null} if
+     * there is none or if the mapping of the index changed since it was prepared
+     */
+    Engine.Index takePreparedIndexOperation() {
+        if (preparedIndexOperations == null) {
+            return null;
+        }
+        final Engine.Index operation = preparedIndexOperations[currentIndex];
+        preparedIndexOperations[currentIndex] = null;
+        return operation != null && hasPreparedIndexOperations() ? operation : null;
+    }
+
     private BulkItemRequest getCurrentItem() {
         return request.items()[currentIndex];
     }
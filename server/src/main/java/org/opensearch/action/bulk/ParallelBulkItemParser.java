@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.apache.lucene.search.Sort;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.shard.IndexShard;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parses the documents of the index requests of a bulk shard request on several write threads, ahead of the execution of its
+ * items on the primary.
+ * <p>
+ * Parsing is the bulk of the work of an index operation that does not depend on the operations before it, so it is done by the
+ * thread that executes the request together with up to {@code threads - 1} helper tasks on the write executor, which claim the
+ * items one by one. The items are then executed one after the other as before, so sequence numbers, version checks and translog
+ * writes keep the order of the items. The executing thread never waits for a helper task that has not started: a helper that
+ * starts after all the items were claimed has nothing left to do, so the wait is bounded by the parsing of the items already in
+ * flight even when the executor is saturated.
+ * <p>
+ * Indices with an index sort and {@code index.bulk.presort} parse the documents ahead of execution even on a single thread, so that
+ * the items can be reordered by the index sort of their documents before they are executed, see {@link BulkItemPresorter}.
+ *
+ * @opensearch.internal
+ */
+final class ParallelBulkItemParser {
+
+    /**
+     * The minimum number of items per parsing thread, smaller requests are not worth the hand off to other threads.
+     */
+    static final int MIN_ITEMS_PER_THREAD = 16;
+
+    private ParallelBulkItemParser() {}
+
+    /**
+     * Parses the documents of the index requests from the current item of the given context on, if the request has enough items
+     * for the configured number of threads or should be presorted, and hands the prepared operations to the context.
+     */
+    static void prepareIndexOperations(BulkPrimaryExecutionContext context, ExecutorService executor, ThreadContext threadContext) {
+        final BulkItemRequest[] items = context.getItems();
+        final int fromIndex = context.getCurrentItemIndex();
+        final int numItems = items.length - fromIndex;
+        if (numItems < 2 * MIN_ITEMS_PER_THREAD) {
+            return;
+        }
+        final IndexShard primary = context.getPrimary();
+        final int threads = Math.min(primary.indexSettings().getBulkParallelParsingThreads(), numItems / MIN_ITEMS_PER_THREAD);
+        // an item that is retried after a mapping update keeps its place
+        final Sort indexSort = primary.indexSettings().isBulkPresort() && context.getRetryCounter() == 0 ? primary.getIndexSort() : null;
+        // the first documents of an index without mapping create the mapping, which is done one document at a time
+        final DocumentMapper mapper = primary.mapperService().documentMapper();
+        if ((threads <= 1 && indexSort == null) || mapper == null) {
+            return;
+        }
+
+        final Engine.Index[] operations = new Engine.Index[items.length];
+        final AtomicInteger nextItem = new AtomicInteger(fromIndex);
+        final CountDownLatch parsed = new CountDownLatch(numItems);
+        final Runnable parseItems = () -> {
+            for (int i = nextItem.getAndIncrement(); i < items.length; i = nextItem.getAndIncrement()) {
+                try {
+                    operations[i] = prepareIndexOperation(items[i], primary);
+                } finally {
+                    parsed.countDown();
+                }
+            }
+        };
+        for (int i = 1; i < threads; i++) {
+            try {
+                executor.execute(threadContext.preserveContext(parseItems));
+            } catch (RejectedExecutionException e) {
+                // the remaining items are parsed by the threads that are already running
+                break;
+            }
+        }
+        parseItems.run();
+        try {
+            parsed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (indexSort != null) {
+            BulkItemPresorter.sort(items, operations, fromIndex, indexSort);
+        }
+        context.setPreparedIndexOperations(operations, mapper);
+    }
+
+    private static Engine.Index prepareIndexOperation(BulkItemRequest item, IndexShard primary) {
+        final DocWriteRequest<?> request = item.request();
+        if (BulkPrimaryExecutionContext.isAborted(item.primaryResponse()) || request instanceof IndexRequest == false) {
+            return null;
+        }
+        final IndexRequest indexRequest = (IndexRequest) request;
+        return primary.prepareIndexOperationOnPrimary(
+            indexRequest.version(),
+            indexRequest.versionType(),
+            TransportShardBulkAction.sourceToParse(indexRequest),
+            indexRequest.ifSeqNo(),
+            indexRequest.ifPrimaryTerm(),
+            indexRequest.getAutoGeneratedTimestamp(),
+            indexRequest.isRetry()
+        );
+    }
+}
@@ -479,6 +479,9 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             @Override
             protected void doRun() throws Exception {
                 long startTime = System.nanoTime();
+                if (context.shouldPrepareIndexOperations()) {
+                    ParallelBulkItemParser.prepareIndexOperations(context, executor, threadPool.getThreadContext());
+                }
                 while (context.hasMoreOperationsToExecute()) {
                     if (executeBulkItemRequest(
                         context,
@@ -660,22 +663,21 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             );
         } else {
             final IndexRequest request = context.getRequestToExecute();
-            result = primary.applyIndexOperationOnPrimary(
-                version,
-                request.versionType(),
-                new SourceToParse(
-                    request.index(),
-                    request.id(),
-                    request.source(),
-                    request.getContentType(),
-                    request.routing(),
-                    request.extraFieldValues()
-                ),
-                request.ifSeqNo(),
-                request.ifPrimaryTerm(),
-                request.getAutoGeneratedTimestamp(),
-                request.isRetry()
-            );
+            // updates are translated to index requests at execution time, so only plain index requests can be prepared in advance
+            final Engine.Index preparedOperation = updateResult == null ? context.takePreparedIndexOperation() : null;
+            if (preparedOperation != null) {
+                result = primary.applyPreparedIndexOperationOnPrimary(preparedOperation);
+            } else {
+                result = primary.applyIndexOperationOnPrimary(
+                    version,
+                    request.versionType(),
+                    sourceToParse(request),
+                    request.ifSeqNo(),
+                    request.ifPrimaryTerm(),
+                    request.getAutoGeneratedTimestamp(),
+                    request.isRetry()
+                );
+            }
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
 
@@ -725,6 +727,17 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         return true;
     }
 
+    static SourceToParse sourceToParse(IndexRequest request) {
+        return new SourceToParse(
+            request.index(),
+            request.id(),
+            request.source(),
+            request.getContentType(),
+            request.routing(),
+            request.extraFieldValues()
+        );
+    }
+
     private static Engine.Result exceptionToResult(Exception e, IndexShard primary, boolean isDelete, long version) {
         return isDelete ? primary.getFailedDeleteResult(e, version) : primary.getFailedIndexResult(e, version);
     }
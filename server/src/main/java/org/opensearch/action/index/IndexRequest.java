@@ -700,7 +700,8 @@ public class IndexRequest extends ReplicatedWriteRequest<IndexRequest> implement
         }
         out.writeOptionalString(id);
         out.writeOptionalString(routing);
-        out.writeBytesReference(source);
+        // the source is not modified once the request is sent, so large sources are sent without copying them
+        out.writeImmutableBytesReference(source);
         if (out.getVersion().onOrAfter(Version.V_3_7_0)) {
             out.writeOptionalWriteable(extraFieldValues.isEmpty() ? null : extraFieldValues);
         }
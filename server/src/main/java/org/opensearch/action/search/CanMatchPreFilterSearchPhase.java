@@ -41,6 +41,7 @@ import org.opensearch.search.SearchService.CanMatchResponse;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortOrder;
@@ -175,6 +176,28 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         SearchShardTarget shard,
         SearchActionListener<CanMatchResponse> listener
     ) {
+        final PitMinAndMaxCache pitMinAndMaxCache = getSearchTransport().getPitMinAndMaxCache();
+        if (pitMinAndMaxCache != null
+            && shardIt.getSearchContextId() != null
+            && pitMinAndMaxCache.canSkip(shardIt.getSearchContextId(), getRequest().source())) {
+            // the shard of the point in time has no values after search_after, no need to wait for it
+            final ShardSearchContextId contextId = shardIt.getSearchContextId();
+            final FieldSortBuilder fieldSort = FieldSortBuilder.getPrimaryFieldSortOrNull(getRequest().source());
+            final Transport.Connection connection = getConnection(shard.getClusterAlias(), shard.getNodeId());
+            listener.onResponse(new CanMatchResponse(false, pitMinAndMaxCache.get(contextId, fieldSort)));
+            // but still send it the request in the background, which extends the keep alive of its point in time context
+            getSearchTransport().sendCanMatch(
+                connection,
+                buildShardSearchRequest(shardIt),
+                getTask(),
+                ActionListener.wrap(response -> {
+                    if (response.estimatedMinAndMax() != null) {
+                        pitMinAndMaxCache.put(contextId, fieldSort, response.estimatedMinAndMax());
+                    }
+                }, e -> pitMinAndMaxCache.invalidate(contextId))
+            );
+            return;
+        }
         getSearchTransport().sendCanMatch(
             getConnection(shard.getClusterAlias(), shard.getNodeId()),
             buildShardSearchRequest(shardIt),
@@ -183,6 +206,18 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         );
     }
 
+    @Override
+    protected void onShardResult(CanMatchResponse result, SearchShardIterator shardIt) {
+        final PitMinAndMaxCache pitMinAndMaxCache = getSearchTransport().getPitMinAndMaxCache();
+        if (pitMinAndMaxCache != null && shardIt.getSearchContextId() != null && result.estimatedMinAndMax() != null) {
+            final FieldSortBuilder fieldSort = FieldSortBuilder.getPrimaryFieldSortOrNull(getRequest().source());
+            if (fieldSort != null) {
+                pitMinAndMaxCache.put(shardIt.getSearchContextId(), fieldSort, result.estimatedMinAndMax());
+            }
+        }
+        super.onShardResult(result, shardIt);
+    }
+
     @Override
     protected SearchPhase getNextPhase(SearchPhaseResults<CanMatchResponse> results, SearchPhaseContext context) {
 
@@ -228,6 +263,8 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         SearchSourceBuilder source = getRequest().source();
         int i = 0;
         for (SearchShardIterator iter : shardsIts) {
+            // the query phase can skip more shards with it once it knows the global bottom sort values
+            iter.setMinAndMax(results.minAndMaxes[i]);
             if (possibleMatches.get(i++)) {
                 iter.reset();
             } else {
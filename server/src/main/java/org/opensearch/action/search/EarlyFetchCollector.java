@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.opensearch.action.StepListener;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.FetchSearchResult;
+import org.opensearch.search.query.QuerySearchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps a running merge of the top docs of the shards that returned their query results so far, so that the fetch phase of a
+ * shard can start while other shards are still executing the query phase.
+ * <p>
+ * Without pagination, results that arrive later can only push hits out of the merged top docs, never bring one back. Once the merged
+ * top docs are full, the hits a shard has in them are therefore a prefix of its hits in the final top docs, or more. These hits
+ * are fetched right away, and the fetch phase uses that result instead of fetching the shard again. The early fetch releases the
+ * reader context of the shard, so if it fails the shard is reported as failed rather than fetched again.
+ *
+ * @opensearch.internal
+ */
+final class EarlyFetchCollector {
+
+    /**
+     * The docs to fetch early from the shard that returned the given query result.
+     *
+     * @opensearch.internal
+     */
+    record ShardFetch(SearchPhaseResult result, List<Integer> docIds) {}
+
+    private final int size;
+    private final Map<Integer, SearchPhaseResult> results = new HashMap<>();
+    private final Set<Integer> dispatched = new HashSet<>();
+    private final Map<Integer, List<Integer>> requestedDocIds = ConcurrentCollections.newConcurrentMap();
+    private final Map<Integer, StepListener<FetchSearchResult>> fetches = ConcurrentCollections.newConcurrentMap();
+    private TopDocs merged;
+    private boolean disabled;
+
+    EarlyFetchCollector(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Whether the hits of the given request can be fetched before all shards returned their query results.
+     */
+    static boolean canFetchEarly(SearchRequest request, int numShards) {
+        if (numShards <= 1 || request.scroll() != null) {
+            return false;
+        }
+        final SearchSourceBuilder source = request.source();
+        if (source == null) {
+            return true;
+        }
+        // hits may be pushed into the requested page by later results when paginating, collapsing removes hits that were competitive
+        // and suggestions add hits that are not part of the top docs
+        return source.from() <= 0 && source.size() != 0 && source.collapse() == null && source.suggest() == null;
+    }
+
+    /**
+     * Consumes the top docs of the given query result, which must not have been consumed yet, and returns the shards whose hits
+     * can be fetched now.
+     */
+    synchronized List<ShardFetch> consumeQueryResult(SearchPhaseResult result) {
+        final QuerySearchResult queryResult = result.queryResult();
+        if (disabled || queryResult.isNull() || queryResult.hasSearchContext() == false || queryResult.topDocs() == null) {
+            return List.of();
+        }
+        final TopDocs topDocs = copyWithShardIndex(queryResult.topDocs().topDocs, result.getShardIndex());
+        if (topDocs.scoreDocs.length == 0) {
+            return List.of();
+        }
+        if (merged instanceof TopFieldDocs mergedFieldDocs
+            && (topDocs instanceof TopFieldDocs == false
+                || Arrays.equals(mergedFieldDocs.fields, ((TopFieldDocs) topDocs).fields) == false)) {
+            // the final merge needs to reconcile the sorts of all shards, stop fetching early
+            disabled = true;
+            return List.of();
+        }
+        results.put(result.getShardIndex(), result);
+        merged = merged == null ? topDocs : SearchPhaseController.mergeTopDocs(List.of(merged, topDocs), size, 0);
+        if (merged.scoreDocs.length < size) {
+            // other shards may still add any of their hits
+            return List.of();
+        }
+        final Map<Integer, List<Integer>> docIdsByShard = new HashMap<>();
+        for (ScoreDoc scoreDoc : merged.scoreDocs) {
+            if (dispatched.contains(scoreDoc.shardIndex) == false) {
+                docIdsByShard.computeIfAbsent(scoreDoc.shardIndex, k -> new ArrayList<>()).add(scoreDoc.doc);
+            }
+        }
+        final List<ShardFetch> shardFetches = new ArrayList<>(docIdsByShard.size());
+        for (Map.Entry<Integer, List<Integer>> entry : docIdsByShard.entrySet()) {
+            dispatched.add(entry.getKey());
+            requestedDocIds.put(entry.getKey(), entry.getValue());
+            shardFetches.add(new ShardFetch(results.get(entry.getKey()), entry.getValue()));
+        }
+        return shardFetches;
+    }
+
+    /**
+     * Registers the listener that is notified with the result of the early fetch of the given shard.
+     */
+    void onFetchStarted(int shardIndex, StepListener<FetchSearchResult> listener) {
+        fetches.put(shardIndex, listener);
+    }
+
+    /**
+     * Returns the listener of the early fetch of the given shard, or {@code null} if the shard was not fetched early.
+     * <p>
+     * A shard that was fetched early cannot be fetched again: unless the search uses a point in time, the fetch released the reader
+     * context of the shard.
+     */
+    StepListener<FetchSearchResult> getFetch(int shardIndex) {
+        return fetches.get(shardIndex);
+    }
+
+    /**
+     * Whether the early fetch of the given shard includes the given final hits of the shard.
+     */
+    boolean covers(int shardIndex, List<Integer> docIds) {
+        // the final hits of the shard must be the first ones of the early fetch, see the class javadoc
+        final List<Integer> requested = requestedDocIds.get(shardIndex);
+        return requested != null && requested.size() >= docIds.size() && requested.subList(0, docIds.size()).equals(docIds);
+    }
+
+    private static TopDocs copyWithShardIndex(TopDocs topDocs, int shardIndex) {
+        // the score docs of the query result are merged again at the end of the query phase, they must not be modified
+        final ScoreDoc[] scoreDocs = Arrays.copyOf(topDocs.scoreDocs, topDocs.scoreDocs.length);
+        for (int i = 0; i < scoreDocs.length; i++) {
+            final ScoreDoc scoreDoc = scoreDocs[i];
+            if (scoreDoc instanceof FieldDoc fieldDoc) {
+                scoreDocs[i] = new FieldDoc(fieldDoc.doc, fieldDoc.score, fieldDoc.fields, shardIndex);
+            } else {
+                scoreDocs[i] = new ScoreDoc(scoreDoc.doc, scoreDoc.score, shardIndex);
+            }
+        }
+        if (topDocs instanceof TopFieldDocs topFieldDocs) {
+            return new TopFieldDocs(topDocs.totalHits, scoreDocs, topFieldDocs.fields);
+        }
+        return new TopDocs(topDocs.totalHits, scoreDocs);
+    }
+}
@@ -35,6 +35,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.search.ScoreDoc;
 import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.StepListener;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.search.RescoreDocIds;
@@ -68,19 +69,31 @@ final class FetchSearchPhase extends SearchPhase {
     private final SearchPhaseResults<SearchPhaseResult> resultConsumer;
     private final SearchProgressListener progressListener;
     private final AggregatedDfs aggregatedDfs;
+    private final EarlyFetchCollector earlyFetches;
 
     FetchSearchPhase(
         SearchPhaseResults<SearchPhaseResult> resultConsumer,
         SearchPhaseController searchPhaseController,
         AggregatedDfs aggregatedDfs,
         SearchPhaseContext context
+    ) {
+        this(resultConsumer, searchPhaseController, aggregatedDfs, context, (EarlyFetchCollector) null);
+    }
+
+    FetchSearchPhase(
+        SearchPhaseResults<SearchPhaseResult> resultConsumer,
+        SearchPhaseController searchPhaseController,
+        AggregatedDfs aggregatedDfs,
+        SearchPhaseContext context,
+        EarlyFetchCollector earlyFetches
     ) {
         this(
             resultConsumer,
             searchPhaseController,
             aggregatedDfs,
             context,
-            (response, queryPhaseResults) -> new ExpandSearchPhase(context, response, queryPhaseResults)
+            (response, queryPhaseResults) -> new ExpandSearchPhase(context, response, queryPhaseResults),
+            earlyFetches
         );
     }
 
@@ -90,6 +103,17 @@ final class FetchSearchPhase extends SearchPhase {
         AggregatedDfs aggregatedDfs,
         SearchPhaseContext context,
         BiFunction<InternalSearchResponse, AtomicArray<SearchPhaseResult>, SearchPhase> nextPhaseFactory
+    ) {
+        this(resultConsumer, searchPhaseController, aggregatedDfs, context, nextPhaseFactory, null);
+    }
+
+    FetchSearchPhase(
+        SearchPhaseResults<SearchPhaseResult> resultConsumer,
+        SearchPhaseController searchPhaseController,
+        AggregatedDfs aggregatedDfs,
+        SearchPhaseContext context,
+        BiFunction<InternalSearchResponse, AtomicArray<SearchPhaseResult>, SearchPhase> nextPhaseFactory,
+        EarlyFetchCollector earlyFetches
     ) {
         super(SearchPhaseName.FETCH.getName());
         if (context.getNumShards() != resultConsumer.getNumShards()) {
@@ -109,6 +133,7 @@ final class FetchSearchPhase extends SearchPhase {
         this.logger = context.getLogger();
         this.resultConsumer = resultConsumer;
         this.progressListener = context.getTask().getProgressListener();
+        this.earlyFetches = earlyFetches;
     }
 
     @Override
@@ -194,7 +219,30 @@ final class FetchSearchPhase extends SearchPhase {
                             queryResult.getShardSearchRequest(),
                             queryResult.getRescoreDocIds()
                         );
-                        executeFetch(i, searchShardTarget, counter, fetchSearchRequest, queryResult.queryResult(), connection);
+                        StepListener<FetchSearchResult> earlyFetch = earlyFetches == null ? null : earlyFetches.getFetch(i);
+                        if (earlyFetch != null) {
+                            // the hits of this shard were fetched while the query phase was still running on other shards. The
+                            // early fetch released the reader context of the shard, so the shard cannot be fetched again.
+                            final int shardIndex = i;
+                            final QuerySearchResult querySearchResult = queryResult.queryResult();
+                            if (earlyFetches.covers(i, entry)) {
+                                earlyFetch.whenComplete(
+                                    result -> onFetchResult(shardIndex, counter, result),
+                                    e -> onFetchFailure(shardIndex, searchShardTarget, counter, fetchSearchRequest, querySearchResult, e)
+                                );
+                            } else {
+                                onFetchFailure(
+                                    shardIndex,
+                                    searchShardTarget,
+                                    counter,
+                                    fetchSearchRequest,
+                                    querySearchResult,
+                                    new IllegalStateException("the early fetch of the shard does not cover its final hits " + entry)
+                                );
+                            }
+                        } else {
+                            executeFetch(i, searchShardTarget, counter, fetchSearchRequest, queryResult.queryResult(), connection);
+                        }
                     }
                 }
             }
@@ -238,36 +286,48 @@ final class FetchSearchPhase extends SearchPhase {
                 new SearchActionListener<FetchSearchResult>(shardTarget, shardIndex) {
                     @Override
                     public void innerOnResponse(FetchSearchResult result) {
-                        try {
-                            progressListener.notifyFetchResult(shardIndex);
-                            context.setPhaseResourceUsages();
-                            counter.onResult(result);
-                        } catch (Exception e) {
-                            context.onPhaseFailure(FetchSearchPhase.this, "", e);
-                        }
+                        onFetchResult(shardIndex, counter, result);
                     }
 
                     @Override
                     public void onFailure(Exception e) {
-                        try {
-                            logger.debug(
-                                () -> new ParameterizedMessage("[{}] Failed to execute fetch phase", fetchSearchRequest.contextId()),
-                                e
-                            );
-                            progressListener.notifyFetchFailure(shardIndex, shardTarget, e);
-                            context.setPhaseResourceUsages();
-                            counter.onFailure(shardIndex, shardTarget, e);
-                        } finally {
-                            // the search context might not be cleared on the node where the fetch was executed for example
-                            // because the action was rejected by the thread pool. in this case we need to send a dedicated
-                            // request to clear the search context.
-                            releaseIrrelevantSearchContext(querySearchResult);
-                        }
+                        onFetchFailure(shardIndex, shardTarget, counter, fetchSearchRequest, querySearchResult, e);
                     }
                 }
             );
     }
 
+    private void onFetchFailure(
+        int shardIndex,
+        SearchShardTarget shardTarget,
+        CountedCollector<FetchSearchResult> counter,
+        ShardFetchSearchRequest fetchSearchRequest,
+        QuerySearchResult querySearchResult,
+        Exception e
+    ) {
+        try {
+            logger.debug(() -> new ParameterizedMessage("[{}] Failed to execute fetch phase", fetchSearchRequest.contextId()), e);
+            progressListener.notifyFetchFailure(shardIndex, shardTarget, e);
+            context.setPhaseResourceUsages();
+            counter.onFailure(shardIndex, shardTarget, e);
+        } finally {
+            // the search context might not be cleared on the node where the fetch was executed for example
+            // because the action was rejected by the thread pool. in this case we need to send a dedicated
+            // request to clear the search context.
+            releaseIrrelevantSearchContext(querySearchResult);
+        }
+    }
+
+    private void onFetchResult(int shardIndex, CountedCollector<FetchSearchResult> counter, FetchSearchResult result) {
+        try {
+            progressListener.notifyFetchResult(shardIndex);
+            context.setPhaseResourceUsages();
+            counter.onResult(result);
+        } catch (Exception e) {
+            context.onPhaseFailure(FetchSearchPhase.this, "", e);
+        }
+    }
+
     /**
      * Releases shard targets that are not used in the docsIdsToLoad.
      */
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.MinAndMax;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches the {@link MinAndMax} of the primary sort field that the can_match phase returned for the shards of point in time searches.
+ * The reader of a point in time never changes, so the coordinating node can skip the shards that have no values after the
+ * search_after values of the next pages without waiting for a can_match request again. The entries of a point in time are
+ * invalidated when it is deleted, or when a shard reports that its context is gone.
+ *
+ * @opensearch.internal
+ */
+final class PitMinAndMaxCache {
+
+    // the min and max per sort field of each shard context, replaced on write so that readers never see a map being modified
+    private final Cache<ShardSearchContextId, Map<String, MinAndMax<?>>> cache;
+
+    PitMinAndMaxCache(long maxEntries, TimeValue expireAfterAccess) {
+        this.cache = CacheBuilder.<ShardSearchContextId, Map<String, MinAndMax<?>>>builder()
+            .setMaximumWeight(maxEntries)
+            .setExpireAfterAccess(expireAfterAccess)
+            .build();
+    }
+
+    void put(ShardSearchContextId contextId, FieldSortBuilder sortBuilder, MinAndMax<?> minAndMax) {
+        if (isCacheable(sortBuilder)) {
+            final Map<String, MinAndMax<?>> current = cache.get(contextId);
+            final Map<String, MinAndMax<?>> updated = current == null ? new HashMap<>() : new HashMap<>(current);
+            updated.put(sortBuilder.getFieldName(), minAndMax);
+            cache.put(contextId, Collections.unmodifiableMap(updated));
+        }
+    }
+
+    MinAndMax<?> get(ShardSearchContextId contextId, FieldSortBuilder sortBuilder) {
+        if (isCacheable(sortBuilder) == false) {
+            return null;
+        }
+        final Map<String, MinAndMax<?>> minAndMaxes = cache.get(contextId);
+        return minAndMaxes == null ? null : minAndMaxes.get(sortBuilder.getFieldName());
+    }
+
+    /**
+     * Removes the entries of a shard context, once its point in time is deleted or the shard no longer knows the context.
+     */
+    void invalidate(ShardSearchContextId contextId) {
+        cache.invalidate(contextId);
+    }
+
+    int count() {
+        return cache.count();
+    }
+
+    /**
+     * Returns whether the shard of the given point in time context can be skipped because the cached {@link MinAndMax} of its primary
+     * sort field shows that it has no values after the search_after values of the request, like
+     * {@link SearchService#canMatchSearchAfter} does on the shard.
+     */
+    boolean canSkip(ShardSearchContextId contextId, SearchSourceBuilder source) {
+        final FieldSortBuilder sortBuilder = FieldSortBuilder.getPrimaryFieldSortOrNull(source);
+        if (sortBuilder == null || source.searchAfter() == null || source.searchAfter().length == 0) {
+            return false;
+        }
+        final MinAndMax<?> minAndMax = get(contextId, sortBuilder);
+        if (minAndMax == null) {
+            return false;
+        }
+        final Object searchAfter = toSortValue(source.searchAfter()[0], minAndMax.getMin());
+        if (searchAfter == null) {
+            return false;
+        }
+        final FieldDoc searchAfterDoc = new FieldDoc(Integer.MAX_VALUE, 0, new Object[] { searchAfter });
+        return SearchService.canMatchSearchAfter(searchAfterDoc, minAndMax, sortBuilder, source.trackTotalHitsUpTo()) == false;
+    }
+
+    private static boolean isCacheable(FieldSortBuilder sortBuilder) {
+        // a numeric type changes the resolution of the sort values, and nested sorts don't use the indexed values of the field
+        return sortBuilder.getNumericType() == null && sortBuilder.getNestedSort() == null;
+    }
+
+    /**
+     * Converts the search_after value sent by the user to the type of the sort values of the field. Formatted values, e.g. dates,
+     * require the mapping of the field to be parsed, and return {@code null}.
+     */
+    static Object toSortValue(Object searchAfter, Object sortValue) {
+        if (sortValue instanceof Long && (searchAfter instanceof Long || searchAfter instanceof Integer)) {
+            return ((Number) searchAfter).longValue();
+        } else if (sortValue instanceof Integer && searchAfter instanceof Integer) {
+            return searchAfter;
+        } else if (sortValue instanceof Double && searchAfter instanceof Number) {
+            return ((Number) searchAfter).doubleValue();
+        } else if (sortValue instanceof Float && (searchAfter instanceof Float || searchAfter instanceof Integer)) {
+            return ((Number) searchAfter).floatValue();
+        } else if (sortValue instanceof BytesRef && searchAfter instanceof String) {
+            return new BytesRef((String) searchAfter);
+        }
+        return null;
+    }
+}
@@ -34,18 +34,27 @@ package org.opensearch.action.search;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.TopFieldDocs;
+import org.opensearch.action.StepListener;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.SearchSortValuesAndFormats;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.FetchSearchResult;
+import org.opensearch.search.fetch.ShardFetchSearchRequest;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.MinAndMax;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.transport.Transport;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
@@ -65,6 +74,7 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
     private final int topDocsSize;
     private final int trackTotalHitsUpTo;
     private volatile BottomSortValuesCollector bottomSortCollector;
+    private final EarlyFetchCollector earlyFetchCollector;
 
     SearchQueryThenFetchAsyncAction(
         final Logger logger,
@@ -85,6 +95,50 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         SearchResponse.Clusters clusters,
         SearchRequestContext searchRequestContext,
         final Tracer tracer
+    ) {
+        this(
+            logger,
+            searchTransportService,
+            nodeIdToConnection,
+            aliasFilter,
+            concreteIndexBoosts,
+            indexRoutings,
+            searchPhaseController,
+            executor,
+            resultConsumer,
+            request,
+            listener,
+            shardsIts,
+            timeProvider,
+            clusterState,
+            task,
+            clusters,
+            searchRequestContext,
+            tracer,
+            false
+        );
+    }
+
+    SearchQueryThenFetchAsyncAction(
+        final Logger logger,
+        final SearchTransportService searchTransportService,
+        final BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+        final Map<String, AliasFilter> aliasFilter,
+        final Map<String, Float> concreteIndexBoosts,
+        final Map<String, Set<String>> indexRoutings,
+        final SearchPhaseController searchPhaseController,
+        final Executor executor,
+        final QueryPhaseResultConsumer resultConsumer,
+        final SearchRequest request,
+        final ActionListener<SearchResponse> listener,
+        final GroupShardsIterator<SearchShardIterator> shardsIts,
+        final TransportSearchAction.SearchTimeProvider timeProvider,
+        ClusterState clusterState,
+        SearchTask task,
+        SearchResponse.Clusters clusters,
+        SearchRequestContext searchRequestContext,
+        final Tracer tracer,
+        boolean earlyFetch
     ) {
         super(
             SearchPhaseName.QUERY.getName(),
@@ -111,6 +165,9 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         this.trackTotalHitsUpTo = request.resolveTrackTotalHitsUpTo();
         this.searchPhaseController = searchPhaseController;
         this.progressListener = task.getProgressListener();
+        this.earlyFetchCollector = earlyFetch && EarlyFetchCollector.canFetchEarly(request, getNumShards())
+            ? new EarlyFetchCollector(topDocsSize)
+            : null;
 
         // register the release of the query consumer to free up the circuit breaker memory
         // at the end of the search
@@ -131,6 +188,11 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         final SearchActionListener<SearchPhaseResult> listener
     ) {
         ShardSearchRequest request = rewriteShardSearchRequest(super.buildShardSearchRequest(shardIt));
+        if (request != null && isBottomSortShardDisjoint(request, shardIt.getMinAndMax())) {
+            // the shard would rewrite the query to match_none and return an empty response, see FieldSortBuilder#isBottomSortShardDisjoint
+            listener.onResponse(QuerySearchResult.nullInstance());
+            return;
+        }
         // update inbound network time with current time before sending request over n/w to data node
         if (request != null) {
             request.setInboundNetworkTime(System.currentTimeMillis());
@@ -161,12 +223,88 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
             }
             bottomSortCollector.consumeTopDocs(topDocs, queryResult.sortValueFormats());
         }
+        if (earlyFetchCollector != null) {
+            for (EarlyFetchCollector.ShardFetch shardFetch : earlyFetchCollector.consumeQueryResult(result)) {
+                executeEarlyFetch(shardFetch.result(), shardFetch.docIds());
+            }
+        }
         super.onShardResult(result, shardIt);
     }
 
+    private void executeEarlyFetch(SearchPhaseResult queryResult, List<Integer> docIds) {
+        final SearchShardTarget shardTarget = queryResult.getSearchShardTarget();
+        final int shardIndex = queryResult.getShardIndex();
+        final StepListener<FetchSearchResult> fetchListener = new StepListener<>();
+        earlyFetchCollector.onFetchStarted(shardIndex, fetchListener);
+        try {
+            final Transport.Connection connection = getConnection(shardTarget.getClusterAlias(), shardTarget.getNodeId());
+            final ShardFetchSearchRequest fetchRequest = new ShardFetchSearchRequest(
+                shardTarget.getOriginalIndices(),
+                queryResult.queryResult().getContextId(),
+                queryResult.getShardSearchRequest(),
+                docIds,
+                null,
+                queryResult.getRescoreDocIds(),
+                null
+            );
+            getSearchTransport().sendExecuteFetch(
+                connection,
+                fetchRequest,
+                getTask(),
+                new SearchActionListener<FetchSearchResult>(shardTarget, shardIndex) {
+                    @Override
+                    protected void innerOnResponse(FetchSearchResult result) {
+                        fetchListener.onResponse(result);
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        fetchListener.onFailure(e);
+                    }
+                }
+            );
+        } catch (Exception e) {
+            fetchListener.onFailure(e);
+        }
+    }
+
     @Override
     protected SearchPhase getNextPhase(final SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
-        return new FetchSearchPhase(results, searchPhaseController, null, this);
+        return new FetchSearchPhase(results, searchPhaseController, null, this, earlyFetchCollector);
+    }
+
+    /**
+     * Returns whether the range of the primary sort values of the shard shows that it has no value that can beat the global bottom
+     * sort values, in which case the shard would return an empty response.
+     */
+    static boolean isBottomSortShardDisjoint(ShardSearchRequest request, MinAndMax<?> minAndMax) {
+        final SearchSortValuesAndFormats bottomSortValues = request.getBottomSortValues();
+        if (minAndMax == null
+            || bottomSortValues == null
+            || bottomSortValues.getRawSortValues().length == 0
+            || request.canReturnNullResponseIfMatchNoDocs() == false) {
+            return false;
+        }
+        final SearchSourceBuilder source = request.source();
+        final FieldSortBuilder primarySort = FieldSortBuilder.getPrimaryFieldSortOrNull(source);
+        if (primarySort == null
+            || primarySort.canRewriteToMatchNone() == false
+            || primarySort.getNumericType() != null
+            // the shard still needs to count its hits, or to compute suggestions and aggregations
+            || source.trackTotalHitsUpTo() == null
+            || source.trackTotalHitsUpTo() != SearchContext.TRACK_TOTAL_HITS_DISABLED
+            || source.suggest() != null
+            || source.aggregations() != null) {
+            return false;
+        }
+        final Object bottom = bottomSortValues.getRawSortValues()[0];
+        if (bottom == null || bottom.getClass() != minAndMax.getMin().getClass()) {
+            return false;
+        }
+        if (primarySort.order() == SortOrder.DESC) {
+            return minAndMax.compareMax(bottom) < 0;
+        }
+        return minAndMax.compareMin(bottom) > 0;
     }
 
     private ShardSearchRequest rewriteShardSearchRequest(ShardSearchRequest request) {
@@ -43,6 +43,7 @@ import org.opensearch.common.util.PlainIterator;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.sort.MinAndMax;
 
 import java.util.Comparator;
 import java.util.List;
@@ -64,6 +65,7 @@ public final class SearchShardIterator implements Comparable<SearchShardIterator
     private final String clusterAlias;
     private final ShardId shardId;
     private boolean skip = false;
+    private MinAndMax<?> minAndMax;
 
     private final ShardSearchContextId searchContextId;
     private final TimeValue searchContextKeepAlive;
@@ -168,6 +170,18 @@ public final class SearchShardIterator implements Comparable<SearchShardIterator
         return skip;
     }
 
+    /**
+     * Returns the range of the values of the primary sort field in this shard, if the can_match phase could extract it.
+     */
+    @Nullable
+    MinAndMax<?> getMinAndMax() {
+        return minAndMax;
+    }
+
+    void setMinAndMax(@Nullable MinAndMax<?> minAndMax) {
+        this.minAndMax = minAndMax;
+    }
+
     @Override
     public int size() {
         return targetNodesIterator.size();
@@ -39,6 +39,9 @@ import org.opensearch.action.support.ChannelActionListener;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -105,12 +108,54 @@ public class SearchTransportService {
     protected final BiFunction<Transport.Connection, SearchActionListener, ActionListener> responseWrapper;
     private final Map<String, Long> clientConnections = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
+    /**
+     * The number of point in time shard contexts for which the coordinating node caches the min and max of the primary sort field,
+     * {@code 0} disables the cache.
+     */
+    public static final Setting<Long> PIT_MIN_AND_MAX_CACHE_SIZE_SETTING = Setting.longSetting(
+        "search.pit.min_and_max_cache.size",
+        10_000,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * The time after which the cached min and max of a point in time shard context that is not accessed is evicted.
+     */
+    public static final Setting<TimeValue> PIT_MIN_AND_MAX_CACHE_EXPIRE_SETTING = Setting.positiveTimeSetting(
+        "search.pit.min_and_max_cache.expire",
+        TimeValue.timeValueMinutes(30),
+        Setting.Property.NodeScope
+    );
+
+    private final PitMinAndMaxCache pitMinAndMaxCache;
+
+    public SearchTransportService(
+        TransportService transportService,
+        BiFunction<Transport.Connection, SearchActionListener, ActionListener> responseWrapper
+    ) {
+        this(Settings.EMPTY, transportService, responseWrapper);
+    }
+
     public SearchTransportService(
+        Settings settings,
         TransportService transportService,
         BiFunction<Transport.Connection, SearchActionListener, ActionListener> responseWrapper
     ) {
         this.transportService = transportService;
         this.responseWrapper = responseWrapper;
+        final long pitMinAndMaxCacheSize = PIT_MIN_AND_MAX_CACHE_SIZE_SETTING.get(settings);
+        this.pitMinAndMaxCache = pitMinAndMaxCacheSize > 0
+            ? new PitMinAndMaxCache(pitMinAndMaxCacheSize, PIT_MIN_AND_MAX_CACHE_EXPIRE_SETTING.get(settings))
+            : null;
+    }
+
+    /**
+     * Returns the cache of the primary sort values ranges of the shards of point in time searches that this node coordinated, or
+     * {@code null} if the cache is disabled.
+     */
+    PitMinAndMaxCache getPitMinAndMaxCache() {
+        return pitMinAndMaxCache;
     }
 
     public void sendFreeContext(Transport.Connection connection, final ShardSearchContextId contextId, OriginalIndices originalIndices) {
@@ -208,6 +253,11 @@ public class SearchTransportService {
         List<PitSearchContextIdForNode> contextIds,
         ActionListener<DeletePitResponse> listener
     ) {
+        if (pitMinAndMaxCache != null) {
+            for (PitSearchContextIdForNode contextId : contextIds) {
+                pitMinAndMaxCache.invalidate(contextId.getSearchContextIdForNode().getSearchContextId());
+            }
+        }
         transportService.sendRequest(
             connection,
             FREE_PIT_CONTEXT_ACTION_NAME,
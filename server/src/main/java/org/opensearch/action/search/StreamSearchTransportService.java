@@ -13,6 +13,7 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.support.StreamSearchChannelListener;
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -48,10 +49,11 @@ public class StreamSearchTransportService extends SearchTransportService {
     private final StreamTransportService transportService;
 
     public StreamSearchTransportService(
+        Settings settings,
         StreamTransportService transportService,
         BiFunction<Transport.Connection, SearchActionListener, ActionListener> responseWrapper
     ) {
-        super(transportService, responseWrapper);
+        super(settings, transportService, responseWrapper);
         this.transportService = transportService;
     }
 
@@ -173,6 +173,17 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    /**
+     * Whether query then fetch searches start fetching the hits of a shard as soon as they are known to be competitive, instead of
+     * waiting for the query phase to complete on all shards. This may fetch hits that later results push out of the top hits.
+     */
+    public static final Setting<Boolean> SEARCH_EARLY_FETCH_ENABLED = Setting.boolSetting(
+        "search.early_fetch.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     final NodeClient client;
     private final ThreadPool threadPool;
     final ClusterService clusterService;
@@ -1445,7 +1456,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         task,
                         clusters,
                         searchRequestContext,
-                        tracer
+                        tracer,
+                        clusterService.getClusterSettings().get(SEARCH_EARLY_FETCH_ENABLED)
                     );
                     break;
                 default:
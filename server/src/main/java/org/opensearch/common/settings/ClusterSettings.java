@@ -37,6 +37,7 @@ import org.opensearch.action.admin.indices.close.TransportCloseIndexAction;
 import org.opensearch.action.search.CreatePitController;
 import org.opensearch.action.search.SearchRequestSlowLog;
 import org.opensearch.action.search.SearchRequestStats;
+import org.opensearch.action.search.SearchTransportService;
 import org.opensearch.action.search.StreamSearchTransportService;
 import org.opensearch.action.search.TransportSearchAction;
 import org.opensearch.action.search.pruning.SearchIndexPruningSettings;
@@ -126,11 +127,16 @@ import org.opensearch.index.compositeindex.CompositeIndexSettings;
 import org.opensearch.index.remote.RemoteStorePressureSettings;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.store.remote.filecache.FileCacheSettings;
+import org.opensearch.index.translog.TranslogGroupCommitService;
+import org.opensearch.indices.AdaptiveRefreshScheduler;
 import org.opensearch.indices.ClusterMergeSchedulerConfig;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
+import org.opensearch.indices.IndicesQueryPlanCache;
 import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.IndicesTopDocsCache;
+import org.opensearch.indices.NodeMergeScheduler;
 import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.indices.analysis.HunspellService;
@@ -311,6 +317,10 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 FsRepository.REPOSITORIES_COMPRESS_SETTING,
                 FsRepository.REPOSITORIES_LOCATION_SETTING,
                 IndicesQueryCache.INDICES_CACHE_QUERY_SIZE_SETTING,
+                IndicesTopDocsCache.INDICES_TOP_DOCS_CACHE_SIZE_SETTING,
+                IndicesQueryPlanCache.INDICES_QUERY_PLAN_CACHE_SIZE_SETTING,
+                TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_ENABLED_SETTING,
+                TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_MAX_DELAY_SETTING,
                 IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING,
                 IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING,
                 IndicesQueryCache.INDICES_QUERIES_CACHE_SKIP_CACHE_FACTOR,
@@ -458,6 +468,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
                 TransportSearchAction.SEARCH_CANCEL_AFTER_TIME_INTERVAL_SETTING,
                 TransportSearchAction.SEARCH_PHASE_TOOK_ENABLED,
+                TransportSearchAction.SEARCH_EARLY_FETCH_ENABLED,
                 SearchRequestStats.SEARCH_REQUEST_STATS_ENABLED,
                 RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
                 SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
@@ -658,11 +669,19 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IndexingMemoryController.NATIVE_INDEX_BUFFER_SIZE_SETTING,
                 IndexingMemoryController.MIN_NATIVE_INDEX_BUFFER_SIZE_SETTING,
                 IndexingMemoryController.MAX_NATIVE_INDEX_BUFFER_SIZE_SETTING,
+                AdaptiveRefreshScheduler.ENABLED_SETTING,
+                AdaptiveRefreshScheduler.MIN_INTERVAL_SETTING,
+                AdaptiveRefreshScheduler.MAX_INTERVAL_SETTING,
+                AdaptiveRefreshScheduler.PENDING_BUFFER_SIZE_SETTING,
+                NodeMergeScheduler.ENABLED_SETTING,
+                NodeMergeScheduler.MAX_CONCURRENT_MERGES_SETTING,
+                NodeMergeScheduler.MAX_BYTES_PER_SEC_SETTING,
                 ResourceWatcherService.ENABLED,
                 ResourceWatcherService.RELOAD_INTERVAL_HIGH,
                 ResourceWatcherService.RELOAD_INTERVAL_MEDIUM,
                 ResourceWatcherService.RELOAD_INTERVAL_LOW,
                 ThreadPool.ESTIMATED_TIME_INTERVAL_SETTING,
+                ThreadPool.INDEX_SEARCHER_MAX_SLICES_PER_REQUEST_SETTING,
                 FastVectorHighlighter.SETTING_TV_HIGHLIGHT_MULTI_VALUE,
                 Node.BREAKER_TYPE_KEY,
                 OperationRouting.USE_ADAPTIVE_REPLICA_SELECTION_SETTING,
@@ -941,6 +960,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 ForceMergeManagerSettings.CONCURRENCY_MULTIPLIER,
                 StreamTransportService.STREAM_TRANSPORT_REQ_TIMEOUT_SETTING,
                 StreamSearchTransportService.STREAM_SEARCH_ENABLED,
+                SearchTransportService.PIT_MIN_AND_MAX_CACHE_SIZE_SETTING,
+                SearchTransportService.PIT_MIN_AND_MAX_CACHE_EXPIRE_SETTING,
                 TieredStoragePrefetchSettings.READ_AHEAD_BLOCK_COUNT,
                 TieredStoragePrefetchSettings.STORED_FIELDS_PREFETCH_ENABLED_SETTING,
                 SearchIndexPruningSettings.ENABLED,
@@ -59,7 +59,9 @@ import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.index.store.FsDirectoryFactory;
 import org.opensearch.index.store.Store;
 import org.opensearch.indices.IndicesBitsetFilterCache;
+import org.opensearch.indices.IndicesQueryPlanCache;
 import org.opensearch.indices.IndicesRequestCache;
+import org.opensearch.indices.IndicesTopDocsCache;
 import org.opensearch.search.streaming.FlushModeResolver;
 import org.opensearch.storage.slowlogs.TieredStorageSearchSlowLog;
 
@@ -148,6 +150,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSortConfig.INDEX_SORT_MISSING_SETTING,
                 IndexSortConfig.INDEX_SORT_MODE_SETTING,
                 IndexSettings.INDEX_TRANSLOG_DURABILITY_SETTING,
+                IndexSettings.INDEX_TRANSLOG_COMPRESSION_ENABLED_SETTING,
                 IndexSettings.INDEX_TRANSLOG_READ_FORWARD_SETTING,
                 IndexSettings.INDEX_WARMER_ENABLED_SETTING,
                 IndexSettings.INDEX_REFRESH_INTERVAL_SETTING,
@@ -186,6 +189,9 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING,
                 IndexSettings.INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING,
                 IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING,
+                IndicesTopDocsCache.INDEX_TOP_DOCS_CACHE_ENABLED_SETTING,
+                IndicesTopDocsCache.INDEX_TOP_DOCS_CACHE_WINDOW_SETTING,
+                IndicesQueryPlanCache.INDEX_QUERY_PLAN_CACHE_ENABLED_SETTING,
                 UnassignedInfo.INDEX_DELAYED_NODE_LEFT_TIMEOUT_SETTING,
                 EnableAllocationDecider.INDEX_ROUTING_REBALANCE_ENABLE_SETTING,
                 EnableAllocationDecider.INDEX_ROUTING_ALLOCATION_ENABLE_SETTING,
@@ -222,6 +228,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 EngineConfig.INDEX_CODEC_COMPRESSION_LEVEL_SETTING,
                 EngineConfig.INDEX_OPTIMIZE_AUTO_GENERATED_IDS,
                 EngineConfig.INDEX_USE_COMPOUND_FILE,
+                EngineConfig.INDEX_PACKED_VERSION_MAP_SETTING,
                 IndexMetadata.SETTING_WAIT_FOR_ACTIVE_SHARDS,
                 IndexSettings.DEFAULT_PIPELINE,
                 IndexSettings.FINAL_PIPELINE,
@@ -257,12 +264,17 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexMetadata.INDEX_REMOTE_TRANSLOG_REPOSITORY_SETTING,
 
                 IndexSettings.INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING,
+                IndexSettings.INDEX_DOC_ID_UPSERT_HEAVY_SETTING,
+                IndexSettings.INDEX_BULK_PARALLEL_PARSING_THREADS_SETTING,
+                IndexSettings.INDEX_BULK_PRESORT_SETTING,
                 IndexSettings.INDEX_DOC_ID_FUZZY_SET_FALSE_POSITIVE_PROBABILITY_SETTING,
 
                 // Settings for concurrent segment search
                 IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING, // deprecated
                 IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_MODE,
                 IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_MAX_SLICE_COUNT,
+                IndexSettings.INDEX_CONCURRENT_FETCH_ENABLED,
+                IndexSettings.INDEX_CONCURRENT_FETCH_MIN_HITS,
                 IndexSettings.ALLOW_DERIVED_FIELDS,
 
                 // Settings for star tree index
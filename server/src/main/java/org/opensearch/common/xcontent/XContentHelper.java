@@ -454,8 +454,13 @@ public class XContentHelper {
                 builder.rawField(field, compressedStreamInput);
             }
         } else {
-            try (InputStream stream = source.streamInput()) {
-                builder.rawField(field, stream);
+            final MediaType mediaType = MediaTypeRegistry.xContentType(source);
+            if (mediaType != null) {
+                builder.rawField(field, source, mediaType);
+            } else {
+                try (InputStream stream = source.streamInput()) {
+                    builder.rawField(field, stream);
+                }
             }
         }
     }
@@ -473,9 +478,7 @@ public class XContentHelper {
                 builder.rawField(field, compressedStreamInput, xContentType);
             }
         } else {
-            try (InputStream stream = source.streamInput()) {
-                builder.rawField(field, stream, xContentType);
-            }
+            builder.rawField(field, source, xContentType);
         }
     }
 
@@ -337,7 +337,7 @@ public class XContentMapValues {
     /** Make matches on objects also match dots in field names.
      *  For instance, if the original simple regex is `foo`, this will translate
      *  it into `foo` OR `foo.*`. */
-    private static Automaton makeMatchDotsInFieldNames(Automaton automaton) {
+    static Automaton makeMatchDotsInFieldNames(Automaton automaton) {
         Automaton automatonMatchingFields = Operations.concatenate(
             Arrays.asList(automaton, Automata.makeChar('.'), Automata.makeAnyString())
         );
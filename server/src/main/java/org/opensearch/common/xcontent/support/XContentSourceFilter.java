@@ -0,0 +1,229 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support;
+
+import org.apache.lucene.util.automaton.Automata;
+import org.apache.lucene.util.automaton.CharacterRunAutomaton;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters an xcontent object on its includes and excludes while streaming it from a parser to a builder.
+ * <p>
+ * This applies the same rules as {@link XContentMapValues#filter(String[], String[], boolean)}, but copies the matching tokens
+ * straight to the output instead of materializing the whole object as a map and serializing the filtered map again. Subtrees that
+ * are fully included are copied in one go and the ones that cannot match are skipped without being looked at. The automata are
+ * compiled once, so an instance should be reused for all documents that are filtered the same way.
+ *
+ * @opensearch.internal
+ */
+public final class XContentSourceFilter {
+
+    private final CharacterRunAutomaton include;
+    private final CharacterRunAutomaton exclude;
+    private final CharacterRunAutomaton matchAll;
+
+    public XContentSourceFilter(String[] includes, String[] excludes) {
+        this.matchAll = new CharacterRunAutomaton(Automata.makeAnyString());
+        if (includes == null || includes.length == 0) {
+            this.include = matchAll;
+        } else {
+            this.include = new CharacterRunAutomaton(XContentMapValues.makeMatchDotsInFieldNames(Regex.simpleMatchToAutomaton(includes)));
+        }
+        if (excludes == null || excludes.length == 0) {
+            this.exclude = new CharacterRunAutomaton(Automata.makeEmpty());
+        } else {
+            this.exclude = new CharacterRunAutomaton(XContentMapValues.makeMatchDotsInFieldNames(Regex.simpleMatchToAutomaton(excludes)));
+        }
+    }
+
+    /**
+     * Reads the object the parser points to, or the next one if it does not point to any token yet, and writes its filtered
+     * version to the builder. The filtered object is always written, even if nothing matched.
+     */
+    public void filter(XContentParser parser, XContentBuilder builder) throws IOException {
+        XContentParser.Token token = parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+        if (token != XContentParser.Token.START_OBJECT) {
+            throw new IllegalArgumentException("expected an object to filter but found [" + token + "]");
+        }
+        builder.startObject();
+        filterObject(parser, new Output(builder), include, 0, 0);
+        builder.endObject();
+    }
+
+    private void filterObject(
+        XContentParser parser,
+        Output output,
+        CharacterRunAutomaton includeAutomaton,
+        int initialIncludeState,
+        int initialExcludeState
+    ) throws IOException {
+        for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_OBJECT; token = parser.nextToken()) {
+            final String key = parser.currentName();
+            token = parser.nextToken();
+
+            int includeState = step(includeAutomaton, key, initialIncludeState);
+            if (includeState == -1) {
+                parser.skipChildren();
+                continue;
+            }
+            int excludeState = step(exclude, key, initialExcludeState);
+            if (excludeState != -1 && exclude.isAccept(excludeState)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            final boolean included = includeAutomaton.isAccept(includeState);
+            CharacterRunAutomaton subIncludeAutomaton = includeAutomaton;
+            int subIncludeState = includeState;
+            if (included) {
+                if (excludeState == -1 || exclude.step(excludeState, '.') == -1) {
+                    // the exclude has no chances to match inner properties
+                    output.field(key, parser);
+                    continue;
+                }
+                // the object matched, so consider that the include matches every inner property
+                // we only care about excludes now
+                subIncludeAutomaton = matchAll;
+                subIncludeState = 0;
+            }
+
+            if (token == XContentParser.Token.START_OBJECT) {
+                subIncludeState = subIncludeAutomaton.step(subIncludeState, '.');
+                if (subIncludeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (excludeState != -1) {
+                    excludeState = exclude.step(excludeState, '.');
+                }
+                output.open(key, true);
+                filterObject(parser, output, subIncludeAutomaton, subIncludeState, excludeState);
+                output.close(true, included);
+            } else if (token == XContentParser.Token.START_ARRAY) {
+                output.open(key, false);
+                filterArray(parser, output, subIncludeAutomaton, subIncludeState, excludeState);
+                output.close(false, included);
+            } else if (included) {
+                // leaf property, the exclude could only have matched inner properties
+                output.field(key, parser);
+            }
+        }
+    }
+
+    private void filterArray(
+        XContentParser parser,
+        Output output,
+        CharacterRunAutomaton includeAutomaton,
+        int initialIncludeState,
+        int initialExcludeState
+    ) throws IOException {
+        final boolean isInclude = includeAutomaton.isAccept(initialIncludeState);
+        for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_ARRAY; token = parser.nextToken()) {
+            if (token == XContentParser.Token.START_OBJECT) {
+                final int includeState = includeAutomaton.step(initialIncludeState, '.');
+                if (includeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+                int excludeState = initialExcludeState;
+                if (excludeState != -1) {
+                    excludeState = exclude.step(excludeState, '.');
+                }
+                output.open(null, true);
+                filterObject(parser, output, includeAutomaton, includeState, excludeState);
+                output.close(true, false);
+            } else if (token == XContentParser.Token.START_ARRAY) {
+                output.open(null, false);
+                filterArray(parser, output, includeAutomaton, initialIncludeState, initialExcludeState);
+                output.close(false, false);
+            } else if (isInclude) {
+                // only accept this array value if the key we are on is accepted
+                output.value(parser);
+            }
+        }
+    }
+
+    private static int step(CharacterRunAutomaton automaton, String key, int state) {
+        for (int i = 0; state != -1 && i < key.length(); ++i) {
+            state = automaton.step(state, key.charAt(i));
+        }
+        return state;
+    }
+
+    /**
+     * Delays writing the start of objects and arrays until something is written into them, so that containers that end up empty
+     * can be dropped without being written.
+     */
+    private static final class Output {
+        private final XContentBuilder builder;
+        private final List<String> pendingNames = new ArrayList<>();
+        private final List<Boolean> pendingObjects = new ArrayList<>();
+
+        Output(XContentBuilder builder) {
+            this.builder = builder;
+        }
+
+        void open(String name, boolean object) {
+            pendingNames.add(name);
+            pendingObjects.add(object);
+        }
+
+        void close(boolean object, boolean keepIfEmpty) throws IOException {
+            final int last = pendingNames.size() - 1;
+            if (last >= 0 && keepIfEmpty == false) {
+                // pending containers are always the innermost ones, so this is the empty container being closed
+                pendingNames.remove(last);
+                pendingObjects.remove(last);
+                return;
+            }
+            flush();
+            if (object) {
+                builder.endObject();
+            } else {
+                builder.endArray();
+            }
+        }
+
+        void field(String name, XContentParser parser) throws IOException {
+            flush();
+            builder.field(name);
+            builder.copyCurrentStructure(parser);
+        }
+
+        void value(XContentParser parser) throws IOException {
+            flush();
+            builder.copyCurrentStructure(parser);
+        }
+
+        private void flush() throws IOException {
+            for (int i = 0; i < pendingNames.size(); i++) {
+                final String name = pendingNames.get(i);
+                if (name != null) {
+                    builder.field(name);
+                }
+                if (pendingObjects.get(i)) {
+                    builder.startObject();
+                } else {
+                    builder.startArray();
+                }
+            }
+            pendingNames.clear();
+            pendingObjects.clear();
+        }
+    }
+}
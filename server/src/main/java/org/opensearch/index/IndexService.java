@@ -1527,6 +1527,10 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private void maybeRefreshEngine(boolean force) {
         if (getRefreshInterval().millis() > 0 || force) {
             for (IndexShard shard : this.shards.values()) {
+                if (force == false && shard.isAdaptiveRefreshEnabled()) {
+                    // refreshed by the adaptive refresh scheduler of the node
+                    continue;
+                }
                 try {
                     shard.scheduledRefresh();
                 } catch (IndexShardClosedException | AlreadyClosedException ex) {
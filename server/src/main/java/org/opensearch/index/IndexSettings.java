@@ -198,6 +198,16 @@ public final class IndexSettings {
         Property.Dynamic,
         Property.IndexScope
     );
+    /**
+     * Whether large document sources are compressed in the translog. Operations written before the setting was enabled stay
+     * readable, every operation records whether its source is compressed.
+     */
+    public static final Setting<Boolean> INDEX_TRANSLOG_COMPRESSION_ENABLED_SETTING = Setting.boolSetting(
+        "index.translog.compression.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
     /**
      * Controls whether translog operations are read in forward order (oldest to newest) or backward order (newest to oldest).
      * Default is false (backward reading), which is the traditional behavior that naturally handles sequence number collisions
@@ -817,6 +827,27 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * Whether the fetch phase loads the hits of different segments concurrently on the searcher's executor.
+     */
+    public static final Setting<Boolean> INDEX_CONCURRENT_FETCH_ENABLED = Setting.boolSetting(
+        "index.search.concurrent_fetch.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * The minimum number of hits for the fetch phase to be split across segments, smaller fetches are not worth the overhead.
+     */
+    public static final Setting<Integer> INDEX_CONCURRENT_FETCH_MIN_HITS = Setting.intSetting(
+        "index.search.concurrent_fetch.min_hits",
+        100,
+        1,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     // Partition strategy constants
     public static final String CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_SEGMENT = "segment";
     public static final String CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_BALANCED = "balanced";
@@ -863,6 +894,42 @@ public final class IndexSettings {
         Property.Dynamic
     );
 
+    /**
+     * Marks an index whose documents are mostly written with their own ids and then updated. The {@code _id} field of the segments of
+     * such an index is fronted by a fuzzy filter, regardless of {@link #INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING}, whose false positive
+     * probability is lowered for small and medium segments.
+     */
+    public static final Setting<Boolean> INDEX_DOC_ID_UPSERT_HEAVY_SETTING = Setting.boolSetting(
+        "index.optimize_doc_id_lookup.upsert_heavy",
+        false,
+        Property.IndexScope,
+        Property.Dynamic
+    );
+
+    /**
+     * The number of write threads that parse the documents of a bulk shard request on the primary before its items are executed one
+     * after the other. {@code 1} parses every document on the thread that executes it.
+     */
+    public static final Setting<Integer> INDEX_BULK_PARALLEL_PARSING_THREADS_SETTING = Setting.intSetting(
+        "index.bulk.parallel_parsing.threads",
+        1,
+        1,
+        64,
+        Property.IndexScope,
+        Property.Dynamic
+    );
+
+    /**
+     * Whether the primary executes the index requests of a bulk shard request in the order of the index sort, so that the segments
+     * it flushes come out mostly sorted already. Only applies to indices with an index sort.
+     */
+    public static final Setting<Boolean> INDEX_BULK_PRESORT_SETTING = Setting.boolSetting(
+        "index.bulk.presort",
+        false,
+        Property.IndexScope,
+        Property.Dynamic
+    );
+
     public static final TimeValue DEFAULT_REMOTE_TRANSLOG_BUFFER_INTERVAL = new TimeValue(650, TimeUnit.MILLISECONDS);
     public static final TimeValue MINIMUM_REMOTE_TRANSLOG_BUFFER_INTERVAL = TimeValue.ZERO;
     public static final Setting<TimeValue> INDEX_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING = Setting.timeSetting(
@@ -958,6 +1025,7 @@ public final class IndexSettings {
     private final boolean queryStringAllowLeadingWildcard;
     private final boolean defaultAllowUnmappedFields;
     private volatile Translog.Durability durability;
+    private volatile boolean translogCompressionEnabled;
     private final boolean translogReadForward;
     private volatile TimeValue syncInterval;
     private volatile TimeValue publishReferencedSegmentsInterval;
@@ -1077,6 +1145,9 @@ public final class IndexSettings {
      * False positive probability to use while creating fuzzy set.
      */
     private volatile double docIdFuzzySetFalsePositiveProbability;
+    private volatile boolean docIdUpsertHeavy;
+    private volatile int bulkParallelParsingThreads;
+    private volatile boolean bulkPresort;
 
     /**
      * Denotes whether this is a composite index i.e star-tree index etc
@@ -1186,6 +1257,7 @@ public final class IndexSettings {
         this.defaultAllowUnmappedFields = scopedSettings.get(ALLOW_UNMAPPED);
         this.allowDerivedField = scopedSettings.get(ALLOW_DERIVED_FIELDS);
         this.durability = scopedSettings.get(INDEX_TRANSLOG_DURABILITY_SETTING);
+        this.translogCompressionEnabled = scopedSettings.get(INDEX_TRANSLOG_COMPRESSION_ENABLED_SETTING);
         this.translogReadForward = INDEX_TRANSLOG_READ_FORWARD_SETTING.get(settings);
         defaultFields = scopedSettings.get(DEFAULT_FIELD_SETTING);
         syncInterval = INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.get(settings);
@@ -1259,6 +1331,9 @@ public final class IndexSettings {
 
         setEnableFuzzySetForDocId(scopedSettings.get(INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING));
         setDocIdFuzzySetFalsePositiveProbability(scopedSettings.get(INDEX_DOC_ID_FUZZY_SET_FALSE_POSITIVE_PROBABILITY_SETTING));
+        setDocIdUpsertHeavy(scopedSettings.get(INDEX_DOC_ID_UPSERT_HEAVY_SETTING));
+        this.bulkParallelParsingThreads = scopedSettings.get(INDEX_BULK_PARALLEL_PARSING_THREADS_SETTING);
+        this.bulkPresort = scopedSettings.get(INDEX_BULK_PRESORT_SETTING);
         isCompositeIndex = scopedSettings.get(StarTreeIndexSettings.IS_COMPOSITE_INDEX_SETTING);
         isStarTreeIndexEnabled = scopedSettings.get(StarTreeIndexSettings.STAR_TREE_SEARCH_ENABLED_SETTING);
         scopedSettings.addSettingsUpdateConsumer(
@@ -1325,6 +1400,7 @@ public final class IndexSettings {
             value -> mergeSchedulerConfig.updateMaxForceMergeMBPerSec(this)
         );
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_DURABILITY_SETTING, this::setTranslogDurability);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_COMPRESSION_ENABLED_SETTING, this::setTranslogCompressionEnabled);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_SYNC_INTERVAL_SETTING, this::setTranslogSyncInterval);
         scopedSettings.addSettingsUpdateConsumer(
             INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING,
@@ -1396,6 +1472,9 @@ public final class IndexSettings {
             INDEX_DOC_ID_FUZZY_SET_FALSE_POSITIVE_PROBABILITY_SETTING,
             this::setDocIdFuzzySetFalsePositiveProbability
         );
+        scopedSettings.addSettingsUpdateConsumer(INDEX_DOC_ID_UPSERT_HEAVY_SETTING, this::setDocIdUpsertHeavy);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_PARALLEL_PARSING_THREADS_SETTING, this::setBulkParallelParsingThreads);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_PRESORT_SETTING, this::setBulkPresort);
         scopedSettings.addSettingsUpdateConsumer(ALLOW_DERIVED_FIELDS, this::setAllowDerivedField);
         scopedSettings.addSettingsUpdateConsumer(IndexMetadata.INDEX_REMOTE_STORE_ENABLED_SETTING, this::setRemoteStoreEnabled);
         scopedSettings.addSettingsUpdateConsumer(
@@ -1729,6 +1808,17 @@ public final class IndexSettings {
         this.durability = durability;
     }
 
+    /**
+     * Returns true if large document sources are compressed in the translog of this index.
+     */
+    public boolean isTranslogCompressionEnabled() {
+        return translogCompressionEnabled;
+    }
+
+    private void setTranslogCompressionEnabled(boolean translogCompressionEnabled) {
+        this.translogCompressionEnabled = translogCompressionEnabled;
+    }
+
     /**
      * Returns true if index warmers are enabled, otherwise <code>false</code>
      */
@@ -2365,6 +2455,36 @@ public final class IndexSettings {
         this.docIdFuzzySetFalsePositiveProbability = docIdFuzzySetFalsePositiveProbability;
     }
 
+    public boolean isDocIdUpsertHeavy() {
+        return docIdUpsertHeavy;
+    }
+
+    public void setDocIdUpsertHeavy(boolean docIdUpsertHeavy) {
+        this.docIdUpsertHeavy = docIdUpsertHeavy;
+    }
+
+    /**
+     * Returns the number of write threads that parse the documents of a bulk shard request on the primary.
+     */
+    public int getBulkParallelParsingThreads() {
+        return bulkParallelParsingThreads;
+    }
+
+    private void setBulkParallelParsingThreads(int bulkParallelParsingThreads) {
+        this.bulkParallelParsingThreads = bulkParallelParsingThreads;
+    }
+
+    /**
+     * Returns true if the primary executes the index requests of a bulk shard request in the order of the index sort.
+     */
+    public boolean isBulkPresort() {
+        return bulkPresort;
+    }
+
+    private void setBulkPresort(boolean bulkPresort) {
+        this.bulkPresort = bulkPresort;
+    }
+
     public RemoteStorePathStrategy getRemoteStorePathStrategy() {
         return remoteStorePathStrategy;
     }
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.cache.queryplan;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Statistics of the cache of queries parsed for earlier identical search requests
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.9.0")
+public class QueryPlanCacheStats implements Writeable, ToXContentFragment {
+
+    private long cacheSize;
+    private long evictions;
+    private long hitCount;
+    private long missCount;
+
+    public QueryPlanCacheStats() {}
+
+    public QueryPlanCacheStats(long cacheSize, long evictions, long hitCount, long missCount) {
+        this.cacheSize = cacheSize;
+        this.evictions = evictions;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+    }
+
+    public QueryPlanCacheStats(StreamInput in) throws IOException {
+        cacheSize = in.readVLong();
+        evictions = in.readVLong();
+        hitCount = in.readVLong();
+        missCount = in.readVLong();
+    }
+
+    public void add(QueryPlanCacheStats stats) {
+        this.cacheSize += stats.cacheSize;
+        this.evictions += stats.evictions;
+        this.hitCount += stats.hitCount;
+        this.missCount += stats.missCount;
+    }
+
+    /**
+     * The number of cached queries
+     */
+    public long getCacheSize() {
+        return this.cacheSize;
+    }
+
+    public long getEvictions() {
+        return this.evictions;
+    }
+
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(cacheSize);
+        out.writeVLong(evictions);
+        out.writeVLong(hitCount);
+        out.writeVLong(missCount);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.QUERY_PLAN_CACHE_STATS);
+        builder.field(Fields.CACHE_SIZE, getCacheSize());
+        builder.field(Fields.EVICTIONS, getEvictions());
+        builder.field(Fields.HIT_COUNT, getHitCount());
+        builder.field(Fields.MISS_COUNT, getMissCount());
+        builder.endObject();
+        return builder;
+    }
+
+    /**
+     * Fields used for parsing and toXContent
+     *
+     * @opensearch.internal
+     */
+    static final class Fields {
+        static final String QUERY_PLAN_CACHE_STATS = "query_plan_cache";
+        static final String CACHE_SIZE = "cache_size";
+        static final String EVICTIONS = "evictions";
+        static final String HIT_COUNT = "hit_count";
+        static final String MISS_COUNT = "miss_count";
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.cache.queryplan;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.metrics.CounterMetric;
+
+/**
+ * Tracks the use of the query plan cache by a particular shard.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.9.0")
+public final class ShardQueryPlanCache {
+
+    final CounterMetric evictionsMetric = new CounterMetric();
+    final CounterMetric sizeMetric = new CounterMetric();
+    final CounterMetric hitCount = new CounterMetric();
+    final CounterMetric missCount = new CounterMetric();
+
+    public QueryPlanCacheStats stats() {
+        return new QueryPlanCacheStats(Math.max(0, sizeMetric.count()), evictionsMetric.count(), hitCount.count(), missCount.count());
+    }
+
+    public void onHit() {
+        hitCount.inc();
+    }
+
+    public void onMiss() {
+        missCount.inc();
+    }
+
+    public void onCached() {
+        sizeMetric.inc();
+    }
+
+    public void onRemoval(boolean evicted) {
+        if (evicted) {
+            evictionsMetric.inc();
+        }
+        sizeMetric.dec();
+    }
+}
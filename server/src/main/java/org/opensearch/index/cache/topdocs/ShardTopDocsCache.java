@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.cache.topdocs;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.metrics.CounterMetric;
+
+/**
+ * Tracks the portion of the top docs cache in use for a particular shard.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.9.0")
+public final class ShardTopDocsCache {
+
+    final CounterMetric evictionsMetric = new CounterMetric();
+    final CounterMetric totalMetric = new CounterMetric();
+    final CounterMetric hitCount = new CounterMetric();
+    final CounterMetric missCount = new CounterMetric();
+
+    public TopDocsCacheStats stats() {
+        return new TopDocsCacheStats(Math.max(0, totalMetric.count()), evictionsMetric.count(), hitCount.count(), missCount.count());
+    }
+
+    public void onHit() {
+        hitCount.inc();
+    }
+
+    public void onMiss() {
+        missCount.inc();
+    }
+
+    public void onCached(long ramBytesUsed) {
+        totalMetric.inc(ramBytesUsed);
+    }
+
+    public void onRemoval(long ramBytesUsed, boolean evicted) {
+        if (evicted) {
+            evictionsMetric.inc();
+        }
+        totalMetric.dec(ramBytesUsed);
+    }
+}
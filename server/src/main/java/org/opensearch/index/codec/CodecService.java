@@ -40,6 +40,8 @@ import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.codec.composite.CompositeCodecFactory;
+import org.opensearch.index.codec.zstd.ZstdDict104Codec;
+import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.mapper.MapperService;
 
 import java.util.Collection;
@@ -64,6 +66,10 @@ public class CodecService {
     public static final String LZ4 = "lz4";
     public static final String BEST_COMPRESSION_CODEC = "best_compression";
     public static final String ZLIB = "zlib";
+    /**
+     * zstd compressed stored fields with a dictionary trained for every segment, see {@link ZstdDict104Codec}
+     */
+    public static final String ZSTD_SEGMENT_DICT_CODEC = "zstd_segment_dict";
     /**
      * the raw unfiltered lucene default. useful for testing
      */
@@ -86,11 +92,13 @@ public class CodecService {
     ) {
         final MapBuilder<String, Codec> codecs = MapBuilder.<String, Codec>newMapBuilder();
         assert null != indexSettings;
+        final int compressionLevel = indexSettings.getValue(EngineConfig.INDEX_CODEC_COMPRESSION_LEVEL_SETTING);
         if (mapperService == null) {
             codecs.put(DEFAULT_CODEC, new Lucene104Codec());
             codecs.put(LZ4, new Lucene104Codec());
             codecs.put(BEST_COMPRESSION_CODEC, new Lucene104Codec(Lucene104Codec.Mode.BEST_COMPRESSION));
             codecs.put(ZLIB, new Lucene104Codec(Lucene104Codec.Mode.BEST_COMPRESSION));
+            codecs.put(ZSTD_SEGMENT_DICT_CODEC, new ZstdDict104Codec(compressionLevel));
         } else {
             // CompositeCodec still delegates to PerFieldMappingPostingFormatCodec
             // We can still support all the compression codecs when composite index is present
@@ -104,6 +112,7 @@ public class CodecService {
                     new PerFieldMappingPostingFormatCodec(Lucene104Codec.Mode.BEST_COMPRESSION, mapperService, logger)
                 );
                 codecs.put(ZLIB, new PerFieldMappingPostingFormatCodec(Lucene104Codec.Mode.BEST_COMPRESSION, mapperService, logger));
+                codecs.put(ZSTD_SEGMENT_DICT_CODEC, new ZstdDict104Codec(compressionLevel, mapperService, logger));
             }
         }
         codecs.put(LUCENE_DEFAULT_CODEC, Codec.getDefault());
@@ -78,7 +78,10 @@ public class PerFieldMappingPostingFormatCodec extends Lucene104Codec {
         fuzzySetFactory = new FuzzySetFactory(
             Map.of(
                 IdFieldMapper.NAME,
-                new FuzzySetParameters(() -> mapperService.getIndexSettings().getDocIdFuzzySetFalsePositiveProbability())
+                new FuzzySetParameters(
+                    () -> mapperService.getIndexSettings().getDocIdFuzzySetFalsePositiveProbability(),
+                    () -> mapperService.getIndexSettings().isDocIdUpsertHeavy()
+                )
             )
         );
     }
@@ -90,7 +93,7 @@ public class PerFieldMappingPostingFormatCodec extends Lucene104Codec {
             logger.warn("no index mapper found for field: [{}] returning default postings format", field);
         } else if (fieldType.unwrap() instanceof CompletionFieldMapper.CompletionFieldType) {
             return CompletionFieldMapper.CompletionFieldType.postingsFormat();
-        } else if (IdFieldMapper.NAME.equals(field) && mapperService.getIndexSettings().isEnableFuzzySetForDocId()) {
+        } else if (IdFieldMapper.NAME.equals(field) && useFuzzySetForDocId()) {
             if (docIdPostingsFormat == null) {
                 docIdPostingsFormat = new FuzzyFilterPostingsFormat(super.getPostingsFormatForField(field), fuzzySetFactory);
             }
@@ -99,6 +102,10 @@ public class PerFieldMappingPostingFormatCodec extends Lucene104Codec {
         return super.getPostingsFormatForField(field);
     }
 
+    private boolean useFuzzySetForDocId() {
+        return mapperService.getIndexSettings().isEnableFuzzySetForDocId() || mapperService.getIndexSettings().isDocIdUpsertHeavy();
+    }
+
     @Override
     public DocValuesFormat getDocValuesFormatForField(String field) {
         return dvFormat;
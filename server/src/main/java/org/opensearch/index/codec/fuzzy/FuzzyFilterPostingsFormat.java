@@ -44,6 +44,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Based on Lucene's BloomFilterPostingsFormat.
@@ -101,9 +103,59 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
         return new FuzzyFilteredFieldsProducer(state);
     }
 
+    /**
+     * Returns the lookup stats of the given terms of a segment since the segment was opened, or {@code null} if the terms are not
+     * fronted by a fuzzy filter of this format.
+     */
+    public static LookupStats lookupStats(Terms terms) {
+        if (terms instanceof FuzzyFilteredFieldsProducer.FuzzyFilteredTerms filteredTerms) {
+            final FieldLookups lookups = filteredTerms.lookups;
+            return new LookupStats(lookups.hits.sum(), lookups.misses.sum());
+        }
+        return null;
+    }
+
+    /**
+     * The exact term lookups of a filtered field.
+     *
+     * @param hits   the lookups of absent terms that were answered without seeking the terms dictionary, either by the fuzzy filter or
+     *               by the cache of recently looked up absent terms
+     * @param misses the lookups that had to seek the terms dictionary, because the term exists or the filter gave a false positive
+     */
+    public record LookupStats(long hits, long misses) {}
+
+    /**
+     * The lookup state of a filtered field of a segment. Next to the lookup counters, it caches the last few terms that the filter
+     * could not rule out but that turned out to be absent: update heavy workloads look up the same hot ids in every segment over and
+     * over, and every false positive of the filter for one of them would otherwise seek the terms dictionary again. Segments are
+     * immutable, so a cached absent term stays absent for the lifetime of the segment.
+     */
+    static final class FieldLookups {
+
+        static final int NEGATIVE_CACHE_SIZE = 256;
+
+        private final AtomicReferenceArray<BytesRef> absentTerms = new AtomicReferenceArray<>(NEGATIVE_CACHE_SIZE);
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        boolean isKnownAbsent(BytesRef term) {
+            final BytesRef absentTerm = absentTerms.get(slot(term));
+            return absentTerm != null && absentTerm.bytesEquals(term);
+        }
+
+        void onAbsent(BytesRef term) {
+            absentTerms.set(slot(term), BytesRef.deepCopyOf(term));
+        }
+
+        private static int slot(BytesRef term) {
+            return term.hashCode() & (NEGATIVE_CACHE_SIZE - 1);
+        }
+    }
+
     static class FuzzyFilteredFieldsProducer extends FieldsProducer {
         private FieldsProducer delegateFieldsProducer;
         HashMap<String, FuzzySet> fuzzySetsByFieldName = new HashMap<>();
+        private final Map<String, FieldLookups> lookupsByFieldName = new HashMap<>();
         private List<Closeable> closeables = new ArrayList<>();
 
         public FuzzyFilteredFieldsProducer(SegmentReadState state) throws IOException {
@@ -136,6 +188,7 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
                     closeables.add(set);
                     FieldInfo fieldInfo = state.fieldInfos.fieldInfo(fieldNum);
                     fuzzySetsByFieldName.put(fieldInfo.name, set);
+                    lookupsByFieldName.put(fieldInfo.name, new FieldLookups());
                 }
                 CodecUtil.retrieveChecksum(filterIn);
 
@@ -172,7 +225,7 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
                 if (result == null) {
                     return null;
                 }
-                return new FuzzyFilteredTerms(result, filter);
+                return new FuzzyFilteredTerms(result, filter, lookupsByFieldName.get(field));
             }
         }
 
@@ -184,10 +237,12 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
         static class FuzzyFilteredTerms extends Terms {
             private Terms delegateTerms;
             private FuzzySet filter;
+            private final FieldLookups lookups;
 
-            public FuzzyFilteredTerms(Terms terms, FuzzySet filter) {
+            public FuzzyFilteredTerms(Terms terms, FuzzySet filter, FieldLookups lookups) {
                 this.delegateTerms = terms;
                 this.filter = filter;
+                this.lookups = lookups;
             }
 
             @Override
@@ -197,7 +252,7 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
 
             @Override
             public TermsEnum iterator() throws IOException {
-                return new FilterAppliedTermsEnum(delegateTerms, filter);
+                return new FilterAppliedTermsEnum(delegateTerms, filter, lookups);
             }
 
             @Override
@@ -256,10 +311,12 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
             private Terms delegateTerms;
             private TermsEnum delegateTermsEnum;
             private final FuzzySet filter;
+            private final FieldLookups lookups;
 
-            public FilterAppliedTermsEnum(Terms delegateTerms, FuzzySet filter) throws IOException {
+            public FilterAppliedTermsEnum(Terms delegateTerms, FuzzySet filter, FieldLookups lookups) throws IOException {
                 this.delegateTerms = delegateTerms;
                 this.filter = filter;
+                this.lookups = lookups;
             }
 
             void reset(Terms delegateTerms) throws IOException {
@@ -290,10 +347,16 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
                 // structure
                 // that may occasionally give a false positive but guaranteed no false
                 // negatives
-                if (filter.contains(text) == FuzzySet.Result.NO) {
+                if (filter.contains(text) == FuzzySet.Result.NO || lookups.isKnownAbsent(text)) {
+                    lookups.hits.increment();
                     return false;
                 }
-                return delegate().seekExact(text);
+                lookups.misses.increment();
+                final boolean found = delegate().seekExact(text);
+                if (found == false) {
+                    lookups.onAbsent(text);
+                }
+                return found;
             }
 
             @Override
@@ -36,7 +36,7 @@ public class FuzzySetFactory {
         }
         switch (params.getSetType()) {
             case BLOOM_FILTER_V1:
-                return new BloomFilter(maxDocs, params.getFalsePositiveProbability(), iteratorProvider);
+                return new BloomFilter(maxDocs, params.getFalsePositiveProbability(maxDocs), iteratorProvider);
             default:
                 throw new IllegalArgumentException("No Implementation for set type: " + params.getSetType());
         }
@@ -8,6 +8,7 @@
 
 package org.opensearch.index.codec.fuzzy;
 
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -15,12 +16,35 @@ import java.util.function.Supplier;
  */
 public class FuzzySetParameters {
     private final Supplier<Double> falsePositiveProbabilityProvider;
+    private final BooleanSupplier adaptiveProvider;
     private final FuzzySet.SetType setType;
 
     public static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.2047d;
 
+    /**
+     * Segments of up to this many documents get a set with a false positive probability of at most
+     * {@link #SMALL_SEGMENT_FALSE_POSITIVE_PROBABILITY} when the false positive probability is adaptive.
+     */
+    static final int SMALL_SEGMENT_MAX_DOCS = 100_000;
+    static final double SMALL_SEGMENT_FALSE_POSITIVE_PROBABILITY = 0.01d;
+
+    /**
+     * Segments of up to this many documents get a set with a false positive probability of at most
+     * {@link #MEDIUM_SEGMENT_FALSE_POSITIVE_PROBABILITY} when the false positive probability is adaptive.
+     */
+    static final int MEDIUM_SEGMENT_MAX_DOCS = 1_000_000;
+    static final double MEDIUM_SEGMENT_FALSE_POSITIVE_PROBABILITY = 0.05d;
+
     public FuzzySetParameters(Supplier<Double> falsePositiveProbabilityProvider) {
+        this(falsePositiveProbabilityProvider, () -> false);
+    }
+
+    /**
+     * @param adaptiveProvider whether sets of small segments are created with a lower false positive probability than the provided one
+     */
+    public FuzzySetParameters(Supplier<Double> falsePositiveProbabilityProvider, BooleanSupplier adaptiveProvider) {
         this.falsePositiveProbabilityProvider = falsePositiveProbabilityProvider;
+        this.adaptiveProvider = adaptiveProvider;
         this.setType = FuzzySet.SetType.BLOOM_FILTER_V1;
     }
 
@@ -28,6 +52,24 @@ public class FuzzySetParameters {
         return falsePositiveProbabilityProvider.get();
     }
 
+    /**
+     * Returns the false positive probability of the set of a segment with the given number of documents. Small and medium segments,
+     * which most lookups of an append-mostly index have to go through since they hold the recently written documents, get a lower
+     * false positive probability when adaptive: their sets cost little memory, and every false positive costs a terms dictionary seek.
+     */
+    public double getFalsePositiveProbability(int maxDocs) {
+        final double falsePositiveProbability = getFalsePositiveProbability();
+        if (adaptiveProvider.getAsBoolean() == false) {
+            return falsePositiveProbability;
+        }
+        if (maxDocs <= SMALL_SEGMENT_MAX_DOCS) {
+            return Math.min(falsePositiveProbability, SMALL_SEGMENT_FALSE_POSITIVE_PROBABILITY);
+        } else if (maxDocs <= MEDIUM_SEGMENT_MAX_DOCS) {
+            return Math.min(falsePositiveProbability, MEDIUM_SEGMENT_FALSE_POSITIVE_PROBABILITY);
+        }
+        return falsePositiveProbability;
+    }
+
     public FuzzySet.SetType getSetType() {
         return setType;
     }
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.zstd;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.FilterCodec;
+import org.apache.lucene.codecs.StoredFieldsFormat;
+import org.apache.lucene.codecs.lucene104.Lucene104Codec;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.index.codec.CodecAliases;
+import org.opensearch.index.codec.CodecService;
+import org.opensearch.index.codec.CodecSettings;
+import org.opensearch.index.codec.PerFieldMappingPostingFormatCodec;
+import org.opensearch.index.engine.EngineConfig;
+import org.opensearch.index.mapper.MapperService;
+
+import java.util.Set;
+
+/**
+ * Codec that compresses stored fields with zstd and a dictionary trained for every segment, see {@link ZstdDictStoredFieldsFormat}.
+ * All other formats are the ones of the default codec. Indices use it with {@code index.codec: zstd_segment_dict}.
+ *
+ * @opensearch.internal
+ */
+public class ZstdDict104Codec extends FilterCodec implements CodecSettings, CodecAliases {
+
+    public static final String NAME = "ZstdDict104Codec";
+
+    /**
+     * The compression level of the codec when it is loaded through SPI, which only reads segments and does not depend on the level.
+     */
+    static final int DEFAULT_COMPRESSION_LEVEL = 3;
+
+    private final StoredFieldsFormat storedFieldsFormat;
+
+    // needed for SPI - this is used in reader path
+    public ZstdDict104Codec() {
+        this(DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    public ZstdDict104Codec(int compressionLevel) {
+        this(compressionLevel, new Lucene104Codec());
+    }
+
+    public ZstdDict104Codec(int compressionLevel, MapperService mapperService, Logger logger) {
+        this(compressionLevel, new PerFieldMappingPostingFormatCodec(Lucene104Codec.Mode.BEST_SPEED, mapperService, logger));
+    }
+
+    private ZstdDict104Codec(int compressionLevel, Lucene104Codec delegate) {
+        super(NAME, delegate);
+        this.storedFieldsFormat = new ZstdDictStoredFieldsFormat(compressionLevel);
+    }
+
+    @Override
+    public StoredFieldsFormat storedFieldsFormat() {
+        return storedFieldsFormat;
+    }
+
+    @Override
+    public boolean supports(Setting<?> setting) {
+        return setting.equals(EngineConfig.INDEX_CODEC_COMPRESSION_LEVEL_SETTING);
+    }
+
+    @Override
+    public Set<String> aliases() {
+        return Set.of(CodecService.ZSTD_SEGMENT_DICT_CODEC);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.zstd;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdDictDecompress;
+
+import org.apache.lucene.codecs.compressing.CompressionMode;
+import org.apache.lucene.codecs.compressing.Compressor;
+import org.apache.lucene.codecs.compressing.Decompressor;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.ByteBuffersDataInput;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Zstd compression of the chunks of the stored fields of a single segment, with the dictionary that was trained for the segment.
+ * <p>
+ * Every chunk is compressed as a single zstd frame, preceded by its compressed length. The dictionary is digested once per segment
+ * for decompression, and the decompression contexts that reference it are pooled by the segment and reused across the readers of the
+ * segment and their clones, which are created for every search, so that reading a document neither digests the dictionary nor
+ * allocates a context. The contexts are released when the segment is closed.
+ *
+ * @opensearch.internal
+ */
+final class ZstdDictCompressionMode extends CompressionMode implements Closeable {
+
+    private final int compressionLevel;
+    private final byte[] dictionary;
+    private final Queue<ZstdDecompressCtx> decompressionContexts = new ConcurrentLinkedQueue<>();
+    private ZstdDictDecompress digestedDictionary;
+    private volatile boolean closed;
+
+    /**
+     * @param dictionary the dictionary of the segment, empty if the segment has none
+     */
+    ZstdDictCompressionMode(int compressionLevel, byte[] dictionary) {
+        this.compressionLevel = compressionLevel;
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public Compressor newCompressor() {
+        return new ZstdDictCompressor();
+    }
+
+    @Override
+    public Decompressor newDecompressor() {
+        return new ZstdDictDecompressor();
+    }
+
+    private synchronized ZstdDictDecompress digestedDictionary() {
+        if (digestedDictionary == null) {
+            digestedDictionary = new ZstdDictDecompress(dictionary);
+        }
+        return digestedDictionary;
+    }
+
+    private ZstdDecompressCtx acquireDecompressionContext() {
+        final ZstdDecompressCtx context = decompressionContexts.poll();
+        if (context != null) {
+            return context;
+        }
+        if (closed) {
+            throw new AlreadyClosedException("stored fields of the segment are closed");
+        }
+        final ZstdDecompressCtx newContext = new ZstdDecompressCtx();
+        if (dictionary.length > 0) {
+            newContext.loadDict(digestedDictionary());
+        }
+        return newContext;
+    }
+
+    private void releaseDecompressionContext(ZstdDecompressCtx context) {
+        decompressionContexts.add(context);
+        if (closed) {
+            closeDecompressionContexts();
+        }
+    }
+
+    private void closeDecompressionContexts() {
+        for (ZstdDecompressCtx context = decompressionContexts.poll(); context != null; context = decompressionContexts.poll()) {
+            context.close();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed == false) {
+            closed = true;
+            closeDecompressionContexts();
+            if (digestedDictionary != null) {
+                digestedDictionary.close();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ZSTD_DICT(level=" + compressionLevel + ", dictionary=" + dictionary.length + ")";
+    }
+
+    /**
+     * Compresses every chunk as a single frame with the dictionary of the segment.
+     *
+     * @opensearch.internal
+     */
+    private final class ZstdDictCompressor extends Compressor {
+
+        private final ZstdCompressCtx context = new ZstdCompressCtx();
+        private byte[] uncompressed = BytesRef.EMPTY_BYTES;
+        private byte[] compressed = BytesRef.EMPTY_BYTES;
+
+        ZstdDictCompressor() {
+            context.setLevel(compressionLevel);
+            if (dictionary.length > 0) {
+                context.loadDict(dictionary);
+            }
+        }
+
+        @Override
+        public void compress(ByteBuffersDataInput buffersInput, DataOutput out) throws IOException {
+            final int length = (int) buffersInput.length();
+            uncompressed = ArrayUtil.growNoCopy(uncompressed, length);
+            buffersInput.readBytes(uncompressed, 0, length);
+            final int bound = (int) Zstd.compressBound(length);
+            compressed = ArrayUtil.growNoCopy(compressed, bound);
+            final int compressedLength = context.compressByteArray(compressed, 0, bound, uncompressed, 0, length);
+            out.writeVInt(compressedLength);
+            out.writeBytes(compressed, 0, compressedLength);
+        }
+
+        @Override
+        public void close() {
+            context.close();
+        }
+    }
+
+    /**
+     * Decompresses chunks with a pooled context that references the digested dictionary of the segment.
+     *
+     * @opensearch.internal
+     */
+    private final class ZstdDictDecompressor extends Decompressor {
+
+        private byte[] compressed = BytesRef.EMPTY_BYTES;
+
+        @Override
+        public void decompress(DataInput in, int originalLength, int offset, int length, BytesRef bytes) throws IOException {
+            assert offset + length <= originalLength : "buffer read past EOF";
+            if (length == 0) {
+                bytes.length = 0;
+                return;
+            }
+            final int compressedLength = in.readVInt();
+            compressed = ArrayUtil.growNoCopy(compressed, compressedLength);
+            in.readBytes(compressed, 0, compressedLength);
+            bytes.bytes = ArrayUtil.growNoCopy(bytes.bytes, originalLength);
+            final ZstdDecompressCtx context = acquireDecompressionContext();
+            final int decompressedLength;
+            try {
+                decompressedLength = context.decompressByteArray(bytes.bytes, 0, originalLength, compressed, 0, compressedLength);
+            } finally {
+                releaseDecompressionContext(context);
+            }
+            if (decompressedLength != originalLength) {
+                throw new CorruptIndexException("expected " + originalLength + " decompressed bytes but got " + decompressedLength, in);
+            }
+            bytes.offset = offset;
+            bytes.length = length;
+        }
+
+        @Override
+        public Decompressor clone() {
+            return new ZstdDictDecompressor();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.zstd;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.StoredFieldsFormat;
+import org.apache.lucene.codecs.StoredFieldsReader;
+import org.apache.lucene.codecs.StoredFieldsWriter;
+import org.apache.lucene.codecs.lucene90.compressing.Lucene90CompressingStoredFieldsFormat;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+
+import java.io.IOException;
+
+/**
+ * Stored fields format that compresses the documents of every segment with zstd and a dictionary trained for the segment.
+ * <p>
+ * The documents of a segment, and in particular their {@code _source}, usually share most of their structure: field names, enum
+ * like values, timestamps with the same prefix. General purpose compression only finds that redundancy within a chunk, so chunks
+ * have to be large to compress well, and a large chunk has to be decompressed as a whole to read a single document of it. This
+ * format instead buffers the first documents of a segment, trains a zstd dictionary of {@link #DICTIONARY_SIZE} bytes on them,
+ * and then compresses small chunks against the dictionary, which gets close to the ratio of large chunks while reading a document
+ * only decompresses {@link #CHUNK_SIZE} bytes. The dictionary is written to its own file of the segment, so merged segments
+ * train a dictionary of their own. Segments with too few documents to train on are compressed without dictionary.
+ *
+ * @opensearch.internal
+ */
+public final class ZstdDictStoredFieldsFormat extends StoredFieldsFormat {
+
+    static final String FORMAT_NAME = "ZstdDictStoredFields";
+    static final String DICTIONARY_CODEC_NAME = "ZstdDictStoredFieldsDictionary";
+    static final String DICTIONARY_EXTENSION = "zsd";
+    static final int VERSION_START = 0;
+    static final int VERSION_CURRENT = VERSION_START;
+
+    /**
+     * The maximum number of uncompressed bytes per chunk, which is also the most that is decompressed to read a document that
+     * is smaller than a chunk.
+     */
+    static final int CHUNK_SIZE = 32 * 1024;
+    static final int MAX_DOCS_PER_CHUNK = 512;
+    static final int BLOCK_SHIFT = 10;
+
+    /**
+     * The size of the dictionary of a segment.
+     */
+    static final int DICTIONARY_SIZE = 16 * 1024;
+
+    /**
+     * The number of bytes of the first documents of a segment that the dictionary is trained on, which are held in memory until
+     * the dictionary is trained.
+     */
+    static final int SAMPLE_SIZE = 1024 * 1024;
+
+    /**
+     * The maximum number of bytes of a single document that the dictionary is trained on.
+     */
+    static final int MAX_SAMPLE_SIZE_PER_DOC = 64 * 1024;
+
+    /**
+     * The minimum number of documents to train a dictionary on.
+     */
+    static final int MIN_SAMPLE_DOCS = 32;
+
+    /**
+     * The maximum number of documents to train a dictionary on.
+     */
+    static final int MAX_SAMPLE_DOCS = 8192;
+
+    private final int compressionLevel;
+
+    public ZstdDictStoredFieldsFormat(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public StoredFieldsReader fieldsReader(Directory directory, SegmentInfo si, FieldInfos fn, IOContext context) throws IOException {
+        final ZstdDictCompressionMode compressionMode = new ZstdDictCompressionMode(compressionLevel, readDictionary(directory, si));
+        boolean success = false;
+        try {
+            final StoredFieldsReader reader = new ZstdDictStoredFieldsReader(
+                delegateFormat(compressionMode).fieldsReader(directory, si, fn, context),
+                compressionMode
+            );
+            success = true;
+            return reader;
+        } finally {
+            if (success == false) {
+                compressionMode.close();
+            }
+        }
+    }
+
+    @Override
+    public StoredFieldsWriter fieldsWriter(Directory directory, SegmentInfo si, IOContext context) throws IOException {
+        return new ZstdDictStoredFieldsWriter(this, directory, si, context);
+    }
+
+    int compressionLevel() {
+        return compressionLevel;
+    }
+
+    static Lucene90CompressingStoredFieldsFormat delegateFormat(ZstdDictCompressionMode compressionMode) {
+        return new Lucene90CompressingStoredFieldsFormat(FORMAT_NAME, compressionMode, CHUNK_SIZE, MAX_DOCS_PER_CHUNK, BLOCK_SHIFT);
+    }
+
+    static void writeDictionary(Directory directory, SegmentInfo si, IOContext context, byte[] dictionary) throws IOException {
+        final String fileName = IndexFileNames.segmentFileName(si.name, "", DICTIONARY_EXTENSION);
+        try (IndexOutput out = directory.createOutput(fileName, context)) {
+            CodecUtil.writeIndexHeader(out, DICTIONARY_CODEC_NAME, VERSION_CURRENT, si.getId(), "");
+            out.writeVInt(dictionary.length);
+            out.writeBytes(dictionary, dictionary.length);
+            CodecUtil.writeFooter(out);
+        }
+    }
+
+    static byte[] readDictionary(Directory directory, SegmentInfo si) throws IOException {
+        final String fileName = IndexFileNames.segmentFileName(si.name, "", DICTIONARY_EXTENSION);
+        try (ChecksumIndexInput in = directory.openChecksumInput(fileName)) {
+            Throwable priorE = null;
+            byte[] dictionary = null;
+            try {
+                CodecUtil.checkIndexHeader(in, DICTIONARY_CODEC_NAME, VERSION_START, VERSION_CURRENT, si.getId(), "");
+                dictionary = new byte[in.readVInt()];
+                in.readBytes(dictionary, 0, dictionary.length);
+            } catch (Throwable exception) {
+                priorE = exception;
+            } finally {
+                CodecUtil.checkFooter(in, priorE);
+            }
+            return dictionary;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.zstd;
+
+import org.apache.lucene.codecs.StoredFieldsReader;
+import org.apache.lucene.index.StoredFieldVisitor;
+import org.apache.lucene.util.IOUtils;
+
+import java.io.IOException;
+
+/**
+ * Reads the stored fields of a segment written with {@link ZstdDictStoredFieldsFormat}. The reader of the segment owns the
+ * compression mode, and with it the dictionary and the decompression contexts of the segment, which its clones and merge instances
+ * share.
+ *
+ * @opensearch.internal
+ */
+final class ZstdDictStoredFieldsReader extends StoredFieldsReader {
+
+    private final StoredFieldsReader delegate;
+    // null for clones and merge instances, which do not own the compression mode
+    private final ZstdDictCompressionMode compressionMode;
+
+    ZstdDictStoredFieldsReader(StoredFieldsReader delegate, ZstdDictCompressionMode compressionMode) {
+        this.delegate = delegate;
+        this.compressionMode = compressionMode;
+    }
+
+    @Override
+    public StoredFieldsReader clone() {
+        return new ZstdDictStoredFieldsReader(delegate.clone(), null);
+    }
+
+    @Override
+    public StoredFieldsReader getMergeInstance() {
+        return new ZstdDictStoredFieldsReader(delegate.getMergeInstance(), null);
+    }
+
+    @Override
+    public void checkIntegrity() throws IOException {
+        delegate.checkIntegrity();
+    }
+
+    @Override
+    public void document(int docId, StoredFieldVisitor visitor) throws IOException {
+        delegate.document(docId, visitor);
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.close(delegate, compressionMode);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + delegate + ")";
+    }
+}
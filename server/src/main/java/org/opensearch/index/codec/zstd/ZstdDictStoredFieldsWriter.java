@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.zstd;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.StoredFieldsWriter;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefBuilder;
+import org.apache.lucene.util.IOUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes the stored fields of a segment with {@link ZstdDictStoredFieldsFormat}: buffers the first documents of the segment,
+ * trains the dictionary of the segment on them, and then hands the buffered and all further documents to the compressing writer.
+ *
+ * @opensearch.internal
+ */
+final class ZstdDictStoredFieldsWriter extends StoredFieldsWriter {
+
+    private static final Logger logger = LogManager.getLogger(ZstdDictStoredFieldsWriter.class);
+
+    private final ZstdDictStoredFieldsFormat format;
+    private final Directory directory;
+    private final SegmentInfo si;
+    private final IOContext context;
+
+    // buffered documents until the dictionary is trained
+    private List<List<BufferedField>> bufferedDocs = new ArrayList<>();
+    private List<BufferedField> bufferedFields;
+    private List<byte[]> samples = new ArrayList<>();
+    private final BytesRefBuilder sample = new BytesRefBuilder();
+    private long bufferedBytes;
+
+    // the writer of the compressed documents, once the dictionary is trained
+    private StoredFieldsWriter delegate;
+
+    ZstdDictStoredFieldsWriter(ZstdDictStoredFieldsFormat format, Directory directory, SegmentInfo si, IOContext context) {
+        this.format = format;
+        this.directory = directory;
+        this.si = si;
+        this.context = context;
+    }
+
+    @Override
+    public void startDocument() throws IOException {
+        if (delegate != null) {
+            delegate.startDocument();
+        } else {
+            bufferedFields = new ArrayList<>();
+            sample.clear();
+        }
+    }
+
+    @Override
+    public void finishDocument() throws IOException {
+        if (delegate != null) {
+            delegate.finishDocument();
+            return;
+        }
+        bufferedDocs.add(bufferedFields);
+        bufferedFields = null;
+        if (sample.length() > 0) {
+            samples.add(Arrays.copyOf(sample.bytes(), sample.length()));
+        }
+        if (bufferedBytes >= ZstdDictStoredFieldsFormat.SAMPLE_SIZE || bufferedDocs.size() >= ZstdDictStoredFieldsFormat.MAX_SAMPLE_DOCS) {
+            startCompressing();
+        }
+    }
+
+    @Override
+    public void writeField(FieldInfo info, int value) throws IOException {
+        if (delegate != null) {
+            delegate.writeField(info, value);
+        } else {
+            buffer(info, value, Integer.BYTES);
+        }
+    }
+
+    @Override
+    public void writeField(FieldInfo info, long value) throws IOException {
+        if (delegate != null) {
+            delegate.writeField(info, value);
+        } else {
+            buffer(info, value, Long.BYTES);
+        }
+    }
+
+    @Override
+    public void writeField(FieldInfo info, float value) throws IOException {
+        if (delegate != null) {
+            delegate.writeField(info, value);
+        } else {
+            buffer(info, value, Float.BYTES);
+        }
+    }
+
+    @Override
+    public void writeField(FieldInfo info, double value) throws IOException {
+        if (delegate != null) {
+            delegate.writeField(info, value);
+        } else {
+            buffer(info, value, Double.BYTES);
+        }
+    }
+
+    @Override
+    public void writeField(FieldInfo info, BytesRef value) throws IOException {
+        if (delegate != null) {
+            delegate.writeField(info, value);
+        } else {
+            appendSample(value);
+            buffer(info, BytesRef.deepCopyOf(value), value.length);
+        }
+    }
+
+    @Override
+    public void writeField(FieldInfo info, String value) throws IOException {
+        if (delegate != null) {
+            delegate.writeField(info, value);
+        } else {
+            final BytesRef bytes = new BytesRef(value);
+            appendSample(bytes);
+            buffer(info, value, bytes.length);
+        }
+    }
+
+    private void appendSample(BytesRef value) {
+        final int length = Math.min(value.length, ZstdDictStoredFieldsFormat.MAX_SAMPLE_SIZE_PER_DOC - sample.length());
+        if (length > 0) {
+            sample.append(value.bytes, value.offset, length);
+        }
+    }
+
+    private void buffer(FieldInfo info, Object value, int length) {
+        bufferedFields.add(new BufferedField(info, value));
+        bufferedBytes += length;
+    }
+
+    /**
+     * Trains the dictionary of the segment on the buffered documents, writes it, and hands the buffered documents to the
+     * compressing writer.
+     */
+    private void startCompressing() throws IOException {
+        assert delegate == null;
+        final byte[] dictionary = trainDictionary(samples);
+        ZstdDictStoredFieldsFormat.writeDictionary(directory, si, context, dictionary);
+        delegate = ZstdDictStoredFieldsFormat.delegateFormat(new ZstdDictCompressionMode(format.compressionLevel(), dictionary))
+            .fieldsWriter(directory, si, context);
+        final List<List<BufferedField>> docs = bufferedDocs;
+        bufferedDocs = null;
+        samples = null;
+        for (List<BufferedField> fields : docs) {
+            delegate.startDocument();
+            for (BufferedField field : fields) {
+                field.writeTo(delegate);
+            }
+            delegate.finishDocument();
+        }
+        bufferedBytes = 0;
+    }
+
+    /**
+     * Returns the dictionary trained on the given samples, or an empty dictionary if there are too few samples to train on.
+     */
+    static byte[] trainDictionary(List<byte[]> samples) {
+        if (samples.size() < ZstdDictStoredFieldsFormat.MIN_SAMPLE_DOCS) {
+            return BytesRef.EMPTY_BYTES;
+        }
+        final byte[] dictionary = new byte[ZstdDictStoredFieldsFormat.DICTIONARY_SIZE];
+        try {
+            final long size = Zstd.trainFromBuffer(samples.toArray(new byte[0][]), dictionary);
+            if (Zstd.isError(size)) {
+                logger.debug("failed to train dictionary on [{}] samples: {}", samples.size(), Zstd.getErrorName(size));
+                return BytesRef.EMPTY_BYTES;
+            }
+            return Arrays.copyOf(dictionary, (int) size);
+        } catch (ZstdException e) {
+            // samples that are too small or too uniform to train on
+            logger.debug("failed to train dictionary on [{}] samples: {}", samples.size(), e.getMessage());
+            return BytesRef.EMPTY_BYTES;
+        }
+    }
+
+    @Override
+    public void finish(int numDocs) throws IOException {
+        if (delegate == null) {
+            startCompressing();
+        }
+        delegate.finish(numDocs);
+    }
+
+    @Override
+    public void close() throws IOException {
+        bufferedDocs = null;
+        samples = null;
+        IOUtils.close(delegate);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return bufferedBytes + (delegate == null ? 0 : delegate.ramBytesUsed());
+    }
+
+    /**
+     * A stored field of a buffered document.
+     *
+     * @opensearch.internal
+     */
+    private record BufferedField(FieldInfo info, Object value) {
+
+        void writeTo(StoredFieldsWriter writer) throws IOException {
+            if (value instanceof Integer intValue) {
+                writer.writeField(info, intValue);
+            } else if (value instanceof Long longValue) {
+                writer.writeField(info, longValue);
+            } else if (value instanceof Float floatValue) {
+                writer.writeField(info, floatValue);
+            } else if (value instanceof Double doubleValue) {
+                writer.writeField(info, doubleValue);
+            } else if (value instanceof BytesRef bytesValue) {
+                writer.writeField(info, bytesValue);
+            } else {
+                writer.writeField(info, (String) value);
+            }
+        }
+    }
+}
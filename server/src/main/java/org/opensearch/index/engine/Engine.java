@@ -80,6 +80,7 @@ import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.VersionType;
+import org.opensearch.index.codec.fuzzy.FuzzyFilterPostingsFormat;
 import org.opensearch.index.engine.exec.coord.CatalogSnapshot;
 import org.opensearch.index.engine.exec.coord.SegmentInfosCatalogSnapshot;
 import org.opensearch.index.mapper.DocumentMapperForType;
@@ -1008,6 +1009,19 @@ public abstract class Engine implements LifecycleAware, Closeable {
             // TODO: consider moving this to StoreStats
             stats.addFileSizes(getSegmentFileSizes(segmentReader));
         }
+        try {
+            final FuzzyFilterPostingsFormat.LookupStats docIdLookupStats = FuzzyFilterPostingsFormat.lookupStats(
+                segmentReader.terms(IdFieldMapper.NAME)
+            );
+            if (docIdLookupStats != null) {
+                stats.addDocIdFilterLookups(docIdLookupStats.hits(), docIdLookupStats.misses());
+            }
+        } catch (IOException e) {
+            logger.warn(
+                () -> new ParameterizedMessage("failed to read _id lookup stats of segment [{}]", segmentReader.getSegmentName()),
+                e
+            );
+        }
     }
 
     boolean shouldCleanupUnreferencedFiles() {
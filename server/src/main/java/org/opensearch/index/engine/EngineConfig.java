@@ -70,6 +70,7 @@ import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogDeletionPolicyFactory;
 import org.opensearch.index.translog.TranslogFactory;
 import org.opensearch.indices.IndexingMemoryController;
+import org.opensearch.indices.NodeMergeScheduler;
 import org.opensearch.plugins.DocumentLookupProvider;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -130,6 +131,8 @@ public final class EngineConfig {
     private final CommitterFactory committerFactory;
     private final Map<String, FormatChecksumStrategy> checksumStrategies;
     @Nullable
+    private final NodeMergeScheduler.ShardQueue nodeMergeQueue;
+    @Nullable
     private final DocumentLookupProvider documentLookupProvider;
     @Nullable
     private final DocumentMetadataResolver documentMetadataResolver;
@@ -257,6 +260,17 @@ public final class EngineConfig {
         Property.Dynamic
     );
 
+    /**
+     * Whether the live versions of the documents that were written since the last refresh are held in packed primitive arrays
+     * instead of a hash map of version objects, which keeps the garbage collection overhead of update heavy indices with long
+     * refresh intervals low. Only takes effect when the engine is opened.
+     */
+    public static final Setting<Boolean> INDEX_PACKED_VERSION_MAP_SETTING = Setting.boolSetting(
+        "index.engine.packed_version_map",
+        false,
+        Property.IndexScope
+    );
+
     public static final Setting<Boolean> INDEX_USE_COMPOUND_FILE = Setting.boolSetting(
         "index.use_compound_file",
         true,
@@ -327,6 +341,7 @@ public final class EngineConfig {
         this.mapperService = builder.mapperService;
         this.committerFactory = builder.committerFactory;
         this.checksumStrategies = builder.checksumStrategies;
+        this.nodeMergeQueue = builder.nodeMergeQueue;
         this.documentLookupProvider = builder.documentLookupProvider;
         this.documentMetadataResolver = builder.documentMetadataResolver;
     }
@@ -378,6 +393,7 @@ public final class EngineConfig {
             .indexReaderWarmer(this.indexReaderWarmer)
             .clusterApplierService(this.clusterApplierService)
             .mergedSegmentTransferTracker(this.mergedSegmentTransferTracker)
+            .nodeMergeQueue(this.nodeMergeQueue)
             .documentLookupProvider(this.documentLookupProvider)
             .documentMetadataResolver(this.documentMetadataResolver);
     }
@@ -543,6 +559,13 @@ public final class EngineConfig {
         return indexSettings.getValue(INDEX_OPTIMIZE_AUTO_GENERATED_IDS);
     }
 
+    /**
+     * returns true if the engine holds its live versions in packed arrays, see {@link #INDEX_PACKED_VERSION_MAP_SETTING}
+     */
+    public boolean isPackedVersionMapEnabled() {
+        return indexSettings.getValue(INDEX_PACKED_VERSION_MAP_SETTING);
+    }
+
     /**
      * Return the sort order of this index, or null if the index has no sort.
      */
@@ -682,6 +705,12 @@ public final class EngineConfig {
         return this.checksumStrategies;
     }
 
+    /** The queue of the shard in the node level {@link NodeMergeScheduler} that its merges wait in, or {@code null}. */
+    @Nullable
+    public NodeMergeScheduler.ShardQueue getNodeMergeQueue() {
+        return this.nodeMergeQueue;
+    }
+
     /** Optional {@link DocumentLookupProvider} for the pluggable get-by-id path, or {@code null}. */
     @Nullable
     public DocumentLookupProvider getDocumentLookupProvider() {
@@ -737,6 +766,8 @@ public final class EngineConfig {
         private CommitterFactory committerFactory;
         private Map<String, FormatChecksumStrategy> checksumStrategies = Collections.emptyMap();
         @Nullable
+        private NodeMergeScheduler.ShardQueue nodeMergeQueue;
+        @Nullable
         private DocumentLookupProvider documentLookupProvider;
         @Nullable
         private DocumentMetadataResolver documentMetadataResolver;
@@ -916,6 +947,11 @@ public final class EngineConfig {
             return this;
         }
 
+        public Builder nodeMergeQueue(@Nullable NodeMergeScheduler.ShardQueue nodeMergeQueue) {
+            this.nodeMergeQueue = nodeMergeQueue;
+            return this;
+        }
+
         public Builder documentLookupProvider(@Nullable DocumentLookupProvider documentLookupProvider) {
             this.documentLookupProvider = documentLookupProvider;
             return this;
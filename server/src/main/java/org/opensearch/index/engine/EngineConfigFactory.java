@@ -40,6 +40,7 @@ import org.opensearch.index.store.Store;
 import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogDeletionPolicyFactory;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.indices.NodeMergeScheduler;
 import org.opensearch.plugins.DocumentLookupProvider;
 import org.opensearch.plugins.EnginePlugin;
 import org.opensearch.plugins.PluginsService;
@@ -218,7 +219,8 @@ public class EngineConfigFactory {
         MergedSegmentTransferTracker mergedSegmentTransferTracker,
         DataFormatRegistry dataFormatRegistry,
         MapperService mapperService,
-        Map<String, FormatChecksumStrategy> checksumStrategies
+        Map<String, FormatChecksumStrategy> checksumStrategies,
+        @Nullable NodeMergeScheduler.ShardQueue nodeMergeQueue
     ) {
         CodecService codecServiceToUse = codecService;
         if (codecService == null && this.codecServiceFactory != null) {
@@ -260,6 +262,7 @@ public class EngineConfigFactory {
             .mapperService(mapperService)
             .committerFactory(committerFactory)
             .checksumStrategies(checksumStrategies)
+            .nodeMergeQueue(nodeMergeQueue)
             .documentLookupProvider(documentLookupProvider)
             .documentMetadataResolver(documentMetadataResolver)
             .build();
@@ -111,6 +111,7 @@ import org.opensearch.index.translog.TranslogManager;
 import org.opensearch.index.translog.TranslogOperationHelper;
 import org.opensearch.index.translog.listener.CompositeTranslogEventListener;
 import org.opensearch.index.translog.listener.TranslogEventListener;
+import org.opensearch.indices.NodeMergeScheduler;
 import org.opensearch.search.suggest.completion.CompletionStats;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -163,7 +164,7 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    protected final LiveVersionMap versionMap = new LiveVersionMap();
+    protected final LiveVersionMap versionMap;
 
     @Nullable
     protected final String historyUUID;
@@ -230,6 +231,7 @@ public class InternalEngine extends Engine {
         TranslogEventListener translogEventListener
     ) {
         super(engineConfig);
+        this.versionMap = new LiveVersionMap(engineConfig.isPackedVersionMapEnabled());
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
@@ -246,7 +248,8 @@ public class InternalEngine extends Engine {
             mergeScheduler = scheduler = new EngineMergeScheduler(
                 engineConfig.getShardId(),
                 engineConfig.getIndexSettings(),
-                getMergedSegmentTransferTracker()
+                getMergedSegmentTransferTracker(),
+                engineConfig.getNodeMergeQueue()
             );
             throttle = new IndexingThrottler();
             try {
@@ -2110,8 +2113,13 @@ public class InternalEngine extends Engine {
         private final AtomicInteger numMergesInFlight = new AtomicInteger(0);
         private final AtomicBoolean isThrottling = new AtomicBoolean();
 
-        EngineMergeScheduler(ShardId shardId, IndexSettings indexSettings, MergedSegmentTransferTracker mergedSegmentTransferTracker) {
-            super(shardId, indexSettings, mergedSegmentTransferTracker);
+        EngineMergeScheduler(
+            ShardId shardId,
+            IndexSettings indexSettings,
+            MergedSegmentTransferTracker mergedSegmentTransferTracker,
+            @Nullable NodeMergeScheduler.ShardQueue nodeMergeQueue
+        ) {
+            super(shardId, indexSettings, mergedSegmentTransferTracker, nodeMergeQueue);
         }
 
         @Override
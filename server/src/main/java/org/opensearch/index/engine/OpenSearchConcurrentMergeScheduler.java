@@ -36,6 +36,8 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.MergeScheduler;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
@@ -48,9 +50,13 @@ import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.merge.MergeStatsTracker;
 import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.merge.OnGoingMerge;
+import org.opensearch.indices.NodeMergeScheduler;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
@@ -72,12 +78,30 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
     private final Set<OnGoingMerge> readOnlyOnGoingMerges = Collections.unmodifiableSet(onGoingMerges);
     private final MergeSchedulerConfig config;
     private final MergedSegmentTransferTracker mergedSegmentTransferTracker;
+    @Nullable
+    private final NodeMergeScheduler.ShardQueue nodeMergeQueue;
+    // the merge threads whose merge waits for a slot of the node level merge scheduler
+    private final Set<Thread> queuedMergeThreads = ConcurrentCollections.newConcurrentSet();
 
     OpenSearchConcurrentMergeScheduler(
         ShardId shardId,
         IndexSettings indexSettings,
         MergedSegmentTransferTracker mergedSegmentTransferTracker
     ) {
+        this(shardId, indexSettings, mergedSegmentTransferTracker, null);
+    }
+
+    /**
+     * @param nodeMergeQueue the queue of the shard in the node level merge scheduler that merges wait in before they run, or
+     *                       {@code null} if merges run as soon as the merge threads of the shard allow
+     */
+    OpenSearchConcurrentMergeScheduler(
+        ShardId shardId,
+        IndexSettings indexSettings,
+        MergedSegmentTransferTracker mergedSegmentTransferTracker,
+        @Nullable NodeMergeScheduler.ShardQueue nodeMergeQueue
+    ) {
+        this.nodeMergeQueue = nodeMergeQueue;
         this.config = indexSettings.getMergeSchedulerConfig();
         this.shardId = shardId;
         this.indexSettings = indexSettings;
@@ -117,11 +141,32 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
                 new ByteSizeValue(merge.estimatedMergeBytes)
             );
         }
+        long queuedNS = 0;
         try {
             beforeMerge(onGoingMerge);
-            super.doMerge(mergeSource, merge);
+            if (nodeMergeQueue == null) {
+                super.doMerge(mergeSource, merge);
+            } else {
+                // the merge counts as in flight for the indexing throttle while it waits, see NodeMergeScheduler
+                final Releasable slot;
+                queuedMergeThreads.add(Thread.currentThread());
+                try {
+                    // the merges of the shard that run must not be paused for the ones that wait
+                    updateMergeThreads();
+                    slot = nodeMergeQueue.acquire(merge);
+                } finally {
+                    queuedMergeThreads.remove(Thread.currentThread());
+                }
+                try (Releasable ignored = slot) {
+                    // the wait for a merge slot is reported as queued time, not as merge time
+                    queuedNS = System.nanoTime() - timeNS;
+                    // the merge may now have to be paused for larger merges of the shard that run, or pause them
+                    updateMergeThreads();
+                    super.doMerge(mergeSource, merge);
+                }
+            }
         } finally {
-            long tookMS = TimeValue.nsecToMSec(System.nanoTime() - timeNS);
+            long tookMS = TimeValue.nsecToMSec(System.nanoTime() - timeNS - queuedNS);
 
             onGoingMerges.remove(onGoingMerge);
             afterMerge(onGoingMerge);
@@ -179,6 +224,32 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
         return true;
     }
 
+    /**
+     * Merges that wait for a slot of the node level merge scheduler are left out when deciding which merges of the shard to pause,
+     * since a waiting merge does not write anything yet. Otherwise a waiting merge could get the only slot of the node paused, and
+     * wait for it forever.
+     */
+    @Override
+    protected synchronized void updateMergeThreads() {
+        if (queuedMergeThreads.isEmpty()) {
+            super.updateMergeThreads();
+            return;
+        }
+        final List<MergeThread> queued = new ArrayList<>();
+        for (Iterator<MergeThread> it = mergeThreads.iterator(); it.hasNext();) {
+            final MergeThread mergeThread = it.next();
+            if (queuedMergeThreads.contains(mergeThread)) {
+                queued.add(mergeThread);
+                it.remove();
+            }
+        }
+        try {
+            super.updateMergeThreads();
+        } finally {
+            mergeThreads.addAll(queued);
+        }
+    }
+
     @Override
     protected MergeThread getMergeThread(MergeSource mergeSource, MergePolicy.OneMerge merge) throws IOException {
         MergeThread thread = super.getMergeThread(mergeSource, merge);
@@ -196,6 +267,9 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
             config.isAutoThrottle() ? getIORateLimitMBPerSec() : Double.POSITIVE_INFINITY
         );
         mergeStats.add(mergedSegmentTransferTracker.stats());
+        if (nodeMergeQueue != null) {
+            mergeStats.addQueueStats(nodeMergeQueue.queued(), nodeMergeQueue.totalQueuedTimeInMillis());
+        }
         return mergeStats;
     }
 
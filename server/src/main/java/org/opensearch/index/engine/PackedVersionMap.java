@@ -0,0 +1,240 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.IntArray;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.core.common.util.ByteArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A map from {@code _id} bytes to {@link VersionValue}s that packs its entries into a few large primitive arrays instead of
+ * allocating a hash table entry, a {@link BytesRef}, a version value and a translog location per document.
+ * <p>
+ * The keys are held by an open addressing {@link BytesRefHash}, and the version, sequence number, term, delete timestamp and
+ * translog location of an entry are held in parallel arrays at the ordinal of its key, so that a map of millions of entries is a
+ * handful of paged arrays for the garbage collector. Version values are materialized on lookup. Removed entries keep their key
+ * until the whole map is dropped on refresh, and are reused if the same {@code _id} is written again. The map is striped into
+ * segments that are locked individually, since the engine only serializes operations on the same {@code _id}.
+ *
+ * @opensearch.internal
+ */
+final class PackedVersionMap extends AbstractMap<BytesRef, VersionValue> implements Accountable {
+
+    private static final int NUM_SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[NUM_SEGMENTS];
+
+    PackedVersionMap(int expectedSize) {
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(Math.max(16, expectedSize / NUM_SEGMENTS));
+        }
+    }
+
+    private Segment segment(Object key) {
+        return segments[key.hashCode() & (NUM_SEGMENTS - 1)];
+    }
+
+    @Override
+    public VersionValue get(Object key) {
+        return key instanceof BytesRef ? segment(key).get((BytesRef) key) : null;
+    }
+
+    @Override
+    public VersionValue put(BytesRef key, VersionValue value) {
+        return segment(key).put(key, value);
+    }
+
+    @Override
+    public VersionValue remove(Object key) {
+        return key instanceof BytesRef ? segment(key).remove((BytesRef) key) : null;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns a point in time copy of the entries of this map.
+     */
+    @Override
+    public Set<Entry<BytesRef, VersionValue>> entrySet() {
+        final Map<BytesRef, VersionValue> copy = new HashMap<>();
+        for (Segment segment : segments) {
+            segment.copyTo(copy);
+        }
+        return copy.entrySet();
+    }
+
+    /**
+     * Returns the bytes used by the arrays of this map, all of which are freed when the map is dropped.
+     */
+    @Override
+    public long ramBytesUsed() {
+        long ramBytesUsed = 0;
+        for (Segment segment : segments) {
+            ramBytesUsed += segment.ramBytesUsed();
+        }
+        return ramBytesUsed;
+    }
+
+    /**
+     * A stripe of the map.
+     *
+     * @opensearch.internal
+     */
+    private static final class Segment {
+
+        private static final byte ABSENT = 0;
+        private static final byte INDEX = 1;
+        private static final byte DELETE = 2;
+
+        private final BigArrays bigArrays = BigArrays.NON_RECYCLING_INSTANCE;
+        private final BytesRefHash ids;
+        private ByteArray types;
+        private LongArray versions;
+        private LongArray seqNos;
+        private LongArray terms;
+        // the timestamp of deletes, the translog generation of index operations
+        private LongArray timesOrGenerations;
+        private LongArray locations;
+        // -1 for index operations without translog location
+        private IntArray locationSizes;
+        private int size;
+
+        Segment(int initialCapacity) {
+            ids = new BytesRefHash(initialCapacity, bigArrays);
+            types = bigArrays.newByteArray(initialCapacity);
+            versions = bigArrays.newLongArray(initialCapacity, false);
+            seqNos = bigArrays.newLongArray(initialCapacity, false);
+            terms = bigArrays.newLongArray(initialCapacity, false);
+            timesOrGenerations = bigArrays.newLongArray(initialCapacity, false);
+            locations = bigArrays.newLongArray(initialCapacity, false);
+            locationSizes = bigArrays.newIntArray(initialCapacity, false);
+        }
+
+        synchronized VersionValue get(BytesRef key) {
+            final long ordinal = ids.find(key);
+            return ordinal < 0 ? null : read(ordinal);
+        }
+
+        synchronized VersionValue put(BytesRef key, VersionValue value) {
+            long ordinal = ids.add(key);
+            final VersionValue previous;
+            if (ordinal < 0) {
+                ordinal = -1 - ordinal;
+                previous = read(ordinal);
+            } else {
+                grow(ordinal + 1);
+                previous = null;
+            }
+            write(ordinal, value);
+            if (previous == null) {
+                size++;
+            }
+            return previous;
+        }
+
+        synchronized VersionValue remove(BytesRef key) {
+            final long ordinal = ids.find(key);
+            if (ordinal < 0) {
+                return null;
+            }
+            final VersionValue previous = read(ordinal);
+            if (previous != null) {
+                types.set(ordinal, ABSENT);
+                size--;
+            }
+            return previous;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void copyTo(Map<BytesRef, VersionValue> copy) {
+            for (long ordinal = 0; ordinal < ids.size(); ordinal++) {
+                final VersionValue value = read(ordinal);
+                if (value != null) {
+                    copy.put(BytesRef.deepCopyOf(ids.get(ordinal, new BytesRef())), value);
+                }
+            }
+        }
+
+        synchronized long ramBytesUsed() {
+            return ids.ramBytesUsed() + types.ramBytesUsed() + versions.ramBytesUsed() + seqNos.ramBytesUsed() + terms.ramBytesUsed()
+                + timesOrGenerations.ramBytesUsed() + locations.ramBytesUsed() + locationSizes.ramBytesUsed();
+        }
+
+        private void grow(long minSize) {
+            types = bigArrays.grow(types, minSize);
+            versions = bigArrays.grow(versions, minSize);
+            seqNos = bigArrays.grow(seqNos, minSize);
+            terms = bigArrays.grow(terms, minSize);
+            timesOrGenerations = bigArrays.grow(timesOrGenerations, minSize);
+            locations = bigArrays.grow(locations, minSize);
+            locationSizes = bigArrays.grow(locationSizes, minSize);
+        }
+
+        private VersionValue read(long ordinal) {
+            switch (types.get(ordinal)) {
+                case INDEX:
+                    final int locationSize = locationSizes.get(ordinal);
+                    final Translog.Location location = locationSize < 0
+                        ? null
+                        : new Translog.Location(timesOrGenerations.get(ordinal), locations.get(ordinal), locationSize);
+                    return new IndexVersionValue(location, versions.get(ordinal), seqNos.get(ordinal), terms.get(ordinal));
+                case DELETE:
+                    return new DeleteVersionValue(
+                        versions.get(ordinal),
+                        seqNos.get(ordinal),
+                        terms.get(ordinal),
+                        timesOrGenerations.get(ordinal)
+                    );
+                default:
+                    return null;
+            }
+        }
+
+        private void write(long ordinal, VersionValue value) {
+            versions.set(ordinal, value.version);
+            seqNos.set(ordinal, value.seqNo);
+            terms.set(ordinal, value.term);
+            if (value.isDelete()) {
+                types.set(ordinal, DELETE);
+                timesOrGenerations.set(ordinal, ((DeleteVersionValue) value).time);
+            } else {
+                assert value instanceof IndexVersionValue : "unexpected version value " + value;
+                types.set(ordinal, INDEX);
+                final Translog.Location location = value.getLocation();
+                if (location == null) {
+                    locationSizes.set(ordinal, -1);
+                } else {
+                    timesOrGenerations.set(ordinal, location.generation);
+                    locations.set(ordinal, location.translogLocation);
+                    locationSizes.set(ordinal, location.size);
+                }
+            }
+        }
+    }
+}
@@ -63,6 +63,8 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
     private long versionMapMemoryInBytes;
     private long maxUnsafeAutoIdTimestamp = Long.MIN_VALUE;
     private long bitsetMemoryInBytes;
+    private long docIdFilterHits;
+    private long docIdFilterMisses;
     private final Map<String, Long> fileSizes;
     private final RemoteSegmentStats remoteSegmentStats;
     private static final ByteSizeValue ZERO_BYTE_SIZE_VALUE = new ByteSizeValue(0L);
@@ -136,6 +138,10 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
             remoteSegmentStats = new RemoteSegmentStats();
             replicationStats = new ReplicationStats();
         }
+        if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+            docIdFilterHits = in.readVLong();
+            docIdFilterMisses = in.readVLong();
+        }
     }
 
     public void add(long count) {
@@ -158,6 +164,11 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         this.bitsetMemoryInBytes += bitsetMemoryInBytes;
     }
 
+    public void addDocIdFilterLookups(long docIdFilterHits, long docIdFilterMisses) {
+        this.docIdFilterHits += docIdFilterHits;
+        this.docIdFilterMisses += docIdFilterMisses;
+    }
+
     public void addRemoteSegmentStats(RemoteSegmentStats remoteSegmentStats) {
         this.remoteSegmentStats.add(remoteSegmentStats);
     }
@@ -183,6 +194,7 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         addIndexWriterMemoryInBytes(mergeStats.indexWriterMemoryInBytes);
         addVersionMapMemoryInBytes(mergeStats.versionMapMemoryInBytes);
         addBitsetMemoryInBytes(mergeStats.bitsetMemoryInBytes);
+        addDocIdFilterLookups(mergeStats.docIdFilterHits, mergeStats.docIdFilterMisses);
         addFileSizes(mergeStats.fileSizes);
         addRemoteSegmentStats(mergeStats.remoteSegmentStats);
         addReplicationStats(mergeStats.replicationStats);
@@ -228,6 +240,22 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         return new ByteSizeValue(bitsetMemoryInBytes);
     }
 
+    /**
+     * The number of {@code _id} lookups in the current segments that the {@code _id} fuzzy filter or its cache of absent ids
+     * answered without seeking the terms dictionary.
+     */
+    public long getDocIdFilterHits() {
+        return docIdFilterHits;
+    }
+
+    /**
+     * The number of {@code _id} lookups in the current segments that the {@code _id} fuzzy filter could not rule out, and that had
+     * to seek the terms dictionary.
+     */
+    public long getDocIdFilterMisses() {
+        return docIdFilterMisses;
+    }
+
     /** Returns mapping of file names to their size (only used in tests) */
     public Map<String, Long> getFileSizes() {
         return Collections.unmodifiableMap(this.fileSizes);
@@ -265,6 +293,8 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.VERSION_MAP_MEMORY_IN_BYTES, Fields.VERSION_MAP_MEMORY, getVersionMapMemory());
         builder.humanReadableField(Fields.FIXED_BIT_SET_MEMORY_IN_BYTES, Fields.FIXED_BIT_SET, getBitsetMemory());
         builder.field(Fields.MAX_UNSAFE_AUTO_ID_TIMESTAMP, maxUnsafeAutoIdTimestamp);
+        builder.field(Fields.DOC_ID_FILTER_HITS, docIdFilterHits);
+        builder.field(Fields.DOC_ID_FILTER_MISSES, docIdFilterMisses);
         remoteSegmentStats.toXContent(builder, params);
         replicationStats.toXContent(builder, params);
         builder.startObject(Fields.FILE_SIZES);
@@ -306,6 +336,8 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         static final String VERSION_MAP_MEMORY = "version_map_memory";
         static final String VERSION_MAP_MEMORY_IN_BYTES = "version_map_memory_in_bytes";
         static final String MAX_UNSAFE_AUTO_ID_TIMESTAMP = "max_unsafe_auto_id_timestamp";
+        static final String DOC_ID_FILTER_HITS = "doc_id_filter_hits";
+        static final String DOC_ID_FILTER_MISSES = "doc_id_filter_misses";
         static final String FIXED_BIT_SET = "fixed_bit_set";
         static final String FIXED_BIT_SET_MEMORY_IN_BYTES = "fixed_bit_set_memory_in_bytes";
         static final String FILE_SIZES = "file_sizes";
@@ -337,6 +369,10 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
             out.writeOptionalWriteable(remoteSegmentStats);
             out.writeOptionalWriteable(replicationStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+            out.writeVLong(docIdFilterHits);
+            out.writeVLong(docIdFilterMisses);
+        }
     }
 
     public void clearFileSizes() {
@@ -651,6 +651,11 @@ public final class DateFieldMapper extends ParametrizedFieldMapper {
             return encodePoint(timestamp);
         }
 
+        @Override
+        public byte[] encodeExactPoint(Object value) {
+            return encodePoint(parseToLong(value, false, null, null, null));
+        }
+
         @Override
         public Query distanceFeatureQuery(Object origin, String pivot, float boost, QueryShardContext context) {
             failIfNotIndexedAndNoDocValues();
@@ -883,6 +888,10 @@ public final class DateFieldMapper extends ParametrizedFieldMapper {
                 if (DataStreamFieldMapper.Defaults.TIMESTAMP_FIELD.getName().equals(fieldName)) {
                     return true;
                 }
+                // without points, the skip index is the only structure that lets sorted queries skip non-competitive blocks
+                if (indexed == false && this.indexCreatedVersion.onOrAfter(Version.V_3_9_0)) {
+                    return true;
+                }
             }
         }
         return false;
@@ -33,6 +33,7 @@
 package org.opensearch.index.mapper;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.ArrayUtil;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.search.DocValueFormat;
@@ -53,19 +54,72 @@ import static org.opensearch.index.mapper.FlatObjectFieldMapper.DOC_VALUE_NO_MAT
 public final class DocValueFetcher implements ValueFetcher {
     private final DocValueFormat format;
     private final IndexFieldData<?> ifd;
+    private LeafReaderContext context;
     private Leaf leaf;
 
+    // values of the documents passed to prefetch, the values of prefetchedDocs[i] are values[valueOffsets[i]:valueOffsets[i + 1]]
+    private int[] prefetchedDocs;
+    private int[] valueOffsets;
+    private Object[] values;
+    private int prefetchedIndex;
+
     public DocValueFetcher(DocValueFormat format, IndexFieldData<?> ifd) {
         this.format = format;
         this.ifd = ifd;
     }
 
     public void setNextReader(LeafReaderContext context) {
+        this.context = context;
         leaf = ifd.load(context).getLeafValueFetcher(format);
+        prefetchedDocs = null;
+    }
+
+    /**
+     * Loads the values of the given documents of the current leaf in a single pass over the doc values, so that
+     * {@link #fetchValues} returns them without going back to the doc values. The doc ids must be increasing.
+     */
+    public void prefetch(int[] docIds) throws IOException {
+        final int[] offsets = new int[docIds.length + 1];
+        Object[] loaded = new Object[docIds.length];
+        int numValues = 0;
+        for (int i = 0; i < docIds.length; i++) {
+            if (leaf.advanceExact(docIds[i])) {
+                final int count = leaf.docValueCount();
+                loaded = ArrayUtil.grow(loaded, numValues + count);
+                for (int j = 0; j < count; ++j) {
+                    Object value = leaf.nextValue();
+                    if (value != DOC_VALUE_NO_MATCH) {
+                        loaded[numValues++] = value;
+                    }
+                }
+            }
+            offsets[i + 1] = numValues;
+        }
+        prefetchedDocs = docIds;
+        valueOffsets = offsets;
+        values = loaded;
+        prefetchedIndex = 0;
     }
 
     @Override
     public List<Object> fetchValues(SourceLookup lookup) throws IOException {
+        if (prefetchedDocs != null) {
+            // documents are fetched in the order they were prefetched
+            while (prefetchedIndex < prefetchedDocs.length && prefetchedDocs[prefetchedIndex] < lookup.docId()) {
+                prefetchedIndex++;
+            }
+            if (prefetchedIndex < prefetchedDocs.length && prefetchedDocs[prefetchedIndex] == lookup.docId()) {
+                final int from = valueOffsets[prefetchedIndex];
+                final int to = valueOffsets[prefetchedIndex + 1];
+                List<Object> result = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    result.add(values[i]);
+                }
+                return result;
+            }
+            // the doc values iterator is past the prefetched documents and can't go backwards
+            setNextReader(context);
+        }
         if (false == leaf.advanceExact(lookup.docId())) {
             return emptyList();
         }
@@ -2044,11 +2044,14 @@ final class DocumentParser {
 
     // looks up a child mapper, but takes into account field names that expand to objects
     private static Mapper getMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
-        String fieldPath = context.path().pathAsText(fieldName);
-        // Check if mapper is a metadata mapper first
-        Mapper mapper = context.docMapper().mapping().getMetadataMapper(fieldPath);
-        if (mapper != null) {
-            return mapper;
+        // Check if mapper is a metadata mapper first, without building the full path of fields that can't be one
+        final Mapping mapping = context.docMapper().mapping();
+        Mapper mapper;
+        if (mapping.mayBeMetadataMapper(fieldName)) {
+            mapper = mapping.getMetadataMapper(context.path().pathAsText(fieldName));
+            if (mapper != null) {
+                return mapper;
+            }
         }
 
         // Normal traversal with disable_objects check
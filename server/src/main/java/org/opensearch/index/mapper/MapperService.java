@@ -83,6 +83,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -250,6 +251,16 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
 
     private final BooleanSupplier idFieldDataEnabled;
 
+    /**
+     * The {@link IndexMetadata#getMappingVersion()} of the index metadata whose mappings were applied last, see {@link #mappingVersion()}.
+     */
+    private volatile long mappingVersion = -1;
+
+    /**
+     * Incremented every time the search analyzers are reloaded, see {@link #searchAnalyzersGeneration()}.
+     */
+    private final AtomicLong searchAnalyzersGeneration = new AtomicLong();
+
     private volatile Set<CompositeMappedFieldType> compositeMappedFieldTypes;
     private volatile Set<String> fieldsPartOfCompositeMappings;
     private volatile Set<String> nestedFieldsPartOfCompositeMappings;
@@ -524,7 +535,10 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
         if (mappingMetadata != null) {
             map.put(mappingMetadata.type(), mappingMetadata.source());
         }
-        return internalMerge(map, reason);
+        final Map<String, DocumentMapper> updatedEntries = internalMerge(map, reason);
+        // only once the mappings are visible
+        mappingVersion = indexMetadata.getMappingVersion();
+        return updatedEntries;
     }
 
     private synchronized Map<String, DocumentMapper> internalMerge(Map<String, CompressedXContent> mappings, MergeReason reason) {
@@ -658,6 +672,22 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
         return documentParser.parse(mappingType, mappingSource);
     }
 
+    /**
+     * Returns the {@link IndexMetadata#getMappingVersion()} of the index metadata whose mappings this mapper service applied last, or
+     * {@code -1} if it did not apply any index metadata. It is only updated once the mappings are visible.
+     */
+    public long mappingVersion() {
+        return mappingVersion;
+    }
+
+    /**
+     * Returns a generation that is incremented whenever the search analyzers are reloaded, and with them the queries that are parsed
+     * against this mapper service. It is only incremented once the reloaded analyzers are visible.
+     */
+    public long searchAnalyzersGeneration() {
+        return searchAnalyzersGeneration.get();
+    }
+
     /**
      * Return the document mapper, or {@code null} if no mapping has been put yet.
      */
@@ -924,6 +954,7 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
                 reloadedAnalyzers.add(analyzerName);
             }
         }
+        searchAnalyzersGeneration.incrementAndGet();
         return reloadedAnalyzers;
     }
 
@@ -46,10 +46,13 @@ import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
 
 /**
  * Wrapper around everything that defines a mapping, without references to
@@ -65,6 +68,7 @@ public final class Mapping implements ToXContentFragment {
     final MetadataFieldMapper[] metadataMappers;
     final Map<Class<? extends MetadataFieldMapper>, MetadataFieldMapper> metadataMappersMap;
     final Map<String, MetadataFieldMapper> metadataMappersByName;
+    final Set<String> metadataMapperLeafNames;
     final Map<String, Object> meta;
 
     public Mapping(
@@ -77,9 +81,11 @@ public final class Mapping implements ToXContentFragment {
         this.metadataMappers = metadataMappers;
         Map<Class<? extends MetadataFieldMapper>, MetadataFieldMapper> metadataMappersMap = new HashMap<>();
         Map<String, MetadataFieldMapper> metadataMappersByName = new HashMap<>();
+        Set<String> metadataMapperLeafNames = new HashSet<>();
         for (MetadataFieldMapper metadataMapper : metadataMappers) {
             metadataMappersMap.put(metadataMapper.getClass(), metadataMapper);
             metadataMappersByName.put(metadataMapper.name(), metadataMapper);
+            metadataMapperLeafNames.add(leafName(metadataMapper.name()));
         }
         this.root = rootObjectMapper;
         // keep root mappers sorted for consistent serialization
@@ -91,6 +97,7 @@ public final class Mapping implements ToXContentFragment {
         });
         this.metadataMappersMap = unmodifiableMap(metadataMappersMap);
         this.metadataMappersByName = unmodifiableMap(metadataMappersByName);
+        this.metadataMapperLeafNames = unmodifiableSet(metadataMapperLeafNames);
         this.meta = meta;
     }
 
@@ -164,6 +171,20 @@ public final class Mapping implements ToXContentFragment {
         return metadataMappersByName.get(mapperName);
     }
 
+    /**
+     * Returns whether the field with the given name may be a metadata field wherever it appears in a document, in other words
+     * whether the last element of its path is also the last element of the name of a metadata field. Documents are parsed much
+     * more often than mappings change, so this saves building the full path of every field of the document to look it up.
+     */
+    boolean mayBeMetadataMapper(String fieldName) {
+        return metadataMapperLeafNames.contains(leafName(fieldName));
+    }
+
+    private static String leafName(String path) {
+        final int lastDot = path.lastIndexOf('.');
+        return lastDot < 0 ? path : path.substring(lastDot + 1);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         root.toXContent(builder, params, new ToXContent() {
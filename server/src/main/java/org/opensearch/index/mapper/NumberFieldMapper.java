@@ -48,6 +48,7 @@ import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
+import org.opensearch.Version;
 import org.opensearch.common.Explicit;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.lucene.Lucene;
@@ -1684,6 +1685,11 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
 
         public abstract Number parse(Object value, boolean coerce);
 
+        @Override
+        public byte[] encodeExactPoint(Object value) {
+            return encodePoint(parse(value, true));
+        }
+
         public abstract Number parsePoint(byte[] value);
 
         public abstract List<Field> createFields(
@@ -2105,6 +2111,11 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
             return type.encodePoint(value, roundUp);
         }
 
+        @Override
+        public byte[] encodeExactPoint(Object value) {
+            return type.encodeExactPoint(value);
+        }
+
         @Override
         public double toDoubleValue(long value) {
             return type.toDoubleValue(value);
@@ -2121,6 +2132,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
     private final boolean hasDocValues;
     private final boolean stored;
     private final boolean skiplist;
+    private final boolean isSkiplistConfigured;
     private final Explicit<Boolean> ignoreMalformed;
     private final Explicit<Boolean> coerce;
     private final Number nullValue;
@@ -2135,6 +2147,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
         this.hasDocValues = builder.hasDocValues.getValue();
         this.stored = builder.stored.getValue();
         this.skiplist = builder.skiplist.getValue();
+        this.isSkiplistConfigured = builder.skiplist.isConfigured();
         this.ignoreMalformed = builder.ignoreMalformed.getValue();
         this.coerce = builder.coerce.getValue();
         this.nullValue = builder.nullValue.getValue();
@@ -2146,6 +2159,14 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
         return coerce.value();
     }
 
+    /**
+     * Doc values only fields get a skip index unless {@code skip_list} is configured explicitly: without points, it is the only
+     * structure that lets sorted queries skip non-competitive blocks of documents.
+     */
+    boolean isSkiplistDefaultEnabled(Version indexCreatedVersion) {
+        return isSkiplistConfigured == false && indexed == false && indexCreatedVersion.onOrAfter(Version.V_3_9_0);
+    }
+
     @Override
     protected Explicit<Boolean> ignoreMalformed() {
         return ignoreMalformed;
@@ -2173,7 +2194,8 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
             return;
         }
 
-        context.doc().addAll(fieldType().type.createFields(fieldType().name(), numericValue, indexed, hasDocValues, skiplist, stored));
+        final boolean useSkiplist = skiplist || isSkiplistDefaultEnabled(context.indexSettings().getIndexVersionCreated());
+        context.doc().addAll(fieldType().type.createFields(fieldType().name(), numericValue, indexed, hasDocValues, useSkiplist, stored));
 
         if (hasDocValues == false && (stored || indexed)) {
             createFieldNamesField(context);
@@ -21,4 +21,12 @@ public interface NumericPointEncoder {
      * @return encoded byte array
      */
     byte[] encodePoint(Object value, boolean roundUp);
+
+    /**
+     * Encodes an Object value to byte array without rounding, for the inclusive bounds of the Approximation Framework search_after
+     * optimization.
+     * @param value the search_after value as Object
+     * @return encoded byte array
+     */
+    byte[] encodeExactPoint(Object value);
 }
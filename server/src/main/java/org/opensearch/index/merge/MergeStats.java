@@ -70,6 +70,12 @@ public class MergeStats implements Writeable, ToXContentFragment {
 
     private long unreferencedFileCleanUpsPerformed;
 
+    /** The number of merges that wait for a merge slot of the node level merge scheduler. */
+    private long currentQueued;
+
+    /** Total millis that merges waited for a merge slot of the node level merge scheduler. */
+    private long totalQueuedTimeInMillis;
+
     private final MergedSegmentWarmerStats warmerStats;
 
     public MergeStats() {
@@ -96,6 +102,10 @@ public class MergeStats implements Writeable, ToXContentFragment {
         } else {
             this.warmerStats = new MergedSegmentWarmerStats();
         }
+        if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+            currentQueued = in.readVLong();
+            totalQueuedTimeInMillis = in.readVLong();
+        }
     }
 
     public void add(
@@ -171,6 +181,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.current += mergeStats.current;
         this.currentNumDocs += mergeStats.currentNumDocs;
         this.currentSizeInBytes += mergeStats.currentSizeInBytes;
+        this.currentQueued += mergeStats.currentQueued;
 
         this.warmerStats.add(mergeStats.warmerStats);
         addTotals(mergeStats);
@@ -186,6 +197,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.totalSizeInBytes += mergeStats.totalSizeInBytes;
         this.totalStoppedTimeInMillis += mergeStats.totalStoppedTimeInMillis;
         this.totalThrottledTimeInMillis += mergeStats.totalThrottledTimeInMillis;
+        this.totalQueuedTimeInMillis += mergeStats.totalQueuedTimeInMillis;
         addUnreferencedFileCleanUpStats(mergeStats.unreferencedFileCleanUpsPerformed);
         if (this.totalBytesPerSecAutoThrottle == Long.MAX_VALUE || mergeStats.totalBytesPerSecAutoThrottle == Long.MAX_VALUE) {
             this.totalBytesPerSecAutoThrottle = Long.MAX_VALUE;
@@ -203,6 +215,32 @@ public class MergeStats implements Writeable, ToXContentFragment {
         return this.unreferencedFileCleanUpsPerformed;
     }
 
+    public void addQueueStats(long currentQueued, long totalQueuedTimeInMillis) {
+        this.currentQueued += currentQueued;
+        this.totalQueuedTimeInMillis += totalQueuedTimeInMillis;
+    }
+
+    /**
+     * The current number of merges waiting for a merge slot of the node level merge scheduler.
+     */
+    public long getCurrentQueued() {
+        return this.currentQueued;
+    }
+
+    /**
+     * The total time merges waited for a merge slot of the node level merge scheduler (in milliseconds).
+     */
+    public long getTotalQueuedTimeInMillis() {
+        return this.totalQueuedTimeInMillis;
+    }
+
+    /**
+     * The total time merges waited for a merge slot of the node level merge scheduler.
+     */
+    public TimeValue getTotalQueuedTime() {
+        return new TimeValue(totalQueuedTimeInMillis);
+    }
+
     /**
      * The total number of merges executed.
      */
@@ -308,6 +346,8 @@ public class MergeStats implements Writeable, ToXContentFragment {
         }
         builder.field(Fields.TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES, totalBytesPerSecAutoThrottle);
         builder.field(Fields.UNREFERENCED_FILE_CLEANUPS_PERFORMED, unreferencedFileCleanUpsPerformed);
+        builder.field(Fields.CURRENT_QUEUED, currentQueued);
+        builder.humanReadableField(Fields.TOTAL_QUEUED_TIME_IN_MILLIS, Fields.TOTAL_QUEUED_TIME, getTotalQueuedTime());
         this.warmerStats.toXContent(builder, params);
         builder.endObject();
         return builder;
@@ -337,6 +377,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
         static final String TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES = "total_auto_throttle_in_bytes";
         static final String TOTAL_THROTTLE_BYTES_PER_SEC = "total_auto_throttle";
         static final String UNREFERENCED_FILE_CLEANUPS_PERFORMED = "unreferenced_file_cleanups_performed";
+        static final String CURRENT_QUEUED = "current_queued";
+        static final String TOTAL_QUEUED_TIME = "total_queued_time";
+        static final String TOTAL_QUEUED_TIME_IN_MILLIS = "total_queued_time_in_millis";
     }
 
     @Override
@@ -358,5 +401,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
             this.warmerStats.writeTo(out);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+            out.writeVLong(currentQueued);
+            out.writeVLong(totalQueuedTimeInMillis);
+        }
     }
 }
@@ -113,6 +113,7 @@ public class QueryShardContext extends BaseQueryRewriteContext {
     private final int shardId;
     private final IndexSearcher searcher;
     private boolean cacheable = true;
+    private boolean indexReaderAccessed;
     private final SetOnce<Boolean> frozen = new SetOnce<>();
 
     private final Index fullyQualifiedIndex;
@@ -701,15 +702,29 @@ public class QueryShardContext extends BaseQueryRewriteContext {
     /** Return the current {@link IndexReader}, or {@code null} if no index reader is available,
      *  for instance if this rewrite context is used to index queries (percolation). */
     public IndexReader getIndexReader() {
+        indexReaderAccessed = true;
         return searcher == null ? null : searcher.getIndexReader();
     }
 
     /** Return the current {@link IndexSearcher}, or {@code null} if no index reader is available,
      *  for instance if this rewrite context is used to index queries (percolation). */
     public IndexSearcher searcher() {
+        indexReaderAccessed = true;
         return searcher;
     }
 
+    /**
+     * Returns whether the index reader was accessed since the last call to {@link #resetIndexReaderAccessed()}, in which case
+     * queries that were built in between may depend on the content of the index.
+     */
+    public boolean isIndexReaderAccessed() {
+        return indexReaderAccessed;
+    }
+
+    public void resetIndexReaderAccessed() {
+        indexReaderAccessed = false;
+    }
+
     /**
      * Returns the fully qualified index including a remote cluster alias if applicable, and the index uuid
      */
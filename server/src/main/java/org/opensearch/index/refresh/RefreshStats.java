@@ -32,6 +32,7 @@
 
 package org.opensearch.index.refresh;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -64,6 +65,16 @@ public class RefreshStats implements Writeable, ToXContentFragment {
      */
     private int listeners;
 
+    /**
+     * Number of refreshes triggered by the adaptive refresh scheduler.
+     */
+    private long adaptiveTotal;
+
+    /**
+     * Number of times the adaptive refresh scheduler held back the refresh of pending changes.
+     */
+    private long adaptiveDeferred;
+
     public RefreshStats() {}
 
     public RefreshStats(StreamInput in) throws IOException {
@@ -72,6 +83,10 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         externalTotal = in.readVLong();
         externalTotalTimeInMillis = in.readVLong();
         listeners = in.readVInt();
+        if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+            adaptiveTotal = in.readVLong();
+            adaptiveDeferred = in.readVLong();
+        }
     }
 
     @Override
@@ -81,6 +96,10 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         out.writeVLong(externalTotal);
         out.writeVLong(externalTotalTimeInMillis);
         out.writeVInt(listeners);
+        if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+            out.writeVLong(adaptiveTotal);
+            out.writeVLong(adaptiveDeferred);
+        }
     }
 
     /**
@@ -109,6 +128,8 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         this.externalTotal += refreshStats.externalTotal;
         this.externalTotalTimeInMillis += refreshStats.externalTotalTimeInMillis;
         this.listeners += refreshStats.listeners;
+        this.adaptiveTotal += refreshStats.adaptiveTotal;
+        this.adaptiveDeferred += refreshStats.adaptiveDeferred;
     }
 
     /**
@@ -160,6 +181,21 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         return listeners;
     }
 
+    /**
+     * The number of refreshes triggered by the adaptive refresh scheduler.
+     */
+    public long getAdaptiveTotal() {
+        return adaptiveTotal;
+    }
+
+    /**
+     * The number of times the adaptive refresh scheduler held back the refresh of pending changes because neither searches nor
+     * the size of the indexing buffer called for it yet.
+     */
+    public long getAdaptiveDeferred() {
+        return adaptiveDeferred;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("refresh");
@@ -168,6 +204,8 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         builder.field("external_total", externalTotal);
         builder.humanReadableField("external_total_time_in_millis", "external_total_time", getExternalTotalTime());
         builder.field("listeners", listeners);
+        builder.field("adaptive_total", adaptiveTotal);
+        builder.field("adaptive_deferred", adaptiveDeferred);
         builder.endObject();
         return builder;
     }
@@ -183,6 +221,8 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         this.externalTotal = builder.externalTotal;
         this.externalTotalTimeInMillis = builder.externalTotalTimeInMillis;
         this.listeners = builder.listeners;
+        this.adaptiveTotal = builder.adaptiveTotal;
+        this.adaptiveDeferred = builder.adaptiveDeferred;
     }
 
     /**
@@ -195,6 +235,8 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         private long externalTotal = 0;
         private long externalTotalTimeInMillis = 0;
         private int listeners = 0;
+        private long adaptiveTotal = 0;
+        private long adaptiveDeferred = 0;
 
         public Builder() {}
 
@@ -223,6 +265,16 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder adaptiveTotal(long total) {
+            this.adaptiveTotal = total;
+            return this;
+        }
+
+        public Builder adaptiveDeferred(long deferred) {
+            this.adaptiveDeferred = deferred;
+            return this;
+        }
+
         /**
          * Creates a {@link RefreshStats} object from the builder's current state.
          * @return A new RefreshStats instance.
@@ -242,11 +294,21 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             && totalTimeInMillis == rhs.totalTimeInMillis
             && externalTotal == rhs.externalTotal
             && externalTotalTimeInMillis == rhs.externalTotalTimeInMillis
-            && listeners == rhs.listeners;
+            && listeners == rhs.listeners
+            && adaptiveTotal == rhs.adaptiveTotal
+            && adaptiveDeferred == rhs.adaptiveDeferred;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners);
+        return Objects.hash(
+            total,
+            totalTimeInMillis,
+            externalTotal,
+            externalTotalTimeInMillis,
+            listeners,
+            adaptiveTotal,
+            adaptiveDeferred
+        );
     }
 }
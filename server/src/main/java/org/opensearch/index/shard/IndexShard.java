@@ -128,7 +128,9 @@ import org.opensearch.index.SegmentReplicationShardStats;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.cache.IndexCache;
 import org.opensearch.index.cache.bitset.ShardBitsetFilterCache;
+import org.opensearch.index.cache.queryplan.ShardQueryPlanCache;
 import org.opensearch.index.cache.request.ShardRequestCache;
+import org.opensearch.index.cache.topdocs.ShardTopDocsCache;
 import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.engine.CommitStats;
 import org.opensearch.index.engine.DataFormatAwareEngine;
@@ -202,6 +204,7 @@ import org.opensearch.index.translog.RemoteTranslogStats;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupCommitService;
 import org.opensearch.index.translog.TranslogRecoveryRunner;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
@@ -209,6 +212,7 @@ import org.opensearch.index.warmer.WarmerStats;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.NodeMergeScheduler;
 import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.pollingingest.IngestionSettings;
@@ -300,6 +304,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final ShardGetService getService;
     private final ShardIndexWarmerService shardWarmerService;
     private final ShardRequestCache requestCacheStats;
+    private final ShardTopDocsCache topDocsCacheStats;
+    private final ShardQueryPlanCache queryPlanCacheStats;
     private final ShardFieldData shardFieldData;
     private final ShardBitsetFilterCache shardBitsetFilterCache;
     private final Object mutex = new Object();
@@ -348,6 +354,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final MeanMetric externalRefreshMetric = new MeanMetric();
     private final MeanMetric flushMetric = new MeanMetric();
     private final CounterMetric periodicFlushMetric = new CounterMetric();
+    private final CounterMetric adaptiveRefreshMetric = new CounterMetric();
+    private final CounterMetric adaptiveRefreshDeferredMetric = new CounterMetric();
 
     private final ShardEventListener shardEventListener = new ShardEventListener();
 
@@ -501,6 +509,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.getService = new ShardGetService(indexSettings, this, mapperService);
         this.shardWarmerService = new ShardIndexWarmerService(shardId, indexSettings);
         this.requestCacheStats = new ShardRequestCache();
+        this.topDocsCacheStats = new ShardTopDocsCache();
+        this.queryPlanCacheStats = new ShardQueryPlanCache();
         this.shardFieldData = new ShardFieldData();
         this.shardBitsetFilterCache = new ShardBitsetFilterCache(shardId, indexSettings);
         state = IndexShardState.CREATED;
@@ -683,6 +693,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return this.requestCacheStats;
     }
 
+    public ShardTopDocsCache topDocsCache() {
+        return this.topDocsCacheStats;
+    }
+
+    public ShardQueryPlanCache queryPlanCache() {
+        return this.queryPlanCacheStats;
+    }
+
     public ShardFieldData fieldData() {
         return this.shardFieldData;
     }
@@ -1196,6 +1214,75 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         );
     }
 
+    /**
+     * Parses the source of an index operation on this primary without executing it, so that the documents of a bulk request can be
+     * parsed on several threads ahead of their execution with {@link #applyPreparedIndexOperationOnPrimary(Engine.Index)}. Returns
+     * {@code null} if the document can not be parsed or requires a mapping update, such operations have to be applied with
+     * {@link #applyIndexOperationOnPrimary(long, VersionType, SourceToParse, long, long, long, boolean)} to report the failure or to
+     * trigger the mapping update.
+     */
+    @Nullable
+    public Engine.Index prepareIndexOperationOnPrimary(
+        long version,
+        VersionType versionType,
+        SourceToParse sourceToParse,
+        long ifSeqNo,
+        long ifPrimaryTerm,
+        long autoGeneratedTimestamp,
+        boolean isRetry
+    ) {
+        assert versionType.validateVersionForWrites(version);
+        try {
+            final Engine.Index operation = getIndexer().prepareIndex(
+                docMapper(),
+                sourceToParse,
+                UNASSIGNED_SEQ_NO,
+                getOperationPrimaryTerm(),
+                version,
+                versionType,
+                Engine.Operation.Origin.PRIMARY,
+                autoGeneratedTimestamp,
+                isRetry,
+                ifSeqNo,
+                ifPrimaryTerm
+            );
+            return operation.parsedDoc().dynamicMappingsUpdate() == null ? operation : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Applies an index operation that was parsed by {@link #prepareIndexOperationOnPrimary} while this shard held the same operation
+     * primary term, and with the current mapping of the index.
+     */
+    public Engine.IndexResult applyPreparedIndexOperationOnPrimary(Engine.Index operation) throws IOException {
+        assert operation.origin() == Engine.Operation.Origin.PRIMARY : "prepared operation has origin " + operation.origin();
+        assert operation.primaryTerm() == getOperationPrimaryTerm() : "op term [ "
+            + operation.primaryTerm()
+            + " ] != shard term ["
+            + getOperationPrimaryTerm()
+            + "]";
+        ensureWriteAllowed(Engine.Operation.Origin.PRIMARY);
+        // the operation was stamped when it was parsed, restamp it so that the time it waited behind the earlier items of the
+        // bulk request does not count towards its indexing took time and slow log
+        final Engine.Index restamped = new Engine.Index(
+            operation.uid(),
+            operation.parsedDoc(),
+            operation.seqNo(),
+            operation.primaryTerm(),
+            operation.version(),
+            operation.versionType(),
+            operation.origin(),
+            System.nanoTime(),
+            operation.getAutoGeneratedIdTimestamp(),
+            operation.isRetry(),
+            operation.getIfSeqNo(),
+            operation.getIfPrimaryTerm()
+        );
+        return index(getIndexer(), restamped);
+    }
+
     public Engine.IndexResult applyIndexOperationOnReplica(
         String id,
         long seqNo,
@@ -1630,6 +1717,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             .externalTotal(externalRefreshMetric.count())
             .externalTotalTimeInMillis(TimeUnit.NANOSECONDS.toMillis(externalRefreshMetric.sum()))
             .listeners(listeners)
+            .adaptiveTotal(adaptiveRefreshMetric.count())
+            .adaptiveDeferred(adaptiveRefreshDeferredMetric.count())
             .build();
     }
 
@@ -4868,7 +4957,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             mergedSegmentTransferTracker,
             dataFormatRegistry,
             mapperService,
-            checksumStrategies
+            checksumStrategies,
+            nodeMergeQueue
         );
     }
 
@@ -5264,6 +5354,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
 
+    @Nullable
+    private volatile TranslogGroupCommitService translogGroupCommitService;
+
+    private volatile boolean adaptiveRefresh;
+
+    @Nullable
+    private volatile NodeMergeScheduler.ShardQueue nodeMergeQueue;
+
     private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(
         Logger logger,
         ThreadPool threadPool,
@@ -5318,7 +5416,30 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
      */
     public final void sync(Translog.Location location, Consumer<Exception> syncListener) {
         verifyNotClosed();
-        translogSyncProcessor.put(location, syncListener);
+        final TranslogGroupCommitService groupCommitService = translogGroupCommitService;
+        if (groupCommitService != null) {
+            groupCommitService.sync(path.getRootDataPath(), shardId, this::syncTranslogInGroupCommit, location, syncListener);
+        } else {
+            translogSyncProcessor.put(location, syncListener);
+        }
+    }
+
+    /**
+     * Syncs the local translog of this shard in the shared fsync windows of the given service instead of on its own, see
+     * {@link TranslogGroupCommitService}. Shards with a remote translog keep buffering their syncs on their own.
+     */
+    public void useTranslogGroupCommit(TranslogGroupCommitService groupCommitService) {
+        if (indexSettings.isAssignedOnRemoteNode() == false) {
+            this.translogGroupCommitService = groupCommitService;
+        }
+    }
+
+    private void syncTranslogInGroupCommit(List<Translog.Location> locations) throws IOException {
+        try {
+            getIndexer().translogManager().ensureTranslogSynced(locations.stream());
+        } catch (AlreadyClosedException ex) {
+            // that's fine since we already synced everything on engine close
+        }
     }
 
     public void sync() throws IOException {
@@ -5491,6 +5612,50 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return false;
     }
 
+    /**
+     * Lets the node level {@link org.opensearch.indices.AdaptiveRefreshScheduler} drive the scheduled refreshes of this shard instead
+     * of the default refresh interval, for as long as its index has no explicit refresh interval.
+     */
+    public void useAdaptiveRefresh() {
+        this.adaptiveRefresh = true;
+    }
+
+    /**
+     * Lets the merges of the engines of this shard wait for a merge slot of the given node level merge scheduler before they run.
+     * Only applies to engines that are created afterwards.
+     */
+    public void useNodeMergeScheduler(NodeMergeScheduler nodeMergeScheduler) {
+        this.nodeMergeQueue = nodeMergeScheduler.newShardQueue(shardId, () -> searchStats().getTotal().getQueryCount());
+    }
+
+    /**
+     * Returns true if the scheduled refreshes of this shard are driven by the adaptive refresh scheduler.
+     */
+    public boolean isAdaptiveRefreshEnabled() {
+        return adaptiveRefresh && indexSettings.isExplicitRefresh() == false;
+    }
+
+    /**
+     * Executes a refresh scheduled by the adaptive refresh scheduler if it is due, or if a refresh listener is waiting for it.
+     * Otherwise the refresh of the pending changes, if any, is deferred to a later round.
+     *
+     * @return <code>true</code> iff the engine got refreshed otherwise <code>false</code>
+     */
+    public boolean adaptiveRefresh(boolean due) {
+        verifyNotClosed();
+        if (due || refreshListeners.refreshNeeded()) {
+            final boolean refreshed = scheduledRefresh();
+            if (refreshed) {
+                adaptiveRefreshMetric.inc();
+            }
+            return refreshed;
+        }
+        if (isReadAllowed() && getIndexer().refreshNeeded()) {
+            adaptiveRefreshDeferredMetric.inc();
+        }
+        return false;
+    }
+
     /**
      * Returns true if this shards is search idle
      */
@@ -6467,7 +6632,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
         @Override
         protected void runInternal() {
-            indexShard.scheduledRefresh();
+            if (indexShard.isAdaptiveRefreshEnabled() == false) {
+                indexShard.scheduledRefresh();
+            }
         }
 
         @Override
@@ -38,6 +38,7 @@ import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
@@ -52,6 +53,7 @@ import org.opensearch.core.common.io.stream.BufferedChecksumStreamInput;
 import org.opensearch.core.common.io.stream.BufferedChecksumStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.VersionType;
@@ -67,6 +69,8 @@ import org.opensearch.index.shard.IndexShardComponent;
 import java.io.Closeable;
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -608,7 +612,7 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         try {
             final long start = out.position();
             out.skip(Integer.BYTES);
-            writeOperationNoSize(new BufferedChecksumStreamOutput(out), operation);
+            writeOperationNoSize(new BufferedChecksumStreamOutput(out), operation, indexSettings().isTranslogCompressionEnabled());
             final long end = out.position();
             final int operationSize = (int) (end - Integer.BYTES - start);
             out.seek(start);
@@ -1200,12 +1204,21 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
          * Writes the type and translog operation to the given stream
          */
         static void writeOperation(final StreamOutput output, final Operation operation) throws IOException {
+            writeOperation(output, operation, false);
+        }
+
+        /**
+         * Writes the type and translog operation to the given stream, with the source of large index operations compressed if
+         * {@code compressSource} is set
+         */
+        static void writeOperation(final StreamOutput output, final Operation operation, final boolean compressSource)
+            throws IOException {
             output.writeByte(operation.opType().id());
             switch (operation.opType()) {
                 case CREATE:
                     // the serialization logic in Index was identical to that of Create when create was deprecated
                 case INDEX:
-                    ((Index) operation).write(output);
+                    ((Index) operation).write(output, compressSource);
                     break;
                 case DELETE:
                     ((Delete) operation).write(output);
@@ -1250,7 +1263,18 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         public static final int FORMAT_NO_PARENT = FORMAT_6_0 + 1; // since 7.0
         public static final int FORMAT_NO_VERSION_TYPE = FORMAT_NO_PARENT + 1;
         public static final int FORMAT_NO_DOC_TYPE = FORMAT_NO_VERSION_TYPE + 1;
+        /**
+         * The source is compressed with {@link #SOURCE_COMPRESSOR}. Only written to the translog of indices with
+         * {@link IndexSettings#INDEX_TRANSLOG_COMPRESSION_ENABLED_SETTING} enabled, operations sent over the wire use
+         * {@link #SERIALIZATION_FORMAT}.
+         */
+        public static final int FORMAT_COMPRESSED_SOURCE = FORMAT_NO_DOC_TYPE + 1;
         public static final int SERIALIZATION_FORMAT = FORMAT_NO_DOC_TYPE;
+        static final String SOURCE_COMPRESSOR = "ZSTD";
+        /**
+         * Sources smaller than this are not worth compressing on their own.
+         */
+        static final int MIN_COMPRESSED_SOURCE_LENGTH = 512;
         private final String id;
         private final long autoGeneratedIdTimestamp;
         private final long seqNo;
@@ -1267,7 +1291,11 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
                 in.readString();
                 // can't assert that this is _doc because pre 2.0 indexes can have any name for a type
             }
-            source = in.readBytesReference();
+            if (format >= FORMAT_COMPRESSED_SOURCE) {
+                source = uncompressSource(in.readBytesReference());
+            } else {
+                source = in.readBytesReference();
+            }
             routing = in.readOptionalString();
             if (format < FORMAT_NO_PARENT) {
                 in.readOptionalString(); // _parent
@@ -1349,14 +1377,26 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
             return new Source(source, routing);
         }
 
-        private void write(final StreamOutput out) throws IOException {
-            final int format = out.getVersion().onOrAfter(Version.V_2_0_0) ? SERIALIZATION_FORMAT : FORMAT_NO_VERSION_TYPE;
+        private void write(final StreamOutput out, final boolean compressSource) throws IOException {
+            BytesReference compressedSource = null;
+            if (compressSource && source.length() >= MIN_COMPRESSED_SOURCE_LENGTH && out.getVersion().onOrAfter(Version.V_3_9_0)) {
+                compressedSource = compressSource(source);
+                if (compressedSource.length() >= source.length()) {
+                    compressedSource = null;
+                }
+            }
+            final int format;
+            if (compressedSource != null) {
+                format = FORMAT_COMPRESSED_SOURCE;
+            } else {
+                format = out.getVersion().onOrAfter(Version.V_2_0_0) ? SERIALIZATION_FORMAT : FORMAT_NO_VERSION_TYPE;
+            }
             out.writeVInt(format);
             out.writeString(id);
             if (format < FORMAT_NO_DOC_TYPE) {
                 out.writeString(MapperService.SINGLE_MAPPING_NAME);
             }
-            out.writeBytesReference(source);
+            out.writeBytesReference(compressedSource != null ? compressedSource : source);
             out.writeOptionalString(routing);
             if (format < FORMAT_NO_PARENT) {
                 out.writeOptionalString(null); // _parent
@@ -1370,6 +1410,22 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
             out.writeLong(primaryTerm);
         }
 
+        private static BytesReference compressSource(BytesReference source) throws IOException {
+            final BytesStreamOutput out = new BytesStreamOutput(source.length() / 2);
+            try (OutputStream compressed = CompressorRegistry.getCompressor(SOURCE_COMPRESSOR).threadLocalOutputStream(out)) {
+                source.writeTo(compressed);
+            }
+            return out.bytes();
+        }
+
+        private static BytesReference uncompressSource(BytesReference compressedSource) throws IOException {
+            try (
+                InputStream in = CompressorRegistry.getCompressor(SOURCE_COMPRESSOR).threadLocalInputStream(compressedSource.streamInput())
+            ) {
+                return new BytesArray(in.readAllBytes());
+            }
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) {
@@ -1794,11 +1850,15 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
     }
 
     public static void writeOperationNoSize(BufferedChecksumStreamOutput out, Translog.Operation op) throws IOException {
+        writeOperationNoSize(out, op, false);
+    }
+
+    static void writeOperationNoSize(BufferedChecksumStreamOutput out, Translog.Operation op, boolean compressSource) throws IOException {
         // This BufferedChecksumStreamOutput remains unclosed on purpose,
         // because closing it closes the underlying stream, which we don't
         // want to do here.
         out.resetDigest();
-        Translog.Operation.writeOperation(out, op);
+        Translog.Operation.writeOperation(out, op, compressSource);
         long checksum = out.getChecksum();
         out.writeInt((int) checksum);
     }
@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.telemetry.metrics.Histogram;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Node level service that syncs the translogs of all the shards on the same data path in shared fsync windows.
+ * <p>
+ * With {@code index.translog.durability: request} every shard syncs its translog once per write request, which adds up to hundreds
+ * of fsyncs per second on the same disk when a node holds many active shards. Shards that use this service queue their sync
+ * requests per data path instead. The first request of an idle data path opens a window that is committed after at most
+ * {@link #TRANSLOG_GROUP_COMMIT_MAX_DELAY_SETTING}, and all the requests that arrive until then, or while the previous window is
+ * still being synced, are committed together: every translog of the window is fsynced once, up to its furthest requested location,
+ * back to back on a single thread. Windows of different data paths are committed independently of each other.
+ *
+ * @opensearch.internal
+ */
+public final class TranslogGroupCommitService {
+
+    private static final Logger logger = LogManager.getLogger(TranslogGroupCommitService.class);
+
+    /**
+     * Whether the local translogs of the shards of this node are synced in shared fsync windows per data path.
+     */
+    public static final Setting<Boolean> TRANSLOG_GROUP_COMMIT_ENABLED_SETTING = Setting.boolSetting(
+        "indices.translog.group_commit.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum time a translog sync request waits for the other requests of its fsync window.
+     */
+    public static final Setting<TimeValue> TRANSLOG_GROUP_COMMIT_MAX_DELAY_SETTING = Setting.timeSetting(
+        "indices.translog.group_commit.max_delay",
+        TimeValue.timeValueMillis(2),
+        TimeValue.ZERO,
+        TimeValue.timeValueMillis(100),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    private final ThreadPool threadPool;
+    private final ConcurrentMap<Path, Window> windows = ConcurrentCollections.newConcurrentMap();
+    private final Histogram batchSize;
+    private final Histogram waitTime;
+    private volatile TimeValue maxDelay;
+
+    public TranslogGroupCommitService(
+        Settings settings,
+        ClusterSettings clusterSettings,
+        ThreadPool threadPool,
+        MetricsRegistry metricsRegistry
+    ) {
+        this.threadPool = threadPool;
+        this.maxDelay = TRANSLOG_GROUP_COMMIT_MAX_DELAY_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(TRANSLOG_GROUP_COMMIT_MAX_DELAY_SETTING, value -> this.maxDelay = value);
+        this.batchSize = metricsRegistry.createHistogram(
+            "translog.group_commit.batch_size",
+            "Histogram for tracking the number of translog sync requests committed per fsync window.",
+            "1"
+        );
+        this.waitTime = metricsRegistry.createHistogram(
+            "translog.group_commit.wait_time",
+            "Histogram for tracking the time translog sync requests wait until their fsync window is synced.",
+            "ms"
+        );
+    }
+
+    /**
+     * Syncs the translog of the given shard up to the given location in the next fsync window of the given data path, and notifies
+     * the listener once it is synced or failed to sync.
+     *
+     * @param dataPath the data path of the shard, see {@link org.opensearch.index.shard.ShardPath#getRootDataPath()}
+     * @param shardId  the shard, all the requests of the same shard in a window are synced with a single call to the syncer
+     * @param syncer   syncs the translog of the shard up to the given locations
+     */
+    public void sync(
+        Path dataPath,
+        ShardId shardId,
+        CheckedConsumer<List<Translog.Location>, IOException> syncer,
+        Translog.Location location,
+        Consumer<Exception> listener
+    ) {
+        final SyncRequest request = new SyncRequest(shardId, syncer, location, preserveContext(listener), System.nanoTime());
+        windows.computeIfAbsent(dataPath, Window::new).add(request);
+    }
+
+    private Consumer<Exception> preserveContext(Consumer<Exception> listener) {
+        final Supplier<ThreadContext.StoredContext> restorableContext = threadPool.getThreadContext().newRestorableContext(false);
+        return e -> {
+            try (ThreadContext.StoredContext ignore = restorableContext.get()) {
+                listener.accept(e);
+            }
+        };
+    }
+
+    /**
+     * A translog sync request of a shard.
+     *
+     * @opensearch.internal
+     */
+    record SyncRequest(
+        ShardId shardId,
+        CheckedConsumer<List<Translog.Location>, IOException> syncer,
+        Translog.Location location,
+        Consumer<Exception> listener,
+        long startTimeNanos
+    ) {}
+
+    /**
+     * The pending sync requests of a data path. At most one window of a data path is scheduled or being committed at a time.
+     *
+     * @opensearch.internal
+     */
+    final class Window {
+
+        private final Path dataPath;
+        private List<SyncRequest> pending = new ArrayList<>();
+        private boolean scheduled;
+
+        Window(Path dataPath) {
+            this.dataPath = dataPath;
+        }
+
+        void add(SyncRequest request) {
+            final boolean schedule;
+            synchronized (this) {
+                pending.add(request);
+                schedule = scheduled == false;
+                scheduled = true;
+            }
+            if (schedule) {
+                schedule(request.startTimeNanos());
+            }
+        }
+
+        private void schedule(long firstRequestStartTimeNanos) {
+            final long delayNanos = maxDelay.nanos() - (System.nanoTime() - firstRequestStartTimeNanos);
+            try {
+                threadPool.schedule(
+                    this::commit,
+                    TimeValue.timeValueNanos(Math.max(0L, delayNanos)),
+                    ThreadPool.Names.TRANSLOG_SYNC
+                );
+            } catch (Exception e) {
+                logger.warn(() -> "failed to schedule translog group commit for data path [" + dataPath + "]", e);
+                final List<SyncRequest> failed;
+                synchronized (this) {
+                    failed = drain();
+                    scheduled = false;
+                }
+                for (SyncRequest request : failed) {
+                    notify(request, e);
+                }
+            }
+        }
+
+        void commit() {
+            final List<SyncRequest> batch;
+            synchronized (this) {
+                batch = drain();
+            }
+            final Map<ShardId, List<SyncRequest>> requestsPerShard = new LinkedHashMap<>();
+            for (SyncRequest request : batch) {
+                requestsPerShard.computeIfAbsent(request.shardId(), k -> new ArrayList<>()).add(request);
+            }
+            for (List<SyncRequest> requests : requestsPerShard.values()) {
+                final List<Translog.Location> locations = new ArrayList<>(requests.size());
+                for (SyncRequest request : requests) {
+                    locations.add(request.location());
+                }
+                Exception exception = null;
+                try {
+                    requests.get(0).syncer().accept(locations);
+                } catch (Exception e) {
+                    logger.debug(() -> "failed to sync translog of " + requests.get(0).shardId(), e);
+                    exception = e;
+                }
+                final long now = System.nanoTime();
+                for (SyncRequest request : requests) {
+                    waitTime.record(TimeUnit.NANOSECONDS.toMillis(now - request.startTimeNanos()));
+                    notify(request, exception);
+                }
+            }
+            batchSize.record(batch.size());
+
+            final long nextStartTimeNanos;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    scheduled = false;
+                    return;
+                }
+                nextStartTimeNanos = pending.get(0).startTimeNanos();
+            }
+            schedule(nextStartTimeNanos);
+        }
+
+        private List<SyncRequest> drain() {
+            assert Thread.holdsLock(this);
+            final List<SyncRequest> drained = pending;
+            pending = new ArrayList<>();
+            return drained;
+        }
+
+        private void notify(SyncRequest request, Exception exception) {
+            try {
+                request.listener().accept(exception);
+            } catch (Exception e) {
+                logger.warn("failed to notify translog sync listener", e);
+            }
+        }
+    }
+}
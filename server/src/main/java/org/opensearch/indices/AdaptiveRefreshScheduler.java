@@ -0,0 +1,276 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardClosedException;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Node level scheduler that drives the scheduled refreshes of the shards of the indices without an explicit refresh interval, in
+ * place of the default refresh interval.
+ * <p>
+ * Every {@link #MIN_INTERVAL_SETTING} the scheduler looks at the shards of the node and refreshes those whose refresh is due. The
+ * refresh interval of a shard follows the arrival rate of its searches: a refresh is only useful once a search comes to see it, so a
+ * shard is refreshed about as often as it is searched, and not at all beyond {@link #MAX_INTERVAL_SETTING} when nobody searches it.
+ * The interval is doubled while the shard is merging, so that the segments written by frequent refreshes do not pile up behind the
+ * merges, and a shard whose indexing buffer grew past {@link #PENDING_BUFFER_SIZE_SETTING} is refreshed right away, ahead of the
+ * {@link IndexingMemoryController} that would otherwise have to write it out. Waiting refresh listeners are served right away as well.
+ * <p>
+ * The refreshes are forked to the {@link ThreadPool.Names#REFRESH} thread pool, one task per shard, so that a slow refresh does not hold
+ * back the refreshes of the other shards. A shard whose previous refresh is still running is left out of the round.
+ *
+ * @opensearch.internal
+ */
+public final class AdaptiveRefreshScheduler implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveRefreshScheduler.class);
+
+    /**
+     * Whether the scheduled refreshes of the shards of the indices without an explicit refresh interval are driven by this scheduler.
+     */
+    public static final Setting<Boolean> ENABLED_SETTING = Setting.boolSetting(
+        "indices.refresh.adaptive.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    /**
+     * The minimum interval between two refreshes of a shard, which is also the interval at which the scheduler checks the shards.
+     */
+    public static final Setting<TimeValue> MIN_INTERVAL_SETTING = Setting.timeSetting(
+        "indices.refresh.adaptive.min_interval",
+        TimeValue.timeValueMillis(200),
+        TimeValue.timeValueMillis(10),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    /**
+     * The maximum interval between two refreshes of a shard with pending changes.
+     */
+    public static final Setting<TimeValue> MAX_INTERVAL_SETTING = Setting.timeSetting(
+        "indices.refresh.adaptive.max_interval",
+        TimeValue.timeValueSeconds(30),
+        TimeValue.timeValueMillis(10),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    /**
+     * The size of the indexing buffer of a shard past which the shard is refreshed regardless of its refresh interval.
+     */
+    public static final Setting<ByteSizeValue> PENDING_BUFFER_SIZE_SETTING = Setting.byteSizeSetting(
+        "indices.refresh.adaptive.pending_buffer_size",
+        new ByteSizeValue(64, ByteSizeUnit.MB),
+        new ByteSizeValue(0, ByteSizeUnit.BYTES),
+        new ByteSizeValue(Long.MAX_VALUE, ByteSizeUnit.BYTES),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    /**
+     * The weight of the search rate of the last round in the smoothed search rate of a shard.
+     */
+    static final double SEARCH_RATE_SMOOTHING = 0.5;
+
+    private final ThreadPool threadPool;
+    private final Iterable<IndexShard> indexShards;
+    private volatile TimeValue minInterval;
+    private volatile TimeValue maxInterval;
+    private volatile ByteSizeValue pendingBufferSize;
+
+    // only accessed by the round in progress, rounds never overlap
+    private Map<IndexShard, ShardState> shardStates = new IdentityHashMap<>();
+
+    // the shards whose refresh was forked and did not complete yet, shards don't override equals
+    private final Set<IndexShard> refreshingShards = ConcurrentCollections.newConcurrentSet();
+
+    private volatile boolean closed;
+    private volatile Scheduler.ScheduledCancellable nextRound;
+
+    AdaptiveRefreshScheduler(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, Iterable<IndexShard> indexShards) {
+        this.threadPool = threadPool;
+        this.indexShards = indexShards;
+        this.minInterval = MIN_INTERVAL_SETTING.get(settings);
+        this.maxInterval = MAX_INTERVAL_SETTING.get(settings);
+        this.pendingBufferSize = PENDING_BUFFER_SIZE_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MIN_INTERVAL_SETTING, value -> this.minInterval = value);
+        clusterSettings.addSettingsUpdateConsumer(MAX_INTERVAL_SETTING, value -> this.maxInterval = value);
+        clusterSettings.addSettingsUpdateConsumer(PENDING_BUFFER_SIZE_SETTING, value -> this.pendingBufferSize = value);
+        logger.debug(
+            "adaptive refresh with {} [{}], {} [{}], {} [{}]",
+            MIN_INTERVAL_SETTING.getKey(),
+            minInterval,
+            MAX_INTERVAL_SETTING.getKey(),
+            maxInterval,
+            PENDING_BUFFER_SIZE_SETTING.getKey(),
+            pendingBufferSize
+        );
+        scheduleNextRound();
+    }
+
+    private void scheduleNextRound() {
+        if (closed == false) {
+            nextRound = threadPool.schedule(this::runRound, minInterval, ThreadPool.Names.REFRESH);
+        }
+    }
+
+    private void runRound() {
+        try {
+            refreshShards();
+        } catch (Exception e) {
+            logger.warn("failed to run adaptive refresh round", e);
+        } finally {
+            scheduleNextRound();
+        }
+    }
+
+    /**
+     * Forks the refreshes of the shards whose refresh is due.
+     */
+    void refreshShards() {
+        final long nowInMillis = threadPool.relativeTimeInMillis();
+        final Map<IndexShard, ShardState> nextShardStates = new IdentityHashMap<>();
+        for (IndexShard shard : indexShards) {
+            if (shard.isAdaptiveRefreshEnabled() == false) {
+                continue;
+            }
+            try {
+                final ShardState state = shardStates.get(shard);
+                if (state == null) {
+                    // the first round of a shard starts its interval and its search rate
+                    nextShardStates.put(shard, new ShardState(queryCount(shard), nowInMillis));
+                } else {
+                    if (refreshingShards.contains(shard) == false) {
+                        maybeRefresh(shard, state, nowInMillis);
+                    }
+                    nextShardStates.put(shard, state);
+                }
+            } catch (IndexShardClosedException | AlreadyClosedException e) {
+                // fine - continue;
+            } catch (Exception e) {
+                logger.warn(() -> new ParameterizedMessage("{} failed to run adaptive refresh", shard.shardId()), e);
+            }
+        }
+        // states of shards that are gone are dropped with the previous map
+        shardStates = nextShardStates;
+    }
+
+    private void maybeRefresh(IndexShard shard, ShardState state, long nowInMillis) {
+        final long queryCount = queryCount(shard);
+        final long elapsedInMillis = Math.max(1, nowInMillis - state.lastRoundInMillis);
+        final double searchRate = (queryCount - state.lastQueryCount) * 1000d / elapsedInMillis;
+        state.searchRate = SEARCH_RATE_SMOOTHING * searchRate + (1 - SEARCH_RATE_SMOOTHING) * state.searchRate;
+        state.lastQueryCount = queryCount;
+        state.lastRoundInMillis = nowInMillis;
+
+        final long intervalInMillis = targetIntervalInMillis(
+            state.searchRate,
+            shard.mergeStats().getCurrent() > 0,
+            minInterval.millis(),
+            maxInterval.millis()
+        );
+        final boolean due = nowInMillis - state.lastRefreshInMillis >= intervalInMillis
+            || shard.getIndexBufferRAMBytesUsed() >= pendingBufferSize.getBytes();
+        if (due) {
+            state.lastRefreshInMillis = nowInMillis;
+        }
+        refreshingShards.add(shard);
+        threadPool.executor(ThreadPool.Names.REFRESH).execute(new AbstractRunnable() {
+            @Override
+            protected void doRun() {
+                shard.adaptiveRefresh(due);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (e instanceof IndexShardClosedException == false && e instanceof AlreadyClosedException == false) {
+                    logger.warn(() -> new ParameterizedMessage("{} failed to run adaptive refresh", shard.shardId()), e);
+                }
+            }
+
+            @Override
+            public void onAfter() {
+                refreshingShards.remove(shard);
+            }
+        });
+    }
+
+    /**
+     * @return whether the refresh of the given shard was forked and did not complete yet, for testing
+     */
+    boolean isRefreshing(IndexShard shard) {
+        return refreshingShards.contains(shard);
+    }
+
+    private static long queryCount(IndexShard shard) {
+        return shard.searchStats().getTotal().getQueryCount();
+    }
+
+    /**
+     * Returns the refresh interval of a shard that is searched at the given rate: the mean time between two searches, doubled while
+     * the shard is merging, within the given bounds. The minimum wins if the bounds are crossed.
+     *
+     * @param searchRate the number of searches per second
+     */
+    static long targetIntervalInMillis(double searchRate, boolean merging, long minIntervalInMillis, long maxIntervalInMillis) {
+        double intervalInMillis = searchRate > 0 ? 1000d / searchRate : maxIntervalInMillis;
+        if (merging) {
+            intervalInMillis *= 2;
+        }
+        return Math.max(minIntervalInMillis, (long) Math.min(maxIntervalInMillis, intervalInMillis));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        final Scheduler.ScheduledCancellable round = nextRound;
+        if (round != null) {
+            round.cancel();
+        }
+    }
+
+    /**
+     * The refresh state of a shard between two rounds.
+     *
+     * @opensearch.internal
+     */
+    private static final class ShardState {
+        private long lastQueryCount;
+        private long lastRoundInMillis;
+        private long lastRefreshInMillis;
+        private double searchRate;
+
+        ShardState(long queryCount, long nowInMillis) {
+            this.lastQueryCount = queryCount;
+            this.lastRoundInMillis = nowInMillis;
+            this.lastRefreshInMillis = nowInMillis;
+        }
+    }
+}
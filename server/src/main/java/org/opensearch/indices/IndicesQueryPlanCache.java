@@ -0,0 +1,255 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.FieldExistsQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.MultiPhraseQuery;
+import org.apache.lucene.search.MultiTermQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.PointInSetQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SynonymQuery;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.cache.queryplan.ShardQueryPlanCache;
+import org.opensearch.index.query.ParsedQuery;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryShardContext;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Node level cache of the Lucene queries that the query builders of search requests were parsed into on the shards.
+ * <p>
+ * Dashboards keep sending identical queries, which are rewritten and turned into Lucene queries again by every shard, for every
+ * request. Entries are keyed by the serialized query builder, the index and the version of its mappings, analyzers and settings,
+ * so that they are reused across shards and refreshes. The entries of a shard are invalidated when it is closed, and those of an
+ * index when it is removed from the node. A query is only cached if building it did not depend on anything else: it
+ * must be cacheable in the sense of {@link QueryShardContext#isCacheable()}, which rules out {@code now} and non-deterministic
+ * scripts, must not have looked at the index reader, which rules out rewrites based on the content of the shard, and must only
+ * consist of immutable Lucene queries, since cached queries are shared by concurrent requests.
+ *
+ * @opensearch.internal
+ */
+public final class IndicesQueryPlanCache implements RemovalListener<IndicesQueryPlanCache.Key, IndicesQueryPlanCache.Value>, Closeable {
+
+    /**
+     * Whether the queries of search requests on this index may be served from the query plan cache.
+     */
+    public static final Setting<Boolean> INDEX_QUERY_PLAN_CACHE_ENABLED_SETTING = Setting.boolSetting(
+        "index.search.query_plan_cache.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * The maximum number of queries the query plan cache of a node holds.
+     */
+    public static final Setting<Integer> INDICES_QUERY_PLAN_CACHE_SIZE_SETTING = Setting.intSetting(
+        "indices.query_plan_cache.size",
+        1000,
+        1,
+        Property.NodeScope
+    );
+
+    private final Cache<Key, Value> cache;
+
+    public IndicesQueryPlanCache(Settings settings) {
+        this.cache = CacheBuilder.<Key, Value>builder()
+            .setMaximumWeight(INDICES_QUERY_PLAN_CACHE_SIZE_SETTING.get(settings))
+            .removalListener(this)
+            .build();
+    }
+
+    /**
+     * Returns the cached query parsed for an identical query builder on the index of the given context, or parses the query builder
+     * with the given parser and caches the result if it may be reused.
+     */
+    public ParsedQuery getOrParse(
+        ShardId shardId,
+        ShardQueryPlanCache shardCache,
+        QueryShardContext context,
+        QueryBuilder queryBuilder,
+        Function<QueryBuilder, ParsedQuery> parser
+    ) {
+        final BytesReference queryKey;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeNamedWriteable(queryBuilder);
+            queryKey = out.copyBytes();
+        } catch (IOException e) {
+            return parser.apply(queryBuilder);
+        }
+        final Key key = new Key(
+            context.index().getUUID(),
+            context.getMapperService().mappingVersion(),
+            context.getMapperService().searchAnalyzersGeneration(),
+            context.getIndexSettings().getIndexMetadata().getSettingsVersion(),
+            context.allowExpensiveQueries(),
+            context.keywordFieldIndexOrDocValuesEnabled(),
+            queryKey
+        );
+        final Value cached = cache.get(key);
+        if (cached != null) {
+            shardCache.onHit();
+            return cached.parsedQuery();
+        }
+        shardCache.onMiss();
+
+        final boolean wasCacheable = context.isCacheable();
+        context.resetIndexReaderAccessed();
+        final ParsedQuery parsedQuery = parser.apply(queryBuilder);
+        if (wasCacheable && context.isCacheable() && context.isIndexReaderAccessed() == false && isReusable(parsedQuery)) {
+            cache.put(key, new Value(shardId, shardCache, parsedQuery));
+            shardCache.onCached();
+        }
+        return parsedQuery;
+    }
+
+    static boolean isReusable(ParsedQuery parsedQuery) {
+        if (isReusable(parsedQuery.query()) == false) {
+            return false;
+        }
+        for (Query namedQuery : parsedQuery.namedFilters().values()) {
+            if (isReusable(namedQuery) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the given query is made of Lucene queries that are known to be immutable and not to hold on to per request state.
+     */
+    static boolean isReusable(Query query) {
+        if (query.getClass().getName().startsWith("org.apache.lucene.") == false) {
+            return false;
+        }
+        if (query instanceof BooleanQuery booleanQuery) {
+            for (BooleanClause clause : booleanQuery.clauses()) {
+                if (isReusable(clause.query()) == false) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (query instanceof BoostQuery boostQuery) {
+            return isReusable(boostQuery.getQuery());
+        } else if (query instanceof ConstantScoreQuery constantScoreQuery) {
+            return isReusable(constantScoreQuery.getQuery());
+        } else if (query instanceof DisjunctionMaxQuery disjunctionMaxQuery) {
+            for (Query disjunct : disjunctionMaxQuery.getDisjuncts()) {
+                if (isReusable(disjunct) == false) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (query instanceof IndexOrDocValuesQuery indexOrDocValuesQuery) {
+            return isReusable(indexOrDocValuesQuery.getIndexQuery()) && isReusable(indexOrDocValuesQuery.getRandomAccessQuery());
+        }
+        return query instanceof TermQuery
+            || query instanceof TermInSetQuery
+            || query instanceof PhraseQuery
+            || query instanceof MultiPhraseQuery
+            || query instanceof SynonymQuery
+            || query instanceof MultiTermQuery
+            || query instanceof PointRangeQuery
+            || query instanceof PointInSetQuery
+            || query instanceof FieldExistsQuery
+            || query instanceof MatchAllDocsQuery
+            || query instanceof MatchNoDocsQuery
+            // the doc values queries of the fields of the document package
+            || query.getClass().getName().startsWith("org.apache.lucene.document.");
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<Key, Value> notification) {
+        notification.getValue().shardCache().onRemoval(notification.getRemovalReason() == RemovalReason.EVICTED);
+    }
+
+    /**
+     * Invalidates the queries cached for the given index, once it is removed from this node.
+     */
+    public void clearIndex(String indexUUID) {
+        for (Key key : cache.keysSnapshot()) {
+            if (key.indexUUID().equals(indexUUID)) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    /**
+     * Invalidates the queries cached by the given shard once it is closed, so that they don't keep its stats around.
+     */
+    public void onClose(ShardId shardId) {
+        for (Key key : cache.keysSnapshot()) {
+            if (key.indexUUID().equals(shardId.getIndex().getUUID())) {
+                final Value value = cache.get(key);
+                if (value != null && value.shardId().equals(shardId)) {
+                    cache.invalidate(key, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of cached queries, for testing
+     */
+    int count() {
+        return cache.count();
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Identifies the queries parsed from the same query builder against the same mappings and settings.
+     *
+     * @opensearch.internal
+     */
+    record Key(
+        String indexUUID,
+        long mappingVersion,
+        long searchAnalyzersGeneration,
+        long settingsVersion,
+        boolean allowExpensiveQueries,
+        boolean keywordIndexOrDocValuesEnabled,
+        BytesReference query
+    ) {}
+
+    /**
+     * A cached query, and the shard it was parsed for.
+     *
+     * @opensearch.internal
+     */
+    record Value(ShardId shardId, ShardQueryPlanCache shardCache, ParsedQuery parsedQuery) {}
+}
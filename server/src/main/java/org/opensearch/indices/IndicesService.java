@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexReader.CacheHelper;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.util.CollectionUtil;
@@ -72,6 +73,7 @@ import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader.DelegatingCacheHelper;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
@@ -136,8 +138,10 @@ import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.query.BaseQueryRewriteContext;
+import org.opensearch.index.query.ParsedQuery;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
+import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
@@ -156,6 +160,7 @@ import org.opensearch.index.store.remote.filecache.NodeCacheService;
 import org.opensearch.index.translog.InternalTranslogFactory;
 import org.opensearch.index.translog.RemoteBlobStoreInternalTranslogFactory;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupCommitService;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -449,9 +454,17 @@ public class IndicesService extends AbstractLifecycleComponent
     private final MapperRegistry mapperRegistry;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final IndexingMemoryController indexingMemoryController;
+    @Nullable
+    private final AdaptiveRefreshScheduler adaptiveRefreshScheduler;
+    @Nullable
+    private final NodeMergeScheduler nodeMergeScheduler;
     private final TimeValue cleanInterval; // clean interval for the field data cache
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
     private final IndicesQueryCache indicesQueryCache;
+    private final IndicesTopDocsCache indicesTopDocsCache;
+    private final IndicesQueryPlanCache indicesQueryPlanCache;
+    @Nullable
+    private volatile TranslogGroupCommitService translogGroupCommitService;
     private final MetaStateService metaStateService;
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
     private final Map<String, IndexStorePlugin.DirectoryFactory> directoryFactories;
@@ -554,6 +567,8 @@ public class IndicesService extends AbstractLifecycleComponent
             return Optional.of(new IndexShardCacheEntity(indexService.getShardOrNull(shardId.id())));
         }), cacheService, threadPool, clusterService, nodeEnv);
         this.indicesQueryCache = new IndicesQueryCache(settings, clusterService.getClusterSettings());
+        this.indicesTopDocsCache = new IndicesTopDocsCache(settings);
+        this.indicesQueryPlanCache = new IndicesQueryPlanCache(settings);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
         indexingMemoryController = new IndexingMemoryController(
@@ -562,6 +577,21 @@ public class IndicesService extends AbstractLifecycleComponent
             // ensure we pull an iter with new shards - flatten makes a copy
             () -> Iterables.flatten(this).iterator()
         );
+        if (AdaptiveRefreshScheduler.ENABLED_SETTING.get(settings)) {
+            adaptiveRefreshScheduler = new AdaptiveRefreshScheduler(
+                settings,
+                clusterService.getClusterSettings(),
+                threadPool,
+                () -> Iterables.flatten(this).iterator()
+            );
+        } else {
+            adaptiveRefreshScheduler = null;
+        }
+        if (NodeMergeScheduler.ENABLED_SETTING.get(settings)) {
+            nodeMergeScheduler = new NodeMergeScheduler(settings, clusterService.getClusterSettings());
+        } else {
+            nodeMergeScheduler = null;
+        }
         this.indexScopedSettings = indexScopedSettings;
         this.circuitBreakerService = circuitBreakerService;
         this.bigArrays = bigArrays;
@@ -612,10 +642,13 @@ public class IndicesService extends AbstractLifecycleComponent
                     IOUtils.close(
                         analysisRegistry,
                         indexingMemoryController,
+                        adaptiveRefreshScheduler,
                         indicesFieldDataCache,
                         cacheCleaner,
                         indicesRequestCache,
                         indicesQueryCache,
+                        indicesTopDocsCache,
+                        indicesQueryPlanCache,
                         ingestionPayloadDecoderRegistry
                     );
                 } catch (IOException e) {
@@ -1074,6 +1107,7 @@ public class IndicesService extends AbstractLifecycleComponent
             @Override
             public void onStoreClosed(ShardId shardId) {
                 try {
+                    indicesQueryPlanCache.onClose(shardId);
                     indicesQueryCache.onClose(shardId);
                 } finally {
                     indicesRefCount.decRef();
@@ -1448,6 +1482,15 @@ public class IndicesService extends AbstractLifecycleComponent
             referencedSegmentsPublisher
         );
         indexShard.addShardFailureCallback(onShardFailure);
+        if (translogGroupCommitService != null) {
+            indexShard.useTranslogGroupCommit(translogGroupCommitService);
+        }
+        if (adaptiveRefreshScheduler != null) {
+            indexShard.useAdaptiveRefresh();
+        }
+        if (nodeMergeScheduler != null) {
+            indexShard.useNodeMergeScheduler(nodeMergeScheduler);
+        }
         indexShard.startRecovery(recoveryState, recoveryTargetService, recoveryListener, repositoriesService, mapping -> {
             assert recoveryState.getRecoverySource().getType() == RecoverySource.Type.LOCAL_SHARDS
                 : "mapping update consumer only required by local shards recovery";
@@ -1483,6 +1526,7 @@ public class IndicesService extends AbstractLifecycleComponent
             listener.beforeIndexRemoved(indexService, reason);
             logger.debug("{} closing index service (reason [{}][{}])", index, reason, extraInfo);
             indexService.close(extraInfo, reason == IndexRemovalReason.DELETED);
+            indicesQueryPlanCache.clearIndex(index.getUUID());
             logger.debug("{} closed... (reason [{}][{}])", index, reason, extraInfo);
             final IndexSettings indexSettings = indexService.getIndexSettings();
             listener.afterIndexRemoved(indexService.index(), indexSettings, reason);
@@ -2167,6 +2211,118 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Can the query phase of the shard request be served from the {@link IndicesTopDocsCache}? Only plain paginated queries are
+     * eligible: anything that contributes more to the query result than its top hits, or that depends on the page in another way
+     * than through {@code from} and {@code size}, is executed as usual.
+     */
+    public boolean canCacheTopDocs(ShardSearchRequest request, SearchContext context) {
+        final IndexSettings settings = context.indexShard().indexSettings();
+        if (settings.getValue(IndicesTopDocsCache.INDEX_TOP_DOCS_CACHE_ENABLED_SETTING) == false) {
+            return false;
+        }
+        if (request.scroll() != null || context.isStreamSearch() || SearchType.QUERY_THEN_FETCH != context.searchType()) {
+            return false;
+        }
+        if (request.source() == null || request.source().profile() || context.size() <= 0) {
+            return false;
+        }
+        if (context.aggregations() != null
+            || context.suggest() != null
+            || context.rescore().isEmpty() == false
+            || context.collapse() != null
+            || context.searchAfter() != null
+            || request.source().slice() != null) {
+            return false;
+        }
+        if (context.from() + context.size() > settings.getMaxResultWindow()) {
+            return false;
+        }
+        return context.getQueryShardContext().isCacheable()
+            && context.searcher().getDirectoryReader().getReaderCacheHelper() instanceof DelegatingCacheHelper;
+    }
+
+    /**
+     * Serves the top hits of the query phase from the {@link IndicesTopDocsCache}, or executes the query phase for a window of hits
+     * that also covers later pages and caches them.
+     */
+    public void loadTopDocsIntoContext(ShardSearchRequest request, SearchContext context, QueryPhase queryPhase) throws Exception {
+        assert canCacheTopDocs(request, context);
+        final IndexShard indexShard = context.indexShard();
+        final IndexReader.CacheHelper readerCacheHelper = context.searcher().getDirectoryReader().getReaderCacheHelper();
+        final BytesReference queryKey = request.topDocsCacheKey();
+        final int from = context.from();
+        final int size = context.size();
+        final int numHits = from + size;
+
+        final IndicesTopDocsCache.Value cached = indicesTopDocsCache.get(
+            indexShard.topDocsCache(),
+            indexShard.shardId(),
+            readerCacheHelper,
+            queryKey,
+            numHits
+        );
+        final QuerySearchResult result = context.queryResult();
+        if (cached != null) {
+            result.searchTimedOut(false);
+            result.from(from);
+            result.size(size);
+            result.topDocs(cached.topDocs(numHits), cached.sortValueFormats());
+            if (cached.terminatedEarly() != null) {
+                result.terminatedEarly(cached.terminatedEarly());
+            }
+            return;
+        }
+
+        final int window = Math.min(
+            indexShard.indexSettings().getMaxResultWindow(),
+            Math.max(numHits, indexShard.indexSettings().getValue(IndicesTopDocsCache.INDEX_TOP_DOCS_CACHE_WINDOW_SETTING))
+        );
+        context.size(window - from);
+        try {
+            queryPhase.execute(context);
+        } finally {
+            context.size(size);
+        }
+        result.size(size);
+        final TopDocsAndMaxScore topDocs = result.topDocs();
+        if (result.searchTimedOut() == false) {
+            indicesTopDocsCache.put(
+                indexShard.topDocsCache(),
+                indexShard.shardId(),
+                readerCacheHelper,
+                queryKey,
+                topDocs,
+                result.sortValueFormats(),
+                result.terminatedEarly(),
+                Math.min(window, Math.max(1, context.searcher().getIndexReader().numDocs()))
+            );
+        }
+        if (topDocs.topDocs.scoreDocs.length > numHits) {
+            result.topDocs(IndicesTopDocsCache.copy(topDocs, numHits), result.sortValueFormats());
+        }
+    }
+
+    /**
+     * Builds the Lucene query of the given query builder for the shard of the given context, reusing the query built for an identical
+     * query builder from the {@link IndicesQueryPlanCache} if the index enables it.
+     */
+    public ParsedQuery toQuery(SearchContext context, QueryBuilder queryBuilder) {
+        final QueryShardContext queryShardContext = context.getQueryShardContext();
+        final IndexShard indexShard = context.indexShard();
+        if (indexShard == null
+            || indexShard.indexSettings().getValue(IndicesQueryPlanCache.INDEX_QUERY_PLAN_CACHE_ENABLED_SETTING) == false) {
+            return queryShardContext.toQuery(queryBuilder);
+        }
+        return indicesQueryPlanCache.getOrParse(
+            indexShard.shardId(),
+            indexShard.queryPlanCache(),
+            queryShardContext,
+            queryBuilder,
+            queryShardContext::toQuery
+        );
+    }
+
     public ByteSizeValue getTotalIndexingBufferBytes() {
         return indexingMemoryController.indexingBufferSize();
     }
@@ -2504,6 +2660,14 @@ public class IndicesService extends AbstractLifecycleComponent
         this.fixedRefreshIntervalSchedulingEnabled = fixedRefreshIntervalSchedulingEnabled;
     }
 
+    /**
+     * Sets the service that syncs the translogs of the shards created from now on in shared fsync windows. Called by {@code Node}
+     * if {@link TranslogGroupCommitService#TRANSLOG_GROUP_COMMIT_ENABLED_SETTING} is enabled.
+     */
+    public void setTranslogGroupCommitService(TranslogGroupCommitService translogGroupCommitService) {
+        this.translogGroupCommitService = translogGroupCommitService;
+    }
+
     /**
      * Sets the list of search stats contributors. Called by {@code Node} after plugin discovery.
      */
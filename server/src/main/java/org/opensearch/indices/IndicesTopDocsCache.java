@@ -0,0 +1,296 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.cache.topdocs.ShardTopDocsCache;
+import org.opensearch.search.DocValueFormat;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Node level cache of the top hits of paginated queries.
+ * <p>
+ * Every page of a {@code from}/{@code size} pagination re-executes the query phase on each shard to collect the top
+ * {@code from + size} hits. When enabled for an index, the first execution of a query collects a larger window of hits and keeps its
+ * {@link ScoreDoc}s (including sort values) keyed by the shard, the reader and the page independent part of the request, so that later
+ * pages within the window are served without re-scoring. Entries are dropped as soon as the reader they were computed on is closed,
+ * which happens on refresh, exactly like the entries of the {@link IndicesRequestCache}.
+ *
+ * @opensearch.internal
+ */
+public final class IndicesTopDocsCache implements RemovalListener<IndicesTopDocsCache.Key, IndicesTopDocsCache.Value>, Closeable {
+
+    /**
+     * Whether the query phase of paginated searches on this index may be served from the top docs cache.
+     */
+    public static final Setting<Boolean> INDEX_TOP_DOCS_CACHE_ENABLED_SETTING = Setting.boolSetting(
+        "index.search.top_docs_cache.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * The number of hits collected and cached when a query misses the cache. Requests whose {@code from + size} exceeds the window
+     * collect and cache {@code from + size} hits instead; the window is always capped by {@code index.max_result_window}.
+     */
+    public static final Setting<Integer> INDEX_TOP_DOCS_CACHE_WINDOW_SETTING = Setting.intSetting(
+        "index.search.top_docs_cache.window",
+        100,
+        1,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * The maximum amount of heap the top docs cache of a node may use.
+     */
+    public static final Setting<ByteSizeValue> INDICES_TOP_DOCS_CACHE_SIZE_SETTING = Setting.memorySizeSetting(
+        "indices.top_docs_cache.size",
+        "1%",
+        Property.NodeScope
+    );
+
+    private final Cache<Key, Value> cache;
+    private final Map<IndexReader.CacheKey, Set<Key>> keysByReader = ConcurrentCollections.newConcurrentMap();
+
+    public IndicesTopDocsCache(Settings settings) {
+        final long sizeInBytes = INDICES_TOP_DOCS_CACHE_SIZE_SETTING.get(settings).getBytes();
+        this.cache = CacheBuilder.<Key, Value>builder()
+            .setMaximumWeight(sizeInBytes)
+            .weigher((key, value) -> key.ramBytesUsed() + value.ramBytesUsed())
+            .removalListener(this)
+            .build();
+    }
+
+    /**
+     * Returns the cached top hits of the given query if they contain at least {@code numHits} hits or all hits of the query.
+     * The returned top docs are a copy that callers may modify freely.
+     */
+    public Value get(
+        ShardTopDocsCache shardCache,
+        ShardId shardId,
+        IndexReader.CacheHelper readerCacheHelper,
+        BytesReference queryKey,
+        int numHits
+    ) {
+        final Value value = cache.get(new Key(shardCache, shardId, readerCacheHelper.getKey(), queryKey));
+        if (value != null && value.covers(numHits)) {
+            shardCache.onHit();
+            return value;
+        }
+        shardCache.onMiss();
+        return null;
+    }
+
+    /**
+     * Caches the top hits of the given query, computed on the reader of the given cache helper.
+     *
+     * @param requestedHits the number of hits that was requested from the collector, used to tell whether all hits were collected
+     */
+    public void put(
+        ShardTopDocsCache shardCache,
+        ShardId shardId,
+        IndexReader.CacheHelper readerCacheHelper,
+        BytesReference queryKey,
+        TopDocsAndMaxScore topDocs,
+        DocValueFormat[] sortValueFormats,
+        Boolean terminatedEarly,
+        int requestedHits
+    ) {
+        final IndexReader.CacheKey readerKey = readerCacheHelper.getKey();
+        final Key key = new Key(shardCache, shardId, readerKey, queryKey);
+        keysByReader.computeIfAbsent(readerKey, k -> {
+            readerCacheHelper.addClosedListener(this::onReaderClosed);
+            return ConcurrentCollections.newConcurrentSet();
+        }).add(key);
+        final boolean exhaustive = topDocs.topDocs.scoreDocs.length < requestedHits;
+        final Value value = new Value(copy(topDocs, topDocs.topDocs.scoreDocs.length), sortValueFormats, terminatedEarly, exhaustive);
+        cache.put(key, value);
+        shardCache.onCached(key.ramBytesUsed() + value.ramBytesUsed());
+    }
+
+    private void onReaderClosed(IndexReader.CacheKey readerKey) {
+        final Set<Key> keys = keysByReader.remove(readerKey);
+        if (keys != null) {
+            for (Key key : keys) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<Key, Value> notification) {
+        final Key key = notification.getKey();
+        if (notification.getRemovalReason() != RemovalReason.REPLACED) {
+            // a replaced entry is still registered for the new value of the same key
+            final Set<Key> keys = keysByReader.get(key.readerKey);
+            if (keys != null) {
+                keys.remove(key);
+            }
+        }
+        key.shardCache.onRemoval(
+            key.ramBytesUsed() + notification.getValue().ramBytesUsed(),
+            notification.getRemovalReason() == RemovalReason.EVICTED
+        );
+    }
+
+    /**
+     * @return the number of cached queries, for testing
+     */
+    int count() {
+        return cache.count();
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+        keysByReader.clear();
+    }
+
+    /**
+     * Copies the first {@code numHits} hits: {@link ScoreDoc}s are mutable and get their shard index assigned when results are
+     * merged, so cached instances are never handed out.
+     */
+    static TopDocsAndMaxScore copy(TopDocsAndMaxScore topDocsAndMaxScore, int numHits) {
+        final TopDocs topDocs = topDocsAndMaxScore.topDocs;
+        final ScoreDoc[] scoreDocs = new ScoreDoc[Math.min(numHits, topDocs.scoreDocs.length)];
+        for (int i = 0; i < scoreDocs.length; i++) {
+            final ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+            if (scoreDoc instanceof FieldDoc fieldDoc) {
+                scoreDocs[i] = new FieldDoc(fieldDoc.doc, fieldDoc.score, fieldDoc.fields.clone(), fieldDoc.shardIndex);
+            } else {
+                scoreDocs[i] = new ScoreDoc(scoreDoc.doc, scoreDoc.score, scoreDoc.shardIndex);
+            }
+        }
+        final TopDocs copy = topDocs instanceof TopFieldDocs topFieldDocs
+            ? new TopFieldDocs(topDocs.totalHits, scoreDocs, topFieldDocs.fields)
+            : new TopDocs(topDocs.totalHits, scoreDocs);
+        return new TopDocsAndMaxScore(copy, topDocsAndMaxScore.maxScore);
+    }
+
+    /**
+     * The page independent identity of a query on a point-in-time view of a shard.
+     *
+     * @opensearch.internal
+     */
+    static final class Key implements Accountable {
+        private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+
+        final ShardTopDocsCache shardCache;
+        final ShardId shardId;
+        final IndexReader.CacheKey readerKey;
+        final BytesReference queryKey;
+
+        Key(ShardTopDocsCache shardCache, ShardId shardId, IndexReader.CacheKey readerKey, BytesReference queryKey) {
+            this.shardCache = Objects.requireNonNull(shardCache);
+            this.shardId = Objects.requireNonNull(shardId);
+            this.readerKey = Objects.requireNonNull(readerKey);
+            this.queryKey = Objects.requireNonNull(queryKey);
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED + queryKey.ramBytesUsed();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return shardId.equals(key.shardId) && readerKey.equals(key.readerKey) && queryKey.equals(key.queryKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = shardId.hashCode();
+            result = 31 * result + readerKey.hashCode();
+            result = 31 * result + queryKey.hashCode();
+            return result;
+        }
+    }
+
+    /**
+     * The cached top hits of a query.
+     *
+     * @opensearch.internal
+     */
+    public static final class Value implements Accountable {
+        private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Value.class);
+
+        private final TopDocsAndMaxScore topDocs;
+        private final DocValueFormat[] sortValueFormats;
+        private final Boolean terminatedEarly;
+        private final boolean exhaustive;
+        private final long ramBytesUsed;
+
+        Value(TopDocsAndMaxScore topDocs, DocValueFormat[] sortValueFormats, Boolean terminatedEarly, boolean exhaustive) {
+            this.topDocs = topDocs;
+            this.sortValueFormats = sortValueFormats;
+            this.terminatedEarly = terminatedEarly;
+            this.exhaustive = exhaustive;
+            long size = BASE_RAM_BYTES_USED + RamUsageEstimator.shallowSizeOf(topDocs.topDocs.scoreDocs);
+            for (ScoreDoc scoreDoc : topDocs.topDocs.scoreDocs) {
+                size += RamUsageEstimator.shallowSizeOf(scoreDoc);
+                if (scoreDoc instanceof FieldDoc fieldDoc) {
+                    size += RamUsageEstimator.sizeOfObject(fieldDoc.fields);
+                }
+            }
+            this.ramBytesUsed = size;
+        }
+
+        boolean covers(int numHits) {
+            return exhaustive || topDocs.topDocs.scoreDocs.length >= numHits;
+        }
+
+        /**
+         * @return a copy of the first {@code numHits} cached hits
+         */
+        public TopDocsAndMaxScore topDocs(int numHits) {
+            return copy(topDocs, numHits);
+        }
+
+        public DocValueFormat[] sortValueFormats() {
+            return sortValueFormats;
+        }
+
+        public Boolean terminatedEarly() {
+            return terminatedEarly;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return ramBytesUsed;
+        }
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Node level scheduler that decides which of the pending merges of all the shards of the node run next.
+ * <p>
+ * The merge scheduler of every shard still picks and runs the merges of the shard, but a merge waits here until it gets one of the
+ * {@link #MAX_CONCURRENT_MERGES_SETTING} merge slots of the node. Free slots go to the waiting merge with the highest expected
+ * benefit per byte of merge I/O: the number of segments it removes, weighed by the search rate of the shard since every search
+ * visits every segment, and the share of deleted documents it reclaims, divided by the size of the merge. Small merges on busy
+ * shards thus run ahead of large merges on shards nobody searches, and the priority of a waiting merge doubles with every
+ * {@link #AGING_MILLIS} of wait so that large merges are not starved. The merges that start are further held to the node level write
+ * budget of {@link #MAX_BYTES_PER_SEC_SETTING}, which is charged with the size of every merge as it starts. Force merges are explicit
+ * requests with their own throttling and bypass the scheduler.
+ * <p>
+ * A merge waits here on the merge thread that its shard started for it, after the engine counted it as in flight. Waiting merges
+ * thus count towards the maximum merge count of the shard like running merges do, and a shard whose merges wait for a slot gets its
+ * indexing throttled once it has more merges in flight than that count. This is on purpose: the shard is behind on its merges
+ * whether they run or wait, and the throttle keeps it from writing new segments faster than the node merges them. Waiting merges do
+ * not count when the merge scheduler of the shard pauses its largest merges though, as a running merge that holds the slot a waiting
+ * merge waits for must not be paused for it.
+ *
+ * @opensearch.internal
+ */
+public final class NodeMergeScheduler {
+
+    /**
+     * Whether the merges of the shards of the node go through this scheduler.
+     */
+    public static final Setting<Boolean> ENABLED_SETTING = Setting.boolSetting(
+        "indices.merge.node_scheduler.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum number of merges that run at the same time on the node, across all its shards.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_MERGES_SETTING = new Setting<>(
+        "indices.merge.node_scheduler.max_concurrent_merges",
+        s -> Integer.toString(Math.max(1, Math.min(4, OpenSearchExecutors.allocatedProcessors(s) / 2))),
+        s -> Setting.parseInt(s, 1, "indices.merge.node_scheduler.max_concurrent_merges"),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    /**
+     * The number of bytes per second that the merges of the node may write on average, {@code 0} for no limit.
+     */
+    public static final Setting<ByteSizeValue> MAX_BYTES_PER_SEC_SETTING = Setting.byteSizeSetting(
+        "indices.merge.node_scheduler.max_bytes_per_sec",
+        new ByteSizeValue(0),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    /**
+     * The weight of reclaiming all the deleted documents of the merged segments, in removed segments.
+     */
+    static final double DELETES_WEIGHT = 10;
+
+    /**
+     * The wait after which the priority of a waiting merge has doubled.
+     */
+    static final long AGING_MILLIS = TimeValue.timeValueMinutes(1).millis();
+
+    /**
+     * The interval at which waiting merges check whether they were aborted.
+     */
+    static final long POLL_MILLIS = 100;
+
+    private static final long SEARCH_RATE_SAMPLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double SEARCH_RATE_SMOOTHING = 0.5;
+
+    private final LongSupplier nanoTime;
+    private volatile int maxConcurrentMerges;
+    private volatile long maxBytesPerSec;
+
+    // guarded by this
+    private final List<Waiter> waiting = new ArrayList<>();
+    private int running;
+    private double availableBytes;
+    private long lastRefillNanos;
+
+    public NodeMergeScheduler(Settings settings, ClusterSettings clusterSettings) {
+        this(settings, clusterSettings, System::nanoTime);
+    }
+
+    NodeMergeScheduler(Settings settings, ClusterSettings clusterSettings, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.maxConcurrentMerges = MAX_CONCURRENT_MERGES_SETTING.get(settings);
+        this.maxBytesPerSec = MAX_BYTES_PER_SEC_SETTING.get(settings).getBytes();
+        this.lastRefillNanos = nanoTime.getAsLong();
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_MERGES_SETTING, this::setMaxConcurrentMerges);
+        clusterSettings.addSettingsUpdateConsumer(MAX_BYTES_PER_SEC_SETTING, value -> setMaxBytesPerSec(value.getBytes()));
+    }
+
+    private synchronized void setMaxConcurrentMerges(int maxConcurrentMerges) {
+        this.maxConcurrentMerges = maxConcurrentMerges;
+        notifyAll();
+    }
+
+    private synchronized void setMaxBytesPerSec(long maxBytesPerSec) {
+        this.maxBytesPerSec = maxBytesPerSec;
+        this.availableBytes = 0;
+        notifyAll();
+    }
+
+    /**
+     * Returns the queue through which the merges of the given shard go.
+     *
+     * @param queryCount the number of queries the shard executed so far, to follow its search rate
+     */
+    public ShardQueue newShardQueue(ShardId shardId, LongSupplier queryCount) {
+        return new ShardQueue(shardId, queryCount);
+    }
+
+    /**
+     * Returns the number of merges of the node that are waiting for a merge slot.
+     */
+    public synchronized int queued() {
+        return waiting.size();
+    }
+
+    /**
+     * Returns the number of merges of the node that hold a merge slot.
+     */
+    public synchronized int running() {
+        return running;
+    }
+
+    /**
+     * Waits until the given merge may run and takes a merge slot for it. Returns right away, without slot, if the merge is aborted
+     * or the waiting thread is interrupted, so that the merge fails the way it would have without the scheduler.
+     *
+     * @return the slot of the merge, to release once the merge is done
+     */
+    Releasable acquire(ShardQueue shard, int numSegments, double deletesRatio, long mergeBytes, BooleanSupplier aborted) {
+        final Waiter waiter = new Waiter(shard, numSegments, deletesRatio, mergeBytes, nanoTime.getAsLong());
+        boolean granted = false;
+        boolean interrupted = false;
+        synchronized (this) {
+            waiting.add(waiter);
+            shard.queued++;
+            try {
+                while (aborted.getAsBoolean() == false) {
+                    final long nowNanos = nanoTime.getAsLong();
+                    long waitMillis = POLL_MILLIS;
+                    if (running < maxConcurrentMerges && highestPriority(nowNanos) == waiter) {
+                        final long budgetWaitNanos = budgetWaitNanos(nowNanos);
+                        if (budgetWaitNanos == 0) {
+                            if (maxBytesPerSec > 0) {
+                                availableBytes -= mergeBytes;
+                            }
+                            running++;
+                            granted = true;
+                            break;
+                        }
+                        waitMillis = Math.max(1, Math.min(POLL_MILLIS, TimeUnit.NANOSECONDS.toMillis(budgetWaitNanos)));
+                    }
+                    try {
+                        wait(waitMillis);
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                        break;
+                    }
+                }
+            } finally {
+                waiting.remove(waiter);
+                shard.queued--;
+                shard.totalQueuedNanos += nanoTime.getAsLong() - waiter.enqueuedNanos;
+                // the next merge in line may be able to go
+                notifyAll();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return granted ? this::release : () -> {};
+    }
+
+    private synchronized void release() {
+        assert running > 0 : "released more merge slots than were acquired";
+        running--;
+        notifyAll();
+    }
+
+    private Waiter highestPriority(long nowNanos) {
+        assert Thread.holdsLock(this);
+        Waiter best = null;
+        double bestPriority = Double.NEGATIVE_INFINITY;
+        for (Waiter waiter : waiting) {
+            final double priority = priority(
+                waiter.numSegments,
+                waiter.deletesRatio,
+                waiter.mergeBytes,
+                waiter.shard.searchRate(nowNanos),
+                TimeUnit.NANOSECONDS.toMillis(nowNanos - waiter.enqueuedNanos)
+            );
+            if (priority > bestPriority) {
+                best = waiter;
+                bestPriority = priority;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns how long the next merge has to wait for the write budget to be paid back, or {@code 0} if it can start.
+     */
+    private long budgetWaitNanos(long nowNanos) {
+        assert Thread.holdsLock(this);
+        final long bytesPerSec = maxBytesPerSec;
+        if (bytesPerSec <= 0) {
+            return 0;
+        }
+        // at most one second worth of budget is saved up while there is nothing to merge
+        availableBytes = Math.min(bytesPerSec, availableBytes + (nowNanos - lastRefillNanos) * (double) bytesPerSec / 1_000_000_000L);
+        lastRefillNanos = nowNanos;
+        return availableBytes >= 0 ? 0 : (long) (-availableBytes * 1_000_000_000L / bytesPerSec);
+    }
+
+    /**
+     * Returns the priority of a waiting merge: the segments it removes, weighed by the search rate of the shard, and the share of
+     * deleted documents it reclaims, per MB of merge I/O, doubled for every {@link #AGING_MILLIS} of wait, up to 64 times.
+     *
+     * @param searchRate the number of queries per second of the shard
+     */
+    static double priority(int numSegments, double deletesRatio, long mergeBytes, double searchRate, long waitedMillis) {
+        final double benefit = (numSegments - 1) * (1 + searchRate) + DELETES_WEIGHT * deletesRatio;
+        final double mergeMB = Math.max(1d, mergeBytes / (1024d * 1024d));
+        // capped so that the priority stays finite, and zero times the aging factor stays zero
+        final double doublings = Math.min(64, (double) waitedMillis / AGING_MILLIS);
+        return benefit / mergeMB * Math.pow(2, doublings);
+    }
+
+    /**
+     * The queue of the merges of a shard, with the queue statistics of the shard.
+     *
+     * @opensearch.internal
+     */
+    public final class ShardQueue {
+
+        private final ShardId shardId;
+        private final LongSupplier queryCount;
+
+        // guarded by the scheduler, volatile for the stats
+        private volatile int queued;
+        private volatile long totalQueuedNanos;
+        private long lastQueryCount;
+        private long lastSampleNanos;
+        private double searchRate;
+
+        private ShardQueue(ShardId shardId, LongSupplier queryCount) {
+            this.shardId = shardId;
+            this.queryCount = queryCount;
+            this.lastQueryCount = queryCount.getAsLong();
+            this.lastSampleNanos = nanoTime.getAsLong();
+        }
+
+        /**
+         * Waits until the given merge of the shard may run, see {@link NodeMergeScheduler}.
+         *
+         * @return the slot of the merge, to release once the merge is done
+         */
+        public Releasable acquire(MergePolicy.OneMerge merge) {
+            if (merge.getStoreMergeInfo().mergeMaxNumSegments != -1) {
+                // force merge
+                return () -> {};
+            }
+            long maxDoc = 0;
+            long deletedDocs = 0;
+            for (SegmentCommitInfo segment : merge.segments) {
+                maxDoc += segment.info.maxDoc();
+                deletedDocs += segment.getDelCount() + segment.getSoftDelCount();
+            }
+            final double deletesRatio = maxDoc == 0 ? 0 : (double) deletedDocs / maxDoc;
+            return NodeMergeScheduler.this.acquire(this, merge.segments.size(), deletesRatio, merge.totalBytesSize(), merge::isAborted);
+        }
+
+        private double searchRate(long nowNanos) {
+            final long elapsedNanos = nowNanos - lastSampleNanos;
+            if (elapsedNanos >= SEARCH_RATE_SAMPLE_NANOS) {
+                final long count = queryCount.getAsLong();
+                final double rate = (count - lastQueryCount) * 1_000_000_000d / elapsedNanos;
+                searchRate = SEARCH_RATE_SMOOTHING * rate + (1 - SEARCH_RATE_SMOOTHING) * searchRate;
+                lastQueryCount = count;
+                lastSampleNanos = nowNanos;
+            }
+            return searchRate;
+        }
+
+        /**
+         * Returns the number of merges of the shard that are waiting for a merge slot.
+         */
+        public int queued() {
+            return queued;
+        }
+
+        /**
+         * Returns the total time the merges of the shard waited for a merge slot.
+         */
+        public long totalQueuedTimeInMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalQueuedNanos);
+        }
+
+        @Override
+        public String toString() {
+            return "merge queue of " + shardId;
+        }
+    }
+
+    /**
+     * A merge that waits for a merge slot.
+     *
+     * @opensearch.internal
+     */
+    private static final class Waiter {
+        private final ShardQueue shard;
+        private final int numSegments;
+        private final double deletesRatio;
+        private final long mergeBytes;
+        private final long enqueuedNanos;
+
+        Waiter(ShardQueue shard, int numSegments, double deletesRatio, long mergeBytes, long enqueuedNanos) {
+            this.shard = shard;
+            this.numSegments = numSegments;
+            this.deletesRatio = deletesRatio;
+            this.mergeBytes = mergeBytes;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
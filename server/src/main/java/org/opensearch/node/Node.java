@@ -182,6 +182,7 @@ import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheSettings;
 import org.opensearch.index.store.remote.filecache.NodeCacheService;
 import org.opensearch.index.store.remote.filecache.NodeCacheServiceCleaner;
+import org.opensearch.index.translog.TranslogGroupCommitService;
 import org.opensearch.indices.IndicesModule;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.RemoteStoreSettings;
@@ -1292,6 +1293,12 @@ public class Node implements Closeable {
                 .findFirst()
                 .ifPresent(supplier -> monitorService.memoryReportingService().setNativeStatsSupplier(supplier));
 
+            if (TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_ENABLED_SETTING.get(settings)) {
+                indicesService.setTranslogGroupCommitService(
+                    new TranslogGroupCommitService(settings, clusterService.getClusterSettings(), threadPool, metricsRegistry)
+                );
+            }
+
             List<SearchStatsContributor> searchStatsContributors = pluginsService.filterPlugins(SearchStatsContributor.class);
             if (searchStatsContributors.isEmpty() == false) {
                 indicesService.setSearchStatsContributors(searchStatsContributors);
@@ -1534,11 +1541,12 @@ public class Node implements Closeable {
             final GatewayMetaState gatewayMetaState = new GatewayMetaState();
             final ResponseCollectorService responseCollectorService = new ResponseCollectorService(clusterService);
             final SearchTransportService searchTransportService = new SearchTransportService(
+                settings,
                 transportService,
                 SearchExecutionStatsCollector.makeWrapper(responseCollectorService)
             );
             final Optional<StreamSearchTransportService> streamSearchTransportService = streamTransportService.map(
-                stc -> new StreamSearchTransportService(stc, SearchExecutionStatsCollector.makeWrapper(responseCollectorService))
+                stc -> new StreamSearchTransportService(settings, stc, SearchExecutionStatsCollector.makeWrapper(responseCollectorService))
             );
             final HttpServerTransport httpServerTransport = newHttpTransport(networkModule);
 
@@ -155,6 +155,7 @@ import org.opensearch.search.suggest.Suggest;
 import org.opensearch.search.suggest.completion.CompletionSuggestion;
 import org.opensearch.tasks.TaskResourceTrackingService;
 import org.opensearch.threadpool.Scheduler.Cancellable;
+import org.opensearch.threadpool.SliceScheduler;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.threadpool.ThreadPool.Names;
 import org.opensearch.transport.TransportRequest;
@@ -786,6 +787,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         context.getQueryShardContext().freezeContext();
         if (canCache) {
             indicesService.loadIntoContext(request, context, queryPhase);
+        } else if (indicesService.canCacheTopDocs(request, context)) {
+            indicesService.loadTopDocsIntoContext(request, context, queryPhase);
         } else {
             queryPhase.execute(context);
         }
@@ -1385,7 +1388,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 lowLevelCancellation,
                 clusterService.state().nodes().getMinNodeVersion(),
                 validate,
-                indexSearcherExecutor,
+                searchContextExecutor(),
                 this::aggReduceContextBuilder,
                 concurrentSearchDeciderFactories,
                 isStreamSearch
@@ -1417,6 +1420,18 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         return searchContext;
     }
 
+    /**
+     * Returns the executor concurrent segment search slices of a new search context are submitted to. When the node schedules
+     * slices cooperatively, each context gets its own budgeted view of the {@link Names#INDEX_SEARCHER} pool.
+     */
+    private Executor searchContextExecutor() {
+        final SliceScheduler sliceScheduler = threadPool.sliceScheduler();
+        if (sliceScheduler != null && sliceScheduler.schedules(indexSearcherExecutor)) {
+            return sliceScheduler.newRequestExecutor();
+        }
+        return indexSearcherExecutor;
+    }
+
     private void freeAllContextForIndex(Index index) {
         assert index != null;
         for (ReaderContext ctx : activeReaders.values()) {
@@ -1592,7 +1607,12 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             query = QueryRewriterRegistry.INSTANCE.rewrite(query, queryShardContext);
 
             InnerHitContextBuilder.extractInnerHits(query, innerHitBuilders);
-            context.parsedQuery(queryShardContext.toQuery(query));
+            if (source.getDerivedFields() == null && source.getDerivedFieldsObject() == null) {
+                context.parsedQuery(indicesService.toQuery(context, query));
+            } else {
+                // fields derived by the request may shadow the fields of the mappings
+                context.parsedQuery(queryShardContext.toQuery(query));
+            }
         }
         if (source.postFilter() != null) {
             InnerHitContextBuilder.extractInnerHits(source.postFilter(), innerHitBuilders);
@@ -33,8 +33,11 @@ package org.opensearch.search.aggregations;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
@@ -74,6 +77,7 @@ public abstract class AggregatorBase extends Aggregator {
     private final CircuitBreakerService breakerService;
     private long requestBytesUsed;
     protected LeafCollectionMode leafCollectorMode = LeafCollectionMode.NORMAL;
+    private Weight queryWeight;
 
     /**
      * Constructs a new Aggregator.
@@ -136,8 +140,9 @@ public abstract class AggregatorBase extends Aggregator {
 
     /**
      * Returns a converter for point values if it's safe to use the indexed data instead of
-     * doc values.  Generally, this means that the query has no filters or scripts, the aggregation is
-     * top level, and the underlying field is indexed, and the index is sorted in the right order.
+     * doc values.  Generally, this means that the aggregation is top level, has no scripts and
+     * the underlying field is indexed. Since the query may filter out documents, callers must
+     * also check {@link #queryMatchesAllDocs(LeafReaderContext)} for every segment.
      * <p>
      * If those conditions aren't met, return <code>null</code> to indicate a point reader cannot
      * be used in this case.
@@ -145,15 +150,33 @@ public abstract class AggregatorBase extends Aggregator {
      * @param config The config for the values source metric.
      */
     public final Function<byte[], Number> pointReaderIfAvailable(ValuesSourceConfig config) {
-        if (context.query() != null && context.query().getClass() != MatchAllDocsQuery.class) {
-            return null;
-        }
-        if (parent != null) {
+        if (parent != null || context.minimumScore() != null) {
             return null;
         }
         return config.getPointReaderOrNull();
     }
 
+    /**
+     * Returns whether the query matches all live documents of the given segment, in which case the results of a top level
+     * aggregation may be computed from the statistics of the segment. This is typically the case of a range filter whose bounds
+     * contain all the values of the segment, which Lucene can count without visiting documents, see {@link Weight#count}.
+     */
+    protected final boolean queryMatchesAllDocs(LeafReaderContext ctx) throws IOException {
+        final Query query = context.query();
+        if (query == null || query.getClass() == MatchAllDocsQuery.class) {
+            return true;
+        }
+        if (context.getProfilers() != null) {
+            // the weight would show up in the profiled query tree
+            return false;
+        }
+        if (queryWeight == null) {
+            final IndexSearcher searcher = context.searcher();
+            queryWeight = searcher.createWeight(searcher.rewrite(query), ScoreMode.COMPLETE_NO_SCORES, 1f);
+        }
+        return queryWeight.count(ctx) == ctx.reader().numDocs();
+    }
+
     /**
      * Increment or decrement the number of bytes that have been allocated to service
      * this request and potentially trigger a {@link CircuitBreakingException}. The
@@ -111,7 +111,7 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
             return false;
         }
 
-        if (pointConverter != null) {
+        if (pointConverter != null && queryMatchesAllDocs(ctx)) {
             Number segMax = findLeafMaxValue(ctx.reader(), pointField, pointConverter);
             if (segMax != null) {
                 /*
@@ -111,7 +111,7 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
             return false;
         }
 
-        if (pointConverter != null) {
+        if (pointConverter != null && queryMatchesAllDocs(ctx)) {
             Number segMin = findLeafMinValue(ctx.reader(), pointField, pointConverter);
             if (segMin != null) {
                 /*
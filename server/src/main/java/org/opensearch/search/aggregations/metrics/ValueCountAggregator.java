@@ -32,6 +32,7 @@
 package org.opensearch.search.aggregations.metrics;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.lease.Releasables;
@@ -68,6 +69,7 @@ import static org.opensearch.search.startree.StarTreeQueryHelper.getSupportedSta
 public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue implements StarTreePreComputeCollector {
 
     final ValuesSource valuesSource;
+    final String pointField;
 
     // a count per bucket
     LongArray counts;
@@ -85,10 +87,28 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue i
         if (valuesSource != null) {
             counts = context.bigArrays().newLongArray(1, true);
         }
+        if (valuesSource instanceof ValuesSource.Numeric && pointReaderIfAvailable(valuesSourceConfig) != null) {
+            pointField = valuesSourceConfig.fieldContext().field();
+        } else {
+            pointField = null;
+        }
     }
 
     @Override
     protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
+        if (pointField != null && ctx.reader().hasDeletions() == false && queryMatchesAllDocs(ctx)) {
+            // every value of the field is indexed as a point, but the point count includes the values of deleted documents
+            final PointValues pointValues = ctx.reader().getPointValues(pointField);
+            if (pointValues != null) {
+                // there is no parent aggregator, see AggregatorBase#pointReaderIfAvailable
+                counts.increment(0, pointValues.size());
+                return true;
+            }
+            if (ctx.reader().getFieldInfos().fieldInfo(pointField) == null) {
+                // no document of this segment has a value for the field
+                return true;
+            }
+        }
         if (valuesSource instanceof ValuesSource.Numeric) {
             CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
             if (supportedStarTree != null) {
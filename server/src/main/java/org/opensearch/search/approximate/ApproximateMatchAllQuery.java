@@ -22,13 +22,18 @@ import java.util.Objects;
  * Replaces match-all query with a less expensive query if possible.
  * <p>
  * Currently, will rewrite to a bounded range query over the high/low end of a field if a primary sort is specified
- * on that field.
+ * on that field, which also applies the filters the match-all query is intersected with.
  */
 public class ApproximateMatchAllQuery extends ApproximateQuery {
     private ApproximateQuery approximation = null;
 
     @Override
     protected boolean canApproximate(SearchContext context) {
+        return canApproximate(context, null);
+    }
+
+    @Override
+    protected boolean canApproximate(SearchContext context, Query filter) {
         approximation = null;
         if (context == null) {
             return false;
@@ -42,9 +47,6 @@ public class ApproximateMatchAllQuery extends ApproximateQuery {
         }
 
         if (context.request() != null && context.request().source() != null && context.innerHits().getInnerHits().isEmpty()) {
-            if (context.request().source().sorts() != null && context.request().source().sorts().size() > 1) {
-                return false;
-            }
             FieldSortBuilder primarySortField = FieldSortBuilder.getPrimaryFieldSortOrNull(context.request().source());
             if (primarySortField != null
                 && primarySortField.missing() == null
@@ -56,7 +58,7 @@ public class ApproximateMatchAllQuery extends ApproximateQuery {
                 }
                 Query rangeQuery = mappedFieldType.rangeQuery(null, null, false, false, null, null, null, context.getQueryShardContext());
                 if (rangeQuery instanceof ApproximateScoreQuery approximateScoreQuery) {
-                    approximateScoreQuery.setContext(context);
+                    approximateScoreQuery.setContext(context, filter);
                     if (approximateScoreQuery.resolvedQuery instanceof ApproximateQuery) {
                         approximation = (ApproximateQuery) approximateScoreQuery.resolvedQuery;
                         return true;
@@ -29,7 +29,9 @@ import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.DocIdSetBuilder;
+import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.IntsRef;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumericPointEncoder;
@@ -38,6 +40,7 @@ import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.SortOrder;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -55,6 +58,13 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
 
     private int size;
     private SortOrder sortOrder;
+    // whether the docs that tie with the last collected doc on this field must be collected too, because other sorts break the tie
+    private boolean collectTies;
+    // the search_after value when it is an inclusive bound, its docs are collected without counting towards size since the
+    // ones that come before the search_after doc are dropped by the collector
+    private byte[] searchAfterPoint;
+    // filters that the approximation must apply while traversing the BKD tree, see #canApproximate(SearchContext, Query)
+    private Query filter;
     public PointRangeQuery pointRangeQuery;
     private final Function<byte[], String> valueToString;
 
@@ -119,6 +129,9 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
         final ArrayUtil.ByteArrayComparator comparator = ArrayUtil.getUnsignedComparator(pointRangeQuery.getBytesPerDim());
 
         Weight pointRangeQueryWeight = pointRangeQuery.createWeight(searcher, scoreMode, boost);
+        final Weight filterWeight = filter == null
+            ? null
+            : searcher.createWeight(searcher.rewrite(filter), ScoreMode.COMPLETE_NO_SCORES, 1f);
 
         return new ConstantScoreWeight(this, boost) {
 
@@ -161,7 +174,7 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                 }
             }
 
-            public PointValues.IntersectVisitor getIntersectVisitor(DocIdSetBuilder result, long[] docCount) {
+            public PointValues.IntersectVisitor getIntersectVisitor(DocIdSetBuilder result, long[] docCount, Bits filterBits) {
                 return new PointValues.IntersectVisitor() {
 
                     DocIdSetBuilder.BulkAdder adder;
@@ -173,33 +186,60 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
 
                     @Override
                     public void visit(int docID) {
+                        visit(docID, true);
+                    }
+
+                    private void visit(int docID, boolean count) {
+                        if (filterBits != null && filterBits.get(docID) == false) {
+                            return;
+                        }
                         // it is possible that size < 1024 and docCount < size but we will continue to count through all the 1024 docs
                         adder.add(docID);
-                        docCount[0]++;
+                        if (count) {
+                            docCount[0]++;
+                        }
                     }
 
                     @Override
                     public void visit(DocIdSetIterator iterator) throws IOException {
-                        adder.add(iterator);
+                        if (filterBits == null) {
+                            adder.add(iterator);
+                        } else {
+                            for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                                visit(doc);
+                            }
+                        }
                     }
 
                     @Override
                     public void visit(IntsRef ref) {
-                        adder.add(ref);
-                        docCount[0] += ref.length;
+                        if (filterBits == null) {
+                            adder.add(ref);
+                            docCount[0] += ref.length;
+                        } else {
+                            for (int i = ref.offset; i < ref.offset + ref.length; i++) {
+                                visit(ref.ints[i]);
+                            }
+                        }
                     }
 
                     @Override
                     public void visit(int docID, byte[] packedValue) {
                         if (matches(packedValue)) {
-                            visit(docID);
+                            visit(docID, isSearchAfterPoint(packedValue) == false);
                         }
                     }
 
                     @Override
                     public void visit(DocIdSetIterator iterator, byte[] packedValue) throws IOException {
                         if (matches(packedValue)) {
-                            adder.add(iterator);
+                            if (isSearchAfterPoint(packedValue)) {
+                                for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                                    visit(doc, false);
+                                }
+                            } else {
+                                visit(iterator);
+                            }
                         }
                     }
 
@@ -210,6 +250,17 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                 };
             }
 
+            private boolean isSearchAfterPoint(byte[] packedValue) {
+                return searchAfterPoint != null && comparator.compare(packedValue, 0, searchAfterPoint, 0) == 0;
+            }
+
+            // whether the leaf may hold docs with the search_after value, which must be visited with their values to not count them
+            private boolean mayHoldSearchAfterPoint(PointValues.PointTree pointTree) {
+                return searchAfterPoint != null
+                    && comparator.compare(pointTree.getMinPackedValue(), 0, searchAfterPoint, 0) <= 0
+                    && comparator.compare(pointTree.getMaxPackedValue(), 0, searchAfterPoint, 0) >= 0;
+            }
+
             // we pull this from PointRangeQuery since it is final
             private boolean checkValidPointValues(PointValues values) throws IOException {
                 if (values == null) {
@@ -242,20 +293,68 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
 
             private void intersectLeft(PointValues.PointTree pointTree, PointValues.IntersectVisitor visitor, long[] docCount)
                 throws IOException {
-                intersectLeft(visitor, pointTree, docCount);
+                // the largest value of the leaves visited before size docs were collected
+                byte[] boundary = new byte[pointRangeQuery.getBytesPerDim()];
+                intersectLeft(visitor, pointTree, docCount, boundary);
                 assert pointTree.moveToParent() == false;
             }
 
             private void intersectRight(PointValues.PointTree pointTree, PointValues.IntersectVisitor visitor, long[] docCount)
                 throws IOException {
-                intersectRight(visitor, pointTree, docCount);
+                // the smallest value of the leaves visited before size docs were collected
+                byte[] boundary = new byte[pointRangeQuery.getBytesPerDim()];
+                Arrays.fill(boundary, (byte) 0xFF);
+                intersectRight(visitor, pointTree, docCount, boundary);
                 assert pointTree.moveToParent() == false;
             }
 
+            // whether enough docs were collected to skip the given subtree, which holds larger values than the visited ones when walking
+            // the left of the tree and smaller values when walking the right of the tree
+            private boolean isFull(PointValues.PointTree pointTree, long[] docCount, byte[] boundary, boolean left) {
+                if (docCount[0] < size) {
+                    return false;
+                }
+                if (collectTies == false) {
+                    return true;
+                }
+                // the subtree may still hold docs that tie with the collected ones
+                if (left) {
+                    return comparator.compare(pointTree.getMinPackedValue(), 0, boundary, 0) > 0;
+                }
+                return comparator.compare(pointTree.getMaxPackedValue(), 0, boundary, 0) < 0;
+            }
+
+            private void visitLeaf(
+                PointValues.PointTree pointTree,
+                PointValues.Relation r,
+                PointValues.IntersectVisitor visitor,
+                long[] docCount,
+                byte[] boundary,
+                boolean left
+            ) throws IOException {
+                if (collectTies && docCount[0] < size) {
+                    byte[] value = left ? pointTree.getMaxPackedValue() : pointTree.getMinPackedValue();
+                    int cmp = comparator.compare(value, 0, boundary, 0);
+                    if (left ? cmp > 0 : cmp < 0) {
+                        System.arraycopy(value, 0, boundary, 0, boundary.length);
+                    }
+                }
+                if (r == PointValues.Relation.CELL_INSIDE_QUERY && mayHoldSearchAfterPoint(pointTree) == false) {
+                    pointTree.visitDocIDs(visitor);
+                } else {
+                    // CELL_CROSSES_QUERY
+                    pointTree.visitDocValues(visitor);
+                }
+            }
+
             // custom intersect visitor to walk the left of the tree
-            public void intersectLeft(PointValues.IntersectVisitor visitor, PointValues.PointTree pointTree, long[] docCount)
-                throws IOException {
-                if (docCount[0] >= size) {
+            public void intersectLeft(
+                PointValues.IntersectVisitor visitor,
+                PointValues.PointTree pointTree,
+                long[] docCount,
+                byte[] boundary
+            ) throws IOException {
+                if (isFull(pointTree, docCount, boundary, true)) {
                     return;
                 }
                 PointValues.Relation r = visitor.compare(pointTree.getMinPackedValue(), pointTree.getMaxPackedValue());
@@ -264,22 +363,17 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                 }
                 // Handle leaf nodes
                 if (pointTree.moveToChild() == false) {
-                    if (r == PointValues.Relation.CELL_INSIDE_QUERY) {
-                        pointTree.visitDocIDs(visitor);
-                    } else {
-                        // CELL_CROSSES_QUERY
-                        pointTree.visitDocValues(visitor);
-                    }
+                    visitLeaf(pointTree, r, visitor, docCount, boundary, true);
                     return;
                 }
-                // For CELL_INSIDE_QUERY, check if we can skip right child
-                if (r == PointValues.Relation.CELL_INSIDE_QUERY) {
+                // For CELL_INSIDE_QUERY, check if we can skip right child, unless it may hold ties or filters may reject docs
+                if (r == PointValues.Relation.CELL_INSIDE_QUERY && collectTies == false && filter == null) {
                     long leftSize = pointTree.size();
                     long needed = size - docCount[0];
 
                     if (leftSize >= needed) {
                         // Process only left child
-                        intersectLeft(visitor, pointTree, docCount);
+                        intersectLeft(visitor, pointTree, docCount, boundary);
                         pointTree.moveToParent();
                         return;
                     }
@@ -292,17 +386,21 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                     pointTree.moveToChild();
                 }
                 // Process both children: left first, then right if needed
-                intersectLeft(visitor, pointTree, docCount);
-                if (docCount[0] < size && rightChild != null) {
-                    intersectLeft(visitor, rightChild, docCount);
+                intersectLeft(visitor, pointTree, docCount, boundary);
+                if (rightChild != null && isFull(rightChild, docCount, boundary, true) == false) {
+                    intersectLeft(visitor, rightChild, docCount, boundary);
                 }
                 pointTree.moveToParent();
             }
 
             // custom intersect visitor to walk the right of tree (from rightmost leaf going left)
-            public void intersectRight(PointValues.IntersectVisitor visitor, PointValues.PointTree pointTree, long[] docCount)
-                throws IOException {
-                if (docCount[0] >= size) {
+            public void intersectRight(
+                PointValues.IntersectVisitor visitor,
+                PointValues.PointTree pointTree,
+                long[] docCount,
+                byte[] boundary
+            ) throws IOException {
+                if (isFull(pointTree, docCount, boundary, false)) {
                     return;
                 }
                 PointValues.Relation r = visitor.compare(pointTree.getMinPackedValue(), pointTree.getMaxPackedValue());
@@ -311,35 +409,30 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                 }
                 // Handle leaf nodes
                 if (pointTree.moveToChild() == false) {
-                    if (r == PointValues.Relation.CELL_INSIDE_QUERY) {
-                        pointTree.visitDocIDs(visitor);
-                    } else {
-                        // CELL_CROSSES_QUERY
-                        pointTree.visitDocValues(visitor);
-                    }
+                    visitLeaf(pointTree, r, visitor, docCount, boundary, false);
                     return;
                 }
                 // Internal node - get left child reference (we're at left child initially)
                 PointValues.PointTree leftChild = pointTree.clone();
                 // Move to right child if it exists
                 boolean hasRightChild = pointTree.moveToSibling();
-                // For CELL_INSIDE_QUERY, check if we can skip left child
-                if (r == PointValues.Relation.CELL_INSIDE_QUERY && hasRightChild) {
+                // For CELL_INSIDE_QUERY, check if we can skip left child, unless it may hold ties or filters may reject docs
+                if (r == PointValues.Relation.CELL_INSIDE_QUERY && hasRightChild && collectTies == false && filter == null) {
                     long rightSize = pointTree.size();
                     long needed = size - docCount[0];
                     if (rightSize >= needed) {
                         // Right child has all we need - only process right
-                        intersectRight(visitor, pointTree, docCount);
+                        intersectRight(visitor, pointTree, docCount, boundary);
                         pointTree.moveToParent();
                         return;
                     }
                 }
                 // Process both children: right first (for DESC), then left if needed
                 if (hasRightChild) {
-                    intersectRight(visitor, pointTree, docCount);
+                    intersectRight(visitor, pointTree, docCount, boundary);
                 }
-                if (docCount[0] < size) {
-                    intersectRight(visitor, leftChild, docCount);
+                if (isFull(leftChild, docCount, boundary, false) == false) {
+                    intersectRight(visitor, leftChild, docCount, boundary);
                 }
                 pointTree.moveToParent();
             }
@@ -357,11 +450,25 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                 if (size > values.size()) {
                     return pointRangeQueryWeight.scorerSupplier(context);
                 } else {
+                    // the filters only let the approximation collect size matching docs, the boolean query applies them either way
+                    final Bits filterBits;
+                    if (filterWeight != null) {
+                        Scorer filterScorer = filterWeight.scorer(context);
+                        if (filterScorer == null) {
+                            // No docs in this segment match the filters
+                            return null;
+                        }
+                        FixedBitSet bits = new FixedBitSet(reader.maxDoc());
+                        bits.or(filterScorer.iterator());
+                        filterBits = bits;
+                    } else {
+                        filterBits = null;
+                    }
                     if (sortOrder == null || sortOrder.equals(SortOrder.ASC)) {
                         return new ScorerSupplier() {
 
                             final DocIdSetBuilder result = new DocIdSetBuilder(reader.maxDoc(), values);
-                            final PointValues.IntersectVisitor visitor = getIntersectVisitor(result, docCount);
+                            final PointValues.IntersectVisitor visitor = getIntersectVisitor(result, docCount, filterBits);
                             long cost = -1;
 
                             @Override
@@ -389,7 +496,7 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                         return new ScorerSupplier() {
 
                             final DocIdSetBuilder result = new DocIdSetBuilder(reader.maxDoc(), values);
-                            final PointValues.IntersectVisitor visitor = getIntersectVisitor(result, docCount);
+                            final PointValues.IntersectVisitor visitor = getIntersectVisitor(result, docCount, filterBits);
                             long cost = -1;
 
                             @Override
@@ -432,14 +539,44 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
             Object searchAfterValue = context.request().source().searchAfter()[0];
             MappedFieldType fieldType = context.getQueryShardContext().fieldMapper(pointRangeQuery.getField());
             if (fieldType instanceof NumericPointEncoder encoder) {
-                return encoder.encodePoint(searchAfterValue, isLowerBound);
+                // docs that have the search_after value may still come after it when other sorts break ties, so the bound is the value
+                // itself, inclusive, to keep them; otherwise it is the value right after it
+                byte[] bound = collectTies
+                    ? encoder.encodeExactPoint(searchAfterValue)
+                    : encoder.encodePoint(searchAfterValue, isLowerBound);
+                // the search_after value may be outside the range
+                int cmp = Arrays.compareUnsigned(bound, originalBound);
+                if (isLowerBound == (cmp > 0)) {
+                    if (collectTies) {
+                        searchAfterPoint = bound;
+                    }
+                    return bound;
+                }
+                return originalBound;
             }
         }
         return originalBound;
     }
 
+    /**
+     * Like {@link #canApproximate(SearchContext)}, when the query is intersected with the given filters, which the approximation
+     * then applies while traversing the BKD tree so that it still collects {@code size} matching docs. The filters must be exact,
+     * an approximated filter would reject docs that match it.
+     */
+    @Override
+    protected boolean canApproximate(SearchContext context, Query filter) {
+        if (canApproximate(context) == false) {
+            return false;
+        }
+        this.filter = filter;
+        return true;
+    }
+
     @Override
     public boolean canApproximate(SearchContext context) {
+        collectTies = false;
+        searchAfterPoint = null;
+        filter = null;
         if (context == null) {
             return false;
         }
@@ -461,10 +598,14 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
             this.setSize(Math.max(context.from() + context.size(), context.trackTotalHitsUpTo()) + 1);
         }
         if (context.request() != null && context.request().source() != null) {
+            FieldSortBuilder primarySortField = FieldSortBuilder.getPrimaryFieldSortOrNull(context.request().source());
             if (context.request().source().sorts() != null && context.request().source().sorts().size() > 1) {
-                return false;
+                if (primarySortField == null) {
+                    return false;
+                }
+                // the docs are collected in the order of the primary sort, the other sorts only break its ties
+                collectTies = true;
             }
-            FieldSortBuilder primarySortField = FieldSortBuilder.getPrimaryFieldSortOrNull(context.request().source());
             if (primarySortField != null) {
                 if (!primarySortField.fieldName().equals(pointRangeQuery.getField())) {
                     return false;
@@ -484,6 +625,10 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                         lower = pointRangeQuery.getLowerPoint();
                         upper = computeEffectiveBound(context, false);
                     }
+                    if (Arrays.compareUnsigned(lower, upper) > 0) {
+                        // the search_after value is past the end of the range, this is handled by the original query
+                        return false;
+                    }
                     this.pointRangeQuery = new PointRangeQuery(pointRangeQuery.getField(), lower, upper, pointRangeQuery.getNumDims()) {
                         @Override
                         protected String toString(int dimension, byte[] value) {
@@ -18,4 +18,13 @@ public abstract class ApproximateQuery extends Query {
 
     protected abstract boolean canApproximate(SearchContext context);
 
+    /**
+     * Whether this query can be approximated when it is intersected with the given filters, which may be {@code null}. Approximations
+     * that only collect a limited number of docs must apply the filters themselves, so queries that can't do it are only approximated
+     * without filters.
+     */
+    protected boolean canApproximate(SearchContext context, Query filter) {
+        return filter == null && canApproximate(context);
+    }
+
 }
@@ -56,8 +56,15 @@ public final class ApproximateScoreQuery extends Query {
     }
 
     public void setContext(SearchContext context) {
-        resolvedQuery = approximationQuery.canApproximate(context) ? approximationQuery : originalQuery;
-    };
+        setContext(context, null);
+    }
+
+    /**
+     * Resolves the query to execute when it is intersected with the given filters, see {@link ApproximateQuery#canApproximate}.
+     */
+    public void setContext(SearchContext context, Query filter) {
+        resolvedQuery = approximationQuery.canApproximate(context, filter) ? approximationQuery : originalQuery;
+    }
 
     @Override
     public String toString(String s) {
@@ -181,6 +181,13 @@ public class FetchContext {
         return searchContext.highlight();
     }
 
+    /**
+     * Whether the search request is profiled
+     */
+    public boolean profile() {
+        return searchContext.getProfilers() != null;
+    }
+
     /**
      * Should the response include scores, even if scores were not calculated in the original query
      */
@@ -55,6 +55,7 @@ import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.fieldvisitor.CustomFieldsVisitor;
 import org.opensearch.index.fieldvisitor.FieldsVisitor;
 import org.opensearch.index.mapper.DocumentMapper;
@@ -90,6 +91,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -159,6 +161,12 @@ public class FetchPhase {
 
         SearchHit[] hits = new SearchHit[context.docIdsToLoadSize()];
 
+        if (useConcurrentFetch(context, docs)) {
+            fetchConcurrently(context, docs, hits, fieldsVisitor, fetchContext, storedToRequestedFields, breakdown, profileDescription);
+            finishFetch(context, hits, fetchProfiler, profileDescription);
+            return;
+        }
+
         List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = profile(
             breakdown,
             FetchTimingType.BUILD_SUB_PHASE_PROCESSORS,
@@ -219,11 +227,13 @@ public class FetchPhase {
                     } else {
                         fieldReader = currentReaderContext.reader().storedFields()::document;
                     }
+                    int[] leafDocIds = leafDocIds(docs, index, currentReaderContext);
                     for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
                         FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
                         LeafReaderContext readerCtx = currentReaderContext;
                         profile(pbd, FetchTimingType.SET_NEXT_READER, () -> {
                             p.v1().setNextReader(readerCtx);
+                            p.v1().prefetch(leafDocIds);
                             return null;
                         });
                     }
@@ -252,6 +262,17 @@ public class FetchPhase {
                 throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
             }
         }
+        collectDebugInfo(processorProfiles);
+        finishFetch(context, hits, fetchProfiler, profileDescription);
+    }
+
+    private static void collectDebugInfo(Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles) {
+        for (Map.Entry<FetchSubPhaseProcessor, FetchProfileBreakdown> entry : processorProfiles.entrySet()) {
+            entry.getKey().collectDebugInfo(entry.getValue()::addDebugInfo);
+        }
+    }
+
+    private static void finishFetch(SearchContext context, SearchHit[] hits, FetchProfiler fetchProfiler, String profileDescription) {
         if (context.isCancelled()) {
             throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
         }
@@ -264,6 +285,208 @@ public class FetchPhase {
         }
     }
 
+    /**
+     * Whether the hits can be fetched one segment per task. Scrolls cache their sequential stored fields readers on the scroll
+     * context, and inner hits run a nested fetch phase per hit, so both stay on the sequential path.
+     */
+    static boolean useConcurrentFetch(SearchContext context, DocIdToIndex[] docs) {
+        if (context.indexShard() == null || context.scrollContext() != null || context.innerHits().getInnerHits().isEmpty() == false) {
+            return false;
+        }
+        final IndexSettings indexSettings = context.indexShard().indexSettings();
+        if (indexSettings.getValue(IndexSettings.INDEX_CONCURRENT_FETCH_ENABLED) == false
+            || docs.length < indexSettings.getValue(IndexSettings.INDEX_CONCURRENT_FETCH_MIN_HITS)) {
+            return false;
+        }
+        final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        // docs are sorted, so they span more than one segment iff the first and the last one are in different segments
+        return ReaderUtil.subIndex(docs[0].docId, leaves) != ReaderUtil.subIndex(docs[docs.length - 1].docId, leaves);
+    }
+
+    /**
+     * Fetches the hits of every segment in its own task on the searcher's executor. Stored fields visitors, search lookups and sub
+     * phase processors keep per document state, so every task gets its own. Tasks write to distinct slots of {@code hits}, which
+     * preserves the order of the hits as they were requested.
+     */
+    private void fetchConcurrently(
+        SearchContext context,
+        DocIdToIndex[] docs,
+        SearchHit[] hits,
+        FieldsVisitor fieldsVisitor,
+        FetchContext fetchContext,
+        Map<String, Set<String>> storedToRequestedFields,
+        FetchProfileBreakdown breakdown,
+        String profileDescription
+    ) {
+        final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        int from = 0;
+        while (from < docs.length) {
+            final int readerIndex = ReaderUtil.subIndex(docs[from].docId, leaves);
+            final LeafReaderContext leaf = profile(breakdown, FetchTimingType.GET_NEXT_READER, () -> leaves.get(readerIndex));
+            final int leafEnd = leaf.docBase + leaf.reader().maxDoc();
+            int to = from + 1;
+            while (to < docs.length && docs[to].docId < leafEnd) {
+                to++;
+            }
+            final FieldsVisitor partitionFieldsVisitor;
+            final FetchContext partitionFetchContext;
+            if (tasks.isEmpty()) {
+                partitionFieldsVisitor = fieldsVisitor;
+                partitionFetchContext = fetchContext;
+            } else {
+                // the requested fields are the same for every visitor, the first one already collected them
+                partitionFieldsVisitor = profile(
+                    breakdown,
+                    FetchTimingType.CREATE_STORED_FIELDS_VISITOR,
+                    () -> createStoredFieldsVisitor(context, new HashMap<>())
+                );
+                partitionFetchContext = new FetchContext(context);
+            }
+            final List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = profile(
+                breakdown,
+                FetchTimingType.BUILD_SUB_PHASE_PROCESSORS,
+                () -> getProcessors(context.shardTarget(), partitionFetchContext)
+            );
+            tasks.add(
+                new FetchPartition(
+                    context,
+                    docs,
+                    from,
+                    to,
+                    hits,
+                    leaf,
+                    partitionFieldsVisitor,
+                    partitionFetchContext,
+                    processors,
+                    storedToRequestedFields,
+                    profileDescription
+                )
+            );
+            from = to;
+        }
+        try {
+            context.searcher().getTaskExecutor().invokeAll(tasks);
+        } catch (IOException e) {
+            throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase", e);
+        }
+    }
+
+    /**
+     * Fetches the hits of a single segment.
+     */
+    private final class FetchPartition implements Callable<Void> {
+        private final SearchContext context;
+        private final DocIdToIndex[] docs;
+        private final int from;
+        private final int to;
+        private final SearchHit[] hits;
+        private final LeafReaderContext leaf;
+        private final FieldsVisitor fieldsVisitor;
+        private final FetchContext fetchContext;
+        private final List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors;
+        private final Map<String, Set<String>> storedToRequestedFields;
+        private final String profileDescription;
+
+        FetchPartition(
+            SearchContext context,
+            DocIdToIndex[] docs,
+            int from,
+            int to,
+            SearchHit[] hits,
+            LeafReaderContext leaf,
+            FieldsVisitor fieldsVisitor,
+            FetchContext fetchContext,
+            List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors,
+            Map<String, Set<String>> storedToRequestedFields,
+            String profileDescription
+        ) {
+            this.context = context;
+            this.docs = docs;
+            this.from = from;
+            this.to = to;
+            this.hits = hits;
+            this.leaf = leaf;
+            this.fieldsVisitor = fieldsVisitor;
+            this.fetchContext = fetchContext;
+            this.processors = processors;
+            this.storedToRequestedFields = storedToRequestedFields;
+            this.profileDescription = profileDescription;
+        }
+
+        @Override
+        public Void call() throws IOException {
+            // like concurrent search slices, the work done on every thread is profiled under its own fetch phase node
+            final FetchProfiler fetchProfiler = context.getProfilers() != null ? context.getProfilers().getFetchProfiler() : null;
+            final FetchProfileBreakdown breakdown = fetchProfiler != null ? fetchProfiler.startFetchPhase(profileDescription) : null;
+            try {
+                final Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles = new HashMap<>();
+                if (fetchProfiler != null) {
+                    for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+                        if (p.v2() instanceof InnerHitsPhase == false) {
+                            String subPhase = p.v2().getClass().getSimpleName();
+                            processorProfiles.put(p.v1(), fetchProfiler.startSubPhase(subPhase, profileDescription));
+                        }
+                    }
+                }
+                final CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader;
+                if (leaf.reader() instanceof SequentialStoredFieldsLeafReader lf
+                    && to - from >= 10
+                    && docs[to - 1].docId - docs[from].docId == to - from - 1) {
+                    // same trick as the sequential fetch, see there
+                    fieldReader = lf.getSequentialStoredFieldsReader()::document;
+                } else {
+                    fieldReader = leaf.reader().storedFields()::document;
+                }
+                final int[] leafDocIds = leafDocIds(docs, from, leaf);
+                for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+                    profile(processorProfiles.get(p.v1()), FetchTimingType.SET_NEXT_READER, () -> {
+                        p.v1().setNextReader(leaf);
+                        p.v1().prefetch(leafDocIds);
+                        return null;
+                    });
+                }
+                for (int index = from; index < to; index++) {
+                    if (context.isCancelled()) {
+                        throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+                    }
+                    final int docId = docs[index].docId;
+                    try {
+                        final HitContext hit = prepareHitContext(
+                            context,
+                            fetchContext.searchLookup(),
+                            fieldsVisitor,
+                            docId,
+                            storedToRequestedFields,
+                            leaf,
+                            fieldReader,
+                            breakdown
+                        );
+                        for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+                            profile(processorProfiles.get(p.v1()), FetchTimingType.PROCESS, () -> {
+                                p.v1().process(hit);
+                                return null;
+                            });
+                        }
+                        hits[docs[index].index] = hit.hit();
+                    } catch (Exception e) {
+                        throw new FetchPhaseExecutionException(
+                            context.shardTarget(),
+                            "Error running fetch phase for doc [" + docId + "]",
+                            e
+                        );
+                    }
+                }
+                collectDebugInfo(processorProfiles);
+                return null;
+            } finally {
+                if (fetchProfiler != null) {
+                    fetchProfiler.endFetchPhase(profileDescription);
+                }
+            }
+        }
+    }
+
     List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> getProcessors(SearchShardTarget target, FetchContext context) {
         try {
             List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = new ArrayList<>();
@@ -803,6 +1026,22 @@ public class FetchPhase {
         }
     }
 
+    /**
+     * Returns the ids, relative to the leaf, of the sorted <code>docs</code> that belong to the given leaf, starting at <code>from</code>.
+     */
+    static int[] leafDocIds(DocIdToIndex[] docs, int from, LeafReaderContext leaf) {
+        final int leafEnd = leaf.docBase + leaf.reader().maxDoc();
+        int to = from;
+        while (to < docs.length && docs[to].docId < leafEnd) {
+            to++;
+        }
+        final int[] docIds = new int[to - from];
+        for (int i = 0; i < docIds.length; i++) {
+            docIds[i] = docs[from + i].docId - leaf.docBase;
+        }
+        return docIds;
+    }
+
     /**
      * Returns <code>true</code> if the provided <code>docs</code> are
      * stored sequentially (Dn = Dn-1 + 1).
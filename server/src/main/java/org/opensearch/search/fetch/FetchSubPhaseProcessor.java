@@ -36,6 +36,7 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.search.fetch.FetchSubPhase.HitContext;
 
 import java.io.IOException;
+import java.util.function.BiConsumer;
 
 /**
  * Executes the logic for a {@link FetchSubPhase} against a particular leaf reader and hit
@@ -49,9 +50,20 @@ public interface FetchSubPhaseProcessor {
      */
     void setNextReader(LeafReaderContext readerContext) throws IOException;
 
+    /**
+     * Called after {@link #setNextReader} with the ids, relative to the leaf reader context, of all the hits that are going to be
+     * processed in this leaf, in increasing order. Processors may use it to load per hit data for the whole leaf at once.
+     */
+    default void prefetch(int[] docIds) throws IOException {}
+
     /**
      * Called in doc id order for each hit in a leaf reader
      */
     void process(HitContext hitContext) throws IOException;
 
+    /**
+     * Collects debug info about the hits processed so far to be reported in the fetch profile, if profiling is enabled.
+     */
+    default void collectDebugInfo(BiConsumer<String, Object> add) {}
+
 }
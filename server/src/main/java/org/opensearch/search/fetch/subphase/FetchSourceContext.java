@@ -36,6 +36,7 @@ import org.opensearch.common.Booleans;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.common.xcontent.support.XContentSourceFilter;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.ParsingException;
 import org.opensearch.core.common.Strings;
@@ -77,6 +78,7 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
     private final String[] includes;
     private final String[] excludes;
     private Function<Map<String, ?>, Map<String, Object>> filter;
+    private XContentSourceFilter sourceFilter;
 
     public FetchSourceContext(boolean fetchSource, String[] includes, String[] excludes) {
         this.fetchSource = fetchSource;
@@ -375,4 +377,14 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
         }
         return filter;
     }
+
+    /**
+     * Returns a filter that streams the filtered source from a parser on the source to a builder, without materializing it as a map.
+     */
+    public XContentSourceFilter getSourceFilter() {
+        if (sourceFilter == null) {
+            sourceFilter = new XContentSourceFilter(includes, excludes);
+        }
+        return sourceFilter;
+    }
 }
@@ -35,8 +35,14 @@ package org.opensearch.search.fetch.subphase;
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.OpenSearchException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.fetch.FetchContext;
 import org.opensearch.search.fetch.FetchSubPhase;
@@ -96,6 +102,17 @@ public final class FetchSourcePhase implements FetchSubPhase {
             return;
         }
 
+        // Parent documents are filtered while streaming the stored source, unless its content type is unknown.
+        if (nestedHit == false && source.internalSourceRef() != null) {
+            final MediaType contentType = source.sourceContentType() != null
+                ? source.sourceContentType()
+                : MediaTypeRegistry.xContentType(source.internalSourceRef());
+            if (contentType != null) {
+                hitContext.hit().sourceRef(filterSource(fetchSourceContext, source.internalSourceRef(), contentType));
+                return;
+            }
+        }
+
         // Otherwise, filter the source and add it to the hit.
         Object value = source.filter(fetchSourceContext);
         if (nestedHit) {
@@ -123,6 +140,24 @@ public final class FetchSourcePhase implements FetchSubPhase {
         }
     }
 
+    private static BytesReference filterSource(FetchSourceContext fetchSourceContext, BytesReference sourceRef, MediaType contentType) {
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                sourceRef,
+                contentType
+            )
+        ) {
+            BytesStreamOutput streamOutput = new BytesStreamOutput(Math.min(1024, sourceRef.length()));
+            XContentBuilder builder = new XContentBuilder(contentType.xContent(), streamOutput);
+            fetchSourceContext.getSourceFilter().filter(parser, builder);
+            return BytesReference.bytes(builder);
+        } catch (IOException e) {
+            throw new OpenSearchException("Error filtering source", e);
+        }
+    }
+
     private static boolean containsFilters(FetchSourceContext context) {
         return context.includes().length != 0 || context.excludes().length != 0;
     }
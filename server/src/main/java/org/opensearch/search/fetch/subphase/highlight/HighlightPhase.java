@@ -45,11 +45,15 @@ import org.opensearch.search.fetch.FetchSubPhase;
 import org.opensearch.search.fetch.FetchSubPhaseProcessor;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 /**
@@ -76,23 +80,40 @@ public class HighlightPhase implements FetchSubPhase {
 
     public FetchSubPhaseProcessor getProcessor(FetchContext context, SearchHighlightContext highlightContext, Query query) {
         Map<String, Object> sharedCache = new HashMap<>();
+        Set<String> prefetchedFields = new HashSet<>();
         Map<String, Function<HitContext, FieldHighlightContext>> contextBuilders = contextBuilders(
             context,
             highlightContext,
             query,
-            sharedCache
+            sharedCache,
+            prefetchedFields
         );
+        PrefetchedStoredFields prefetchedStoredFields = prefetchedFields.isEmpty() ? null : new PrefetchedStoredFields(prefetchedFields);
+        if (prefetchedStoredFields != null) {
+            sharedCache.put(PrefetchedStoredFields.CACHE_KEY, prefetchedStoredFields);
+        }
+        Map<String, Long> highlightTimes = context.profile() ? new LinkedHashMap<>() : null;
 
         return new FetchSubPhaseProcessor() {
             @Override
             public void setNextReader(LeafReaderContext readerContext) {
+                if (prefetchedStoredFields != null) {
+                    prefetchedStoredFields.setNextReader(readerContext);
+                }
+            }
 
+            @Override
+            public void prefetch(int[] docIds) throws IOException {
+                if (prefetchedStoredFields != null) {
+                    prefetchedStoredFields.prefetch(docIds);
+                }
             }
 
             @Override
             public void process(HitContext hitContext) throws IOException {
                 Map<String, HighlightField> highlightFields = new HashMap<>();
                 for (String field : contextBuilders.keySet()) {
+                    long start = highlightTimes != null ? System.nanoTime() : 0L;
                     FieldHighlightContext fieldContext = contextBuilders.get(field).apply(hitContext);
                     Highlighter highlighter = getHighlighter(fieldContext.field);
                     HighlightField highlightField = highlighter.highlight(fieldContext);
@@ -102,9 +123,22 @@ public class HighlightPhase implements FetchSubPhase {
                         // concrete field it points to.
                         highlightFields.put(field, new HighlightField(field, highlightField.fragments()));
                     }
+                    if (highlightTimes != null) {
+                        highlightTimes.merge(field, System.nanoTime() - start, Long::sum);
+                    }
                 }
                 hitContext.hit().highlightFields(highlightFields);
             }
+
+            @Override
+            public void collectDebugInfo(BiConsumer<String, Object> add) {
+                if (highlightTimes != null) {
+                    add.accept("highlight_time_in_nanos_per_field", new LinkedHashMap<>(highlightTimes));
+                }
+                if (prefetchedStoredFields != null) {
+                    add.accept("prefetched_stored_fields", new ArrayList<>(prefetchedFields));
+                }
+            }
         };
     }
 
@@ -124,7 +158,8 @@ public class HighlightPhase implements FetchSubPhase {
         FetchContext context,
         SearchHighlightContext highlightContext,
         Query query,
-        Map<String, Object> sharedCache
+        Map<String, Object> sharedCache,
+        Set<String> prefetchedFields
     ) {
         Map<String, Function<HitContext, FieldHighlightContext>> builders = new LinkedHashMap<>();
         for (SearchHighlightContext.Field field : highlightContext.fields()) {
@@ -176,6 +211,13 @@ public class HighlightPhase implements FetchSubPhase {
                 Query highlightQuery = field.fieldOptions().highlightQuery();
 
                 boolean forceSource = highlightContext.forceSource(field);
+                if (forceSource == false
+                    && fieldType.isStored()
+                    && (highlighter.getClass() == UnifiedHighlighter.class || highlighter.getClass() == PlainHighlighter.class)) {
+                    // the stored values of all the fields these highlighters read are loaded at once for all the hits of a
+                    // segment, subclasses may load values in their own way
+                    prefetchedFields.add(fieldType.name());
+                }
                 MappedFieldType finalFieldType = fieldType;
                 builders.put(
                     fieldName,
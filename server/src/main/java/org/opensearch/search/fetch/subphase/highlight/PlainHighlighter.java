@@ -136,7 +136,15 @@ public class PlainHighlighter implements Highlighter {
             );
         }
 
-        textsToHighlight = HighlightUtils.loadFieldValues(fieldType, context.getQueryShardContext(), hitContext, fieldContext.forceSource);
+        textsToHighlight = PrefetchedStoredFields.get(fieldContext);
+        if (textsToHighlight == null) {
+            textsToHighlight = HighlightUtils.loadFieldValues(
+                fieldType,
+                context.getQueryShardContext(),
+                hitContext,
+                fieldContext.forceSource
+            );
+        }
 
         for (Object textToHighlight : textsToHighlight) {
             String text = convertFieldValue(fieldType, textToHighlight);
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch.subphase.highlight;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
+import org.opensearch.index.fieldvisitor.CustomFieldsVisitor;
+import org.opensearch.search.fetch.FetchSubPhase;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The values of the stored fields to highlight of all the hits of a segment, loaded in a single pass over the stored fields of
+ * every hit instead of once per highlighted field and hit.
+ *
+ * @opensearch.internal
+ */
+final class PrefetchedStoredFields {
+
+    /**
+     * The key of the instance in the cache shared by the highlighters, see {@link FieldHighlightContext#cache}
+     */
+    static final String CACHE_KEY = PrefetchedStoredFields.class.getName();
+
+    private final Set<String> fields;
+    private final Map<Integer, Map<String, List<Object>>> values = new HashMap<>();
+    private LeafReaderContext readerContext;
+
+    PrefetchedStoredFields(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    void setNextReader(LeafReaderContext readerContext) {
+        this.readerContext = readerContext;
+        values.clear();
+    }
+
+    void prefetch(int[] docIds) throws IOException {
+        // a single instance keeps the last decompressed block, which hits of the same block share
+        final StoredFields storedFields = readerContext.reader().storedFields();
+        final CustomFieldsVisitor visitor = new CustomFieldsVisitor(fields, false);
+        for (int docId : docIds) {
+            visitor.reset();
+            storedFields.document(docId, visitor);
+            values.put(docId, new HashMap<>(visitor.fields()));
+        }
+    }
+
+    /**
+     * Returns the prefetched values of the field of the given context, or {@code null} if they were not prefetched.
+     */
+    static List<Object> get(FieldHighlightContext fieldContext) {
+        if (fieldContext.forceSource || fieldContext.fieldType.isStored() == false) {
+            return null;
+        }
+        final PrefetchedStoredFields prefetched = (PrefetchedStoredFields) fieldContext.cache.get(CACHE_KEY);
+        return prefetched == null ? null : prefetched.get(fieldContext.fieldType.name(), fieldContext.hitContext);
+    }
+
+    private List<Object> get(String field, FetchSubPhase.HitContext hitContext) {
+        if (fields.contains(field) == false || hitContext.readerContext() != readerContext) {
+            return null;
+        }
+        final Map<String, List<Object>> docValues = values.get(hitContext.docId());
+        if (docValues == null) {
+            return null;
+        }
+        return docValues.getOrDefault(field, Collections.emptyList());
+    }
+}
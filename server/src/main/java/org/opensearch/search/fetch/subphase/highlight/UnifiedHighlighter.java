@@ -98,13 +98,18 @@ public class UnifiedHighlighter implements Highlighter {
         FetchSubPhase.HitContext hitContext = fieldContext.hitContext;
 
         CheckedSupplier<String, IOException> loadFieldValues = () -> {
-            List<Object> fieldValues = loadFieldValues(
-                highlighter,
-                fieldContext.context.getQueryShardContext(),
-                fieldType,
-                hitContext,
-                fieldContext.forceSource
-            );
+            List<Object> fieldValues = PrefetchedStoredFields.get(fieldContext);
+            if (fieldValues != null) {
+                fieldValues = fieldValues.stream().map((s) -> convertFieldValue(fieldType, s)).collect(Collectors.toList());
+            } else {
+                fieldValues = loadFieldValues(
+                    highlighter,
+                    fieldContext.context.getQueryShardContext(),
+                    fieldType,
+                    hitContext,
+                    fieldContext.forceSource
+                );
+            }
             if (fieldValues.size() == 0) {
                 return null;
             }
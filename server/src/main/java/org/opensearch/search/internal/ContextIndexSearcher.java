@@ -39,6 +39,8 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.QueryTimeout;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.CollectionStatistics;
 import org.apache.lucene.search.CollectionTerminatedException;
@@ -50,6 +52,7 @@ import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCache;
 import org.apache.lucene.search.QueryCachingPolicy;
@@ -100,6 +103,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -121,6 +125,11 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
     private SearchContext searchContext;
+    /**
+     * Start time of the first slice of the current concurrent search, used as the baseline of the slice wait time reported to the
+     * profiler. {@code 0} until the first slice starts.
+     */
+    private final AtomicLong firstSliceStartTime = new AtomicLong();
 
     public ContextIndexSearcher(
         IndexReader reader,
@@ -209,10 +218,49 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         this.aggregatedDfs = aggregatedDfs;
     }
 
+    /**
+     * Lets the approximation of a boolean query that has a single clause that can be approximated and only filters otherwise apply
+     * these filters, so that it still collects enough matching docs.
+     */
+    private void setApproximationContext(BooleanQuery booleanQuery) {
+        if (booleanQuery.getMinimumNumberShouldMatch() != 0) {
+            return;
+        }
+        ApproximateScoreQuery approximateScoreQuery = null;
+        BooleanQuery.Builder filter = new BooleanQuery.Builder();
+        boolean hasRequiredFilter = false;
+        for (BooleanClause clause : booleanQuery.clauses()) {
+            if (clause.query() instanceof ApproximateScoreQuery query && approximateScoreQuery == null && clause.isRequired()) {
+                approximateScoreQuery = query;
+            } else if (clause.occur() == BooleanClause.Occur.FILTER || clause.occur() == BooleanClause.Occur.MUST_NOT) {
+                // the approximation needs the exact filters: an approximated filter only matches some of its docs, and the clause
+                // is shared with the boolean query, which must keep executing the filter it was built with
+                Query query = clause.query() instanceof ApproximateScoreQuery approximateFilter
+                    ? approximateFilter.getOriginalQuery()
+                    : clause.query();
+                filter.add(query, clause.occur());
+                hasRequiredFilter |= clause.occur() == BooleanClause.Occur.FILTER;
+            } else {
+                // scoring clauses may match docs that the approximation does not collect
+                return;
+            }
+        }
+        if (approximateScoreQuery == null) {
+            return;
+        }
+        if (hasRequiredFilter == false) {
+            // a boolean query with only prohibited clauses matches no docs
+            filter.add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER);
+        }
+        approximateScoreQuery.setContext(searchContext, filter.build());
+    }
+
     @Override
     public Query rewrite(Query original) throws IOException {
         if (original instanceof ApproximateScoreQuery approximateScoreQuery) {
             approximateScoreQuery.setContext(searchContext);
+        } else if (original instanceof BooleanQuery booleanQuery) {
+            setApproximationContext(booleanQuery);
         }
         if (profiler != null) {
             profiler.startRewriteTime();
@@ -308,8 +356,17 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         result.topDocs(new TopDocsAndMaxScore(mergedTopDocs, Float.NaN), formats);
     }
 
+    @Override
+    public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager) throws IOException {
+        firstSliceStartTime.set(0L);
+        return super.search(query, collectorManager);
+    }
+
     @Override
     protected void search(LeafReaderContextPartition[] partitions, Weight weight, Collector collector) throws IOException {
+        if (profiler != null && searchContext.shouldUseConcurrentSearch()) {
+            recordSliceWaitTime(profiler);
+        }
         searchContext.indexShard().getSearchOperationListener().onPreSliceExecution(searchContext);
         try {
             // Time series based workload by default traverses segments in desc order i.e. latest to the oldest order.
@@ -334,6 +391,17 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         searchContext.indexShard().getSearchOperationListener().onSliceExecution(searchContext);
     }
 
+    /**
+     * The first slice of a concurrent search starts right away on the searching thread, every other slice waits either for an
+     * {@code index_searcher} thread or for the searching thread to steal it, so the wait of a slice is measured from that first start.
+     */
+    private void recordSliceWaitTime(QueryProfiler queryProfiler) {
+        final long now = System.nanoTime();
+        if (firstSliceStartTime.compareAndSet(0L, now) == false) {
+            queryProfiler.addSliceWaitTime(Math.max(0L, now - firstSliceStartTime.get()));
+        }
+    }
+
     /**
      * Lower-level search API.
      * <p>
@@ -483,6 +483,25 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         }
     }
 
+    /**
+     * Returns the key of this shard search request in the top docs cache. Unlike {@link #cacheKey()} it ignores the requested page
+     * ({@code from} and {@code size}) so that all pages of the same query share a key.
+     */
+    public BytesReference topDocsCacheKey() throws IOException {
+        BytesStreamOutput out = scratch.get();
+        try {
+            shardId.writeTo(out);
+            out.writeOptionalWriteable(source == null ? null : source.shallowCopy().from(0).size(0));
+            aliasFilter.writeTo(out);
+            out.writeFloat(indexBoost);
+            out.writeOptionalString(clusterAlias);
+            // copy it over since we don't want to share the thread-local bytes in #scratch
+            return out.copyBytes();
+        } finally {
+            out.reset();
+        }
+    }
+
     public String getClusterAlias() {
         return clusterAlias;
     }
@@ -214,6 +214,7 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
             QueryProfileShardResult result = new QueryProfileShardResult(
                 queryProfiler.getTree(),
                 queryProfiler.getRewriteTime(),
+                queryProfiler.getSliceWaitTime(),
                 queryProfiler.getCollector()
             );
             queryResults.add(result);
@@ -21,7 +21,8 @@ import java.util.concurrent.ConcurrentMap;
 
 /**
  * Simplified profiling tree for fetch phase operations. Each fetch phase is
- * stored as a root with a single level of child sub phases.
+ * stored as a root with a single level of child sub phases. Phases are keyed by
+ * thread, so that concurrent slices and fetch partitions each get their own root.
  *
  * @opensearch.internal
  */
@@ -64,7 +65,7 @@ class FlatFetchProfileTree {
     private final ConcurrentMap<String, Node> phaseMap = new ConcurrentHashMap<>();
 
     /** Start profiling a new fetch phase and return its breakdown. */
-    FetchProfileBreakdown startFetchPhase(String element) {
+    synchronized FetchProfileBreakdown startFetchPhase(String element) {
         // Make phase name unique for concurrent slices by including thread info
         String uniqueElement = element + "_" + Thread.currentThread().threadId();
 
@@ -80,7 +81,7 @@ class FlatFetchProfileTree {
     }
 
     /** Start profiling a fetch sub-phase under the specified parent phase. */
-    FetchProfileBreakdown startSubPhase(String element, String parentElement) {
+    synchronized FetchProfileBreakdown startSubPhase(String element, String parentElement) {
         // Make phase names unique for concurrent slices
         String uniqueParentElement = parentElement + "_" + Thread.currentThread().threadId();
         String uniqueElement = element + "_" + Thread.currentThread().threadId();
@@ -106,7 +107,7 @@ class FlatFetchProfileTree {
     /**
      * Finish profiling of the specified fetch phase.
      */
-    void endFetchPhase(String element) {
+    synchronized void endFetchPhase(String element) {
         // Make phase name unique for concurrent slices
         String uniqueElement = element + "_" + Thread.currentThread().threadId();
 
@@ -123,7 +124,7 @@ class FlatFetchProfileTree {
     /**
      * Build the profile results tree for serialization.
      */
-    List<ProfileResult> getTree() {
+    synchronized List<ProfileResult> getTree() {
         List<ProfileResult> results = new ArrayList<>(roots.size());
         for (Node root : roots) {
             results.add(toProfileResult(root, true));
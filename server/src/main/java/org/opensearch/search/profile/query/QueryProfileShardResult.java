@@ -32,6 +32,7 @@
 
 package org.opensearch.search.profile.query;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -59,6 +60,7 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
     public static final String COLLECTOR = "collector";
     public static final String REWRITE_TIME = "rewrite_time";
+    public static final String SLICE_WAIT_TIME = "slice_wait_time_in_nanos";
     public static final String QUERY_ARRAY = "query";
 
     private final List<ProfileResult> queryProfileResults;
@@ -67,11 +69,23 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
     private final long rewriteTime;
 
+    private final long sliceWaitTime;
+
     public QueryProfileShardResult(List<ProfileResult> queryProfileResults, long rewriteTime, CollectorResult profileCollector) {
+        this(queryProfileResults, rewriteTime, 0L, profileCollector);
+    }
+
+    public QueryProfileShardResult(
+        List<ProfileResult> queryProfileResults,
+        long rewriteTime,
+        long sliceWaitTime,
+        CollectorResult profileCollector
+    ) {
         assert (profileCollector != null);
         this.queryProfileResults = queryProfileResults;
         this.profileCollector = profileCollector;
         this.rewriteTime = rewriteTime;
+        this.sliceWaitTime = sliceWaitTime;
     }
 
     /**
@@ -86,6 +100,11 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
         profileCollector = new CollectorResult(in);
         rewriteTime = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+            sliceWaitTime = in.readLong();
+        } else {
+            sliceWaitTime = 0L;
+        }
     }
 
     @Override
@@ -96,6 +115,9 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         }
         profileCollector.writeTo(out);
         out.writeLong(rewriteTime);
+        if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+            out.writeLong(sliceWaitTime);
+        }
     }
 
     public List<ProfileResult> getQueryResults() {
@@ -106,6 +128,13 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         return rewriteTime;
     }
 
+    /**
+     * @return total time the concurrent segment search slices of this query waited for a thread
+     */
+    public long getSliceWaitTime() {
+        return sliceWaitTime;
+    }
+
     public CollectorResult getCollectorResult() {
         return profileCollector;
     }
@@ -119,6 +148,9 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         }
         builder.endArray();
         builder.field(REWRITE_TIME, rewriteTime);
+        if (sliceWaitTime > 0) {
+            builder.field(SLICE_WAIT_TIME, sliceWaitTime);
+        }
         builder.startArray(COLLECTOR);
         profileCollector.toXContent(builder, params);
         builder.endArray();
@@ -132,6 +164,7 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         String currentFieldName = null;
         List<ProfileResult> queryProfileResults = new ArrayList<>();
         long rewriteTime = 0;
+        long sliceWaitTime = 0;
         CollectorResult collector = null;
         while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.FIELD_NAME) {
@@ -139,6 +172,8 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
             } else if (token.isValue()) {
                 if (REWRITE_TIME.equals(currentFieldName)) {
                     rewriteTime = parser.longValue();
+                } else if (SLICE_WAIT_TIME.equals(currentFieldName)) {
+                    sliceWaitTime = parser.longValue();
                 } else {
                     parser.skipChildren();
                 }
@@ -158,6 +193,6 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
                 parser.skipChildren();
             }
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, collector);
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, sliceWaitTime, collector);
     }
 }
@@ -40,6 +40,7 @@ import org.opensearch.search.profile.ContextualProfileBreakdown;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This class acts as a thread-local storage for profiling a query.  It also
@@ -62,6 +63,11 @@ public class QueryProfiler extends AbstractProfiler<ContextualProfileBreakdown,
      */
     private InternalProfileComponent collector;
 
+    /**
+     * Time slices of a concurrent segment search spent waiting for a thread after they were dispatched
+     */
+    private final LongAdder sliceWaitTime = new LongAdder();
+
     public QueryProfiler() {
         this(new InternalQueryProfileTree(query -> List.of()));
     }
@@ -103,6 +109,21 @@ public class QueryProfiler extends AbstractProfiler<ContextualProfileBreakdown,
         return ((AbstractQueryProfileTree) profileTree).getRewriteTime();
     }
 
+    /**
+     * Add the time a slice waited between being dispatched and starting to execute. May be called concurrently from all
+     * threads executing slices of this search.
+     */
+    public void addSliceWaitTime(long nanos) {
+        sliceWaitTime.add(nanos);
+    }
+
+    /**
+     * @return total time slices of this search spent waiting for a thread, {@code 0} for non-concurrent search
+     */
+    public long getSliceWaitTime() {
+        return sliceWaitTime.sum();
+    }
+
     /**
      * Return the current root Collector for this search
      */
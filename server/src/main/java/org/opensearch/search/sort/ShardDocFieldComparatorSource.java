@@ -9,6 +9,7 @@
 package org.opensearch.search.sort;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.LeafFieldComparator;
 import org.apache.lucene.search.Pruning;
@@ -20,8 +21,13 @@ import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.MultiValueMode;
 import org.opensearch.search.sort.BucketedSort.ExtraData;
 
+import java.io.IOException;
+
 /**
  * A pseudo‑field (_shard_doc) comparator that tiebreaks by  {@code (shardId << 32) | globalDocId}
+ * <p>
+ * When it is the primary sort, the comparator skips documents the same way Lucene does for {@code _doc}: keys grow with the doc id,
+ * so docs on the wrong side of the {@code search_after} key or of the bottom of a full queue are never visited.
  */
 public class ShardDocFieldComparatorSource extends IndexFieldData.XFieldComparatorSource {
     public static final String NAME = "_shard_doc";
@@ -48,17 +54,24 @@ public class ShardDocFieldComparatorSource extends IndexFieldData.XFieldComparat
 
     @Override
     public FieldComparator<Long> newComparator(String fieldname, int numHits, Pruning pruning, boolean reversed) {
+        final boolean enableSkipping = pruning != Pruning.NONE;
         return new FieldComparator<Long>() {
             private final long[] values = new long[numHits];
             private long bottom;
             private long topValue;
+            private boolean topValueSet;
+            private boolean queueFull;
+            private boolean hitsThresholdReached;
 
             @Override
             public LeafFieldComparator getLeafComparator(LeafReaderContext context) {
                 final int docBase = context.docBase;
+                final int maxDoc = context.reader().maxDoc();
 
                 return new LeafFieldComparator() {
                     Scorable scorer;
+                    // keys grow with the doc id, so the competitive docs of a leaf always form a single range
+                    DocIdSetIterator competitiveIterator = enableSkipping ? competitiveRange() : null;
 
                     @Override
                     public void setScorer(Scorable scorer) {
@@ -68,6 +81,8 @@ public class ShardDocFieldComparatorSource extends IndexFieldData.XFieldComparat
                     @Override
                     public void setBottom(int slot) {
                         bottom = values[slot];
+                        queueFull = true;
+                        updateIterator();
                     }
 
                     @Override
@@ -85,6 +100,78 @@ public class ShardDocFieldComparatorSource extends IndexFieldData.XFieldComparat
                         return Long.compare(topValue, computeGlobalDocKey(doc));
                     }
 
+                    @Override
+                    public void setHitsThresholdReached() {
+                        hitsThresholdReached = true;
+                        updateIterator();
+                    }
+
+                    @Override
+                    public DocIdSetIterator competitiveIterator() {
+                        if (enableSkipping == false) {
+                            return null;
+                        }
+                        return new DocIdSetIterator() {
+                            private int docID = competitiveIterator.docID();
+
+                            @Override
+                            public int nextDoc() throws IOException {
+                                return advance(docID + 1);
+                            }
+
+                            @Override
+                            public int docID() {
+                                return docID;
+                            }
+
+                            @Override
+                            public long cost() {
+                                return competitiveIterator.cost();
+                            }
+
+                            @Override
+                            public int advance(int target) throws IOException {
+                                return docID = competitiveIterator.advance(target);
+                            }
+                        };
+                    }
+
+                    private void updateIterator() {
+                        if (enableSkipping) {
+                            competitiveIterator = competitiveRange();
+                        }
+                    }
+
+                    private DocIdSetIterator competitiveRange() {
+                        final long firstKey = computeGlobalDocKey(0);
+                        int minDoc = 0;
+                        int maxDocExclusive = maxDoc;
+                        if (topValueSet) {
+                            // docs on the other side of the search_after key cannot be competitive, the top key itself is kept
+                            if (reversed) {
+                                maxDocExclusive = Math.min(maxDocExclusive, toDoc(topValue - firstKey + 1));
+                            } else {
+                                minDoc = Math.max(minDoc, toDoc(topValue - firstKey));
+                            }
+                        }
+                        if (queueFull && hitsThresholdReached) {
+                            // neither can docs on the other side of the bottom of a full queue
+                            if (reversed) {
+                                minDoc = Math.max(minDoc, toDoc(bottom - firstKey));
+                            } else {
+                                maxDocExclusive = Math.min(maxDocExclusive, toDoc(bottom - firstKey + 1));
+                            }
+                        }
+                        if (minDoc >= maxDocExclusive) {
+                            return DocIdSetIterator.empty();
+                        }
+                        return DocIdSetIterator.range(minDoc, maxDocExclusive);
+                    }
+
+                    private int toDoc(long offset) {
+                        return (int) Math.max(0, Math.min(maxDoc, offset));
+                    }
+
                     private long computeGlobalDocKey(int doc) {
                         return shardKeyPrefix | (docBase + doc);
                     }
@@ -104,6 +191,7 @@ public class ShardDocFieldComparatorSource extends IndexFieldData.XFieldComparat
             @Override
             public void setTopValue(Long value) {
                 this.topValue = value;
+                this.topValueSet = true;
             }
         };
     }
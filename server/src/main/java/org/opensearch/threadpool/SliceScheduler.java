@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.threadpool;
+
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cooperative scheduler for concurrent segment search slices.
+ * <p>
+ * Without it every slice of every request is submitted to the {@code index_searcher} pool as an independent task, so a request
+ * with many slices can fill the pool queue and make the slices of small requests wait behind all of its leaves. The scheduler
+ * instead gives each shard-level request its own {@link RequestSliceExecutor} with a private queue and a budget of at most
+ * {@code maxSlicesPerRequest} workers on the shared pool. A worker runs a single slice and then hands its slot back by
+ * re-submitting itself at the tail of the pool queue, which interleaves slices of all in-flight requests in a round-robin
+ * fashion. Slices that no worker picked up yet are stolen by the thread that started the search, which runs every remaining
+ * leaf itself once it is done with its own one (see Lucene's {@code TaskExecutor}).
+ *
+ * @opensearch.internal
+ */
+public final class SliceScheduler {
+
+    private final Executor delegate;
+    private final ThreadContext threadContext;
+    private final int maxSlicesPerRequest;
+
+    public SliceScheduler(Executor delegate, ThreadContext threadContext, int maxSlicesPerRequest) {
+        if (maxSlicesPerRequest < 1) {
+            throw new IllegalArgumentException("maxSlicesPerRequest must be at least 1 but was [" + maxSlicesPerRequest + "]");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.threadContext = Objects.requireNonNull(threadContext);
+        this.maxSlicesPerRequest = maxSlicesPerRequest;
+    }
+
+    /**
+     * @return whether slices submitted through this scheduler end up on the given executor
+     */
+    public boolean schedules(Executor executor) {
+        return delegate == executor;
+    }
+
+    public int getMaxSlicesPerRequest() {
+        return maxSlicesPerRequest;
+    }
+
+    /**
+     * Creates the executor a single search request submits its slices to.
+     */
+    public RequestSliceExecutor newRequestExecutor() {
+        return new RequestSliceExecutor();
+    }
+
+    /**
+     * Per-request view of the {@link SliceScheduler}, bounding the number of pool threads the request can occupy.
+     *
+     * @opensearch.internal
+     */
+    public final class RequestSliceExecutor implements Executor {
+
+        private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger activeWorkers = new AtomicInteger();
+
+        private RequestSliceExecutor() {}
+
+        @Override
+        public void execute(Runnable command) {
+            pending.add(threadContext.preserveContext(command));
+            maybeStartWorker();
+        }
+
+        /**
+         * @return the number of slices waiting for a worker of this request
+         */
+        public int pendingSlices() {
+            return pending.size();
+        }
+
+        /**
+         * @return the number of pool threads currently running slices of this request
+         */
+        public int activeWorkers() {
+            return activeWorkers.get();
+        }
+
+        private void maybeStartWorker() {
+            while (pending.isEmpty() == false) {
+                final int active = activeWorkers.get();
+                if (active >= maxSlicesPerRequest) {
+                    // one of the running workers picks it up once it yields its slot
+                    return;
+                }
+                if (activeWorkers.compareAndSet(active, active + 1)) {
+                    try {
+                        delegate.execute(this::runOne);
+                    } catch (RejectedExecutionException e) {
+                        // the slice stays queued: the searching thread runs leftover slices itself
+                        activeWorkers.decrementAndGet();
+                    }
+                    return;
+                }
+            }
+        }
+
+        private void runOne() {
+            try {
+                final Runnable slice = pending.poll();
+                if (slice != null) {
+                    slice.run();
+                }
+            } finally {
+                activeWorkers.decrementAndGet();
+                // go back to the end of the shared queue rather than draining this request's slices in a loop
+                maybeStartWorker();
+            }
+        }
+    }
+}
@@ -230,6 +230,9 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
 
     private final ScheduledThreadPoolExecutor scheduler;
 
+    @Nullable
+    private final SliceScheduler sliceScheduler;
+
     public Collection<ExecutorBuilder> builders() {
         return Collections.unmodifiableCollection(builders.values());
     }
@@ -241,6 +244,18 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Maximum number of {@link Names#INDEX_SEARCHER} threads a single shard search request may occupy with concurrent segment
+     * search slices at the same time. The default of {@code 0} submits every slice as an independent task; a positive value
+     * schedules slices cooperatively through a {@link SliceScheduler}.
+     */
+    public static final Setting<Integer> INDEX_SEARCHER_MAX_SLICES_PER_REQUEST_SETTING = Setting.intSetting(
+        "thread_pool.index_searcher.max_slices_per_request",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
     public static final Setting<Settings> CLUSTER_THREAD_POOL_SIZE_SETTING = Setting.groupSetting(
         "cluster.thread_pool.",
         Setting.Property.Dynamic,
@@ -390,6 +405,10 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             .map(holder -> holder.info)
             .collect(Collectors.toList());
         this.threadPoolInfo = new ThreadPoolInfo(infos);
+        final int maxSlicesPerRequest = INDEX_SEARCHER_MAX_SLICES_PER_REQUEST_SETTING.get(settings);
+        this.sliceScheduler = maxSlicesPerRequest > 0
+            ? new SliceScheduler(executors.get(Names.INDEX_SEARCHER).executor(), threadContext, maxSlicesPerRequest)
+            : null;
         this.scheduler = Scheduler.initScheduler(settings);
         TimeValue estimatedTimeInterval = ESTIMATED_TIME_INTERVAL_SETTING.get(settings);
         this.cachedTimeThread = new CachedTimeThread(OpenSearchExecutors.threadName(settings, "[timer]"), estimatedTimeInterval.millis());
@@ -651,6 +670,15 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         return holder.executor();
     }
 
+    /**
+     * Returns the scheduler that interleaves concurrent segment search slices of all in-flight requests on the
+     * {@link Names#INDEX_SEARCHER} pool, or {@code null} if slices are submitted to the pool directly.
+     */
+    @Nullable
+    public SliceScheduler sliceScheduler() {
+        return sliceScheduler;
+    }
+
     /**
      * Schedules a one-shot command to run after a given delay. The command is run in the context of the calling thread.
      *
@@ -35,12 +35,15 @@ package org.opensearch.transport.nativeprotocol;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.common.io.stream.BytesStream;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.compress.CompressorRegistry;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.zip.DeflaterOutputStream;
 
 /**
@@ -55,14 +58,25 @@ import java.util.zip.DeflaterOutputStream;
  * <p>
  * {@link CompressibleBytesOutputStream#close()} will NOT close the underlying stream. The byte stream passed
  * in the constructor must be closed individually.
+ * <p>
+ * Without compression, large bytes references written with {@link #writeImmutableBytesReference(BytesReference)} are not copied
+ * into the underlying stream, but spliced between its bytes by {@link CompressibleBytesOutputStream#materializeBytes()}, so that
+ * they are sent with scatter/gather writes.
  *
  * @opensearch.internal
  */
 final class CompressibleBytesOutputStream extends StreamOutput {
 
+    /**
+     * The minimum length of the bytes references that are spliced instead of copied, below which the copy is cheaper than the
+     * additional buffer that the transport has to write
+     */
+    static final int MIN_SPLICED_BYTES_LENGTH = 4096;
+
     private final OutputStream stream;
     private final BytesStream bytesStreamOutput;
     private final boolean shouldCompress;
+    private final List<SplicedBytes> splicedBytes = new ArrayList<>();
 
     CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress) throws IOException {
         this.bytesStreamOutput = bytesStreamOutput;
@@ -88,7 +102,33 @@ final class CompressibleBytesOutputStream extends StreamOutput {
             stream.close();
         }
 
-        return bytesStreamOutput.bytes();
+        final BytesReference bytes = bytesStreamOutput.bytes();
+        if (splicedBytes.isEmpty()) {
+            return bytes;
+        }
+        final List<BytesReference> references = new ArrayList<>(splicedBytes.size() * 2 + 1);
+        int from = 0;
+        for (SplicedBytes spliced : splicedBytes) {
+            if (spliced.position() > from) {
+                references.add(bytes.slice(from, spliced.position() - from));
+            }
+            references.add(spliced.bytes());
+            from = spliced.position();
+        }
+        if (bytes.length() > from) {
+            references.add(bytes.slice(from, bytes.length() - from));
+        }
+        return CompositeBytesReference.of(references.toArray(new BytesReference[0]));
+    }
+
+    @Override
+    public void writeImmutableBytesReference(BytesReference bytes) throws IOException {
+        if (shouldCompress || bytes == null || bytes.length() < MIN_SPLICED_BYTES_LENGTH) {
+            writeBytesReference(bytes);
+            return;
+        }
+        writeVInt(bytes.length());
+        splicedBytes.add(new SplicedBytes(Math.toIntExact(bytesStreamOutput.position()), bytes));
     }
 
     @Override
@@ -118,4 +158,9 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     public void reset() throws IOException {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Bytes that belong at the given position of the underlying stream.
+     */
+    private record SplicedBytes(int position, BytesReference bytes) {}
 }
@@ -69,6 +69,7 @@ import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.IndexSortConfig;
 import org.opensearch.index.IndexingPressureService;
 import org.opensearch.index.SegmentReplicationPressureService;
 import org.opensearch.index.VersionType;
@@ -112,6 +113,8 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.any;
@@ -1075,6 +1078,115 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testParallelParsing() throws Exception {
+        IndexShard shard = newStartedShard(
+            true,
+            Settings.builder().put(IndexSettings.INDEX_BULK_PARALLEL_PARSING_THREADS_SETTING.getKey(), between(2, 4)).build()
+        );
+
+        BulkItemRequest[] items = new BulkItemRequest[between(4, 10) * ParallelBulkItemParser.MIN_ITEMS_PER_THREAD];
+        for (int i = 0; i < items.length; i++) {
+            DocWriteRequest<?> writeRequest = i % 10 == 9
+                ? new DeleteRequest("index").id("id_" + (i - 1))
+                : new IndexRequest("index").id("id_" + i).source(Requests.INDEX_CONTENT_TYPE);
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        assertTrue(context.shouldPrepareIndexOperations());
+        ParallelBulkItemParser.prepareIndexOperations(context, threadPool.executor(Names.WRITE), threadPool.getThreadContext());
+        assertFalse(context.shouldPrepareIndexOperations());
+        assertNotNull(context.takePreparedIndexOperation());
+        // an operation is only taken once, a retried item is parsed again
+        assertNull(context.takePreparedIndexOperation());
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            new NoopMappingUpdatePerformer(),
+            listener -> listener.onResponse(null),
+            new LatchedActionListener<>(ActionTestUtils.assertNoFailureListener(result -> {
+                long lastSeqNo = -1;
+                for (BulkItemRequest item : result.replicaRequest().items()) {
+                    BulkItemResponse primaryResponse = item.primaryResponse();
+                    assertFalse(primaryResponse.isFailed());
+                    // sequence numbers are assigned in the order of the items
+                    assertThat(primaryResponse.getResponse().getSeqNo(), greaterThan(lastSeqNo));
+                    lastSeqNo = primaryResponse.getResponse().getSeqNo();
+                }
+            }), latch),
+            threadPool,
+            Names.WRITE
+        );
+        latch.await();
+
+        assertDocCount(shard, items.length - 2 * (items.length / 10));
+        closeShards(shard);
+    }
+
+    public void testPresortByIndexSort() throws Exception {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexSortConfig.INDEX_SORT_FIELD_SETTING.getKey(), "rank")
+            .put(IndexSettings.INDEX_BULK_PRESORT_SETTING.getKey(), true)
+            .build();
+        IndexMetadata metadata = IndexMetadata.builder("index")
+            .putMapping("{ \"properties\": { \"rank\":  { \"type\": \"long\"}}}")
+            .settings(settings)
+            .primaryTerm(0, 1)
+            .build();
+        IndexShard shard = newShard(new ShardId(metadata.getIndex(), 0), true, "n1", metadata, null);
+        recoverShardFromStore(shard);
+
+        BulkItemRequest[] items = new BulkItemRequest[between(2, 4) * ParallelBulkItemParser.MIN_ITEMS_PER_THREAD];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new BulkItemRequest(
+                i,
+                new IndexRequest("index").id("id_" + i).source(Requests.INDEX_CONTENT_TYPE, "rank", randomLongBetween(-1000, 1000))
+            );
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shard.shardId(), RefreshPolicy.NONE, items);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            new NoopMappingUpdatePerformer(),
+            listener -> listener.onResponse(null),
+            new LatchedActionListener<>(ActionTestUtils.assertNoFailureListener(result -> {
+                long lastRank = Long.MIN_VALUE;
+                long lastSeqNo = -1;
+                for (BulkItemRequest item : result.replicaRequest().items()) {
+                    BulkItemResponse primaryResponse = item.primaryResponse();
+                    assertFalse(primaryResponse.isFailed());
+                    // the responses still match the items they were executed for
+                    assertEquals(item.id(), primaryResponse.getItemId());
+                    assertEquals(((IndexRequest) item.request()).id(), primaryResponse.getId());
+                    // the items were executed in the order of the index sort
+                    long rank = ((Number) ((IndexRequest) item.request()).sourceAsMap().get("rank")).longValue();
+                    assertThat(rank, greaterThanOrEqualTo(lastRank));
+                    lastRank = rank;
+                    assertThat(primaryResponse.getResponse().getSeqNo(), greaterThan(lastSeqNo));
+                    lastSeqNo = primaryResponse.getResponse().getSeqNo();
+                }
+            }), latch),
+            threadPool,
+            Names.WRITE
+        );
+        latch.await();
+
+        assertDocCount(shard, items.length);
+        closeShards(shard);
+    }
+
     public void testNoOpReplicationOnPrimaryDocumentFailure() throws Exception {
         final IndexShard shard = spy(newStartedShard(false));
         final String failureMessage = "simulated primary failure";
@@ -39,19 +39,24 @@ import org.opensearch.action.OriginalIndices;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.search.SearchContextMissingException;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.dfs.DfsSearchResult;
 import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.search.sort.SortOrder;
@@ -192,6 +197,100 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSkippedPitShardIsStillSentCanMatch() throws InterruptedException {
+        final TransportSearchAction.SearchTimeProvider timeProvider = new TransportSearchAction.SearchTimeProvider(
+            0,
+            System.nanoTime(),
+            System::nanoTime
+        );
+
+        Map<String, Transport.Connection> lookup = new ConcurrentHashMap<>();
+        DiscoveryNode primaryNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        lookup.put("node1", new SearchAsyncActionTests.MockConnection(primaryNode));
+        final ShardSearchContextId cachedContextId = new ShardSearchContextId("session", 1);
+        final ShardSearchContextId otherContextId = new ShardSearchContextId("session", 2);
+        final List<ShardSearchContextId> canMatchContextIds = Collections.synchronizedList(new ArrayList<>());
+
+        SearchTransportService searchTransportService = new SearchTransportService(null, null) {
+            @Override
+            public void sendCanMatch(
+                Transport.Connection connection,
+                ShardSearchRequest request,
+                SearchTask task,
+                ActionListener<SearchService.CanMatchResponse> listener
+            ) {
+                canMatchContextIds.add(request.readerId());
+                if (request.readerId().equals(cachedContextId)) {
+                    // the point in time was deleted in the meantime
+                    listener.onFailure(new SearchContextMissingException(cachedContextId));
+                } else {
+                    listener.onResponse(new SearchService.CanMatchResponse(true, new MinAndMax<>(20L, 30L)));
+                }
+            }
+        };
+        final FieldSortBuilder sort = SortBuilders.fieldSort("timestamp");
+        searchTransportService.getPitMinAndMaxCache().put(cachedContextId, sort, new MinAndMax<>(5L, 15L));
+
+        final OriginalIndices originalIndices = new OriginalIndices(new String[] { "idx" }, SearchRequest.DEFAULT_INDICES_OPTIONS);
+        final TimeValue keepAlive = TimeValue.timeValueMinutes(1);
+        final ShardId cachedShardId = new ShardId(new Index("idx", "_na_"), 0);
+        final ShardId otherShardId = new ShardId(new Index("idx", "_na_"), 1);
+        GroupShardsIterator<SearchShardIterator> shardsIter = new GroupShardsIterator<>(
+            List.of(
+                new SearchShardIterator(null, cachedShardId, List.of("node1"), originalIndices, cachedContextId, keepAlive),
+                new SearchShardIterator(null, otherShardId, List.of("node1"), originalIndices, otherContextId, keepAlive)
+            )
+        );
+        final SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(new SearchSourceBuilder().sort(sort).searchAfter(new Object[] { 20L }).trackTotalHits(false));
+        searchRequest.allowPartialSearchResults(true);
+
+        AtomicReference<GroupShardsIterator<SearchShardIterator>> result = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        final SearchRequestOperationsListener searchRequestOperationsListener = new SearchRequestOperationsListener.CompositeListener(
+            List.of(assertingListener),
+            LogManager.getLogger()
+        );
+        CanMatchPreFilterSearchPhase canMatchPhase = new CanMatchPreFilterSearchPhase(
+            logger,
+            searchTransportService,
+            (clusterAlias, node) -> lookup.get(node),
+            Collections.singletonMap("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY)),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            OpenSearchExecutors.newDirectExecutorService(),
+            searchRequest,
+            null,
+            shardsIter,
+            timeProvider,
+            ClusterState.EMPTY_STATE,
+            null,
+            (iter) -> new SearchPhase("test") {
+                @Override
+                public void run() throws IOException {
+                    result.set(iter);
+                    searchRequestOperationsListener.onPhaseEnd(new MockSearchPhaseContext(1, searchRequest, this), null);
+                    latch.countDown();
+                }
+            },
+            SearchResponse.Clusters.EMPTY,
+            new SearchRequestContext(searchRequestOperationsListener, searchRequest, () -> null),
+            NoopTracer.INSTANCE
+        );
+
+        canMatchPhase.start();
+        latch.await();
+
+        // the cached shard is skipped, but still receives a can_match request that extends the keep alive of its context
+        for (SearchShardIterator iter : result.get()) {
+            assertEquals(iter.shardId().id() == 0, iter.skip());
+        }
+        assertThat(new HashSet<>(canMatchContextIds), equalTo(Set.of(cachedContextId, otherContextId)));
+        // and its entry is invalidated once the shard reports that the context is gone
+        assertNull(searchTransportService.getPitMinAndMaxCache().get(cachedContextId, sort));
+        assertNotNull(searchTransportService.getPitMinAndMaxCache().get(otherContextId, sort));
+    }
+
     public void testSkippedShardGroupsAreNotSentToCanMatch() throws InterruptedException {
         final TransportSearchAction.SearchTimeProvider timeProvider = new TransportSearchAction.SearchTimeProvider(
             0,
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.StepListener;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
+import org.opensearch.search.fetch.FetchSearchResult;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+
+public class EarlyFetchCollectorTests extends OpenSearchTestCase {
+
+    public void testCanFetchEarly() {
+        assertTrue(EarlyFetchCollector.canFetchEarly(new SearchRequest(), 2));
+        assertTrue(EarlyFetchCollector.canFetchEarly(new SearchRequest().source(new SearchSourceBuilder().size(5)), 2));
+        assertFalse(EarlyFetchCollector.canFetchEarly(new SearchRequest(), 1));
+        assertFalse(EarlyFetchCollector.canFetchEarly(new SearchRequest().source(new SearchSourceBuilder().from(10)), 2));
+        assertFalse(EarlyFetchCollector.canFetchEarly(new SearchRequest().source(new SearchSourceBuilder().size(0)), 2));
+        assertFalse(
+            EarlyFetchCollector.canFetchEarly(new SearchRequest().source(new SearchSourceBuilder().collapse(new CollapseBuilder("f"))), 2)
+        );
+    }
+
+    public void testFetchesCompetitiveHitsOnceTopDocsAreFull() {
+        EarlyFetchCollector collector = new EarlyFetchCollector(2);
+
+        ScoreDoc[] shard0Docs = new ScoreDoc[] { new ScoreDoc(1, 5f), new ScoreDoc(2, 1f) };
+        List<EarlyFetchCollector.ShardFetch> fetches = collector.consumeQueryResult(queryResult(0, shard0Docs));
+        assertEquals(1, fetches.size());
+        assertEquals(0, fetches.get(0).result().getShardIndex());
+        assertEquals(List.of(1, 2), fetches.get(0).docIds());
+        // the score docs of the query result are left untouched for the final merge
+        assertEquals(-1, shard0Docs[0].shardIndex);
+
+        fetches = collector.consumeQueryResult(queryResult(1, new ScoreDoc(7, 4f)));
+        assertEquals(1, fetches.size());
+        assertEquals(1, fetches.get(0).result().getShardIndex());
+        assertEquals(List.of(7), fetches.get(0).docIds());
+
+        // hits of shards that are not competitive anymore are not fetched
+        assertTrue(collector.consumeQueryResult(queryResult(2, new ScoreDoc(9, 0.5f))).isEmpty());
+
+        fetches = collector.consumeQueryResult(queryResult(3, new ScoreDoc(3, 10f)));
+        assertEquals(1, fetches.size());
+        assertEquals(3, fetches.get(0).result().getShardIndex());
+        assertEquals(List.of(3), fetches.get(0).docIds());
+    }
+
+    public void testWaitsForFullTopDocs() {
+        EarlyFetchCollector collector = new EarlyFetchCollector(3);
+        assertTrue(collector.consumeQueryResult(queryResult(0, new ScoreDoc(1, 5f), new ScoreDoc(2, 1f))).isEmpty());
+        assertTrue(collector.consumeQueryResult(queryResult(1)).isEmpty());
+
+        List<EarlyFetchCollector.ShardFetch> fetches = collector.consumeQueryResult(queryResult(2, new ScoreDoc(7, 4f)));
+        assertEquals(2, fetches.size());
+        for (EarlyFetchCollector.ShardFetch fetch : fetches) {
+            assertEquals(fetch.result().getShardIndex() == 0 ? List.of(1, 2) : List.of(7), fetch.docIds());
+        }
+    }
+
+    public void testCoversFetchedPrefix() {
+        EarlyFetchCollector collector = new EarlyFetchCollector(2);
+        collector.consumeQueryResult(queryResult(0, new ScoreDoc(1, 5f), new ScoreDoc(2, 1f)));
+        assertNull(collector.getFetch(0));
+
+        StepListener<FetchSearchResult> listener = new StepListener<>();
+        collector.onFetchStarted(0, listener);
+        assertSame(listener, collector.getFetch(0));
+        assertNull(collector.getFetch(1));
+        assertTrue(collector.covers(0, List.of(1)));
+        assertTrue(collector.covers(0, List.of(1, 2)));
+        assertFalse(collector.covers(0, List.of(2)));
+        assertFalse(collector.covers(0, List.of(1, 2, 3)));
+        assertFalse(collector.covers(1, List.of(1)));
+    }
+
+    private static QuerySearchResult queryResult(int shardIndex, ScoreDoc... scoreDocs) {
+        QuerySearchResult result = new QuerySearchResult(
+            new ShardSearchContextId(UUIDs.base64UUID(), shardIndex),
+            new SearchShardTarget("node", new ShardId("test", "na", shardIndex), null, OriginalIndices.NONE),
+            null
+        );
+        float maxScore = scoreDocs.length == 0 ? Float.NaN : scoreDocs[0].score;
+        result.topDocs(
+            new TopDocsAndMaxScore(new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs), maxScore),
+            new DocValueFormat[0]
+        );
+        result.setShardIndex(shardIndex);
+        return result;
+    }
+}
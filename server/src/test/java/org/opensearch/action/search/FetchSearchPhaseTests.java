@@ -36,6 +36,7 @@ import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.tests.store.MockDirectoryWrapper;
 import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.StepListener;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
@@ -312,6 +313,103 @@ public class FetchSearchPhaseTests extends OpenSearchTestCase {
         assertTrue(mockSearchPhaseContext.releasedSearchContexts.contains(ctx));
     }
 
+    public void testFailedEarlyFetchFailsShardWithoutFetchingAgain() {
+        MockSearchPhaseContext mockSearchPhaseContext = new MockSearchPhaseContext(2);
+        SearchPhaseController controller = new SearchPhaseController(
+            writableRegistry(),
+            s -> InternalAggregationTestCase.emptyReduceContextBuilder()
+        );
+        QueryPhaseResultConsumer results = controller.newSearchPhaseResults(
+            OpenSearchExecutors.newDirectExecutorService(),
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            SearchProgressListener.NOOP,
+            mockSearchPhaseContext.getRequest(),
+            2,
+            exc -> {}
+        );
+        EarlyFetchCollector earlyFetches = new EarlyFetchCollector(2);
+        final ShardSearchContextId ctx1 = new ShardSearchContextId(UUIDs.base64UUID(), 123);
+        QuerySearchResult queryResult = new QuerySearchResult(
+            ctx1,
+            new SearchShardTarget("node1", new ShardId("test", "na", 0), null, OriginalIndices.NONE),
+            null
+        );
+        queryResult.topDocs(
+            new TopDocsAndMaxScore(
+                new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(42, 1.0F) }),
+                2.0F
+            ),
+            new DocValueFormat[0]
+        );
+        queryResult.size(2);
+        queryResult.setShardIndex(0);
+        assertTrue(earlyFetches.consumeQueryResult(queryResult).isEmpty());
+        results.consumeResult(queryResult, () -> {});
+
+        final ShardSearchContextId ctx2 = new ShardSearchContextId(UUIDs.base64UUID(), 321);
+        queryResult = new QuerySearchResult(
+            ctx2,
+            new SearchShardTarget("node2", new ShardId("test", "na", 1), null, OriginalIndices.NONE),
+            null
+        );
+        queryResult.topDocs(
+            new TopDocsAndMaxScore(
+                new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(84, 2.0F) }),
+                2.0F
+            ),
+            new DocValueFormat[0]
+        );
+        queryResult.size(2);
+        queryResult.setShardIndex(1);
+        assertEquals(2, earlyFetches.consumeQueryResult(queryResult).size());
+        results.consumeResult(queryResult, () -> {});
+
+        // the early fetch of the first shard failed and released its reader context, the second one succeeded
+        StepListener<FetchSearchResult> failedFetch = new StepListener<>();
+        earlyFetches.onFetchStarted(0, failedFetch);
+        failedFetch.onFailure(new MockDirectoryWrapper.FakeIOException());
+        StepListener<FetchSearchResult> fetch = new StepListener<>();
+        earlyFetches.onFetchStarted(1, fetch);
+        FetchSearchResult fetchResult = new FetchSearchResult();
+        fetchResult.hits(new SearchHits(new SearchHit[] { new SearchHit(84) }, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 2.0F));
+        fetchResult.setSearchShardTarget(queryResult.getSearchShardTarget());
+        fetchResult.setShardIndex(1);
+        fetch.onResponse(fetchResult);
+
+        mockSearchPhaseContext.searchTransport = new SearchTransportService(null, null) {
+            @Override
+            public void sendExecuteFetch(
+                Transport.Connection connection,
+                ShardFetchSearchRequest request,
+                SearchTask task,
+                SearchActionListener<FetchSearchResult> listener
+            ) {
+                fail("shards that were fetched early must not be fetched again");
+            }
+        };
+        FetchSearchPhase phase = new FetchSearchPhase(
+            results,
+            controller,
+            null,
+            mockSearchPhaseContext,
+            (searchResponse, scrollId) -> new SearchPhase("test") {
+                @Override
+                public void run() {
+                    mockSearchPhaseContext.sendSearchResponse(searchResponse, null);
+                }
+            },
+            earlyFetches
+        );
+        phase.run();
+        mockSearchPhaseContext.assertNoFailure();
+        SearchResponse searchResponse = mockSearchPhaseContext.searchResponse.get();
+        assertNotNull(searchResponse);
+        assertEquals(84, searchResponse.getHits().getAt(0).docId());
+        assertEquals(1, searchResponse.getFailedShards());
+        assertEquals(1, searchResponse.getSuccessfulShards());
+        assertTrue(searchResponse.getShardFailures()[0].getCause() instanceof MockDirectoryWrapper.FakeIOException);
+    }
+
     public void testFetchDocsConcurrently() throws InterruptedException {
         int resultSetSize = randomIntBetween(0, 100);
         // we use at least 2 hits otherwise this is subject to single shard optimization and we trip an assert...
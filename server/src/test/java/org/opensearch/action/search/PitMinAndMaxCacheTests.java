@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.MinAndMax;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class PitMinAndMaxCacheTests extends OpenSearchTestCase {
+
+    public void testToSortValue() {
+        assertEquals(5L, PitMinAndMaxCache.toSortValue(5, 1L));
+        assertEquals(5L, PitMinAndMaxCache.toSortValue(5L, 1L));
+        assertEquals(5.0, PitMinAndMaxCache.toSortValue(5, 1.0));
+        assertEquals(5f, PitMinAndMaxCache.toSortValue(5, 1f));
+        assertEquals(new BytesRef("a"), PitMinAndMaxCache.toSortValue("a", new BytesRef("b")));
+        assertNull(PitMinAndMaxCache.toSortValue(5.5, 1L));
+        assertNull(PitMinAndMaxCache.toSortValue("2024-01-01", 1L));
+    }
+
+    public void testCanSkip() {
+        PitMinAndMaxCache cache = new PitMinAndMaxCache(100, TimeValue.timeValueMinutes(1));
+        ShardSearchContextId contextId = new ShardSearchContextId("session", 1);
+        FieldSortBuilder sort = SortBuilders.fieldSort("timestamp");
+        SearchSourceBuilder source = searchAfter(sort, 20L);
+
+        // nothing cached yet
+        assertFalse(cache.canSkip(contextId, source));
+
+        cache.put(contextId, sort, new MinAndMax<>(5L, 15L));
+        assertTrue(cache.canSkip(contextId, source));
+        assertFalse(cache.canSkip(contextId, searchAfter(sort, 10L)));
+        assertFalse(cache.canSkip(contextId, new SearchSourceBuilder().sort(sort).trackTotalHits(false)));
+        assertFalse(cache.canSkip(new ShardSearchContextId("session", 2), source));
+        // the shard must count its hits
+        assertFalse(cache.canSkip(contextId, new SearchSourceBuilder().sort(sort).searchAfter(new Object[] { 20L })));
+
+        FieldSortBuilder descSort = SortBuilders.fieldSort("timestamp").order(SortOrder.DESC);
+        assertTrue(cache.canSkip(contextId, searchAfter(descSort, 2L)));
+        assertFalse(cache.canSkip(contextId, searchAfter(descSort, 20L)));
+
+        // a numeric type changes the sort values
+        FieldSortBuilder numericTypeSort = SortBuilders.fieldSort("timestamp").setNumericType("date_nanos");
+        cache.put(contextId, numericTypeSort, new MinAndMax<>(5L, 15L));
+        assertFalse(cache.canSkip(contextId, searchAfter(numericTypeSort, 20L)));
+    }
+
+    public void testInvalidate() {
+        PitMinAndMaxCache cache = new PitMinAndMaxCache(100, TimeValue.timeValueMinutes(1));
+        ShardSearchContextId contextId = new ShardSearchContextId("session", 1);
+        ShardSearchContextId otherContextId = new ShardSearchContextId("session", 2);
+        FieldSortBuilder timestampSort = SortBuilders.fieldSort("timestamp");
+        FieldSortBuilder nameSort = SortBuilders.fieldSort("name");
+        MinAndMax<Long> minAndMax = new MinAndMax<>(5L, 15L);
+        cache.put(contextId, timestampSort, minAndMax);
+        cache.put(contextId, nameSort, new MinAndMax<>(new BytesRef("a"), new BytesRef("b")));
+        cache.put(otherContextId, timestampSort, new MinAndMax<>(5L, 15L));
+        assertEquals(2, cache.count());
+        assertSame(minAndMax, cache.get(contextId, timestampSort));
+
+        // all the sort fields of the context go away at once
+        cache.invalidate(contextId);
+        assertNull(cache.get(contextId, timestampSort));
+        assertNull(cache.get(contextId, nameSort));
+        assertNotNull(cache.get(otherContextId, timestampSort));
+        assertEquals(1, cache.count());
+    }
+
+    public void testSettings() {
+        assertNotNull(new SearchTransportService(null, null).getPitMinAndMaxCache());
+        Settings settings = Settings.builder().put(SearchTransportService.PIT_MIN_AND_MAX_CACHE_SIZE_SETTING.getKey(), 0).build();
+        assertNull(new SearchTransportService(settings, null, null).getPitMinAndMaxCache());
+    }
+
+    private static SearchSourceBuilder searchAfter(FieldSortBuilder sort, long value) {
+        return new SearchSourceBuilder().sort(sort).searchAfter(new Object[] { value }).trackTotalHits(false);
+    }
+}
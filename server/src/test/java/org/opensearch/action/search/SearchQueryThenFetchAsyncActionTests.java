@@ -52,13 +52,16 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.SearchSortValuesAndFormats;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
 import org.opensearch.test.InternalAggregationTestCase;
 import org.opensearch.test.OpenSearchTestCase;
@@ -285,4 +288,32 @@ public class SearchQueryThenFetchAsyncActionTests extends OpenSearchTestCase {
         assertThat(((FieldDoc) phase.sortedTopDocs.scoreDocs[0]).fields.length, equalTo(1));
         assertThat(((FieldDoc) phase.sortedTopDocs.scoreDocs[0]).fields[0], equalTo(0));
     }
+
+    public void testIsBottomSortShardDisjoint() {
+        ShardSearchRequest request = new ShardSearchRequest(new ShardId("test", "na", 0), 0L, AliasFilter.EMPTY);
+        request.source(new SearchSourceBuilder().sort(SortBuilders.fieldSort("timestamp")).trackTotalHits(false));
+        request.canReturnNullResponseIfMatchNoDocs(true);
+        request.setBottomSortValues(new SearchSortValuesAndFormats(new Object[] { 10L }, new DocValueFormat[] { DocValueFormat.RAW }));
+
+        assertFalse(SearchQueryThenFetchAsyncAction.isBottomSortShardDisjoint(request, null));
+        assertTrue(SearchQueryThenFetchAsyncAction.isBottomSortShardDisjoint(request, new MinAndMax<>(11L, 20L)));
+        // the bottom is inclusive
+        assertFalse(SearchQueryThenFetchAsyncAction.isBottomSortShardDisjoint(request, new MinAndMax<>(10L, 20L)));
+        assertFalse(SearchQueryThenFetchAsyncAction.isBottomSortShardDisjoint(request, new MinAndMax<>(11.0, 20.0)));
+
+        request.source(new SearchSourceBuilder().sort(SortBuilders.fieldSort("timestamp").order(SortOrder.DESC)).trackTotalHits(false));
+        assertTrue(SearchQueryThenFetchAsyncAction.isBottomSortShardDisjoint(request, new MinAndMax<>(0L, 9L)));
+        assertFalse(SearchQueryThenFetchAsyncAction.isBottomSortShardDisjoint(request, new MinAndMax<>(11L, 20L)));
+
+        // the shard must count its hits
+        request.source(new SearchSourceBuilder().sort(SortBuilders.fieldSort("timestamp").order(SortOrder.DESC)));
+        assertFalse(SearchQueryThenFetchAsyncAction.isBottomSortShardDisjoint(request, new MinAndMax<>(0L, 9L)));
+
+        request.source(new SearchSourceBuilder().sort(SortBuilders.fieldSort("timestamp").missing("_first")).trackTotalHits(false));
+        assertFalse(SearchQueryThenFetchAsyncAction.isBottomSortShardDisjoint(request, new MinAndMax<>(11L, 20L)));
+
+        request.source(new SearchSourceBuilder().sort(SortBuilders.fieldSort("timestamp")).trackTotalHits(false));
+        request.canReturnNullResponseIfMatchNoDocs(false);
+        assertFalse(SearchQueryThenFetchAsyncAction.isBottomSortShardDisjoint(request, new MinAndMax<>(11L, 20L)));
+    }
 }
@@ -35,7 +35,9 @@ package org.opensearch.common.xcontent.support;
 import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -268,4 +270,29 @@ public class XContentHelperTests extends OpenSearchTestCase {
         }
 
     }
+
+    public void testWriteRawField() throws IOException {
+        BytesReference source = CompositeBytesReference.of(new BytesArray("{\"foo\":\"bar"), new BytesArray("\",\"baz\":1}"));
+
+        // the bytes are written as they are
+        XContentBuilder builder = MediaTypeRegistry.JSON.contentBuilder();
+        builder.startObject();
+        XContentHelper.writeRawField("_source", source, builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        assertEquals("{\"_source\":{\"foo\":\"bar\",\"baz\":1}}", BytesReference.bytes(builder).utf8ToString());
+
+        builder = MediaTypeRegistry.JSON.contentBuilder();
+        builder.startObject();
+        XContentHelper.writeRawField("_source", source, XContentType.JSON, builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        assertEquals("{\"_source\":{\"foo\":\"bar\",\"baz\":1}}", BytesReference.bytes(builder).utf8ToString());
+
+        // or converted to the content type of the builder
+        builder = XContentType.SMILE.contentBuilder();
+        builder.startObject();
+        XContentHelper.writeRawField("_source", source, XContentType.JSON, builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        Map<String, Object> map = XContentHelper.convertToMap(BytesReference.bytes(builder), true, XContentType.SMILE).v2();
+        assertEquals(Map.of("_source", Map.of("foo", "bar", "baz", 1)), map);
+    }
 }
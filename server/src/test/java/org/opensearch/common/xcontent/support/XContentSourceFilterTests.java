@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support;
+
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.opensearch.common.xcontent.XContentHelper.convertToMap;
+import static org.opensearch.core.xcontent.XContentHelper.toXContent;
+
+public class XContentSourceFilterTests extends AbstractFilteringTestCase {
+
+    @Override
+    protected void testFilter(Builder expected, Builder actual, Set<String> includes, Set<String> excludes) throws IOException {
+        final XContentType xContentType = randomFrom(XContentType.values());
+        final String[] sourceIncludes = includes == null ? Strings.EMPTY_ARRAY : includes.toArray(new String[0]);
+        final String[] sourceExcludes = excludes == null ? Strings.EMPTY_ARRAY : excludes.toArray(new String[0]);
+
+        BytesReference source = toBytes(actual, xContentType);
+        assertEquals(
+            "Filtered source must be equal to the expected map",
+            convertToMap(toBytes(expected, xContentType), true, xContentType).v2(),
+            convertToMap(filter(source, xContentType, sourceIncludes, sourceExcludes), true, xContentType).v2()
+        );
+    }
+
+    @Override
+    public void testSimpleArrayOfObjectsExclusive() throws Exception {
+        // Empty arrays are preserved like they are by XContentMapValues, they get removed only if explicitly excluded.
+        testFilter(SIMPLE_ARRAY_OF_OBJECTS_EXCLUSIVE, SAMPLE, emptySet(), singleton("authors"));
+    }
+
+    public void testSameResultAsMapFiltering() throws IOException {
+        final XContentType xContentType = randomFrom(XContentType.values());
+        final BytesReference source = toBytes(SAMPLE, xContentType);
+        final Map<String, Object> sourceAsMap = convertToMap(source, true, xContentType).v2();
+        final String[][] patterns = new String[][] {
+            Strings.EMPTY_ARRAY,
+            { "title" },
+            { "pages", "price" },
+            { "authors.name" },
+            { "properties.language.*.lang" },
+            { "properties.*" },
+            { "*.name" },
+            { "properties.language.en" },
+            { "tags", "prop*" },
+            { "title.name" },
+            { "*.*.lang" },
+            { "does.not.exist" } };
+        for (String[] includes : patterns) {
+            for (String[] excludes : patterns) {
+                assertEquals(
+                    "includes " + String.join(",", includes) + " excludes " + String.join(",", excludes),
+                    XContentMapValues.filter(sourceAsMap, includes, excludes),
+                    convertToMap(filter(source, xContentType, includes, excludes), true, xContentType).v2()
+                );
+            }
+        }
+    }
+
+    public void testKeepsLeavesThatOnlyInnerExcludesCouldMatch() throws IOException {
+        final XContentType xContentType = randomFrom(XContentType.values());
+        final BytesReference source = toBytes(
+            builder -> builder.startObject()
+                .field("user", "x")
+                .field("count", 3)
+                .nullField("missing")
+                .startObject("owner")
+                .field("name", "y")
+                .field("id", 1)
+                .endObject()
+                .endObject(),
+            xContentType
+        );
+        final Map<String, Object> sourceAsMap = convertToMap(source, true, xContentType).v2();
+        for (String[] excludes : new String[][] { { "*.name" }, { "user.name" }, { "owner.name" } }) {
+            final Map<String, Object> filtered = convertToMap(
+                filter(source, xContentType, Strings.EMPTY_ARRAY, excludes),
+                true,
+                xContentType
+            ).v2();
+            assertEquals(
+                "excludes " + String.join(",", excludes),
+                XContentMapValues.filter(sourceAsMap, Strings.EMPTY_ARRAY, excludes),
+                filtered
+            );
+            assertEquals("x", filtered.get("user"));
+            assertEquals(3, filtered.get("count"));
+            assertTrue(filtered.containsKey("missing"));
+        }
+    }
+
+    public void testAlwaysWritesRootObject() throws IOException {
+        final BytesReference source = toBytes(SAMPLE, XContentType.JSON);
+        BytesReference filtered = filter(source, XContentType.JSON, new String[] { "does.not.exist" }, Strings.EMPTY_ARRAY);
+        assertEquals("{}", filtered.utf8ToString());
+    }
+
+    private static BytesReference filter(BytesReference source, XContentType xContentType, String[] includes, String[] excludes)
+        throws IOException {
+        try (
+            XContentParser parser = xContentType.xContent()
+                .createParser(NamedXContentRegistry.EMPTY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source.streamInput())
+        ) {
+            XContentBuilder builder = XContentBuilder.builder(xContentType.xContent());
+            new XContentSourceFilter(includes, excludes).filter(parser, builder);
+            return BytesReference.bytes(builder);
+        }
+    }
+
+    private static BytesReference toBytes(Builder test, XContentType xContentType) throws IOException {
+        ToXContentObject toXContent = (builder, params) -> test.apply(builder);
+        return toXContent(toXContent, xContentType, randomBoolean());
+    }
+}
@@ -49,6 +49,8 @@ import org.opensearch.env.Environment;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.analysis.IndexAnalyzers;
 import org.opensearch.index.codec.composite.composite104.Composite104Codec;
+import org.opensearch.index.codec.zstd.ZstdDict104Codec;
+import org.opensearch.index.codec.zstd.ZstdDictStoredFieldsFormat;
 import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.similarity.SimilarityService;
@@ -121,6 +123,23 @@ public class CodecTests extends OpenSearchTestCase {
         assert codec instanceof Composite104Codec;
     }
 
+    public void testZstdSegmentDict() throws Exception {
+        Codec codec = createCodecService(randomBoolean()).codec(CodecService.ZSTD_SEGMENT_DICT_CODEC);
+        assertThat(codec, instanceOf(ZstdDict104Codec.class));
+        assertThat(codec.storedFieldsFormat(), instanceOf(ZstdDictStoredFieldsFormat.class));
+        SegmentReader sr = getSegmentReader(codec);
+        assertEquals(ZstdDict104Codec.NAME, sr.getSegmentInfo().info.getCodec().getName());
+    }
+
+    public void testZstdSegmentDictWithCompressionLevel() {
+        final Settings settings = Settings.builder()
+            .put(INDEX_CODEC_COMPRESSION_LEVEL_SETTING.getKey(), randomIntBetween(1, 6))
+            .put(EngineConfig.INDEX_CODEC_SETTING.getKey(), CodecService.ZSTD_SEGMENT_DICT_CODEC)
+            .build();
+        final IndexScopedSettings indexScopedSettings = new IndexScopedSettings(settings, IndexScopedSettings.BUILT_IN_INDEX_SETTINGS);
+        indexScopedSettings.validate(settings, true);
+    }
+
     public void testResolveDefaultCodecsWithCompositeIndex() throws Exception {
         CodecService codecService = createCodecService(false, true);
         assertThat(codecService.codec("default"), instanceOf(Composite104Codec.class));
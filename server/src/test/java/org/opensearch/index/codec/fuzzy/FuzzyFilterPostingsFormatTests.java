@@ -22,6 +22,7 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.MultiTerms;
 import org.apache.lucene.index.Terms;
 import org.apache.lucene.index.TermsEnum;
@@ -202,6 +203,48 @@ public class FuzzyFilterPostingsFormatTests extends BasePostingsFormatTestCase {
         }
     }
 
+    public void testLookupStats() throws IOException {
+        Directory dir = new ByteBuffersDirectory();
+        IndexWriterConfig iwc = new IndexWriterConfig(new StandardAnalyzer());
+        iwc.setCodec(fuzzyFilterCodec);
+        int numTerms = 1000;
+        try (IndexWriter writer = new IndexWriter(dir, iwc)) {
+            for (int i = 0; i < numTerms; i++) {
+                Document doc = new Document();
+                doc.add(new StringField("_id", "id" + i, Field.Store.NO));
+                writer.addDocument(doc);
+            }
+            writer.forceMerge(1);
+        }
+        try (IndexReader reader = DirectoryReader.open(dir)) {
+            LeafReader leafReader = reader.leaves().get(0).reader();
+            assertEquals(new FuzzyFilterPostingsFormat.LookupStats(0, 0), FuzzyFilterPostingsFormat.lookupStats(leafReader.terms("_id")));
+
+            TermsEnum termsEnum = leafReader.terms("_id").iterator();
+            for (int i = 0; i < numTerms; i++) {
+                assertTrue(termsEnum.seekExact(new BytesRef("id" + i)));
+            }
+            assertEquals(
+                new FuzzyFilterPostingsFormat.LookupStats(0, numTerms),
+                FuzzyFilterPostingsFormat.lookupStats(leafReader.terms("_id"))
+            );
+
+            for (int i = numTerms; i < 2 * numTerms; i++) {
+                BytesRef absent = new BytesRef("id" + i);
+                assertFalse(termsEnum.seekExact(absent));
+                FuzzyFilterPostingsFormat.LookupStats before = FuzzyFilterPostingsFormat.lookupStats(leafReader.terms("_id"));
+                // the filter rules the term out, or the terms dictionary has just been seeked for it and it is cached as absent
+                assertFalse(termsEnum.seekExact(absent));
+                FuzzyFilterPostingsFormat.LookupStats after = FuzzyFilterPostingsFormat.lookupStats(leafReader.terms("_id"));
+                assertEquals(before.hits() + 1, after.hits());
+                assertEquals(before.misses(), after.misses());
+            }
+            FuzzyFilterPostingsFormat.LookupStats stats = FuzzyFilterPostingsFormat.lookupStats(leafReader.terms("_id"));
+            assertEquals(3 * numTerms, stats.hits() + stats.misses());
+            assertTrue("too many false positives: " + stats, stats.hits() > 3 * numTerms / 2);
+        }
+    }
+
     public void testLargeNumberOfTerms() throws IOException {
         Directory dir = new ByteBuffersDirectory();
         IndexWriterConfig iwc = new IndexWriterConfig(new StandardAnalyzer());
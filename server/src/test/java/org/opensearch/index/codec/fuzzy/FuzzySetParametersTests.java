@@ -126,6 +126,31 @@ public class FuzzySetParametersTests extends OpenSearchTestCase {
         assertTrue("Fill ratio should not be completely saturated", fillRatio < 1.0);
     }
 
+    public void testAdaptiveFalsePositiveProbability() {
+        double fpp = 0.2;
+        FuzzySetParameters fixed = new FuzzySetParameters(() -> fpp);
+        assertEquals(fpp, fixed.getFalsePositiveProbability(1000), 0.0);
+        assertEquals(fpp, fixed.getFalsePositiveProbability(Integer.MAX_VALUE), 0.0);
+
+        FuzzySetParameters adaptive = new FuzzySetParameters(() -> fpp, () -> true);
+        assertEquals(fpp, adaptive.getFalsePositiveProbability(), 0.0);
+        assertEquals(
+            FuzzySetParameters.SMALL_SEGMENT_FALSE_POSITIVE_PROBABILITY,
+            adaptive.getFalsePositiveProbability(FuzzySetParameters.SMALL_SEGMENT_MAX_DOCS),
+            0.0
+        );
+        assertEquals(
+            FuzzySetParameters.MEDIUM_SEGMENT_FALSE_POSITIVE_PROBABILITY,
+            adaptive.getFalsePositiveProbability(FuzzySetParameters.SMALL_SEGMENT_MAX_DOCS + 1),
+            0.0
+        );
+        assertEquals(fpp, adaptive.getFalsePositiveProbability(FuzzySetParameters.MEDIUM_SEGMENT_MAX_DOCS + 1), 0.0);
+
+        // a configured probability lower than the adaptive one is kept
+        FuzzySetParameters adaptiveLow = new FuzzySetParameters(() -> 0.01, () -> true);
+        assertEquals(0.01, adaptiveLow.getFalsePositiveProbability(FuzzySetParameters.SMALL_SEGMENT_MAX_DOCS + 1), 0.0);
+    }
+
     private long hash(String value, int seed) {
         long h = seed * 31L + value.hashCode();
         h = h * h * h * 31L;
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.zstd;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.BaseStoredFieldsFormatTestCase;
+import org.apache.lucene.tests.util.LuceneTestCase;
+import org.apache.lucene.tests.util.TestUtil;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@LuceneTestCase.SuppressSysoutChecks(bugUrl = "")
+public class ZstdDictStoredFieldsFormatTests extends BaseStoredFieldsFormatTestCase {
+
+    @Override
+    protected Codec getCodec() {
+        return new ZstdDict104Codec(TestUtil.nextInt(random(), 1, 6));
+    }
+
+    public void testNoDictionaryForFewSamples() {
+        final List<byte[]> samples = new ArrayList<>();
+        for (int i = 0; i < ZstdDictStoredFieldsFormat.MIN_SAMPLE_DOCS - 1; i++) {
+            samples.add(logLine(i).getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(0, ZstdDictStoredFieldsWriter.trainDictionary(samples).length);
+    }
+
+    public void testTrainsDictionaryPerSegment() throws IOException {
+        try (Directory dir = newDirectory()) {
+            final IndexWriterConfig iwc = newIndexWriterConfig(null);
+            iwc.setCodec(getCodec());
+            iwc.setMaxBufferedDocs(100_000);
+            iwc.setRAMBufferSizeMB(IndexWriterConfig.DISABLE_AUTO_FLUSH);
+            final int numDocs = atLeast(2_000);
+            try (IndexWriter iw = new IndexWriter(dir, iwc)) {
+                for (int i = 0; i < numDocs; i++) {
+                    final Document doc = new Document();
+                    doc.add(new StoredField("_source", new BytesRef(logLine(i))));
+                    doc.add(new StoredField("seq", i));
+                    iw.addDocument(doc);
+                }
+                iw.forceMerge(1);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertEquals(1, reader.leaves().size());
+                final LeafReaderContext leaf = reader.leaves().get(0);
+                final SegmentReader segmentReader = (SegmentReader) leaf.reader();
+                final byte[] dictionary = ZstdDictStoredFieldsFormat.readDictionary(dir, segmentReader.getSegmentInfo().info);
+                assertTrue(dictionary.length > 0);
+                assertTrue(dictionary.length <= ZstdDictStoredFieldsFormat.DICTIONARY_SIZE);
+
+                final StoredFields storedFields = leaf.reader().storedFields();
+                for (int i = 0; i < 100; i++) {
+                    final int docId = random().nextInt(numDocs);
+                    final Document doc = storedFields.document(docId);
+                    assertEquals(docId, doc.getField("seq").numericValue().intValue());
+                    assertEquals(new BytesRef(logLine(docId)), doc.getBinaryValue("_source"));
+                }
+            }
+        }
+    }
+
+    private static String logLine(int i) {
+        return "{\"@timestamp\":\"2026-10-19T10:"
+            + (i % 60)
+            + ":00Z\",\"log\":{\"level\":\""
+            + (i % 7 == 0 ? "WARN" : "INFO")
+            + "\"},\"http\":{\"request\":{\"method\":\"GET\"},\"response\":{\"status_code\":"
+            + (i % 13 == 0 ? 404 : 200)
+            + "}},\"url\":{\"path\":\"/api/v1/items/"
+            + i
+            + "\"}}";
+    }
+}
@@ -85,6 +85,7 @@ public class EngineConfigFactoryTests extends OpenSearchTestCase {
             null,
             null,
             null,
+            null,
             null
         );
 
@@ -199,6 +200,7 @@ public class EngineConfigFactoryTests extends OpenSearchTestCase {
             null,
             null,
             null,
+            null,
             null
         );
         assertNotNull(config.getCodec());
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.index.MergeTrigger;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.MergeSchedulerConfig;
+import org.opensearch.index.merge.MergedSegmentTransferTracker;
+import org.opensearch.indices.NodeMergeScheduler;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class OpenSearchConcurrentMergeSchedulerTests extends OpenSearchTestCase {
+
+    private static final long MB = 1024 * 1024;
+
+    /**
+     * Two merges of a shard that are large enough for the merge scheduler of the shard to pause the largest one beyond its thread count,
+     * while the node has a single merge slot: the large merge holds the slot and must not be paused for the small one, which waits
+     * for that slot.
+     */
+    public void testWaitingMergeDoesNotPauseTheMergeThatHoldsItsSlot() throws Exception {
+        final Settings nodeSettings = Settings.builder().put(NodeMergeScheduler.MAX_CONCURRENT_MERGES_SETTING.getKey(), 1).build();
+        final NodeMergeScheduler nodeMergeScheduler = new NodeMergeScheduler(
+            nodeSettings,
+            new ClusterSettings(nodeSettings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final NodeMergeScheduler.ShardQueue nodeMergeQueue = nodeMergeScheduler.newShardQueue(shardId, () -> 0L);
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings(
+            "index",
+            Settings.builder().put(MergeSchedulerConfig.MAX_THREAD_COUNT_SETTING.getKey(), 1).build()
+        );
+        final OpenSearchConcurrentMergeScheduler scheduler = new OpenSearchConcurrentMergeScheduler(
+            shardId,
+            indexSettings,
+            new MergedSegmentTransferTracker(),
+            nodeMergeQueue
+        );
+
+        try (Directory directory = newDirectory(); Directory mergeDirectory = new ByteBuffersDirectory()) {
+            final List<SegmentCommitInfo> segments = newSegments(directory, 2);
+            // the merge scheduler only pauses merges above 50MB
+            final MergePolicy.OneMerge large = new MergePolicy.OneMerge(List.of(segments.get(0)));
+            large.estimatedMergeBytes = 200 * MB;
+            final MergePolicy.OneMerge small = new MergePolicy.OneMerge(List.of(segments.get(1)));
+            small.estimatedMergeBytes = 60 * MB;
+
+            final Queue<MergePolicy.OneMerge> pending = new ConcurrentLinkedQueue<>();
+            final CountDownLatch largeStarted = new CountDownLatch(1);
+            final CountDownLatch merged = new CountDownLatch(2);
+            final MergeScheduler.MergeSource mergeSource = new MergeScheduler.MergeSource() {
+                @Override
+                public MergePolicy.OneMerge getNextMerge() {
+                    return pending.poll();
+                }
+
+                @Override
+                public void onMergeFinished(MergePolicy.OneMerge merge) {}
+
+                @Override
+                public boolean hasPendingMerges() {
+                    return pending.isEmpty() == false;
+                }
+
+                @Override
+                public void merge(MergePolicy.OneMerge merge) throws IOException {
+                    try {
+                        if (merge == large) {
+                            largeStarted.countDown();
+                            // write through the rate limiter that pauses merges until the small merge waits for the slot, and some more
+                            final Directory rateLimited = scheduler.wrapForMerge(merge, mergeDirectory);
+                            try (IndexOutput out = rateLimited.createOutput("large", IOContext.merge(merge.getStoreMergeInfo()))) {
+                                final byte[] chunk = new byte[64 * 1024];
+                                while (nodeMergeQueue.queued() == 0) {
+                                    out.writeBytes(chunk, chunk.length);
+                                }
+                                for (int i = 0; i < 64; i++) {
+                                    out.writeBytes(chunk, chunk.length);
+                                }
+                            }
+                        }
+                    } finally {
+                        merged.countDown();
+                    }
+                }
+            };
+
+            pending.add(large);
+            scheduler.merge(mergeSource, MergeTrigger.SEGMENT_FLUSH);
+            assertTrue(largeStarted.await(30, TimeUnit.SECONDS));
+            pending.add(small);
+            scheduler.merge(mergeSource, MergeTrigger.SEGMENT_FLUSH);
+
+            assertTrue("the merges of the shard are deadlocked", merged.await(30, TimeUnit.SECONDS));
+            scheduler.close();
+            assertEquals(0, nodeMergeScheduler.running());
+            assertEquals(0, nodeMergeScheduler.queued());
+        }
+    }
+
+    private static List<SegmentCommitInfo> newSegments(Directory directory, int count) throws IOException {
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            for (int i = 0; i < count; i++) {
+                writer.addDocument(new Document());
+                writer.commit();
+            }
+        }
+        return SegmentInfos.readLatestCommit(directory).asList();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.greaterThan;
+
+public class PackedVersionMapTests extends OpenSearchTestCase {
+
+    public void testPutGetRemove() {
+        final PackedVersionMap map = new PackedVersionMap(randomIntBetween(0, 100));
+        final Map<BytesRef, VersionValue> expected = new HashMap<>();
+        final long initialRamBytesUsed = map.ramBytesUsed();
+        final int numOps = randomIntBetween(1000, 3000);
+        for (int i = 0; i < numOps; i++) {
+            final BytesRef uid = new BytesRef("id-" + randomIntBetween(0, 2000));
+            switch (randomIntBetween(0, 2)) {
+                case 0:
+                    final Translog.Location location = randomBoolean()
+                        ? null
+                        : new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomIntBetween(0, 1000));
+                    final VersionValue index = new IndexVersionValue(location, randomNonNegativeLong(), i, randomNonNegativeLong());
+                    assertEquals(expected.put(uid, index), map.put(uid, index));
+                    break;
+                case 1:
+                    final VersionValue delete = new DeleteVersionValue(randomNonNegativeLong(), i, randomNonNegativeLong(), i);
+                    assertEquals(expected.put(uid, delete), map.put(uid, delete));
+                    break;
+                default:
+                    assertEquals(expected.remove(uid), map.remove(uid));
+            }
+            assertEquals(expected.get(uid), map.get(uid));
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(expected, map);
+        assertNull(map.get(new BytesRef("missing")));
+        assertThat(map.ramBytesUsed(), greaterThan(initialRamBytesUsed));
+    }
+}
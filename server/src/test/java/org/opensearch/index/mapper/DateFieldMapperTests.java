@@ -177,6 +177,16 @@ public class DateFieldMapperTests extends MapperTestCase {
         assertEquals(1, fields.length);
         IndexableField dvField = fields[0];
         assertEquals(DocValuesType.SORTED_NUMERIC, dvField.fieldType().docValuesType());
+        // doc values only fields get a skip index by default
+        assertEquals(DocValuesSkipIndexType.RANGE, dvField.fieldType().docValuesSkipIndexType());
+
+        mapper = createDocumentMapper(fieldMapping(b -> b.field("type", "date").field("index", false).field("skip_list", false)));
+        fields = mapper.parse(source(b -> b.field("field", "2016-03-11"))).rootDoc().getFields("field");
+        assertEquals(DocValuesSkipIndexType.NONE, fields[0].fieldType().docValuesSkipIndexType());
+
+        mapper = createDocumentMapper(Version.V_3_2_0, fieldMapping(b -> b.field("type", "date").field("index", false)));
+        fields = mapper.parse(source(b -> b.field("field", "2016-03-11"))).rootDoc().getFields("field");
+        assertEquals(DocValuesSkipIndexType.NONE, fields[0].fieldType().docValuesSkipIndexType());
     }
 
     public void testNoDocValues() throws Exception {
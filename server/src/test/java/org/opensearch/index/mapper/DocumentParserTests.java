@@ -1324,6 +1324,7 @@ public class DocumentParserTests extends MapperServiceTestCase {
         );
 
         mapper.parse(source(b -> b.field("foo._field_names", 0))); // parses without error
+        mapper.parse(source(b -> b.startObject("foo").field("_field_names", 0).endObject())); // parses without error
     }
 
     public void testDocumentContainsAllowedMetadataField() throws Exception {
@@ -49,6 +49,7 @@ import org.apache.lucene.sandbox.document.BigIntegerPoint;
 import org.apache.lucene.sandbox.document.HalfFloatPoint;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.NumericUtils;
+import org.opensearch.Version;
 import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.settings.Settings;
@@ -145,7 +146,8 @@ public class NumberFieldMapperTests extends AbstractNumericFieldMapperTestCase {
         assertEquals(1, fields.length);
         IndexableField dvField = fields[0];
         assertEquals(DocValuesType.SORTED_NUMERIC, dvField.fieldType().docValuesType());
-        assertEquals(DocValuesSkipIndexType.NONE, dvField.fieldType().docValuesSkipIndexType());
+        // doc values only fields get a skip index by default
+        assertEquals(DocValuesSkipIndexType.RANGE, dvField.fieldType().docValuesSkipIndexType());
     }
 
     @Override
@@ -501,6 +503,22 @@ public class NumberFieldMapperTests extends AbstractNumericFieldMapperTestCase {
         }
     }
 
+    public void testSkipListDefaultOnlyForDocValuesOnlyFields() throws IOException {
+        for (String type : types()) {
+            DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> b.field("type", type)));
+            IndexableField[] fields = mapper.parse(source(b -> b.field("field", 123))).rootDoc().getFields("field");
+            assertEquals(DocValuesSkipIndexType.NONE, fields[1].fieldType().docValuesSkipIndexType());
+
+            mapper = createDocumentMapper(fieldMapping(b -> b.field("type", type).field("index", false).field("skip_list", false)));
+            fields = mapper.parse(source(b -> b.field("field", 123))).rootDoc().getFields("field");
+            assertEquals(DocValuesSkipIndexType.NONE, fields[0].fieldType().docValuesSkipIndexType());
+
+            mapper = createDocumentMapper(Version.V_3_2_0, fieldMapping(b -> b.field("type", type).field("index", false)));
+            fields = mapper.parse(source(b -> b.field("field", 123))).rootDoc().getFields("field");
+            assertEquals(DocValuesSkipIndexType.NONE, fields[0].fieldType().docValuesSkipIndexType());
+        }
+    }
+
     private NumberFieldMapper getMapper(NumberType numberType, FieldMapper.CopyTo copyTo, boolean hasDocValues, boolean isStored)
         throws IOException {
         MapperService mapperService = createMapperService(
@@ -43,6 +43,7 @@ import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.sandbox.document.BigIntegerPoint;
 import org.apache.lucene.sandbox.document.HalfFloatPoint;
 import org.apache.lucene.search.IndexOrDocValuesQuery;
@@ -77,6 +78,7 @@ import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.MultiValueMode;
 import org.opensearch.search.approximate.ApproximatePointRangeQuery;
 import org.opensearch.search.approximate.ApproximateScoreQuery;
+import org.opensearch.search.lookup.SourceLookup;
 import org.opensearch.search.query.Bitmap64DocValuesQuery;
 import org.opensearch.search.query.Bitmap64IndexQuery;
 import org.opensearch.search.query.BitmapDocValuesQuery;
@@ -1094,4 +1096,40 @@ public class NumberFieldTypeTests extends FieldTypeTestCase {
         }
         IOUtils.close(w, dir);
     }
+
+    public void testPrefetchedDocValues() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, new IndexWriterConfig(null));
+        w.addDocument(new Document());
+        for (long[] values : new long[][] { { 3, 1 }, { 5 }, { 7 } }) {
+            Document doc = new Document();
+            for (long value : values) {
+                doc.add(new SortedNumericDocValuesField("field", value));
+            }
+            w.addDocument(doc);
+        }
+        try (DirectoryReader reader = DirectoryReader.open(w)) {
+            final NumberFieldType ft = new NumberFieldType("field", NumberType.LONG);
+            IndexNumericFieldData fielddata = (IndexNumericFieldData) ft.fielddataBuilder(
+                "index",
+                () -> { throw new UnsupportedOperationException(); }
+            ).build(null, null);
+            DocValueFetcher fetcher = new DocValueFetcher(DocValueFormat.RAW, fielddata);
+            LeafReaderContext context = reader.leaves().get(0);
+            fetcher.setNextReader(context);
+            fetcher.prefetch(new int[] { 0, 1, 2 });
+
+            SourceLookup lookup = new SourceLookup();
+            lookup.setSegmentAndDocument(context, 0);
+            assertEquals(List.of(), fetcher.fetchValues(lookup));
+            lookup.setSegmentAndDocument(context, 1);
+            assertEquals(List.of(1L, 3L), fetcher.fetchValues(lookup));
+            lookup.setSegmentAndDocument(context, 2);
+            assertEquals(List.of(5L), fetcher.fetchValues(lookup));
+            // documents that were not prefetched are still loaded from the doc values
+            lookup.setSegmentAndDocument(context, 3);
+            assertEquals(List.of(7L), fetcher.fetchValues(lookup));
+        }
+        IOUtils.close(w, dir);
+    }
 }
@@ -165,6 +165,25 @@ public class MergeStatsTests extends OpenSearchTestCase {
         assertEquals(8, stats.getUnreferencedFileCleanUpsPerformed());
     }
 
+    public void testQueueStats() {
+        MergeStats stats = new MergeStats();
+        stats.addQueueStats(2, 100);
+        assertEquals(2, stats.getCurrentQueued());
+        assertEquals(100, stats.getTotalQueuedTimeInMillis());
+        assertEquals(new TimeValue(100), stats.getTotalQueuedTime());
+
+        MergeStats other = new MergeStats();
+        other.addQueueStats(1, 50);
+        stats.add(other);
+        assertEquals(3, stats.getCurrentQueued());
+        assertEquals(150, stats.getTotalQueuedTimeInMillis());
+
+        // only the totals of merges that are no longer queued carry over
+        stats.addTotals(other);
+        assertEquals(3, stats.getCurrentQueued());
+        assertEquals(200, stats.getTotalQueuedTimeInMillis());
+    }
+
     public void testGetters() {
         MergeStats stats = new MergeStats();
         MergedSegmentWarmerStats warmerStats = new MergedSegmentWarmerStats();
@@ -200,6 +219,7 @@ public class MergeStatsTests extends OpenSearchTestCase {
 
         original.add(5, 100, 50, 1024, 2, 25, 512, 10, 20, 1.5, warmerStats);
         original.addUnreferencedFileCleanUpStats(3);
+        original.addQueueStats(4, 250);
 
         BytesStreamOutput out = new BytesStreamOutput();
         original.writeTo(out);
@@ -218,6 +238,8 @@ public class MergeStatsTests extends OpenSearchTestCase {
         assertEquals(original.getTotalStoppedTimeInMillis(), deserialized.getTotalStoppedTimeInMillis());
         assertEquals(original.getTotalThrottledTimeInMillis(), deserialized.getTotalThrottledTimeInMillis());
         assertEquals(original.getTotalBytesPerSecAutoThrottle(), deserialized.getTotalBytesPerSecAutoThrottle());
+        assertEquals(original.getCurrentQueued(), deserialized.getCurrentQueued());
+        assertEquals(original.getTotalQueuedTimeInMillis(), deserialized.getTotalQueuedTimeInMillis());
     }
 
     public void testToXContent() throws IOException {
@@ -240,5 +262,7 @@ public class MergeStatsTests extends OpenSearchTestCase {
         assertTrue(json.contains("total_docs"));
         assertTrue(json.contains("total_size_in_bytes"));
         assertTrue(json.contains("warmer"));
+        assertTrue(json.contains("current_queued"));
+        assertTrue(json.contains("total_queued_time_in_millis"));
     }
 }
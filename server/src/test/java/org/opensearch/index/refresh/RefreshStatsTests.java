@@ -46,6 +46,8 @@ public class RefreshStatsTests extends OpenSearchTestCase {
             .externalTotal(randomNonNegativeLong())
             .externalTotalTimeInMillis(randomNonNegativeLong())
             .listeners(between(0, Integer.MAX_VALUE))
+            .adaptiveTotal(randomNonNegativeLong())
+            .adaptiveDeferred(randomNonNegativeLong())
             .build();
 
         BytesStreamOutput out = new BytesStreamOutput();
@@ -58,5 +60,7 @@ public class RefreshStatsTests extends OpenSearchTestCase {
         assertEquals(stats.getListeners(), read.getListeners());
         assertEquals(stats.getTotalTimeInMillis(), read.getTotalTimeInMillis());
         assertEquals(stats.getExternalTotalTimeInMillis(), read.getExternalTotalTimeInMillis());
+        assertEquals(stats.getAdaptiveTotal(), read.getAdaptiveTotal());
+        assertEquals(stats.getAdaptiveDeferred(), read.getAdaptiveDeferred());
     }
 }
@@ -157,6 +157,7 @@ import static org.hamcrest.Matchers.hasToString;
 import static org.hamcrest.Matchers.in;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
@@ -714,6 +715,25 @@ public class LocalTranslogTests extends OpenSearchTestCase {
         assertNull(translog.readOperation(new Location(100, 0, 0)));
     }
 
+    public void testCompressedSource() throws IOException {
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_COMPRESSION_ENABLED_SETTING.getKey(), true)
+            .build();
+        try (Translog compressing = createTranslog(getTranslogConfig(createTempDir(), settings))) {
+            final byte[] largeSource = ("{\"message\":\"" + "a repetitive log line ".repeat(100) + "\"}").getBytes(StandardCharsets.UTF_8);
+            final List<Translog.Operation> ops = new ArrayList<>();
+            final Location large = addToTranslogAndList(compressing, ops, new Translog.Index("1", 0, primaryTerm.get(), largeSource));
+            final Location small = addToTranslogAndList(compressing, ops, new Translog.Index("2", 1, primaryTerm.get(), new byte[] { 1 }));
+            assertThat(large.size, lessThan(largeSource.length));
+            assertEquals(ops.get(0), compressing.readOperation(large));
+            assertEquals(ops.get(1), compressing.readOperation(small));
+            try (Translog.Snapshot snapshot = compressing.newSnapshot()) {
+                assertThat(snapshot, SnapshotMatchers.containsOperationsInAnyOrder(ops));
+            }
+        }
+    }
+
     public void testSnapshotWithNewTranslog() throws IOException {
         List<Closeable> toClose = new ArrayList<>();
         try {
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.cluster.coordination.DeterministicTaskQueue;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.opensearch.node.Node.NODE_NAME_SETTING;
+
+public class TranslogGroupCommitServiceTests extends OpenSearchTestCase {
+
+    public void testSyncsEachShardOncePerWindow() {
+        final Settings settings = Settings.builder()
+            .put(NODE_NAME_SETTING.getKey(), "node")
+            .put(TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_MAX_DELAY_SETTING.getKey(), "100ms")
+            .build();
+        final DeterministicTaskQueue taskQueue = new DeterministicTaskQueue(settings, random());
+        final TranslogGroupCommitService service = new TranslogGroupCommitService(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            taskQueue.getThreadPool(),
+            NoopMetricsRegistry.INSTANCE
+        );
+        final Path dataPath = createTempDir();
+        final ShardId shard0 = new ShardId("index", "_na_", 0);
+        final ShardId shard1 = new ShardId("index", "_na_", 1);
+
+        final List<List<Translog.Location>> shard0Syncs = new ArrayList<>();
+        final CheckedConsumer<List<Translog.Location>, IOException> shard0Syncer = shard0Syncs::add;
+        final IOException failure = new IOException("disk failure");
+        final CheckedConsumer<List<Translog.Location>, IOException> shard1Syncer = locations -> { throw failure; };
+
+        final List<AtomicReference<Exception>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(sync(service, dataPath, shard0, shard0Syncer, new Translog.Location(1, i * 10, 10)));
+        }
+        final AtomicReference<Exception> shard1Result = sync(service, dataPath, shard1, shard1Syncer, new Translog.Location(1, 0, 10));
+
+        // nothing is synced before the window is committed
+        taskQueue.runAllRunnableTasks();
+        assertTrue(shard0Syncs.isEmpty());
+        assertTrue(taskQueue.hasDeferredTasks());
+
+        taskQueue.advanceTime();
+        taskQueue.runAllRunnableTasks();
+        assertEquals(1, shard0Syncs.size());
+        assertEquals(3, shard0Syncs.get(0).size());
+        for (AtomicReference<Exception> result : results) {
+            assertNull(result.get());
+        }
+        // a failed sync only fails the requests of its own shard
+        assertSame(failure, shard1Result.get());
+        assertFalse(taskQueue.hasDeferredTasks());
+
+        // the next request opens a new window
+        final AtomicReference<Exception> next = sync(service, dataPath, shard0, shard0Syncer, new Translog.Location(1, 30, 10));
+        taskQueue.runAllTasks();
+        assertEquals(2, shard0Syncs.size());
+        assertNull(next.get());
+    }
+
+    private static AtomicReference<Exception> sync(
+        TranslogGroupCommitService service,
+        Path dataPath,
+        ShardId shardId,
+        CheckedConsumer<List<Translog.Location>, IOException> syncer,
+        Translog.Location location
+    ) {
+        final AtomicReference<Exception> result = new AtomicReference<>(new IllegalStateException("not synced"));
+        service.sync(dataPath, shardId, syncer, location, result::set);
+        return result;
+    }
+}
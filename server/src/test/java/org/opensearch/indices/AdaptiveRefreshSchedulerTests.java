@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.cluster.coordination.DeterministicTaskQueue;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardTestCase;
+
+import java.util.List;
+
+import static org.opensearch.node.Node.NODE_NAME_SETTING;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class AdaptiveRefreshSchedulerTests extends IndexShardTestCase {
+
+    public void testTargetInterval() {
+        // nobody searches
+        assertEquals(30_000, AdaptiveRefreshScheduler.targetIntervalInMillis(0, false, 200, 30_000));
+        // one search per second
+        assertEquals(1_000, AdaptiveRefreshScheduler.targetIntervalInMillis(1, false, 200, 30_000));
+        assertEquals(2_000, AdaptiveRefreshScheduler.targetIntervalInMillis(1, true, 200, 30_000));
+        // hot and cold shards are held within the bounds
+        assertEquals(200, AdaptiveRefreshScheduler.targetIntervalInMillis(1_000, false, 200, 30_000));
+        assertEquals(30_000, AdaptiveRefreshScheduler.targetIntervalInMillis(0.001, true, 200, 30_000));
+        // the minimum wins if the bounds are crossed
+        assertEquals(500, AdaptiveRefreshScheduler.targetIntervalInMillis(0, false, 500, 100));
+    }
+
+    public void testDefersRefreshOfShardsNobodySearches() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(NODE_NAME_SETTING.getKey(), "node")
+            .put(AdaptiveRefreshScheduler.MIN_INTERVAL_SETTING.getKey(), "100ms")
+            .put(AdaptiveRefreshScheduler.MAX_INTERVAL_SETTING.getKey(), "10s")
+            .build();
+        final DeterministicTaskQueue taskQueue = new DeterministicTaskQueue(settings, random());
+        final IndexShard shard = newStartedShard(true);
+        shard.useAdaptiveRefresh();
+        assertTrue(shard.isAdaptiveRefreshEnabled());
+        final AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            taskQueue.getThreadPool(),
+            List.of(shard)
+        );
+        try {
+            indexDoc(shard, "_doc", "1");
+            final long startTimeInMillis = taskQueue.getCurrentTimeMillis();
+            while (shard.refreshStats().getAdaptiveTotal() == 0 && taskQueue.getCurrentTimeMillis() - startTimeInMillis < 20_000) {
+                taskQueue.advanceTime();
+                taskQueue.runAllRunnableTasks();
+            }
+            assertEquals(1, shard.refreshStats().getAdaptiveTotal());
+            assertThat(shard.refreshStats().getAdaptiveDeferred(), greaterThan(0L));
+            assertThat(taskQueue.getCurrentTimeMillis() - startTimeInMillis, greaterThanOrEqualTo(10_000L));
+            assertDocCount(shard, 1);
+        } finally {
+            scheduler.close();
+            closeShards(shard);
+        }
+    }
+
+    public void testSkipsShardsWhoseRefreshIsRunning() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(NODE_NAME_SETTING.getKey(), "node")
+            .put(AdaptiveRefreshScheduler.PENDING_BUFFER_SIZE_SETTING.getKey(), "0b")
+            .build();
+        final DeterministicTaskQueue taskQueue = new DeterministicTaskQueue(settings, random());
+        final IndexShard shard = newStartedShard(true);
+        shard.useAdaptiveRefresh();
+        final AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            taskQueue.getThreadPool(),
+            List.of(shard)
+        );
+        try {
+            indexDoc(shard, "_doc", "1");
+            // the first round only starts the state of the shard
+            scheduler.refreshShards();
+            assertFalse(taskQueue.hasRunnableTasks());
+            // the refresh is due right away and forked
+            scheduler.refreshShards();
+            assertTrue(scheduler.isRefreshing(shard));
+            // the shard is left out while its refresh did not run
+            scheduler.refreshShards();
+            taskQueue.runNextTask();
+            assertFalse(taskQueue.hasRunnableTasks());
+            assertFalse(scheduler.isRefreshing(shard));
+            assertEquals(1, shard.refreshStats().getAdaptiveTotal());
+            assertDocCount(shard, 1);
+        } finally {
+            scheduler.close();
+            closeShards(shard);
+        }
+    }
+}
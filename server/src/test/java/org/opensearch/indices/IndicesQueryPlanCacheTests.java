@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.cache.queryplan.QueryPlanCacheStats;
+import org.opensearch.index.cache.queryplan.ShardQueryPlanCache;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.query.ParsedQuery;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.lucene.queries.MinDocQuery;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IndicesQueryPlanCacheTests extends OpenSearchTestCase {
+
+    private static final ShardId SHARD_ID = new ShardId(new Index("index", "index_uuid"), 0);
+
+    public void testIsReusable() {
+        Query term = new TermQuery(new Term("field", "value"));
+        assertTrue(IndicesQueryPlanCache.isReusable(term));
+        assertTrue(IndicesQueryPlanCache.isReusable(new MatchAllDocsQuery()));
+        assertTrue(IndicesQueryPlanCache.isReusable(new BoostQuery(new ConstantScoreQuery(term), 2f)));
+        assertTrue(
+            IndicesQueryPlanCache.isReusable(
+                new BooleanQuery.Builder().add(term, BooleanClause.Occur.MUST).add(term, BooleanClause.Occur.FILTER).build()
+            )
+        );
+
+        Query custom = new MinDocQuery(1);
+        assertFalse(IndicesQueryPlanCache.isReusable(custom));
+        assertFalse(IndicesQueryPlanCache.isReusable(new BoostQuery(custom, 2f)));
+        assertFalse(IndicesQueryPlanCache.isReusable(new BooleanQuery.Builder().add(custom, BooleanClause.Occur.SHOULD).build()));
+        assertFalse(IndicesQueryPlanCache.isReusable(new ParsedQuery(term, Map.of("name", custom))));
+    }
+
+    public void testGetOrParse() {
+        IndicesQueryPlanCache cache = new IndicesQueryPlanCache(Settings.EMPTY);
+        ShardQueryPlanCache shardCache = new ShardQueryPlanCache();
+        QueryShardContext context = queryShardContext(1L, 0L);
+        AtomicInteger parsed = new AtomicInteger();
+
+        ParsedQuery first = cache.getOrParse(SHARD_ID, shardCache, context, QueryBuilders.termQuery("field", "value"), q -> {
+            parsed.incrementAndGet();
+            return new ParsedQuery(new TermQuery(new Term("field", "value")));
+        });
+        ParsedQuery second = cache.getOrParse(SHARD_ID, shardCache, context, QueryBuilders.termQuery("field", "value"), q -> {
+            throw new AssertionError("should be served from the cache");
+        });
+        assertSame(first, second);
+        assertEquals(1, parsed.get());
+        assertEquals(1, cache.count());
+
+        // queries that are not reusable are not cached
+        cache.getOrParse(
+            SHARD_ID,
+            shardCache,
+            context,
+            QueryBuilders.termQuery("field", "other"),
+            q -> new ParsedQuery(new MinDocQuery(1))
+        );
+        assertEquals(1, cache.count());
+
+        // changes to the mappings invalidate the cached queries
+        cache.getOrParse(SHARD_ID, shardCache, queryShardContext(2L, 0L), QueryBuilders.termQuery("field", "value"), q -> {
+            parsed.incrementAndGet();
+            return new ParsedQuery(new TermQuery(new Term("field", "value")));
+        });
+        assertEquals(2, parsed.get());
+
+        // and so do reloads of the search analyzers
+        cache.getOrParse(SHARD_ID, shardCache, queryShardContext(2L, 1L), QueryBuilders.termQuery("field", "value"), q -> {
+            parsed.incrementAndGet();
+            return new ParsedQuery(new TermQuery(new Term("field", "value")));
+        });
+        assertEquals(3, parsed.get());
+
+        QueryPlanCacheStats stats = shardCache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(4, stats.getMissCount());
+        assertEquals(3, stats.getCacheSize());
+
+        cache.close();
+        assertEquals(0, cache.count());
+        assertEquals(0, shardCache.stats().getCacheSize());
+    }
+
+    public void testInvalidatesClosedShardsAndRemovedIndices() {
+        IndicesQueryPlanCache cache = new IndicesQueryPlanCache(Settings.EMPTY);
+        ShardQueryPlanCache shardCache = new ShardQueryPlanCache();
+        ShardQueryPlanCache otherShardCache = new ShardQueryPlanCache();
+        ShardId otherShardId = new ShardId(SHARD_ID.getIndex(), 1);
+        QueryShardContext context = queryShardContext(1L, 0L);
+        cache.getOrParse(SHARD_ID, shardCache, context, QueryBuilders.termQuery("field", "a"), q -> termQuery("a"));
+        cache.getOrParse(otherShardId, otherShardCache, context, QueryBuilders.termQuery("field", "b"), q -> termQuery("b"));
+        assertEquals(2, cache.count());
+
+        // a closed shard no longer holds entries that keep its stats
+        cache.onClose(SHARD_ID);
+        assertEquals(1, cache.count());
+        assertEquals(0, shardCache.stats().getCacheSize());
+        assertEquals(1, otherShardCache.stats().getCacheSize());
+
+        cache.clearIndex("other_uuid");
+        assertEquals(1, cache.count());
+        cache.clearIndex(SHARD_ID.getIndex().getUUID());
+        assertEquals(0, cache.count());
+        assertEquals(0, otherShardCache.stats().getCacheSize());
+        assertEquals(0, otherShardCache.stats().getEvictions());
+    }
+
+    private static ParsedQuery termQuery(String value) {
+        return new ParsedQuery(new TermQuery(new Term("field", value)));
+    }
+
+    private static QueryShardContext queryShardContext(long mappingVersion, long searchAnalyzersGeneration) {
+        Index index = SHARD_ID.getIndex();
+        IndexSettings indexSettings = IndexSettingsModule.newIndexSettings(
+            index,
+            Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT).build()
+        );
+        MapperService mapperService = mock(MapperService.class);
+        when(mapperService.mappingVersion()).thenReturn(mappingVersion);
+        when(mapperService.searchAnalyzersGeneration()).thenReturn(searchAnalyzersGeneration);
+        QueryShardContext context = mock(QueryShardContext.class);
+        when(context.index()).thenReturn(index);
+        when(context.getIndexSettings()).thenReturn(indexSettings);
+        when(context.getMapperService()).thenReturn(mapperService);
+        when(context.allowExpensiveQueries()).thenReturn(true);
+        when(context.isCacheable()).thenReturn(true);
+        return context;
+    }
+}
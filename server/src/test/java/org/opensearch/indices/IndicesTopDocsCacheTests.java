@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.cache.topdocs.ShardTopDocsCache;
+import org.opensearch.index.cache.topdocs.TopDocsCacheStats;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class IndicesTopDocsCacheTests extends OpenSearchTestCase {
+
+    private static final ShardId SHARD_ID = new ShardId("index", "_na_", 0);
+    private static final DocValueFormat[] FORMATS = new DocValueFormat[] { DocValueFormat.RAW };
+
+    public void testHitsWithinWindow() throws IOException {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+            writer.addDocument(new Document());
+            DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), SHARD_ID);
+            IndicesTopDocsCache cache = new IndicesTopDocsCache(Settings.EMPTY);
+            ShardTopDocsCache shardCache = new ShardTopDocsCache();
+            BytesReference query = new BytesArray("query");
+
+            assertNull(cache.get(shardCache, SHARD_ID, reader.getReaderCacheHelper(), query, 10));
+            cache.put(shardCache, SHARD_ID, reader.getReaderCacheHelper(), query, topDocs(20), FORMATS, null, 20);
+            assertEquals(1, cache.count());
+
+            IndicesTopDocsCache.Value value = cache.get(shardCache, SHARD_ID, reader.getReaderCacheHelper(), query, 15);
+            assertNotNull(value);
+            TopDocsAndMaxScore page = value.topDocs(15);
+            assertEquals(15, page.topDocs.scoreDocs.length);
+            assertEquals(20, page.topDocs.totalHits.value());
+            assertArrayEquals(FORMATS, value.sortValueFormats());
+
+            // the window does not cover deeper pages
+            assertNull(cache.get(shardCache, SHARD_ID, reader.getReaderCacheHelper(), query, 21));
+            // other queries do not match
+            assertNull(cache.get(shardCache, SHARD_ID, reader.getReaderCacheHelper(), new BytesArray("other"), 5));
+
+            TopDocsCacheStats stats = shardCache.stats();
+            assertEquals(1, stats.getHitCount());
+            assertEquals(3, stats.getMissCount());
+            assertTrue(stats.getMemorySizeInBytes() > 0);
+
+            IOUtils.close(reader, cache);
+            assertEquals(0, shardCache.stats().getMemorySizeInBytes());
+        }
+    }
+
+    public void testExhaustiveEntryCoversAnyPage() throws IOException {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+            writer.addDocument(new Document());
+            DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), SHARD_ID);
+            IndicesTopDocsCache cache = new IndicesTopDocsCache(Settings.EMPTY);
+            ShardTopDocsCache shardCache = new ShardTopDocsCache();
+            BytesReference query = new BytesArray("query");
+
+            // fewer hits than requested means that the query has no more matches
+            cache.put(shardCache, SHARD_ID, reader.getReaderCacheHelper(), query, topDocs(3), FORMATS, null, 100);
+            IndicesTopDocsCache.Value value = cache.get(shardCache, SHARD_ID, reader.getReaderCacheHelper(), query, 500);
+            assertNotNull(value);
+            assertEquals(3, value.topDocs(500).topDocs.scoreDocs.length);
+
+            IOUtils.close(reader, cache);
+        }
+    }
+
+    public void testReaderCloseInvalidatesEntries() throws IOException {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+            writer.addDocument(new Document());
+            DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), SHARD_ID);
+            IndicesTopDocsCache cache = new IndicesTopDocsCache(Settings.EMPTY);
+            ShardTopDocsCache shardCache = new ShardTopDocsCache();
+
+            cache.put(shardCache, SHARD_ID, reader.getReaderCacheHelper(), new BytesArray("a"), topDocs(10), FORMATS, null, 10);
+            cache.put(shardCache, SHARD_ID, reader.getReaderCacheHelper(), new BytesArray("b"), topDocs(10), FORMATS, null, 10);
+            // replacing an entry keeps it registered for invalidation
+            cache.put(shardCache, SHARD_ID, reader.getReaderCacheHelper(), new BytesArray("b"), topDocs(10), FORMATS, null, 10);
+            assertEquals(2, cache.count());
+
+            writer.addDocument(new Document());
+            DirectoryReader newReader = DirectoryReader.openIfChanged(reader);
+            assertNotNull(newReader);
+            cache.put(shardCache, SHARD_ID, newReader.getReaderCacheHelper(), new BytesArray("a"), topDocs(10), FORMATS, null, 10);
+            assertEquals(3, cache.count());
+
+            reader.close();
+            assertEquals(1, cache.count());
+            assertEquals(0, shardCache.stats().getEvictions());
+
+            newReader.close();
+            assertEquals(0, cache.count());
+            assertEquals(0, shardCache.stats().getMemorySizeInBytes());
+            cache.close();
+        }
+    }
+
+    public void testCopyDoesNotShareScoreDocs() {
+        ScoreDoc[] scoreDocs = new ScoreDoc[] { new FieldDoc(1, 2f, new Object[] { 3L }), new FieldDoc(4, 5f, new Object[] { 6L }) };
+        SortField[] sortFields = new SortField[] { new SortField("field", SortField.Type.LONG) };
+        TopDocsAndMaxScore original = new TopDocsAndMaxScore(
+            new TopFieldDocs(new TotalHits(2, TotalHits.Relation.EQUAL_TO), scoreDocs, sortFields),
+            5f
+        );
+        TopDocsAndMaxScore copy = IndicesTopDocsCache.copy(original, 1);
+        assertTrue(copy.topDocs instanceof TopFieldDocs);
+        assertSame(sortFields, ((TopFieldDocs) copy.topDocs).fields);
+        assertEquals(1, copy.topDocs.scoreDocs.length);
+        assertEquals(5f, copy.maxScore, 0f);
+
+        FieldDoc fieldDoc = (FieldDoc) copy.topDocs.scoreDocs[0];
+        assertNotSame(scoreDocs[0], fieldDoc);
+        assertEquals(1, fieldDoc.doc);
+        assertEquals(3L, fieldDoc.fields[0]);
+        fieldDoc.shardIndex = 7;
+        assertEquals(-1, scoreDocs[0].shardIndex);
+    }
+
+    private static TopDocsAndMaxScore topDocs(int numHits) {
+        ScoreDoc[] scoreDocs = new ScoreDoc[numHits];
+        for (int i = 0; i < numHits; i++) {
+            scoreDocs[i] = new ScoreDoc(i, numHits - i);
+        }
+        return new TopDocsAndMaxScore(new TopDocs(new TotalHits(numHits, TotalHits.Relation.EQUAL_TO), scoreDocs), numHits);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class NodeMergeSchedulerTests extends OpenSearchTestCase {
+
+    private static final long MB = 1024 * 1024;
+
+    public void testPriority() {
+        // small merges go before large merges that remove as many segments
+        assertThat(NodeMergeScheduler.priority(10, 0, 10 * MB, 0, 0), greaterThan(NodeMergeScheduler.priority(10, 0, 100 * MB, 0, 0)));
+        // merges of shards that are searched go before merges of shards nobody searches
+        assertThat(NodeMergeScheduler.priority(10, 0, 10 * MB, 5, 0), greaterThan(NodeMergeScheduler.priority(10, 0, 10 * MB, 0, 0)));
+        // merges that reclaim deleted documents go before merges that do not
+        assertThat(NodeMergeScheduler.priority(2, 0.5, 10 * MB, 0, 0), greaterThan(NodeMergeScheduler.priority(2, 0, 10 * MB, 0, 0)));
+        // merges below a MB are all worth the same per MB
+        assertEquals(NodeMergeScheduler.priority(10, 0, 1024, 0, 0), NodeMergeScheduler.priority(10, 0, MB, 0, 0), 0d);
+        // the priority of a merge doubles with every aging period it waits
+        assertEquals(
+            2 * NodeMergeScheduler.priority(10, 0, 10 * MB, 0, 0),
+            NodeMergeScheduler.priority(10, 0, 10 * MB, 0, NodeMergeScheduler.AGING_MILLIS),
+            1e-9
+        );
+        assertEquals(
+            8 * NodeMergeScheduler.priority(10, 0, 10 * MB, 0, 0),
+            NodeMergeScheduler.priority(10, 0, 10 * MB, 0, 3 * NodeMergeScheduler.AGING_MILLIS),
+            1e-9
+        );
+    }
+
+    public void testLimitsConcurrentMerges() throws Exception {
+        final NodeMergeScheduler scheduler = newScheduler(Settings.builder().put("indices.merge.node_scheduler.max_concurrent_merges", 1));
+        final NodeMergeScheduler.ShardQueue shard = scheduler.newShardQueue(new ShardId("index", "_na_", 0), () -> 0L);
+        final Releasable first = scheduler.acquire(shard, 10, 0, MB, () -> false);
+        assertEquals(1, scheduler.running());
+
+        final Thread thread = new Thread(() -> scheduler.acquire(shard, 10, 0, MB, () -> false).close());
+        thread.start();
+        assertBusy(() -> assertEquals(1, shard.queued()));
+        assertEquals(1, scheduler.queued());
+
+        first.close();
+        thread.join();
+        assertEquals(0, scheduler.running());
+        assertEquals(0, scheduler.queued());
+        assertEquals(0, shard.queued());
+        assertThat(shard.totalQueuedTimeInMillis(), greaterThanOrEqualTo(0L));
+    }
+
+    public void testHighestPriorityMergeGoesFirst() throws Exception {
+        final NodeMergeScheduler scheduler = newScheduler(Settings.builder().put("indices.merge.node_scheduler.max_concurrent_merges", 1));
+        final NodeMergeScheduler.ShardQueue shard = scheduler.newShardQueue(new ShardId("index", "_na_", 0), () -> 0L);
+        final Releasable first = scheduler.acquire(shard, 10, 0, MB, () -> false);
+
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final Thread large = new Thread(() -> {
+            try (Releasable ignored = scheduler.acquire(shard, 10, 0, 1024 * MB, () -> false)) {
+                order.add("large");
+            }
+        });
+        large.start();
+        assertBusy(() -> assertEquals(1, scheduler.queued()));
+        final Thread small = new Thread(() -> {
+            try (Releasable ignored = scheduler.acquire(shard, 10, 0, MB, () -> false)) {
+                order.add("small");
+            }
+        });
+        small.start();
+        assertBusy(() -> assertEquals(2, scheduler.queued()));
+
+        first.close();
+        large.join();
+        small.join();
+        assertEquals(List.of("small", "large"), order);
+    }
+
+    public void testAbortedMergeDoesNotWait() {
+        final NodeMergeScheduler scheduler = newScheduler(Settings.builder().put("indices.merge.node_scheduler.max_concurrent_merges", 1));
+        final NodeMergeScheduler.ShardQueue shard = scheduler.newShardQueue(new ShardId("index", "_na_", 0), () -> 0L);
+        try (Releasable ignored = scheduler.acquire(shard, 10, 0, MB, () -> false)) {
+            final Releasable aborted = scheduler.acquire(shard, 10, 0, MB, () -> true);
+            assertEquals(1, scheduler.running());
+            assertEquals(0, scheduler.queued());
+            aborted.close();
+            assertEquals(1, scheduler.running());
+        }
+        assertEquals(0, scheduler.running());
+    }
+
+    public void testHoldsMergesToByteBudget() throws Exception {
+        final AtomicLong nanoTime = new AtomicLong();
+        final Settings settings = Settings.builder().put("indices.merge.node_scheduler.max_bytes_per_sec", "1mb").build();
+        final NodeMergeScheduler scheduler = new NodeMergeScheduler(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            nanoTime::get
+        );
+        final NodeMergeScheduler.ShardQueue shard = scheduler.newShardQueue(new ShardId("index", "_na_", 0), () -> 0L);
+        // the first merge starts right away and takes ten seconds of budget
+        scheduler.acquire(shard, 10, 0, 10 * MB, () -> false).close();
+
+        final Thread thread = new Thread(() -> scheduler.acquire(shard, 10, 0, MB, () -> false).close());
+        thread.start();
+        assertBusy(() -> assertEquals(1, scheduler.queued()));
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        // not enough budget yet
+        Thread.sleep(2 * NodeMergeScheduler.POLL_MILLIS);
+        assertEquals(1, scheduler.queued());
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        thread.join();
+        assertEquals(0, scheduler.queued());
+        assertEquals(TimeUnit.SECONDS.toMillis(10), shard.totalQueuedTimeInMillis());
+    }
+
+    private static NodeMergeScheduler newScheduler(Settings.Builder builder) {
+        final Settings settings = builder.build();
+        return new NodeMergeScheduler(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+    }
+}
@@ -244,6 +244,32 @@ public class MaxAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testShortcutWithRangeFilterMatchingSegment() throws IOException {
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("number", NumberFieldMapper.NumberType.INTEGER);
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig())) {
+                for (int i = 1; i <= 10; i++) {
+                    indexWriter.addDocument(Arrays.asList(new IntPoint("number", i), new SortedNumericDocValuesField("number", i)));
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = newSearcher(reader, false, false);
+                LeafReaderContext leaf = reader.leaves().get(0);
+                MaxAggregationBuilder aggregationBuilder = new MaxAggregationBuilder("_name").field("number");
+
+                // the filter contains all the values of the segment
+                Query query = IntPoint.newRangeQuery("number", 0, 100);
+                MaxAggregator aggregator = createAggregator(query, aggregationBuilder, searcher, createIndexSettings(), fieldType);
+                assertTrue(aggregator.tryPrecomputeAggregationForLeaf(leaf));
+                assertEquals(10, aggregator.maxes.get(0), 0);
+
+                query = IntPoint.newRangeQuery("number", 0, 5);
+                aggregator = createAggregator(query, aggregationBuilder, searcher, createIndexSettings(), fieldType);
+                assertFalse(aggregator.tryPrecomputeAggregationForLeaf(leaf));
+            }
+        }
+    }
+
     public void testUnmappedField() throws IOException {
         MaxAggregationBuilder aggregationBuilder = new MaxAggregationBuilder("_name").field("number");
         testAggregation(aggregationBuilder, new FieldExistsQuery("number"), iw -> {
@@ -37,11 +37,16 @@ import org.apache.lucene.document.Document;
 import org.apache.lucene.document.DoubleDocValuesField;
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.LatLonDocValuesField;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.FieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -233,6 +238,39 @@ public class ValueCountAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testShortcutWithRangeFilterMatchingSegment() throws IOException {
+        MappedFieldType fieldType = createMappedFieldType(FIELD_NAME, ValueType.LONG);
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig())) {
+                for (int i = 1; i <= 10; i++) {
+                    indexWriter.addDocument(
+                        Arrays.asList(
+                            new LongPoint(FIELD_NAME, i),
+                            new SortedNumericDocValuesField(FIELD_NAME, i),
+                            new LongPoint(FIELD_NAME, i + 1),
+                            new SortedNumericDocValuesField(FIELD_NAME, i + 1)
+                        )
+                    );
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = newSearcher(reader, false, false);
+                LeafReaderContext leaf = reader.leaves().get(0);
+                ValueCountAggregationBuilder aggregationBuilder = new ValueCountAggregationBuilder("_name").field(FIELD_NAME);
+
+                // the filter contains all the values of the segment
+                Query query = LongPoint.newRangeQuery(FIELD_NAME, 0, 100);
+                ValueCountAggregator aggregator = createAggregator(query, aggregationBuilder, searcher, createIndexSettings(), fieldType);
+                assertTrue(aggregator.tryPrecomputeAggregationForLeaf(leaf));
+                assertEquals(20, aggregator.counts.get(0));
+
+                query = LongPoint.newRangeQuery(FIELD_NAME, 0, 5);
+                aggregator = createAggregator(query, aggregationBuilder, searcher, createIndexSettings(), fieldType);
+                assertFalse(aggregator.tryPrecomputeAggregationForLeaf(leaf));
+            }
+        }
+    }
+
     public void testUnmappedMissingString() throws IOException {
         ValueCountAggregationBuilder aggregationBuilder = new ValueCountAggregationBuilder("name").field("number").missing("🍌🍌🍌");
 
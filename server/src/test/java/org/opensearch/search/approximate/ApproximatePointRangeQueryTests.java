@@ -14,19 +14,25 @@ import com.carrotsearch.randomizedtesting.generators.RandomNumbers;
 import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FloatPoint;
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.sandbox.document.BigIntegerPoint;
 import org.apache.lucene.sandbox.document.HalfFloatPoint;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TotalHits.Relation;
@@ -37,10 +43,14 @@ import org.opensearch.common.time.DateMathParser;
 import org.opensearch.index.mapper.DateFieldMapper.DateFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.ScoreSortBuilder;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -1192,7 +1202,7 @@ public class ApproximatePointRangeQueryTests extends OpenSearchTestCase {
             1,
             numericType.format
         );
-        // Test 1: Multiple sorts should prevent approximation
+        // Test 1: Multiple sorts should allow approximation when the primary sort is on the same field
         {
             SearchContext mockContext = mock(SearchContext.class);
             ShardSearchRequest mockRequest = mock(ShardSearchRequest.class);
@@ -1206,9 +1216,25 @@ public class ApproximatePointRangeQueryTests extends OpenSearchTestCase {
             when(mockContext.size()).thenReturn(10);
             when(mockContext.request()).thenReturn(mockRequest);
             when(mockRequest.source()).thenReturn(source);
-            assertFalse("Should not approximate with multiple sorts", query.canApproximate(mockContext));
+            assertTrue("Should approximate with multiple sorts", query.canApproximate(mockContext));
         }
-        // Test 2: Single sort on the same field should allow approximation
+        // Test 2: Multiple sorts should prevent approximation when the primary sort is not on a field
+        {
+            SearchContext mockContext = mock(SearchContext.class);
+            ShardSearchRequest mockRequest = mock(ShardSearchRequest.class);
+            SearchSourceBuilder source = new SearchSourceBuilder();
+            source.sort(new ScoreSortBuilder());
+            source.sort(new FieldSortBuilder(numericType.fieldName).order(SortOrder.ASC));
+            source.terminateAfter(SearchContext.DEFAULT_TERMINATE_AFTER);
+            when(mockContext.aggregations()).thenReturn(null);
+            when(mockContext.trackTotalHitsUpTo()).thenReturn(10000);
+            when(mockContext.from()).thenReturn(0);
+            when(mockContext.size()).thenReturn(10);
+            when(mockContext.request()).thenReturn(mockRequest);
+            when(mockRequest.source()).thenReturn(source);
+            assertFalse("Should not approximate with a primary sort on score", query.canApproximate(mockContext));
+        }
+        // Test 3: Single sort on the same field should allow approximation
         {
             SearchContext mockContext = mock(SearchContext.class);
             ShardSearchRequest mockRequest = mock(ShardSearchRequest.class);
@@ -1225,6 +1251,300 @@ public class ApproximatePointRangeQueryTests extends OpenSearchTestCase {
         }
     }
 
+    public void testApproximateRangeWithTieBreakingSort() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory, new WhitespaceAnalyzer())) {
+                int numPoints = RandomNumbers.randomIntBetween(random(), 2000, 5000);
+                for (int i = 0; i < numPoints; i++) {
+                    Document doc = new Document();
+                    // long runs of equal values span several leaves of the BKD tree
+                    numericType.addField(doc, numericType.fieldName, i / 100);
+                    numericType.addDocValuesField(doc, numericType.fieldName, i / 100);
+                    doc.add(new NumericDocValuesField("tie_breaker", random().nextInt()));
+                    iw.addDocument(doc);
+                }
+                iw.flush();
+                if (random().nextBoolean()) {
+                    iw.forceMerge(1);
+                }
+                try (IndexReader reader = iw.getReader()) {
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    SortOrder sortOrder = randomFrom(SortOrder.values());
+                    long upper = (numPoints - 1) / 100;
+                    int size = RandomNumbers.randomIntBetween(random(), 10, 150);
+                    SearchContext mockContext = mock(SearchContext.class);
+                    ShardSearchRequest mockRequest = mock(ShardSearchRequest.class);
+                    SearchSourceBuilder source = new SearchSourceBuilder();
+                    source.sort(new FieldSortBuilder(numericType.fieldName).order(sortOrder));
+                    source.sort(new FieldSortBuilder("tie_breaker").order(SortOrder.DESC));
+                    when(mockContext.aggregations()).thenReturn(null);
+                    when(mockContext.trackTotalHitsUpTo()).thenReturn(SearchContext.TRACK_TOTAL_HITS_DISABLED);
+                    when(mockContext.from()).thenReturn(0);
+                    when(mockContext.size()).thenReturn(size);
+                    when(mockContext.request()).thenReturn(mockRequest);
+                    when(mockRequest.source()).thenReturn(source);
+                    ApproximatePointRangeQuery approxQuery = new ApproximatePointRangeQuery(
+                        numericType.fieldName,
+                        numericType.encode(0),
+                        numericType.encode(upper),
+                        1,
+                        numericType.format
+                    );
+                    assertTrue(approxQuery.canApproximate(mockContext));
+                    Sort sort = new Sort(
+                        new SortField(numericType.getSortFieldName(), numericType.getSortFieldType(), sortOrder == SortOrder.DESC),
+                        new SortField("tie_breaker", SortField.Type.LONG, true)
+                    );
+                    TopDocs approxDocs = searcher.search(approxQuery, size, sort);
+                    TopDocs exactDocs = searcher.search(numericType.rangeQuery(numericType.fieldName, 0, upper), size, sort);
+                    assertEquals(exactDocs.scoreDocs.length, approxDocs.scoreDocs.length);
+                    for (int i = 0; i < exactDocs.scoreDocs.length; i++) {
+                        assertEquals("Mismatch at doc index " + i, exactDocs.scoreDocs[i].doc, approxDocs.scoreDocs[i].doc);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testApproximateRangePagesWithSearchAfterAndTieBreakingSort() throws IOException {
+        if (numericType == NumericType.HALF_FLOAT) {
+            // HALF_FLOAT uses different fields for storage vs sorting, see testApproximateRangeWithSearchAfter
+            return;
+        }
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory, new WhitespaceAnalyzer())) {
+                int numPoints = RandomNumbers.randomIntBetween(random(), 1000, 3000);
+                int duplicates = RandomNumbers.randomIntBetween(random(), 2, 20);
+                for (int i = 0; i < numPoints; i++) {
+                    Document doc = new Document();
+                    // runs of duplicate values, each next to the run of the adjacent value
+                    numericType.addField(doc, numericType.fieldName, i / duplicates);
+                    numericType.addDocValuesField(doc, numericType.fieldName, i / duplicates);
+                    doc.add(new NumericDocValuesField("tie_breaker", i));
+                    iw.addDocument(doc);
+                    if (random().nextInt(500) == 0) {
+                        iw.flush();
+                    }
+                }
+                iw.flush();
+                try (IndexReader reader = iw.getReader()) {
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    SortOrder sortOrder = randomFrom(SortOrder.values());
+                    long upper = (numPoints - 1) / duplicates;
+                    int size = RandomNumbers.randomIntBetween(random(), 3, 3 * duplicates);
+                    Sort sort = new Sort(
+                        new SortField(numericType.getSortFieldName(), numericType.getSortFieldType(), sortOrder == SortOrder.DESC),
+                        new SortField("tie_breaker", SortField.Type.LONG)
+                    );
+                    Query exactQuery = numericType.rangeQuery(numericType.fieldName, 0, upper);
+                    NumberFieldMapper.NumberFieldType fieldType = new NumberFieldMapper.NumberFieldType(
+                        numericType.fieldName,
+                        numericType.getNumberType()
+                    );
+                    QueryShardContext queryShardContext = mock(QueryShardContext.class);
+                    when(queryShardContext.fieldMapper(numericType.fieldName)).thenReturn(fieldType);
+
+                    FieldDoc after = null;
+                    int pages = 0;
+                    int hits = 0;
+                    while (true) {
+                        TopDocs exactDocs = searcher.searchAfter(after, exactQuery, size, sort);
+                        SearchContext mockContext = mock(SearchContext.class);
+                        ShardSearchRequest mockRequest = mock(ShardSearchRequest.class);
+                        SearchSourceBuilder source = new SearchSourceBuilder();
+                        source.sort(new FieldSortBuilder(numericType.fieldName).order(sortOrder));
+                        source.sort(new FieldSortBuilder("tie_breaker").order(SortOrder.ASC));
+                        if (after != null) {
+                            source.searchAfter(after.fields);
+                        }
+                        when(mockContext.aggregations()).thenReturn(null);
+                        when(mockContext.trackTotalHitsUpTo()).thenReturn(SearchContext.TRACK_TOTAL_HITS_DISABLED);
+                        when(mockContext.from()).thenReturn(0);
+                        when(mockContext.size()).thenReturn(size);
+                        when(mockContext.request()).thenReturn(mockRequest);
+                        when(mockContext.getQueryShardContext()).thenReturn(queryShardContext);
+                        when(mockRequest.source()).thenReturn(source);
+                        ApproximatePointRangeQuery approxQuery = new ApproximatePointRangeQuery(
+                            numericType.fieldName,
+                            numericType.encode(0),
+                            numericType.encode(upper),
+                            1,
+                            numericType.format
+                        );
+                        TopDocs approxDocs;
+                        if (approxQuery.canApproximate(mockContext)) {
+                            approxDocs = searcher.searchAfter(after, approxQuery, size, sort);
+                        } else {
+                            // the search_after value is at the end of the range
+                            approxDocs = searcher.searchAfter(after, exactQuery, size, sort);
+                        }
+                        assertEquals("Mismatch in the size of page " + pages, exactDocs.scoreDocs.length, approxDocs.scoreDocs.length);
+                        for (int i = 0; i < exactDocs.scoreDocs.length; i++) {
+                            assertEquals(
+                                "Mismatch at doc index " + i + " of page " + pages,
+                                exactDocs.scoreDocs[i].doc,
+                                approxDocs.scoreDocs[i].doc
+                            );
+                        }
+                        hits += exactDocs.scoreDocs.length;
+                        if (exactDocs.scoreDocs.length < size) {
+                            break;
+                        }
+                        after = (FieldDoc) exactDocs.scoreDocs[size - 1];
+                        pages++;
+                    }
+                    assertEquals(numPoints, hits);
+                }
+            }
+        }
+    }
+
+    public void testApproximateRangeWithFilter() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory, new WhitespaceAnalyzer())) {
+                int numPoints = RandomNumbers.randomIntBetween(random(), 2000, 5000);
+                for (int i = 0; i < numPoints; i++) {
+                    Document doc = new Document();
+                    numericType.addField(doc, numericType.fieldName, i);
+                    numericType.addDocValuesField(doc, numericType.fieldName, i);
+                    doc.add(new StringField("color", randomFrom("red", "green", "blue"), Field.Store.NO));
+                    iw.addDocument(doc);
+                    if (random().nextInt(20) == 0) {
+                        iw.flush();
+                    }
+                }
+                iw.flush();
+                try (IndexReader reader = iw.getReader()) {
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    SortOrder sortOrder = randomFrom(SortOrder.values());
+                    long lower = RandomNumbers.randomLongBetween(random(), 0, numPoints / 4);
+                    long upper = RandomNumbers.randomLongBetween(random(), 3 * numPoints / 4, numPoints - 1);
+                    int size = RandomNumbers.randomIntBetween(random(), 10, 50);
+                    SearchContext mockContext = mock(SearchContext.class);
+                    ShardSearchRequest mockRequest = mock(ShardSearchRequest.class);
+                    SearchSourceBuilder source = new SearchSourceBuilder();
+                    source.sort(new FieldSortBuilder(numericType.fieldName).order(sortOrder));
+                    when(mockContext.aggregations()).thenReturn(null);
+                    when(mockContext.trackTotalHitsUpTo()).thenReturn(SearchContext.TRACK_TOTAL_HITS_DISABLED);
+                    when(mockContext.from()).thenReturn(0);
+                    when(mockContext.size()).thenReturn(size);
+                    when(mockContext.request()).thenReturn(mockRequest);
+                    when(mockRequest.source()).thenReturn(source);
+                    ApproximatePointRangeQuery approxQuery = new ApproximatePointRangeQuery(
+                        numericType.fieldName,
+                        numericType.encode(lower),
+                        numericType.encode(upper),
+                        1,
+                        numericType.format
+                    );
+                    Query filter = new TermQuery(new Term("color", "red"));
+                    assertTrue(approxQuery.canApproximate(mockContext, filter));
+                    Sort sort = new Sort(
+                        new SortField(numericType.getSortFieldName(), numericType.getSortFieldType(), sortOrder == SortOrder.DESC)
+                    );
+                    Query approxBoolQuery = new BooleanQuery.Builder().add(approxQuery, BooleanClause.Occur.MUST)
+                        .add(filter, BooleanClause.Occur.FILTER)
+                        .build();
+                    Query exactBoolQuery = new BooleanQuery.Builder().add(
+                        numericType.rangeQuery(numericType.fieldName, lower, upper),
+                        BooleanClause.Occur.MUST
+                    ).add(filter, BooleanClause.Occur.FILTER).build();
+                    TopDocs approxDocs = searcher.search(approxBoolQuery, size, sort);
+                    TopDocs exactDocs = searcher.search(exactBoolQuery, size, sort);
+                    assertEquals(exactDocs.scoreDocs.length, approxDocs.scoreDocs.length);
+                    for (int i = 0; i < exactDocs.scoreDocs.length; i++) {
+                        assertEquals("Mismatch at doc index " + i, exactDocs.scoreDocs[i].doc, approxDocs.scoreDocs[i].doc);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testApproximateRangeWithApproximateFilterOnSortField() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory, new WhitespaceAnalyzer())) {
+                int numPoints = RandomNumbers.randomIntBetween(random(), 2000, 5000);
+                for (int i = 0; i < numPoints; i++) {
+                    Document doc = new Document();
+                    numericType.addField(doc, numericType.fieldName, i);
+                    numericType.addDocValuesField(doc, numericType.fieldName, i);
+                    iw.addDocument(doc);
+                }
+                iw.flush();
+                try (IndexReader reader = iw.getReader()) {
+                    SortOrder sortOrder = randomFrom(SortOrder.values());
+                    long lower = RandomNumbers.randomLongBetween(random(), 0, numPoints / 4);
+                    long upper = RandomNumbers.randomLongBetween(random(), 3 * numPoints / 4, numPoints - 1);
+                    int size = RandomNumbers.randomIntBetween(random(), 10, 50);
+                    SearchContext searchContext = mock(SearchContext.class);
+                    ShardSearchRequest request = mock(ShardSearchRequest.class);
+                    SearchSourceBuilder source = new SearchSourceBuilder();
+                    source.sort(new FieldSortBuilder(numericType.fieldName).order(sortOrder));
+                    when(searchContext.aggregations()).thenReturn(null);
+                    when(searchContext.trackTotalHitsUpTo()).thenReturn(SearchContext.TRACK_TOTAL_HITS_DISABLED);
+                    when(searchContext.from()).thenReturn(0);
+                    when(searchContext.size()).thenReturn(size);
+                    when(searchContext.request()).thenReturn(request);
+                    when(request.source()).thenReturn(source);
+                    IndexShard indexShard = mock(IndexShard.class);
+                    when(indexShard.getSearchOperationListener()).thenReturn(new SearchOperationListener() {
+                    });
+                    when(searchContext.indexShard()).thenReturn(indexShard);
+                    when(searchContext.bucketCollectorProcessor()).thenReturn(SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR);
+                    ContextIndexSearcher searcher = new ContextIndexSearcher(
+                        reader,
+                        IndexSearcher.getDefaultSimilarity(),
+                        IndexSearcher.getDefaultQueryCache(),
+                        IndexSearcher.getDefaultQueryCachingPolicy(),
+                        false,
+                        null,
+                        searchContext
+                    );
+
+                    ApproximateScoreQuery query = new ApproximateScoreQuery(
+                        numericType.rangeQuery(numericType.fieldName, 0, numPoints - 1),
+                        new ApproximatePointRangeQuery(
+                            numericType.fieldName,
+                            numericType.encode(0),
+                            numericType.encode(numPoints - 1),
+                            1,
+                            numericType.format
+                        )
+                    );
+                    ApproximateScoreQuery filter = new ApproximateScoreQuery(
+                        numericType.rangeQuery(numericType.fieldName, lower, upper),
+                        new ApproximatePointRangeQuery(
+                            numericType.fieldName,
+                            numericType.encode(lower),
+                            numericType.encode(upper),
+                            1,
+                            numericType.format
+                        )
+                    );
+                    Query approxBoolQuery = new BooleanQuery.Builder().add(query, BooleanClause.Occur.MUST)
+                        .add(filter, BooleanClause.Occur.FILTER)
+                        .build();
+                    Query exactBoolQuery = new BooleanQuery.Builder().add(
+                        numericType.rangeQuery(numericType.fieldName, 0, numPoints - 1),
+                        BooleanClause.Occur.MUST
+                    ).add(numericType.rangeQuery(numericType.fieldName, lower, upper), BooleanClause.Occur.FILTER).build();
+                    Sort sort = new Sort(
+                        new SortField(numericType.getSortFieldName(), numericType.getSortFieldType(), sortOrder == SortOrder.DESC)
+                    );
+                    TopDocs approxDocs = searcher.search(approxBoolQuery, size, sort);
+                    TopDocs exactDocs = new IndexSearcher(reader).search(exactBoolQuery, size, sort);
+                    assertTrue(query.resolvedQuery instanceof ApproximatePointRangeQuery);
+                    // the filter is shared with the boolean query and must not be approximated
+                    assertFalse(filter.resolvedQuery instanceof ApproximatePointRangeQuery);
+                    assertEquals(exactDocs.scoreDocs.length, approxDocs.scoreDocs.length);
+                    for (int i = 0; i < exactDocs.scoreDocs.length; i++) {
+                        assertEquals("Mismatch at doc index " + i, exactDocs.scoreDocs[i].doc, approxDocs.scoreDocs[i].doc);
+                    }
+                }
+            }
+        }
+    }
+
     public void testApproximateRangeWithSearchAfterAsc() throws IOException {
         testApproximateRangeWithSearchAfter(SortOrder.ASC);
     }
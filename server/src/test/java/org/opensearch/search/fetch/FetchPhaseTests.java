@@ -32,25 +32,37 @@
 
 package org.opensearch.search.fetch;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.fieldvisitor.CustomFieldsVisitor;
 import org.opensearch.index.fieldvisitor.FieldsVisitor;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.shard.IndexShard;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.fetch.subphase.FetchFieldsContext;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.FieldAndFormat;
 import org.opensearch.search.fetch.subphase.InnerHitsContext;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.ScrollContext;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.test.IndexSettingsModule;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.TestSearchContext;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -81,6 +93,55 @@ public class FetchPhaseTests extends OpenSearchTestCase {
         assertFalse(FetchPhase.hasSequentialDocs(docs));
     }
 
+    public void testUseConcurrentFetch() throws IOException {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+            for (int i = 0; i < 10; i++) {
+                writer.addDocument(new Document());
+            }
+            writer.commit();
+            for (int i = 0; i < 10; i++) {
+                writer.addDocument(new Document());
+            }
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                assertEquals(2, reader.leaves().size());
+                ContextIndexSearcher searcher = mock(ContextIndexSearcher.class);
+                when(searcher.getIndexReader()).thenReturn(reader);
+                Settings settings = Settings.builder()
+                    .put(IndexSettings.INDEX_CONCURRENT_FETCH_ENABLED.getKey(), true)
+                    .put(IndexSettings.INDEX_CONCURRENT_FETCH_MIN_HITS.getKey(), 2)
+                    .build();
+                IndexShard indexShard = mock(IndexShard.class);
+                when(indexShard.indexSettings()).thenReturn(IndexSettingsModule.newIndexSettings("index", settings));
+                SearchContext context = mock(SearchContext.class);
+                when(context.indexShard()).thenReturn(indexShard);
+                when(context.searcher()).thenReturn(searcher);
+                when(context.innerHits()).thenReturn(new InnerHitsContext());
+
+                FetchPhase.DocIdToIndex[] acrossSegments = new FetchPhase.DocIdToIndex[] {
+                    new FetchPhase.DocIdToIndex(3, 1),
+                    new FetchPhase.DocIdToIndex(15, 0) };
+                assertTrue(FetchPhase.useConcurrentFetch(context, acrossSegments));
+
+                FetchPhase.DocIdToIndex[] singleSegment = new FetchPhase.DocIdToIndex[] {
+                    new FetchPhase.DocIdToIndex(11, 0),
+                    new FetchPhase.DocIdToIndex(15, 1) };
+                assertFalse(FetchPhase.useConcurrentFetch(context, singleSegment));
+
+                // not worth it for fewer hits than the minimum
+                assertFalse(FetchPhase.useConcurrentFetch(context, new FetchPhase.DocIdToIndex[] { acrossSegments[0] }));
+
+                // scrolls and inner hits stay sequential
+                when(context.scrollContext()).thenReturn(new ScrollContext());
+                assertFalse(FetchPhase.useConcurrentFetch(context, acrossSegments));
+                when(context.scrollContext()).thenReturn(null);
+                InnerHitsContext innerHits = new InnerHitsContext();
+                innerHits.addInnerHitDefinition(mock(InnerHitsContext.InnerHitSubContext.class));
+                when(context.innerHits()).thenReturn(innerHits);
+                assertFalse(FetchPhase.useConcurrentFetch(context, acrossSegments));
+            }
+        }
+    }
+
     public void testFieldsVisitorsInFetchPhase() {
 
         FetchPhase fetchPhase = new FetchPhase(new ArrayList<>());
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch.subphase.highlight;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.store.Directory;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.fetch.FetchSubPhase;
+import org.opensearch.search.lookup.SourceLookup;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PrefetchedStoredFieldsTests extends OpenSearchTestCase {
+
+    public void testPrefetch() throws Exception {
+        try (Directory dir = newDirectory(); IndexWriter w = new IndexWriter(dir, newIndexWriterConfig())) {
+            for (int i = 0; i < 3; i++) {
+                Document doc = new Document();
+                doc.add(new TextField("title", "title " + i, Field.Store.YES));
+                if (i != 1) {
+                    doc.add(new StoredField("body", "body " + i));
+                }
+                w.addDocument(doc);
+            }
+            w.forceMerge(1);
+            try (DirectoryReader reader = DirectoryReader.open(w)) {
+                LeafReaderContext leaf = reader.leaves().get(0);
+                PrefetchedStoredFields prefetched = new PrefetchedStoredFields(Set.of("title", "body"));
+                Map<String, Object> cache = new HashMap<>();
+                cache.put(PrefetchedStoredFields.CACHE_KEY, prefetched);
+                prefetched.setNextReader(leaf);
+                prefetched.prefetch(new int[] { 0, 1 });
+
+                assertEquals(List.of("title 0"), PrefetchedStoredFields.get(fieldContext("title", true, false, leaf, 0, cache)));
+                assertEquals(List.of("body 0"), PrefetchedStoredFields.get(fieldContext("body", true, false, leaf, 0, cache)));
+                assertEquals(List.of(), PrefetchedStoredFields.get(fieldContext("body", true, false, leaf, 1, cache)));
+                // not prefetched
+                assertNull(PrefetchedStoredFields.get(fieldContext("body", true, false, leaf, 2, cache)));
+                assertNull(PrefetchedStoredFields.get(fieldContext("other", true, false, leaf, 0, cache)));
+                // read from the source or not stored
+                assertNull(PrefetchedStoredFields.get(fieldContext("title", true, true, leaf, 0, cache)));
+                assertNull(PrefetchedStoredFields.get(fieldContext("title", false, false, leaf, 0, cache)));
+                assertNull(PrefetchedStoredFields.get(fieldContext("title", true, false, leaf, 0, new HashMap<>())));
+            }
+        }
+    }
+
+    private static FieldHighlightContext fieldContext(
+        String field,
+        boolean stored,
+        boolean forceSource,
+        LeafReaderContext leaf,
+        int docId,
+        Map<String, Object> cache
+    ) {
+        MappedFieldType fieldType = mock(MappedFieldType.class);
+        when(fieldType.name()).thenReturn(field);
+        when(fieldType.isStored()).thenReturn(stored);
+        FetchSubPhase.HitContext hitContext = new FetchSubPhase.HitContext(new SearchHit(docId), leaf, docId, new SourceLookup());
+        return new FieldHighlightContext(field, null, fieldType, null, hitContext, null, forceSource, cache);
+    }
+}
@@ -61,7 +61,8 @@ public class QueryProfileShardResultTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             rewriteTime = rewriteTime % 1000; // make sure to often test this with small values too
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, profileCollector);
+        long sliceWaitTime = randomBoolean() ? 0L : randomNonNegativeLong();
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, sliceWaitTime, profileCollector);
     }
 
     public void testFromXContent() throws IOException {
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.sort;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldCollectorManager;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class ShardDocFieldComparatorSourceTests extends OpenSearchTestCase {
+
+    public void testSkippingMatchesExhaustiveCollection() throws IOException {
+        final int shardId = randomIntBetween(0, 10);
+        try (Directory dir = newDirectory(); RandomIndexWriter writer = new RandomIndexWriter(random(), dir)) {
+            final int numDocs = randomIntBetween(50, 500);
+            for (int i = 0; i < numDocs; i++) {
+                writer.addDocument(new Document());
+                if (rarely()) {
+                    writer.commit();
+                }
+            }
+            try (IndexReader reader = writer.getReader()) {
+                IndexSearcher searcher = newSearcher(reader);
+                for (boolean reversed : new boolean[] { false, true }) {
+                    ShardDocFieldComparatorSource source = new ShardDocFieldComparatorSource(shardId);
+                    Sort sort = new Sort(new SortField(ShardDocFieldComparatorSource.NAME, source, reversed));
+                    int numHits = randomIntBetween(1, 20);
+                    FieldDoc after = null;
+                    if (randomBoolean()) {
+                        long afterKey = ((long) shardId << 32) | randomIntBetween(0, numDocs - 1);
+                        after = new FieldDoc(Integer.MAX_VALUE, Float.NaN, new Object[] { afterKey });
+                    }
+                    TopFieldDocs expected = searcher.search(
+                        new MatchAllDocsQuery(),
+                        new TopFieldCollectorManager(sort, numHits, after, Integer.MAX_VALUE)
+                    );
+                    TopFieldDocs pruned = searcher.search(new MatchAllDocsQuery(), new TopFieldCollectorManager(sort, numHits, after, 1));
+                    assertEquals(expected.scoreDocs.length, pruned.scoreDocs.length);
+                    for (int i = 0; i < expected.scoreDocs.length; i++) {
+                        assertEquals(expected.scoreDocs[i].doc, pruned.scoreDocs[i].doc);
+                        assertArrayEquals(((FieldDoc) expected.scoreDocs[i]).fields, ((FieldDoc) pruned.scoreDocs[i]).fields);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testSkipsDocsAfterFullQueue() throws IOException {
+        try (Directory dir = newDirectory(); RandomIndexWriter writer = new RandomIndexWriter(random(), dir)) {
+            for (int i = 0; i < 1000; i++) {
+                writer.addDocument(new Document());
+            }
+            writer.forceMerge(1);
+            try (DirectoryReader reader = writer.getReader()) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                Sort sort = new Sort(new SortField(ShardDocFieldComparatorSource.NAME, new ShardDocFieldComparatorSource(0)));
+                TopFieldDocs topDocs = searcher.search(new MatchAllDocsQuery(), new TopFieldCollectorManager(sort, 10, null, 10));
+                assertEquals(10, topDocs.scoreDocs.length);
+                for (int i = 0; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    assertEquals(i, scoreDoc.doc);
+                }
+                // collection stops once the queue is full instead of visiting all docs
+                assertEquals(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO, topDocs.totalHits.relation());
+                assertTrue(topDocs.totalHits.value() < 1000);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.threadpool;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class SliceSchedulerTests extends OpenSearchTestCase {
+
+    public void testDisabledByDefault() {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            assertNull(threadPool.sliceScheduler());
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testSchedulesIndexSearcherPool() {
+        Settings settings = Settings.builder().put(ThreadPool.INDEX_SEARCHER_MAX_SLICES_PER_REQUEST_SETTING.getKey(), 2).build();
+        ThreadPool threadPool = new TestThreadPool(getTestName(), settings);
+        try {
+            SliceScheduler sliceScheduler = threadPool.sliceScheduler();
+            assertNotNull(sliceScheduler);
+            assertEquals(2, sliceScheduler.getMaxSlicesPerRequest());
+            assertTrue(sliceScheduler.schedules(threadPool.executor(ThreadPool.Names.INDEX_SEARCHER)));
+            assertFalse(sliceScheduler.schedules(threadPool.executor(ThreadPool.Names.SEARCH)));
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testRejectsInvalidBudget() {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            IllegalArgumentException e = expectThrows(
+                IllegalArgumentException.class,
+                () -> new SliceScheduler(threadPool.generic(), threadPool.getThreadContext(), 0)
+            );
+            assertEquals("maxSlicesPerRequest must be at least 1 but was [0]", e.getMessage());
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testRequestNeverExceedsBudget() throws Exception {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            final int budget = randomIntBetween(1, 3);
+            final SliceScheduler sliceScheduler = new SliceScheduler(threadPool.generic(), threadPool.getThreadContext(), budget);
+            final SliceScheduler.RequestSliceExecutor executor = sliceScheduler.newRequestExecutor();
+            final int slices = randomIntBetween(budget, 20);
+            final AtomicInteger running = new AtomicInteger();
+            final AtomicInteger maxRunning = new AtomicInteger();
+            final CountDownLatch done = new CountDownLatch(slices);
+            for (int i = 0; i < slices; i++) {
+                executor.execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(randomIntBetween(0, 2));
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    } finally {
+                        running.decrementAndGet();
+                        done.countDown();
+                    }
+                });
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertThat(maxRunning.get(), lessThanOrEqualTo(budget));
+            assertBusy(() -> assertEquals(0, executor.activeWorkers()));
+            assertEquals(0, executor.pendingSlices());
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testSlicesOfRequestsAreInterleaved() throws Exception {
+        // running the pool queue by hand makes the interleaving deterministic: each worker yields after one slice
+        final List<Runnable> poolQueue = new ArrayList<>();
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            final SliceScheduler sliceScheduler = new SliceScheduler(poolQueue::add, threadPool.getThreadContext(), 1);
+            final SliceScheduler.RequestSliceExecutor big = sliceScheduler.newRequestExecutor();
+            final SliceScheduler.RequestSliceExecutor small = sliceScheduler.newRequestExecutor();
+            final List<String> order = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                final int slice = i;
+                big.execute(() -> order.add("big-" + slice));
+            }
+            small.execute(() -> order.add("small-0"));
+            while (poolQueue.isEmpty() == false) {
+                poolQueue.remove(0).run();
+            }
+            assertEquals(List.of("big-0", "small-0", "big-1", "big-2"), order);
+        } finally {
+            terminate(threadPool);
+        }
+    }
+}
@@ -33,6 +33,7 @@
 package org.opensearch.transport.nativeprotocol;
 
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.BytesStream;
 import org.opensearch.core.common.io.stream.InputStreamStreamInput;
@@ -119,6 +120,49 @@ public class CompressibleBytesOutputStreamTests extends OpenSearchTestCase {
         stream.close();
     }
 
+    public void testSplicesImmutableBytesWithoutCompression() throws IOException {
+        BytesStream bStream = new BytesStreamOutput();
+        CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bStream, false);
+
+        BytesReference small = new BytesArray(randomBytes(between(1, CompressibleBytesOutputStream.MIN_SPLICED_BYTES_LENGTH - 1)));
+        BytesReference large = new BytesArray(randomBytes(between(CompressibleBytesOutputStream.MIN_SPLICED_BYTES_LENGTH, 10_000)));
+        stream.writeString("before");
+        stream.writeImmutableBytesReference(large);
+        stream.writeImmutableBytesReference(small);
+        stream.writeImmutableBytesReference(large);
+        stream.writeString("after");
+
+        BytesReference bytesRef = stream.materializeBytes();
+        stream.close();
+        // only the small bytes were copied
+        assertEquals(bStream.bytes().length() + large.length() * 2, bytesRef.length());
+
+        StreamInput streamInput = bytesRef.streamInput();
+        assertEquals("before", streamInput.readString());
+        assertEquals(large, streamInput.readBytesReference());
+        assertEquals(small, streamInput.readBytesReference());
+        assertEquals(large, streamInput.readBytesReference());
+        assertEquals("after", streamInput.readString());
+        assertEquals(-1, streamInput.read());
+    }
+
+    public void testCopiesImmutableBytesWithCompression() throws IOException {
+        BytesStream bStream = new BytesStreamOutput();
+        CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bStream, true);
+
+        BytesReference large = new BytesArray(randomBytes(between(CompressibleBytesOutputStream.MIN_SPLICED_BYTES_LENGTH, 10_000)));
+        stream.writeImmutableBytesReference(large);
+
+        BytesReference bytesRef = stream.materializeBytes();
+        stream.close();
+        assertEquals(bStream.bytes(), bytesRef);
+
+        StreamInput streamInput = new InputStreamStreamInput(
+            CompressorRegistry.defaultCompressor().threadLocalInputStream(bytesRef.streamInput())
+        );
+        assertEquals(large, streamInput.readBytesReference());
+    }
+
     private static byte[] randomBytes(int length) {
         byte[] bytes = new byte[length];
         for (int i = 0; i < bytes.length; ++i) {